@@ -25,10 +25,10 @@
 package examples;
 
 import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.Permalink;
+import org.incendo.jenkins.exception.JenkinsBuildNotFoundException;
 import org.incendo.jenkins.objects.ArtifactDescription;
-import org.incendo.jenkins.objects.BuildDescription;
 import org.incendo.jenkins.objects.BuildInfo;
-import org.incendo.jenkins.objects.JobInfo;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -44,32 +44,33 @@ public class FindLatest {
 
     public static void main(String[] args) throws ExecutionException, InterruptedException {
         final Jenkins jenkins = Jenkins.newBuilder().withPath("https://ci.athion.net/").build();
-        final CompletableFuture<JobInfo> jobInfoFuture = jenkins.getJobInfo(JOB_NAME);
-        final JobInfo jobInfo = jobInfoFuture.get(); // Block until the item is ready
-        final BuildDescription lastSuccess = jobInfo.getLastSuccessfulBuild();
-        if (lastSuccess != null) {
-            // There's a successful build. We want to get the artifacts, so we
-            // will need to read the build information
-            final CompletableFuture<BuildInfo> buildInfoFuture = lastSuccess.getBuildInfo();
-            // an alternative would be to use the jenkins instance directly
-            // final CompletableFuture<BuildInfo> buildInfoFuture = jenkins.getBuildInfo(JOB_NAME, lastSuccess.getNumber());
-            final BuildInfo buildInfo = buildInfoFuture.get(); // Block until the item is ready
-            final Collection<ArtifactDescription> artifacts = buildInfo.getArtifacts();
-            // We are trying to find the Bukkit jar
-            final Optional<ArtifactDescription> bukkitJar = artifacts.stream().filter(artifactDescription -> {
-                final String name = artifactDescription.getFileName();
-                final Matcher matcher = ARTIFACT_PATTERN.matcher(name);
-                return matcher.matches();
-            }).findAny();
-            if (bukkitJar.isPresent()) {
-                final ArtifactDescription artifact = bukkitJar.get();
-                System.out.printf("Yay! Found the Bukkit jar %s in %s\n", artifact.getFileName(), JOB_NAME);
-                System.out.printf("The url is '%s'\n", artifact.getUrl());
-            } else {
-                System.out.printf("Could not find a Bukkit jar in %s\n", JOB_NAME);
+        // The permalink resolves the last successful build on the server, so the build
+        // information is read in a single request, without reading the job first
+        final CompletableFuture<BuildInfo> buildInfoFuture =
+            jenkins.getBuildInfo(JOB_NAME, Permalink.LAST_SUCCESSFUL_BUILD);
+        final BuildInfo buildInfo;
+        try {
+            buildInfo = buildInfoFuture.get(); // Block until the item is ready
+        } catch (final ExecutionException e) {
+            if (e.getCause() != null && e.getCause().getCause() instanceof JenkinsBuildNotFoundException) {
+                System.out.printf("%s has no successful builds =(\n", JOB_NAME);
+                return;
             }
+            throw e;
+        }
+        final Collection<ArtifactDescription> artifacts = buildInfo.getArtifacts();
+        // We are trying to find the Bukkit jar
+        final Optional<ArtifactDescription> bukkitJar = artifacts.stream().filter(artifactDescription -> {
+            final String name = artifactDescription.getFileName();
+            final Matcher matcher = ARTIFACT_PATTERN.matcher(name);
+            return matcher.matches();
+        }).findAny();
+        if (bukkitJar.isPresent()) {
+            final ArtifactDescription artifact = bukkitJar.get();
+            System.out.printf("Yay! Found the Bukkit jar %s in %s\n", artifact.getFileName(), JOB_NAME);
+            System.out.printf("The url is '%s'\n", artifact.getUrl());
         } else {
-            System.out.printf("%s has no successful builds =(\n", JOB_NAME);
+            System.out.printf("Could not find a Bukkit jar in %s\n", JOB_NAME);
         }
     }
 
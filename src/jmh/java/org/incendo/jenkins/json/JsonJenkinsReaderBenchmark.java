@@ -0,0 +1,129 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.objects.BuildDescription;
+import org.incendo.jenkins.objects.BuildInfo;
+import org.incendo.jenkins.objects.JobInfo;
+import org.incendo.jenkins.objects.MasterNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link JsonJenkinsReader} parse paths, using synthetic payloads
+ * of different sizes. Run using {@code ./gradlew jmh}, which also reports the
+ * allocation rate using the gc profiler
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonJenkinsReaderBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"}) public PayloadSize size;
+
+    private JsonJenkinsReader jsonJenkinsReader;
+    private JsonJenkinsReader lazyJsonJenkinsReader;
+    private String masterNode;
+    private String jobInfo;
+    private String buildInfo;
+
+    @Setup public void setup() {
+        final String path = SyntheticPayloads.BASE_URL;
+        final Jenkins jenkins = Jenkins.newBuilder().withPath(path).build();
+        final Jenkins lazyJenkins =
+            Jenkins.newBuilder().withPath(path).withLazyBuildDecoding(true).build();
+        this.jsonJenkinsReader = new JsonJenkinsReader(jenkins, jenkins.getJenkinsPathProvider());
+        this.lazyJsonJenkinsReader =
+            new JsonJenkinsReader(lazyJenkins, lazyJenkins.getJenkinsPathProvider());
+        this.masterNode = SyntheticPayloads.masterNode(this.size.jobs);
+        this.jobInfo = SyntheticPayloads.jobInfo(this.size.builds);
+        this.buildInfo = SyntheticPayloads.buildInfo(this.size.artifacts);
+    }
+
+    @Benchmark public MasterNode readMasterView() {
+        return this.jsonJenkinsReader.readMasterView(this.masterNode);
+    }
+
+    @Benchmark public JobInfo readJobInfo() {
+        return this.jsonJenkinsReader.readJobInfo(SyntheticPayloads.JOB_NAME, this.jobInfo);
+    }
+
+    @Benchmark public BuildDescription readJobInfoLazyPermalink() {
+        return this.lazyJsonJenkinsReader.readJobInfo(SyntheticPayloads.JOB_NAME, this.jobInfo)
+            .getLastSuccessfulBuild();
+    }
+
+    @Benchmark public void readJobInfoLazyIterate(final Blackhole blackhole) {
+        for (final BuildDescription buildDescription : this.lazyJsonJenkinsReader
+            .readJobInfo(SyntheticPayloads.JOB_NAME, this.jobInfo).getBuilds()) {
+            blackhole.consume(buildDescription);
+        }
+    }
+
+    @Benchmark public BuildInfo readBuildInfo() {
+        return this.jsonJenkinsReader.readBuildInfo(SyntheticPayloads.JOB_NAME, 1, this.buildInfo);
+    }
+
+    /**
+     * Payload sizes, as the number of jobs on the master node, the number of
+     * builds listed by a job and the number of artifacts of a build
+     */
+    public enum PayloadSize {
+        SMALL(10, 10, 5),
+        MEDIUM(500, 100, 50),
+        HUGE(20000, 5000, 2000);
+
+        private final int jobs;
+        private final int builds;
+        private final int artifacts;
+
+        PayloadSize(final int jobs, final int builds, final int artifacts) {
+            this.jobs = jobs;
+            this.builds = builds;
+            this.artifacts = artifacts;
+        }
+
+        public int getJobs() {
+            return this.jobs;
+        }
+
+        public int getBuilds() {
+            return this.builds;
+        }
+
+        public int getArtifacts() {
+            return this.artifacts;
+        }
+    }
+
+}
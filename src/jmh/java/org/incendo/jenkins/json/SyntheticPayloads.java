@@ -0,0 +1,138 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates Jenkins JSON API responses of arbitrary size. The generated payloads
+ * have the same shape as the responses that the deserializers read
+ */
+public final class SyntheticPayloads {
+
+    public static final String BASE_URL = "https://ci.example.com/";
+    public static final String JOB_NAME = "project";
+
+    private static final String FREE_STYLE_PROJECT = "hudson.model.FreeStyleProject";
+    private static final String FREE_STYLE_BUILD = "hudson.model.FreeStyleBuild";
+    private static final String[] COLORS = {"blue", "red", "yellow", "blue_anime", "disabled"};
+
+    private SyntheticPayloads() {
+    }
+
+    /**
+     * Generate a master node response
+     *
+     * @param jobs number of jobs
+     * @return master node json
+     */
+    @NotNull public static String masterNode(final int jobs) {
+        final StringBuilder builder = new StringBuilder(jobs * 128 + 128);
+        builder.append("{\"_class\":\"hudson.model.Hudson\",\"mode\":\"NORMAL\",")
+            .append("\"nodeDescription\":\"the master Jenkins node\",\"jobs\":[");
+        for (int job = 0; job < jobs; job++) {
+            if (job > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"_class\":\"").append(FREE_STYLE_PROJECT)
+                .append("\",\"name\":\"").append(JOB_NAME).append('-').append(job)
+                .append("\",\"url\":\"").append(BASE_URL).append("job/").append(JOB_NAME)
+                .append('-').append(job).append("/\",\"color\":\"")
+                .append(COLORS[job % COLORS.length]).append("\"}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    /**
+     * Generate a job info response
+     *
+     * @param builds number of listed builds
+     * @return job info json
+     */
+    @NotNull public static String jobInfo(final int builds) {
+        final String jobUrl = BASE_URL + "job/" + JOB_NAME + "/";
+        final StringBuilder builder = new StringBuilder(builds * 96 + 1024);
+        builder.append("{\"_class\":\"").append(FREE_STYLE_PROJECT).append("\",")
+            .append("\"description\":\"Synthetic job\",\"displayName\":\"").append(JOB_NAME)
+            .append("\",\"fullDisplayName\":\"").append(JOB_NAME).append("\",\"fullName\":\"")
+            .append(JOB_NAME).append("\",\"name\":\"").append(JOB_NAME).append("\",\"url\":\"")
+            .append(jobUrl).append("\",\"buildable\":true,\"builds\":[");
+        for (int build = builds; build > 0; build--) {
+            appendBuild(builder, jobUrl, build);
+            if (build > 1) {
+                builder.append(',');
+            }
+        }
+        builder.append("],\"color\":\"blue\",");
+        appendPermalink(builder, "lastBuild", jobUrl, builds);
+        appendPermalink(builder, "lastCompletedBuild", jobUrl, builds);
+        appendPermalink(builder, "lastFailedBuild", jobUrl, Math.max(1, builds / 2));
+        appendPermalink(builder, "lastSuccessfulBuild", jobUrl, builds);
+        return builder.append("\"nextBuildNumber\":").append(builds + 1).append('}').toString();
+    }
+
+    /**
+     * Generate a build info response
+     *
+     * @param artifacts number of artifacts
+     * @return build info json
+     */
+    @NotNull public static String buildInfo(final int artifacts) {
+        final StringBuilder builder = new StringBuilder(artifacts * 160 + 512);
+        builder.append("{\"_class\":\"").append(FREE_STYLE_BUILD).append("\",\"artifacts\":[");
+        for (int artifact = 0; artifact < artifacts; artifact++) {
+            if (artifact > 0) {
+                builder.append(',');
+            }
+            final String fileName = String.format("module-%d-1.0.%d.jar", artifact, artifact);
+            builder.append("{\"displayPath\":\"").append(fileName).append("\",\"fileName\":\"")
+                .append(fileName).append("\",\"relativePath\":\"module-").append(artifact)
+                .append("/target/").append(fileName).append("\"}");
+        }
+        return builder.append("],\"building\":false,\"description\":null,")
+            .append("\"displayName\":\"#1\",\"duration\":61234,\"fullDisplayName\":\"")
+            .append(JOB_NAME).append(" #1\",\"id\":\"1\",\"number\":1,")
+            .append("\"result\":\"SUCCESS\",\"timestamp\":1550000000000,\"url\":\"")
+            .append(BASE_URL).append("job/").append(JOB_NAME).append("/1/\"}").toString();
+    }
+
+    private static void appendBuild(@NotNull final StringBuilder builder,
+        @NotNull final String jobUrl, final int build) {
+        builder.append("{\"_class\":\"").append(FREE_STYLE_BUILD).append("\",\"number\":")
+            .append(build).append(",\"url\":\"").append(jobUrl).append(build).append("/\"}");
+    }
+
+    private static void appendPermalink(@NotNull final StringBuilder builder,
+        @NotNull final String permalink, @NotNull final String jobUrl, final int build) {
+        builder.append('"').append(permalink).append("\":");
+        if (build > 0) {
+            appendBuild(builder, jobUrl, build);
+        } else {
+            builder.append("null");
+        }
+        builder.append(',');
+    }
+
+}
@@ -0,0 +1,148 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.load;
+
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.json.SyntheticPayloads;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end load harness that drives a {@link Jenkins} instance against a local
+ * {@link FakeJenkinsServer}, and reports the latency percentiles and throughput
+ * at different concurrency levels. Requests are a mix of master node, job and
+ * build reads
+ * <p>
+ * Options are given as {@code key=value} arguments:
+ * <ul>
+ * <li>{@code concurrency}: comma separated concurrency levels (default 1,4,16,64)</li>
+ * <li>{@code requests}: measured requests per level (default 2000)</li>
+ * <li>{@code warmup}: warmup requests per level (default 500)</li>
+ * <li>{@code latency}: server latency in milliseconds (default 5)</li>
+ * <li>{@code jobs}, {@code builds}, {@code artifacts}: payload sizes (default 500, 100, 20)</li>
+ * </ul>
+ */
+public final class ClientLoadBenchmark {
+
+    private ClientLoadBenchmark() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator == -1) {
+                throw new IllegalArgumentException(String.format("Invalid option: %s", arg));
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        final int[] concurrencyLevels =
+            Arrays.stream(options.getOrDefault("concurrency", "1,4,16,64").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        final int requests = Integer.parseInt(options.getOrDefault("requests", "2000"));
+        final int warmup = Integer.parseInt(options.getOrDefault("warmup", "500"));
+        final long latency = Long.parseLong(options.getOrDefault("latency", "5"));
+        final int jobs = Integer.parseInt(options.getOrDefault("jobs", "500"));
+        final int builds = Integer.parseInt(options.getOrDefault("builds", "100"));
+        final int artifacts = Integer.parseInt(options.getOrDefault("artifacts", "20"));
+        try (final FakeJenkinsServer server = new FakeJenkinsServer(jobs, builds, artifacts,
+            latency).start()) {
+            final Jenkins jenkins = Jenkins.newBuilder().withPath(server.getUrl()).build();
+            System.out.printf("Server: %s, latency: %d ms, jobs: %d, builds: %d, artifacts: %d%n",
+                server.getUrl(), latency, jobs, builds, artifacts);
+            System.out.printf("%12s %12s %10s %10s %10s%n", "concurrency", "req/s", "p50 ms",
+                "p99 ms", "p999 ms");
+            for (final int concurrency : concurrencyLevels) {
+                run(jenkins, concurrency, warmup);
+                final long start = System.nanoTime();
+                final long[] latencies = run(jenkins, concurrency, requests);
+                final double seconds = (System.nanoTime() - start) / 1e9D;
+                Arrays.sort(latencies);
+                System.out.printf("%12d %12.1f %10.2f %10.2f %10.2f%n", concurrency,
+                    requests / seconds, percentile(latencies, 0.5D),
+                    percentile(latencies, 0.99D), percentile(latencies, 0.999D));
+            }
+        }
+    }
+
+    /**
+     * Send requests, keeping the given number of requests in flight
+     *
+     * @return the latency of every request, in nanoseconds
+     */
+    @NotNull private static long[] run(@NotNull final Jenkins jenkins, final int concurrency,
+        final int requests) throws InterruptedException {
+        final long[] latencies = new long[requests];
+        final Semaphore semaphore = new Semaphore(concurrency);
+        final CountDownLatch completed = new CountDownLatch(requests);
+        final AtomicInteger failures = new AtomicInteger();
+        for (int request = 0; request < requests; request++) {
+            semaphore.acquire();
+            final int index = request;
+            final long start = System.nanoTime();
+            send(jenkins, request).whenComplete((result, throwable) -> {
+                latencies[index] = System.nanoTime() - start;
+                if (throwable != null) {
+                    failures.incrementAndGet();
+                }
+                semaphore.release();
+                completed.countDown();
+            });
+        }
+        if (!completed.await(10, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Requests did not complete in time");
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException(String.format("%d requests failed", failures.get()));
+        }
+        return latencies;
+    }
+
+    @NotNull private static CompletableFuture<?> send(@NotNull final Jenkins jenkins,
+        final int request) {
+        switch (request % 4) {
+            case 0:
+                return jenkins.getMasterNode();
+            case 1:
+                return jenkins.getJobInfo(SyntheticPayloads.JOB_NAME);
+            default:
+                return jenkins.getBuildInfo(SyntheticPayloads.JOB_NAME, 1 + request % 100);
+        }
+    }
+
+    private static double percentile(@NotNull final long[] sorted, final double percentile) {
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6D;
+    }
+
+}
@@ -0,0 +1,158 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.load;
+
+import com.google.common.base.Preconditions;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.incendo.jenkins.json.SyntheticPayloads;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for a Jenkins master, serving generated master node,
+ * job and build responses on a local port. Every response is delayed by a
+ * configurable latency, to simulate a remote server
+ * <p>
+ * Any job name and build number is accepted
+ */
+public final class FakeJenkinsServer implements AutoCloseable {
+
+    static {
+        // Headers and body are written separately, which otherwise adds a delayed
+        // ACK round trip (around 40 ms) to every response
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final byte[] masterNode;
+    private final byte[] jobInfo;
+    private final byte[] buildInfo;
+    private final long latencyMillis;
+
+    private HttpServer httpServer;
+    private ExecutorService executorService;
+
+    /**
+     * Instantiates a new Fake jenkins server.
+     *
+     * @param jobs          number of jobs on the master node
+     * @param builds        number of builds listed by every job
+     * @param artifacts     number of artifacts of every build
+     * @param latencyMillis response latency, in milliseconds
+     */
+    public FakeJenkinsServer(final int jobs, final int builds, final int artifacts,
+        final long latencyMillis) {
+        Preconditions.checkArgument(latencyMillis >= 0, "Latency may not be negative");
+        this.masterNode = SyntheticPayloads.masterNode(jobs).getBytes(StandardCharsets.UTF_8);
+        this.jobInfo = SyntheticPayloads.jobInfo(builds).getBytes(StandardCharsets.UTF_8);
+        this.buildInfo = SyntheticPayloads.buildInfo(artifacts).getBytes(StandardCharsets.UTF_8);
+        this.latencyMillis = latencyMillis;
+    }
+
+    /**
+     * Start serving requests on a free local port
+     *
+     * @return this server
+     * @throws IOException if the server could not be bound
+     */
+    @NotNull public FakeJenkinsServer start() throws IOException {
+        Preconditions.checkState(this.httpServer == null, "Server already started");
+        this.httpServer =
+            HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        // Requests sleep to simulate latency, so every request needs its own thread
+        this.executorService = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "fake-jenkins");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpServer.setExecutor(this.executorService);
+        this.httpServer.createContext("/", this::handle);
+        this.httpServer.start();
+        return this;
+    }
+
+    /**
+     * Get the base url of the server
+     *
+     * @return base url, with trailing slash
+     */
+    @NotNull public String getUrl() {
+        Preconditions.checkState(this.httpServer != null, "Server not started");
+        final InetSocketAddress address = this.httpServer.getAddress();
+        return String.format("http://%s:%d/", address.getHostString(), address.getPort());
+    }
+
+    @Override public void close() {
+        if (this.httpServer != null) {
+            this.httpServer.stop(0);
+            this.executorService.shutdownNow();
+            this.httpServer = null;
+        }
+    }
+
+    private void handle(@NotNull final HttpExchange exchange) throws IOException {
+        try {
+            if (this.latencyMillis > 0) {
+                TimeUnit.MILLISECONDS.sleep(this.latencyMillis);
+            }
+            final byte[] body = this.route(exchange.getRequestURI().getPath());
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+            exchange.getResponseHeaders().add("X-Jenkins", "2.160");
+            exchange.sendResponseHeaders(200, body.length);
+            try (final OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private byte[] route(@NotNull final String path) {
+        final String[] parts = path.substring(1).split("/");
+        if (parts.length == 2 && parts[0].equals("api")) {
+            return this.masterNode;
+        } else if (parts.length == 4 && parts[0].equals("job") && parts[2].equals("api")) {
+            return this.jobInfo;
+        } else if (parts.length == 5 && parts[0].equals("job") && parts[3].equals("api")) {
+            return this.buildInfo;
+        }
+        return null;
+    }
+
+}
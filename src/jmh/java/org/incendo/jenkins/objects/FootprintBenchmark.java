@@ -0,0 +1,115 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.function.Supplier;
+
+/**
+ * Compares the retained heap of the compact {@link BuildDescription} representation with
+ * the previous representation, which kept a full url and class name string per instance.
+ * Every string is copied before it is handed over, which mirrors how a JSON parser creates
+ * a new string for every value it reads
+ * <p>
+ * Run the main method with a fixed heap (for example {@code -Xms2g -Xmx2g}) for stable numbers
+ */
+public final class FootprintBenchmark {
+
+    private static final int JOBS = 500;
+    private static final int BUILDS_PER_JOB = 1000;
+    private static final String BASE_URL = "https://ci.example.com/";
+    private static final String BUILD_CLASS = "org.jenkinsci.plugins.workflow.job.WorkflowRun";
+
+    public static void main(final String[] args) {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final long legacy = measure(memory, FootprintBenchmark::createLegacy);
+        final long compact = measure(memory, FootprintBenchmark::createCompact);
+        final int instances = JOBS * BUILDS_PER_JOB;
+        System.out.printf("Instances: %d%n", instances);
+        System.out.printf("Legacy:  %,d bytes (%.1f bytes/build)%n", legacy,
+            (double) legacy / instances);
+        System.out.printf("Compact: %,d bytes (%.1f bytes/build)%n", compact,
+            (double) compact / instances);
+        System.out.printf("Reduction: %.1f%%%n", 100D * (legacy - compact) / legacy);
+    }
+
+    private static long measure(final MemoryMXBean memory, final Supplier<Object[]> factory) {
+        final long before = usedHeap(memory);
+        final Object[] retained = factory.get();
+        final long after = usedHeap(memory);
+        if (retained.length != JOBS * BUILDS_PER_JOB) {
+            throw new IllegalStateException();
+        }
+        return after - before;
+    }
+
+    private static Object[] createLegacy() {
+        final Object[] builds = new Object[JOBS * BUILDS_PER_JOB];
+        int index = 0;
+        for (int job = 0; job < JOBS; job++) {
+            for (int build = 1; build <= BUILDS_PER_JOB; build++) {
+                builds[index++] = new LegacyBuildDescription(new String(BUILD_CLASS), build,
+                    String.format("%sjob/project-%d/%d/", BASE_URL, job, build));
+            }
+        }
+        return builds;
+    }
+
+    private static Object[] createCompact() {
+        final Object[] builds = new Object[JOBS * BUILDS_PER_JOB];
+        int index = 0;
+        for (int job = 0; job < JOBS; job++) {
+            for (int build = 1; build <= BUILDS_PER_JOB; build++) {
+                builds[index++] = new BuildDescription(new String(BUILD_CLASS), build,
+                    String.format("%sjob/project-%d/%d/", BASE_URL, job, build));
+            }
+        }
+        return builds;
+    }
+
+    private static long usedHeap(final MemoryMXBean memory) {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static final class LegacyBuildDescription {
+
+        private final String jenkinsClass;
+        private final int number;
+        private final String url;
+
+        private LegacyBuildDescription(final String jenkinsClass, final int number,
+            final String url) {
+            this.jenkinsClass = jenkinsClass;
+            this.number = number;
+            this.url = url;
+        }
+
+    }
+
+}
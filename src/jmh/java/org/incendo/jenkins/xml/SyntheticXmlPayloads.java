@@ -0,0 +1,127 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.json.SyntheticPayloads;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates Jenkins XML API responses of arbitrary size. The generated payloads
+ * contain the same data as the ones generated by {@link SyntheticPayloads}
+ */
+public final class SyntheticXmlPayloads {
+
+    private static final String BASE_URL = SyntheticPayloads.BASE_URL;
+    private static final String JOB_NAME = SyntheticPayloads.JOB_NAME;
+
+    private static final String FREE_STYLE_PROJECT = "hudson.model.FreeStyleProject";
+    private static final String FREE_STYLE_BUILD = "hudson.model.FreeStyleBuild";
+    private static final String[] COLORS = {"blue", "red", "yellow", "blue_anime", "disabled"};
+
+    private SyntheticXmlPayloads() {
+    }
+
+    /**
+     * Generate a master node response
+     *
+     * @param jobs number of jobs
+     * @return master node xml
+     */
+    @NotNull public static String masterNode(final int jobs) {
+        final StringBuilder builder = new StringBuilder(jobs * 160 + 160);
+        builder.append("<hudson _class=\"hudson.model.Hudson\"><mode>NORMAL</mode>")
+            .append("<nodeDescription>the master Jenkins node</nodeDescription>");
+        for (int job = 0; job < jobs; job++) {
+            builder.append("<job _class=\"").append(FREE_STYLE_PROJECT).append("\"><name>")
+                .append(JOB_NAME).append('-').append(job).append("</name><url>")
+                .append(BASE_URL).append("job/").append(JOB_NAME).append('-').append(job)
+                .append("/</url><color>").append(COLORS[job % COLORS.length])
+                .append("</color></job>");
+        }
+        return builder.append("</hudson>").toString();
+    }
+
+    /**
+     * Generate a job info response
+     *
+     * @param builds number of listed builds
+     * @return job info xml
+     */
+    @NotNull public static String jobInfo(final int builds) {
+        final String jobUrl = BASE_URL + "job/" + JOB_NAME + "/";
+        final StringBuilder builder = new StringBuilder(builds * 128 + 1024);
+        builder.append("<freeStyleProject _class=\"").append(FREE_STYLE_PROJECT).append("\">")
+            .append("<description>Synthetic job</description><displayName>").append(JOB_NAME)
+            .append("</displayName><fullDisplayName>").append(JOB_NAME)
+            .append("</fullDisplayName><fullName>").append(JOB_NAME).append("</fullName><name>")
+            .append(JOB_NAME).append("</name><url>").append(jobUrl)
+            .append("</url><buildable>true</buildable>");
+        for (int build = builds; build > 0; build--) {
+            appendBuild(builder, "build", jobUrl, build);
+        }
+        builder.append("<color>blue</color>");
+        appendBuild(builder, "lastBuild", jobUrl, builds);
+        appendBuild(builder, "lastCompletedBuild", jobUrl, builds);
+        appendBuild(builder, "lastFailedBuild", jobUrl, Math.max(1, builds / 2));
+        appendBuild(builder, "lastSuccessfulBuild", jobUrl, builds);
+        return builder.append("<nextBuildNumber>").append(builds + 1)
+            .append("</nextBuildNumber></freeStyleProject>").toString();
+    }
+
+    /**
+     * Generate a build info response
+     *
+     * @param artifacts number of artifacts
+     * @return build info xml
+     */
+    @NotNull public static String buildInfo(final int artifacts) {
+        final StringBuilder builder = new StringBuilder(artifacts * 192 + 512);
+        builder.append("<freeStyleBuild _class=\"").append(FREE_STYLE_BUILD).append("\">");
+        for (int artifact = 0; artifact < artifacts; artifact++) {
+            final String fileName = String.format("module-%d-1.0.%d.jar", artifact, artifact);
+            builder.append("<artifact><displayPath>").append(fileName)
+                .append("</displayPath><fileName>").append(fileName)
+                .append("</fileName><relativePath>module-").append(artifact).append("/target/")
+                .append(fileName).append("</relativePath></artifact>");
+        }
+        return builder.append("<building>false</building><displayName>#1</displayName>")
+            .append("<duration>61234</duration><fullDisplayName>").append(JOB_NAME)
+            .append(" #1</fullDisplayName><id>1</id><number>1</number>")
+            .append("<result>SUCCESS</result><timestamp>1550000000000</timestamp><url>")
+            .append(BASE_URL).append("job/").append(JOB_NAME).append("/1/</url></freeStyleBuild>")
+            .toString();
+    }
+
+    private static void appendBuild(@NotNull final StringBuilder builder,
+        @NotNull final String element, @NotNull final String jobUrl, final int build) {
+        if (build <= 0) {
+            return;
+        }
+        builder.append('<').append(element).append(" _class=\"").append(FREE_STYLE_BUILD)
+            .append("\"><number>").append(build).append("</number><url>").append(jobUrl)
+            .append(build).append("/</url></").append(element).append('>');
+    }
+
+}
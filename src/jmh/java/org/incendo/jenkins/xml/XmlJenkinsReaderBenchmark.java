@@ -0,0 +1,82 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.JenkinsAPIType;
+import org.incendo.jenkins.exception.JenkinsNodeReadException;
+import org.incendo.jenkins.json.JsonJenkinsReaderBenchmark.PayloadSize;
+import org.incendo.jenkins.json.SyntheticPayloads;
+import org.incendo.jenkins.objects.BuildInfo;
+import org.incendo.jenkins.objects.JobInfo;
+import org.incendo.jenkins.objects.MasterNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link XmlJenkinsReader} parse paths, using the same data and
+ * payload sizes as the {@link org.incendo.jenkins.json.JsonJenkinsReaderBenchmark},
+ * so that the results of both readers can be compared directly
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.SECONDS)
+public class XmlJenkinsReaderBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"}) public PayloadSize size;
+
+    private XmlJenkinsReader xmlJenkinsReader;
+    private String masterNode;
+    private String jobInfo;
+    private String buildInfo;
+
+    @Setup public void setup() {
+        final Jenkins jenkins = Jenkins.newBuilder().withPath(SyntheticPayloads.BASE_URL)
+            .withAPIType(JenkinsAPIType.XML).build();
+        this.xmlJenkinsReader = new XmlJenkinsReader(jenkins, jenkins.getJenkinsPathProvider());
+        this.masterNode = SyntheticXmlPayloads.masterNode(this.size.getJobs());
+        this.jobInfo = SyntheticXmlPayloads.jobInfo(this.size.getBuilds());
+        this.buildInfo = SyntheticXmlPayloads.buildInfo(this.size.getArtifacts());
+    }
+
+    @Benchmark public MasterNode readMasterView() throws JenkinsNodeReadException {
+        return this.xmlJenkinsReader.readMasterView(this.masterNode);
+    }
+
+    @Benchmark public JobInfo readJobInfo() throws JenkinsNodeReadException {
+        return this.xmlJenkinsReader.readJobInfo(SyntheticPayloads.JOB_NAME, this.jobInfo);
+    }
+
+    @Benchmark public BuildInfo readBuildInfo() throws JenkinsNodeReadException {
+        return this.xmlJenkinsReader.readBuildInfo(SyntheticPayloads.JOB_NAME, 1, this.buildInfo);
+    }
+
+}
@@ -0,0 +1,223 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.exception.JenkinsNodeReadException;
+import org.incendo.jenkins.objects.BuildInfo;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Reads {@link BuildInfo build infos} for many builds of the same job using as
+ * few requests as possible
+ * <p>
+ * Requested build numbers are grouped into clusters of nearby builds. Every cluster
+ * is read using a single {@code allBuilds[...]{m,n}} window, where the window indices
+ * are derived from the number of the newest build. Builds that are not close to any
+ * other requested build, and builds that are missing from their window (because
+ * older builds have been deleted), are read one at a time. At most
+ * {@link #MAX_PARALLEL_REQUESTS} requests are in flight at once
+ * <p>
+ * The calling thread takes part in reading the builds, and only waits for requests
+ * that other threads have started, so the batch completes even when every thread
+ * of the executor is busy
+ */
+final class BuildInfoBatch {
+
+    /**
+     * Maximum number of unrequested builds between two requested builds
+     * in the same window
+     */
+    static final int MAX_GAP = 4;
+
+    /**
+     * Maximum number of requests that are sent at the same time
+     */
+    static final int MAX_PARALLEL_REQUESTS = 4;
+
+    private final JenkinsReader jenkinsReader;
+    private final Executor executor;
+    private final String jobName;
+    private final int[] numbers;
+    private final AtomicReferenceArray<BuildInfo> results;
+
+    /**
+     * Instantiates a new Build info batch.
+     *
+     * @param jenkinsReader the jenkins reader
+     * @param executor      executor that parallel requests are sent from
+     * @param jobName       the job name
+     * @param numbers       the requested build numbers, in any order
+     */
+    BuildInfoBatch(@NotNull final JenkinsReader jenkinsReader, @NotNull final Executor executor,
+        @NotNull final String jobName, @NotNull final int[] numbers) {
+        this.jenkinsReader = Preconditions.checkNotNull(jenkinsReader, "Reader may not be null");
+        this.executor = Preconditions.checkNotNull(executor, "Executor may not be null");
+        this.jobName = Preconditions.checkNotNull(jobName, "Job name may not be null");
+        Preconditions.checkNotNull(numbers, "Numbers may not be null");
+        this.numbers = Arrays.stream(numbers).sorted().distinct().toArray();
+        this.results = new AtomicReferenceArray<>(this.numbers.length);
+    }
+
+    /**
+     * Read all requested builds
+     *
+     * @return the build infos, in ascending build number order
+     * @throws JenkinsNodeReadException if any of the builds could not be read
+     */
+    @NotNull List<BuildInfo> read() throws JenkinsNodeReadException {
+        if (this.numbers.length == 0) {
+            return Collections.emptyList();
+        }
+        final List<Runnable> windows = new ArrayList<>();
+        final List<Runnable> singles = new ArrayList<>();
+        int lastBuild = Integer.MIN_VALUE;
+        int start = 0;
+        for (int position = 1; position <= this.numbers.length; position++) {
+            if (position < this.numbers.length
+                && this.numbers[position] - this.numbers[position - 1] <= MAX_GAP + 1) {
+                continue;
+            }
+            // numbers[start, position) is a cluster
+            if (position - start == 1) {
+                singles.add(this.single(start));
+            } else {
+                if (lastBuild == Integer.MIN_VALUE) {
+                    lastBuild =
+                        this.jenkinsReader.readLastBuildNumber(this.jobName, System.nanoTime());
+                }
+                if (lastBuild >= this.numbers[position - 1]) {
+                    windows.add(this.window(lastBuild, start, position));
+                } else {
+                    for (int single = start; single < position; single++) {
+                        singles.add(this.single(single));
+                    }
+                }
+            }
+            start = position;
+        }
+        windows.addAll(singles);
+        run(this.executor, windows);
+        // Builds that were not found in their window
+        final List<Runnable> missing = new ArrayList<>();
+        for (int position = 0; position < this.numbers.length; position++) {
+            if (this.results.get(position) == null) {
+                missing.add(this.single(position));
+            }
+        }
+        run(this.executor, missing);
+        final List<BuildInfo> buildInfos = new ArrayList<>(this.numbers.length);
+        for (int position = 0; position < this.numbers.length; position++) {
+            buildInfos.add(this.results.get(position));
+        }
+        return buildInfos;
+    }
+
+    @NotNull private Runnable single(final int position) {
+        final int number = this.numbers[position];
+        final long submitted = System.nanoTime();
+        return () -> this.results
+            .set(position, this.jenkinsReader.readBuildInfo(this.jobName, number, submitted));
+    }
+
+    @NotNull private Runnable window(final int lastBuild, final int start, final int end) {
+        // allBuilds is ordered newest first, so index 0 is the newest build
+        final int from = lastBuild - this.numbers[end - 1];
+        final int to = lastBuild - this.numbers[start] + 1;
+        final long submitted = System.nanoTime();
+        return () -> {
+            for (final BuildInfo buildInfo : this.jenkinsReader
+                .readBuildInfoPage(this.jobName, from, to, submitted)) {
+                final int position =
+                    Arrays.binarySearch(this.numbers, start, end, buildInfo.getId());
+                if (position >= 0) {
+                    this.results.set(position, buildInfo);
+                }
+            }
+        };
+    }
+
+    /**
+     * Run tasks using at most {@link #MAX_PARALLEL_REQUESTS} lanes, one of which is
+     * the calling thread, and wait for all of them to complete. Once a task has
+     * failed, the remaining tasks are skipped, and the failure is rethrown
+     *
+     * @param executor executor that the other lanes run on
+     * @param tasks    the tasks
+     */
+    static void run(@NotNull final Executor executor, @NotNull final List<Runnable> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        if (tasks.size() == 1) {
+            tasks.get(0).run();
+            return;
+        }
+        final Queue<Runnable> queue = new ConcurrentLinkedQueue<>(tasks);
+        final CountDownLatch completed = new CountDownLatch(tasks.size());
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final Runnable lane = () -> {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                try {
+                    // Once a request has failed, the remaining tasks are skipped
+                    if (failure.get() == null) {
+                        task.run();
+                    }
+                } catch (final RuntimeException exception) {
+                    failure.compareAndSet(null, exception);
+                } finally {
+                    completed.countDown();
+                }
+            }
+        };
+        for (int lanes = Math.min(MAX_PARALLEL_REQUESTS, tasks.size()); lanes > 1; lanes--) {
+            executor.execute(lane);
+        }
+        // Lanes that start after the queue has been drained return immediately
+        lane.run();
+        try {
+            completed.await();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading builds", exception);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+}
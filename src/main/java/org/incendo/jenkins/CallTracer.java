@@ -0,0 +1,175 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import org.incendo.jenkins.metrics.Endpoint;
+import org.incendo.jenkins.metrics.Outcome;
+import org.incendo.jenkins.metrics.Phase;
+import org.incendo.jenkins.metrics.RequestTrace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * {@link EventListener.Factory} that times the network phases of calls.
+ * Calls are executed synchronously on the reading thread, so the timer of the
+ * current read is handed to OkHttp through a thread local
+ */
+final class CallTracer implements EventListener.Factory {
+
+    private final ThreadLocal<PhaseTimer> active = new ThreadLocal<>();
+
+    /**
+     * Start timing the next call made by the current thread
+     *
+     * @return the timer
+     */
+    @NotNull PhaseTimer begin() {
+        final PhaseTimer phaseTimer = new PhaseTimer();
+        this.active.set(phaseTimer);
+        return phaseTimer;
+    }
+
+    /**
+     * Stop handing out the timer of the current thread
+     */
+    void end() {
+        this.active.remove();
+    }
+
+    @Override public EventListener create(@NotNull final Call call) {
+        final PhaseTimer phaseTimer = this.active.get();
+        return phaseTimer == null ? EventListener.NONE : phaseTimer;
+    }
+
+    /**
+     * Records the time at which every event of a call took place
+     */
+    static final class PhaseTimer extends EventListener {
+
+        private volatile String url = "";
+        private volatile long dnsStart;
+        private volatile long dnsEnd;
+        private volatile long connectStart;
+        private volatile long connectEnd;
+        private volatile long secureConnectStart;
+        private volatile long secureConnectEnd;
+        private volatile long requestHeadersStart;
+        private volatile long responseHeadersEnd;
+        private volatile long responseBodyEnd;
+
+        private PhaseTimer() {
+        }
+
+        @Override public void callStart(@NotNull final Call call) {
+            this.url = call.request().url().toString();
+        }
+
+        @Override public void dnsStart(@NotNull final Call call, @NotNull final String domainName) {
+            this.dnsStart = System.nanoTime();
+        }
+
+        @Override public void dnsEnd(@NotNull final Call call, @NotNull final String domainName,
+            @NotNull final List<InetAddress> inetAddressList) {
+            this.dnsEnd = System.nanoTime();
+        }
+
+        @Override public void connectStart(@NotNull final Call call,
+            @NotNull final InetSocketAddress inetSocketAddress, @NotNull final Proxy proxy) {
+            this.connectStart = System.nanoTime();
+        }
+
+        @Override public void secureConnectStart(@NotNull final Call call) {
+            this.secureConnectStart = System.nanoTime();
+        }
+
+        @Override public void secureConnectEnd(@NotNull final Call call,
+            @Nullable final Handshake handshake) {
+            this.secureConnectEnd = System.nanoTime();
+        }
+
+        @Override public void connectEnd(@NotNull final Call call,
+            @NotNull final InetSocketAddress inetSocketAddress, @NotNull final Proxy proxy,
+            @Nullable final Protocol protocol) {
+            this.connectEnd = System.nanoTime();
+        }
+
+        @Override public void connectFailed(@NotNull final Call call,
+            @NotNull final InetSocketAddress inetSocketAddress, @NotNull final Proxy proxy,
+            @Nullable final Protocol protocol, @NotNull final IOException ioe) {
+            this.connectEnd = System.nanoTime();
+        }
+
+        @Override public void requestHeadersStart(@NotNull final Call call) {
+            // Follow-up requests (redirects, authentication) restart the exchange
+            this.requestHeadersStart = System.nanoTime();
+        }
+
+        @Override public void responseHeadersEnd(@NotNull final Call call,
+            @NotNull final Response response) {
+            this.responseHeadersEnd = System.nanoTime();
+        }
+
+        @Override public void responseBodyEnd(@NotNull final Call call, final long byteCount) {
+            this.responseBodyEnd = System.nanoTime();
+        }
+
+        /**
+         * Create a trace from the recorded events
+         */
+        @NotNull RequestTrace toTrace(@NotNull final Endpoint endpoint,
+            @NotNull final Outcome outcome, final long queueNanos, final long networkNanos,
+            final long responseBytes, final long parseNanos) {
+            final long[] phaseNanos = new long[Phase.values().length];
+            phaseNanos[Phase.DNS.ordinal()] = between(this.dnsStart, this.dnsEnd);
+            final long tls = between(this.secureConnectStart, this.secureConnectEnd);
+            phaseNanos[Phase.TLS.ordinal()] = tls;
+            phaseNanos[Phase.CONNECT.ordinal()] =
+                Math.max(0L, between(this.connectStart, this.connectEnd) - tls);
+            phaseNanos[Phase.TIME_TO_FIRST_BYTE.ordinal()] =
+                between(this.requestHeadersStart, this.responseHeadersEnd);
+            phaseNanos[Phase.TRANSFER.ordinal()] =
+                between(this.responseHeadersEnd, this.responseBodyEnd);
+            return new RequestTrace(endpoint, this.url, outcome, queueNanos, networkNanos,
+                responseBytes, parseNanos, phaseNanos, this.connectStart == 0L);
+        }
+
+        private static long between(final long start, final long end) {
+            return start == 0L || end < start ? 0L : end - start;
+        }
+
+    }
+
+}
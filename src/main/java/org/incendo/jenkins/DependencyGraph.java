@@ -0,0 +1,262 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.exception.JenkinsJobNotFoundException;
+import org.incendo.jenkins.exception.JenkinsNodeReadException;
+import org.incendo.jenkins.metrics.FlightRecorderEvents;
+import org.incendo.jenkins.objects.JobDependencies;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Graph of the upstream and downstream projects of the jobs of a Jenkins master,
+ * which is read lazily while it is traversed. Traversals are breadth first, and
+ * the jobs of a level are read in parallel, with a bounded number of requests in
+ * flight
+ * <p>
+ * The dependencies of every job are read once, and shared by all traversals, so
+ * expanding the graph from several jobs does not read the jobs that were already
+ * visited. Use {@link #invalidate(String)} or {@link #invalidateAll()} to read
+ * changed jobs again. Every job is visited once per traversal, so cycles between
+ * jobs are traversed safely
+ * <p>
+ * Jobs that are listed as dependencies, but that no longer exist, are visited as
+ * jobs without dependencies. Traversals only fail if a job cannot be read for
+ * other reasons
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class DependencyGraph {
+
+    private static final String CACHE_NAME = "job-dependencies";
+
+    private final Jenkins jenkins;
+    private final int parallelism;
+    private final ConcurrentMap<String, CompletableFuture<JobDependencies>> dependencies =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Dependency graph.
+     *
+     * @param jenkins     the jenkins instance
+     * @param parallelism the maximum number of jobs that are read at the same time
+     */
+    public DependencyGraph(@NotNull final Jenkins jenkins, final int parallelism) {
+        this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        Preconditions.checkArgument(parallelism > 0, "Parallelism must be positive");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Get the upstream and downstream projects of a job. The job is only read
+     * if it has not been read before
+     *
+     * @param jobName the job name
+     * @return the job dependencies
+     */
+    @NotNull public CompletableFuture<JobDependencies> getDependencies(
+        @NotNull final String jobName) {
+        Preconditions.checkNotNull(jobName, "Job name may not be null");
+        return this.read(jobName).thenApply(jobDependencies -> jobDependencies);
+    }
+
+    /**
+     * Get the shared read of the dependencies of a job, starting it if the job
+     * has not been read before
+     */
+    @NotNull private CompletableFuture<JobDependencies> read(@NotNull final String jobName) {
+        final CompletableFuture<JobDependencies> created = new CompletableFuture<>();
+        final CompletableFuture<JobDependencies> cached =
+            this.dependencies.putIfAbsent(jobName, created);
+        FlightRecorderEvents.cacheAccess(CACHE_NAME, jobName, -1, cached != null);
+        if (cached != null) {
+            return cached;
+        }
+        this.jenkins.getJobDependencies(jobName).whenComplete((jobDependencies, throwable) -> {
+            if (throwable != null) {
+                this.dependencies.remove(jobName, created);
+                created.completeExceptionally(throwable);
+            } else {
+                created.complete(jobDependencies);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Get all jobs that are triggered by a job, directly or transitively, such as
+     * the jobs that are affected when the job fails
+     *
+     * @param jobName  the job name
+     * @param maxDepth the maximum distance from the job
+     * @return the jobs, mapped to their distance from the job, in breadth first order.
+     * The job itself is not included, even if it is part of a cycle
+     */
+    @NotNull public CompletableFuture<Map<String, Integer>> getDownstream(
+        @NotNull final String jobName, final int maxDepth) {
+        return this.expand(jobName, false, maxDepth);
+    }
+
+    /**
+     * Get all jobs that trigger a job, directly or transitively
+     *
+     * @param jobName  the job name
+     * @param maxDepth the maximum distance from the job
+     * @return the jobs, mapped to their distance from the job, in breadth first order.
+     * The job itself is not included, even if it is part of a cycle
+     */
+    @NotNull public CompletableFuture<Map<String, Integer>> getUpstream(
+        @NotNull final String jobName, final int maxDepth) {
+        return this.expand(jobName, true, maxDepth);
+    }
+
+    /**
+     * Forget the dependencies of a job, so that it is read again when it is visited
+     *
+     * @param jobName the job name
+     */
+    public void invalidate(@NotNull final String jobName) {
+        this.dependencies.remove(jobName);
+    }
+
+    /**
+     * Forget the dependencies of all jobs
+     */
+    public void invalidateAll() {
+        this.dependencies.clear();
+    }
+
+    /**
+     * Get the number of jobs that have been read, or are being read
+     *
+     * @return job count
+     */
+    public int getJobCount() {
+        return this.dependencies.size();
+    }
+
+    @NotNull private CompletableFuture<Map<String, Integer>> expand(
+        @NotNull final String jobName, final boolean upstream, final int maxDepth) {
+        Preconditions.checkNotNull(jobName, "Job name may not be null");
+        Preconditions.checkArgument(maxDepth >= 0, "Max depth may not be negative");
+        final Map<String, Integer> visited = new LinkedHashMap<>();
+        visited.put(jobName, 0);
+        return this.expand(Collections.singletonList(jobName), visited, upstream, 0, maxDepth)
+            .thenApply(ignored -> {
+                visited.remove(jobName);
+                return visited;
+            });
+    }
+
+    /**
+     * Read the dependencies of all jobs of a level, and expand the next level from
+     * the jobs that have not been visited yet. Levels are expanded one after another,
+     * so the visited jobs are only modified by one thread at a time
+     */
+    @NotNull private CompletableFuture<Void> expand(@NotNull final List<String> level,
+        @NotNull final Map<String, Integer> visited, final boolean upstream, final int depth,
+        final int maxDepth) {
+        if (level.isEmpty() || depth == maxDepth) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.readAll(level).thenCompose(levelDependencies -> {
+            final List<String> next = new ArrayList<>();
+            for (final JobDependencies jobDependencies : levelDependencies) {
+                if (jobDependencies == null) {
+                    // the job no longer exists
+                    continue;
+                }
+                for (final String neighbour : upstream ? jobDependencies.getUpstreamProjects() :
+                    jobDependencies.getDownstreamProjects()) {
+                    if (visited.putIfAbsent(neighbour, depth + 1) == null) {
+                        next.add(neighbour);
+                    }
+                }
+            }
+            return this.expand(next, visited, upstream, depth + 1, maxDepth);
+        });
+    }
+
+    /**
+     * Read the dependencies of a list of jobs, with at most {@link #parallelism}
+     * reads in flight. Every lane reads the next unread job when its read completes.
+     * Jobs that do not exist are read as null
+     */
+    @NotNull private CompletableFuture<JobDependencies[]> readAll(
+        @NotNull final List<String> jobs) {
+        final AtomicInteger next = new AtomicInteger();
+        final JobDependencies[] read = new JobDependencies[jobs.size()];
+        final CompletableFuture<?>[] lanes =
+            new CompletableFuture<?>[Math.min(this.parallelism, jobs.size())];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = this.readNext(jobs, next, read);
+        }
+        return CompletableFuture.allOf(lanes).thenApply(ignored -> read);
+    }
+
+    @NotNull private CompletableFuture<Void> readNext(@NotNull final List<String> jobs,
+        @NotNull final AtomicInteger next, @NotNull final JobDependencies[] read) {
+        // jobs that were read before do not occupy the lane
+        while (true) {
+            final int index = next.getAndIncrement();
+            if (index >= jobs.size()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            final CompletableFuture<JobDependencies> future = this.read(jobs.get(index));
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                return future.exceptionally(throwable -> {
+                    if (isJobNotFound(throwable)) {
+                        return null;
+                    }
+                    throw throwable instanceof CompletionException ?
+                        (CompletionException) throwable : new CompletionException(throwable);
+                }).thenCompose(jobDependencies -> {
+                    read[index] = jobDependencies;
+                    return this.readNext(jobs, next, read);
+                });
+            }
+            read[index] = future.join();
+        }
+    }
+
+    private static boolean isJobNotFound(@NotNull final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException
+            && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return cause instanceof JenkinsJobNotFoundException
+            || cause instanceof JenkinsNodeReadException
+            && cause.getCause() instanceof JenkinsJobNotFoundException;
+    }
+
+}
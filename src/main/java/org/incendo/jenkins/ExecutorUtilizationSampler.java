@@ -0,0 +1,202 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.incendo.jenkins.objects.ComputerInfo;
+import org.incendo.jenkins.objects.ComputerSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically samples executor utilization from the Jenkins computer set, and
+ * keeps a {@link UtilizationHistory} per label. Every sample is read using a
+ * minimal tree projection, so polling stays cheap even for large agent fleets
+ * <p>
+ * The utilization of the entire fleet is recorded using the {@link #ALL_LABELS} label
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class ExecutorUtilizationSampler
+    implements AutoCloseable {
+
+    /**
+     * Label under which the utilization of all online executors is recorded
+     */
+    public static final String ALL_LABELS = "*";
+
+    static final String SAMPLE_TREE = "computer[offline,assignedLabels[name],executors[idle]]";
+
+    private final Jenkins jenkins;
+    private final long period;
+    private final TimeUnit unit;
+    private final int capacity;
+    private final ConcurrentMap<String, UtilizationHistory> histories =
+        new ConcurrentHashMap<>();
+    private final AtomicLong failedSamples = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> task;
+
+    /**
+     * Instantiates a new Executor utilization sampler. The sampler does not
+     * poll until {@link #start()} is called
+     *
+     * @param jenkins  the jenkins instance to sample
+     * @param period   the time between samples
+     * @param unit     the unit of the period
+     * @param capacity the number of samples to retain per label
+     */
+    public ExecutorUtilizationSampler(@NotNull final Jenkins jenkins, final long period,
+        @NotNull final TimeUnit unit, final int capacity) {
+        this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        this.unit = Preconditions.checkNotNull(unit, "Unit may not be null");
+        Preconditions.checkArgument(period > 0, "Period must be positive");
+        Preconditions.checkArgument(capacity > 0, "Capacity must be positive");
+        this.period = period;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Start polling at a fixed rate
+     *
+     * @throws IllegalStateException if the sampler is already running
+     */
+    public synchronized void start() {
+        Preconditions.checkState(this.task == null, "Sampler is already running");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("jenkins4j-sampler-%d")
+                .build());
+        this.task = this.scheduler.scheduleAtFixedRate(this::sampleQuietly, 0L, this.period,
+            this.unit);
+    }
+
+    /**
+     * Stop polling. Recorded samples are kept
+     */
+    @Override public synchronized void close() {
+        if (this.task != null) {
+            this.task.cancel(false);
+            this.scheduler.shutdown();
+            this.task = null;
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Read the computer set once, and record a sample for every label. This is
+     * what the sampler does on every tick, but it may also be invoked manually
+     */
+    public void sample() {
+        final ComputerSet computerSet = this.jenkins.getComputerSet(SAMPLE_TREE).join();
+        this.record(System.currentTimeMillis(), computerSet);
+    }
+
+    /**
+     * Get the utilization history of a label
+     *
+     * @param label label name, or {@link #ALL_LABELS}
+     * @return the history, or null if the label has never been seen
+     */
+    @Nullable public UtilizationHistory getHistory(@NotNull final String label) {
+        return this.histories.get(label);
+    }
+
+    /**
+     * Get all labels that have been seen by the sampler
+     *
+     * @return label names
+     */
+    @NotNull public Set<String> getLabels() {
+        return Collections.unmodifiableSet(this.histories.keySet());
+    }
+
+    /**
+     * Get the number of samples that could not be read
+     *
+     * @return failed sample count
+     */
+    public long getFailedSamples() {
+        return this.failedSamples.get();
+    }
+
+    void record(final long timestamp, @NotNull final ComputerSet computerSet) {
+        // label -> {busy, total}
+        final Map<String, int[]> counts = new HashMap<>();
+        int busy = 0;
+        int total = 0;
+        for (final ComputerInfo computer : computerSet.getComputers()) {
+            if (computer.isOffline()) {
+                continue;
+            }
+            final int computerBusy = computer.getBusyExecutors();
+            final int computerTotal = computer.getExecutors().size();
+            busy += computerBusy;
+            total += computerTotal;
+            for (final String label : computer.getLabels()) {
+                final int[] labelCounts = counts.computeIfAbsent(label, l -> new int[2]);
+                labelCounts[0] += computerBusy;
+                labelCounts[1] += computerTotal;
+            }
+        }
+        this.history(ALL_LABELS).record(timestamp, busy, total);
+        for (final Map.Entry<String, int[]> entry : counts.entrySet()) {
+            this.history(entry.getKey()).record(timestamp, entry.getValue()[0],
+                entry.getValue()[1]);
+        }
+        // Labels without any online computers are recorded as empty, so that
+        // all histories stay aligned
+        for (final Map.Entry<String, UtilizationHistory> entry : this.histories.entrySet()) {
+            if (!ALL_LABELS.equals(entry.getKey()) && !counts.containsKey(entry.getKey())) {
+                entry.getValue().record(timestamp, 0, 0);
+            }
+        }
+    }
+
+    private UtilizationHistory history(@NotNull final String label) {
+        return this.histories.computeIfAbsent(label, l -> new UtilizationHistory(this.capacity));
+    }
+
+    private void sampleQuietly() {
+        try {
+            this.sample();
+        } catch (final Exception exception) {
+            // A failing sample must not cancel the periodic task
+            this.failedSamples.incrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import okhttp3.OkHttpClient;
+import org.incendo.jenkins.objects.JobDescription;
+import org.incendo.jenkins.objects.MasterNode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Facade over several Jenkins masters, which sends every query to all masters in
+ * parallel and merges the results. Every master has its own timeout, and masters
+ * that fail or time out are reported in the {@link FederatedResult} instead of
+ * failing the query. Instances are retrieved using a {@link FederatedJenkinsBuilder},
+ * which can be initialized using {@link #newBuilder()}
+ * <p>
+ * All masters share the same http client (connection pool and dispatcher) and
+ * executor. The resources that were created by the builder are released
+ * using {@link #close()}
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class FederatedJenkins
+    implements AutoCloseable {
+
+    private final Map<String, Jenkins> masters;
+    private final Map<String, Long> timeouts;
+    private final OkHttpClient httpClient;
+    @Nullable private final ExecutorService ownedExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsHttpClient;
+
+    /**
+     * Instantiates a new Federated jenkins.
+     *
+     * @param masters        the masters, by name
+     * @param timeouts       the timeouts of the masters in nanoseconds, by name
+     * @param httpClient     the shared http client
+     * @param ownsHttpClient whether or not the http client is released on close
+     * @param ownedExecutor  executor that is shut down on close, or null
+     * @param scheduler      scheduler used to time out queries
+     */
+    FederatedJenkins(@NotNull final Map<String, Jenkins> masters,
+        @NotNull final Map<String, Long> timeouts, @NotNull final OkHttpClient httpClient,
+        final boolean ownsHttpClient, @Nullable final ExecutorService ownedExecutor,
+        @NotNull final ScheduledExecutorService scheduler) {
+        this.masters = Collections.unmodifiableMap(new LinkedHashMap<>(masters));
+        this.timeouts = timeouts;
+        this.httpClient = httpClient;
+        this.ownsHttpClient = ownsHttpClient;
+        this.ownedExecutor = ownedExecutor;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Create a new {@link FederatedJenkinsBuilder}
+     *
+     * @return new {@link FederatedJenkinsBuilder}
+     */
+    public static FederatedJenkinsBuilder newBuilder() {
+        return new FederatedJenkinsBuilder();
+    }
+
+    /**
+     * Get the {@link Jenkins} instances of all masters, in the order that they
+     * were added to the federation
+     *
+     * @return unmodifiable masters, by name
+     */
+    @NotNull public Map<String, Jenkins> getMasters() {
+        return this.masters;
+    }
+
+    /**
+     * Get the {@link Jenkins} instance of a master
+     *
+     * @param name master name
+     * @return the master
+     * @throws IllegalArgumentException if there is no master with the name
+     */
+    @NotNull public Jenkins getMaster(@NotNull final String name) {
+        final Jenkins jenkins = this.masters.get(name);
+        Preconditions.checkArgument(jenkins != null, "Unknown master: %s", name);
+        return jenkins;
+    }
+
+    /**
+     * Get the master nodes of all masters
+     *
+     * @return the master nodes
+     */
+    public CompletableFuture<FederatedResult<MasterNode>> getMasterNodes() {
+        return this.query(Jenkins::getMasterNode);
+    }
+
+    /**
+     * Get the job descriptions of all masters. Use
+     * {@code result.merge(Function.identity())} to get a single list of jobs
+     *
+     * @return the job descriptions
+     */
+    public CompletableFuture<FederatedResult<Collection<JobDescription>>> getJobDescriptions() {
+        return this.query(Jenkins::getJobDescriptions);
+    }
+
+    /**
+     * Send a query to all masters in parallel. The returned future completes once
+     * every master has responded, failed or timed out, and never completes
+     * exceptionally
+     *
+     * @param query query, such as {@code jenkins -> jenkins.getJobInfo("job")}
+     * @param <T>   value type
+     * @return the values and failures of all masters
+     */
+    public <T> CompletableFuture<FederatedResult<T>> query(
+        @NotNull final Function<Jenkins, ? extends CompletionStage<T>> query) {
+        Preconditions.checkNotNull(query, "Query may not be null");
+        final Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        for (final Map.Entry<String, Jenkins> master : this.masters.entrySet()) {
+            futures.put(master.getKey(), this.withTimeout(master.getKey(), () ->
+                query.apply(master.getValue()).toCompletableFuture()));
+        }
+        return CompletableFuture.allOf(futures.values().stream()
+            .map(future -> future.handle((value, throwable) -> null))
+            .toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            final Map<String, T> values = new LinkedHashMap<>();
+            final Map<String, Throwable> failures = new LinkedHashMap<>();
+            futures.forEach((name, future) -> {
+                try {
+                    values.put(name, future.join());
+                } catch (final CompletionException exception) {
+                    failures.put(name, exception.getCause());
+                } catch (final RuntimeException exception) {
+                    failures.put(name, exception);
+                }
+            });
+            return new FederatedResult<>(values, failures);
+        });
+    }
+
+    @NotNull private <T> CompletableFuture<T> withTimeout(@NotNull final String name,
+        @NotNull final Supplier<CompletableFuture<T>> query) {
+        final CompletableFuture<T> bounded = new CompletableFuture<>();
+        final long timeout = this.timeouts.get(name);
+        final ScheduledFuture<?> timer = this.scheduler.schedule(() -> bounded
+                .completeExceptionally(new TimeoutException(
+                    String.format("Master %s did not respond within %d ms", name,
+                        TimeUnit.NANOSECONDS.toMillis(timeout)))), timeout,
+            TimeUnit.NANOSECONDS);
+        final CompletableFuture<T> future;
+        try {
+            future = query.get();
+        } catch (final RuntimeException exception) {
+            timer.cancel(false);
+            bounded.completeExceptionally(exception);
+            return bounded;
+        }
+        future.whenComplete((value, throwable) -> {
+            timer.cancel(false);
+            if (throwable != null) {
+                bounded.completeExceptionally(throwable instanceof CompletionException
+                    && throwable.getCause() != null ? throwable.getCause() : throwable);
+            } else {
+                bounded.complete(value);
+            }
+        });
+        return bounded;
+    }
+
+    /**
+     * Release the resources that were created by the builder. Requests that are
+     * in flight are not interrupted. Shared resources that were passed to the
+     * builder are left untouched
+     */
+    @Override public void close() {
+        this.scheduler.shutdownNow();
+        if (this.ownedExecutor != null) {
+            this.ownedExecutor.shutdown();
+        }
+        if (this.ownsHttpClient) {
+            this.httpClient.dispatcher().executorService().shutdown();
+            this.httpClient.connectionPool().evictAll();
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import okhttp3.OkHttpClient;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Builder class for {@link FederatedJenkins} instances
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public class FederatedJenkinsBuilder {
+
+    private final Map<String, Consumer<JenkinsBuilder>> masters = new LinkedHashMap<>();
+    private final Map<String, Long> timeouts = new LinkedHashMap<>();
+    private long defaultTimeout = TimeUnit.SECONDS.toNanos(10);
+    @Nullable private OkHttpClient httpClient = null;
+    @Nullable private Executor executor = null;
+
+    /**
+     * Instantiates a new Federated jenkins builder.
+     */
+    FederatedJenkinsBuilder() {
+    }
+
+    /**
+     * Add a master to the federation. The configurer specifies the path, authentication
+     * and other options of the master, such as
+     * {@code builder -> builder.withPath("https://your.jenkins.path/")}. The http client
+     * and executor are always those of the federation
+     *
+     * @param name       unique master name
+     * @param configurer configures the master
+     * @return this {@link FederatedJenkinsBuilder} instance
+     */
+    public FederatedJenkinsBuilder withMaster(@NotNull final String name,
+        @NotNull final Consumer<JenkinsBuilder> configurer) {
+        Preconditions.checkNotNull(name, "Name may not be null");
+        Preconditions.checkNotNull(configurer, "Configurer may not be null");
+        Preconditions.checkArgument(!this.masters.containsKey(name), "Duplicate master: %s", name);
+        this.masters.put(name, configurer);
+        return this;
+    }
+
+    /**
+     * Add a master to the federation, with its own timeout
+     *
+     * @param name       unique master name
+     * @param timeout    time that the master is given to respond to a query
+     * @param unit       timeout unit
+     * @param configurer configures the master
+     * @return this {@link FederatedJenkinsBuilder} instance
+     * @see #withMaster(String, Consumer)
+     */
+    public FederatedJenkinsBuilder withMaster(@NotNull final String name, final long timeout,
+        @NotNull final TimeUnit unit, @NotNull final Consumer<JenkinsBuilder> configurer) {
+        Preconditions.checkArgument(timeout > 0, "Timeout must be positive");
+        Preconditions.checkNotNull(unit, "Unit may not be null");
+        this.withMaster(name, configurer);
+        this.timeouts.put(name, unit.toNanos(timeout));
+        return this;
+    }
+
+    /**
+     * Specify the time that masters without their own timeout are given to respond
+     * to a query. The default is 10 seconds
+     *
+     * @param timeout timeout
+     * @param unit    timeout unit
+     * @return this {@link FederatedJenkinsBuilder} instance
+     */
+    public FederatedJenkinsBuilder withTimeout(final long timeout, @NotNull final TimeUnit unit) {
+        Preconditions.checkArgument(timeout > 0, "Timeout must be positive");
+        Preconditions.checkNotNull(unit, "Unit may not be null");
+        this.defaultTimeout = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * Specify the http client that all masters share. By default, the federation
+     * creates a client, which is released when the federation is closed
+     *
+     * @param httpClient shared http client
+     * @return this {@link FederatedJenkinsBuilder} instance
+     * @see JenkinsBuilder#withHttpClient(OkHttpClient)
+     */
+    public FederatedJenkinsBuilder withHttpClient(@NotNull final OkHttpClient httpClient) {
+        this.httpClient = Preconditions.checkNotNull(httpClient, "Http client may not be null");
+        return this;
+    }
+
+    /**
+     * Specify the executor that all masters send their requests from. By default,
+     * the federation creates a cached thread pool, so that a slow master does not
+     * hold up the requests to other masters. That pool is shut down when the
+     * federation is closed
+     *
+     * @param executor shared executor
+     * @return this {@link FederatedJenkinsBuilder} instance
+     * @see JenkinsBuilder#withExecutor(Executor)
+     */
+    public FederatedJenkinsBuilder withExecutor(@NotNull final Executor executor) {
+        this.executor = Preconditions.checkNotNull(executor, "Executor may not be null");
+        return this;
+    }
+
+    /**
+     * Compile the information into a {@link FederatedJenkins} instance
+     *
+     * @return constructed {@link FederatedJenkins} instance
+     */
+    public FederatedJenkins build() {
+        Preconditions.checkState(!this.masters.isEmpty(), "At least one master must be added");
+        final OkHttpClient httpClient =
+            this.httpClient == null ? new OkHttpClient() : this.httpClient;
+        final ExecutorService ownedExecutor =
+            this.executor == null ? Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("jenkins4j-federation-%d")
+                    .build()) : null;
+        final Executor executor = ownedExecutor == null ? this.executor : ownedExecutor;
+        final Map<String, Jenkins> masters = new LinkedHashMap<>();
+        final Map<String, Long> timeouts = new LinkedHashMap<>();
+        for (final Map.Entry<String, Consumer<JenkinsBuilder>> master : this.masters.entrySet()) {
+            final JenkinsBuilder jenkinsBuilder = Jenkins.newBuilder();
+            master.getValue().accept(jenkinsBuilder);
+            masters.put(master.getKey(),
+                jenkinsBuilder.withHttpClient(httpClient).withExecutor(executor).build());
+            timeouts.put(master.getKey(),
+                this.timeouts.getOrDefault(master.getKey(), this.defaultTimeout));
+        }
+        final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+                .setNameFormat("jenkins4j-federation-timeout-%d").build());
+        return new FederatedJenkins(masters, timeouts, httpClient, this.httpClient == null,
+            ownedExecutor, scheduler);
+    }
+
+}
@@ -0,0 +1,116 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Result of a query that was sent to all masters of a {@link FederatedJenkins}.
+ * Masters that failed, or did not respond in time, are listed as failures, and
+ * the result contains the values of all other masters
+ *
+ * @param <T> value type
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class FederatedResult<T> {
+
+    private final Map<String, T> values;
+    private final Map<String, Throwable> failures;
+
+    /**
+     * Instantiates a new Federated result.
+     *
+     * @param values   the values, by master name
+     * @param failures the failures, by master name
+     */
+    FederatedResult(@NotNull final Map<String, T> values,
+        @NotNull final Map<String, Throwable> failures) {
+        this.values = Collections
+            .unmodifiableMap(Preconditions.checkNotNull(values, "Values may not be null"));
+        this.failures = Collections
+            .unmodifiableMap(Preconditions.checkNotNull(failures, "Failures may not be null"));
+    }
+
+    /**
+     * Get the values of all masters that responded in time, in the order that
+     * the masters were added to the federation
+     *
+     * @return unmodifiable values, by master name
+     */
+    @NotNull public Map<String, T> getValues() {
+        return this.values;
+    }
+
+    /**
+     * Get the failures of all masters that did not respond in time, or failed.
+     * Masters that did not respond in time fail with a
+     * {@link java.util.concurrent.TimeoutException}
+     *
+     * @return unmodifiable failures, by master name
+     */
+    @NotNull public Map<String, Throwable> getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * Check whether all masters responded in time
+     *
+     * @return true if there are no failures
+     */
+    public boolean isComplete() {
+        return this.failures.isEmpty();
+    }
+
+    /**
+     * Merge the elements of the values of all masters into a single list, such as
+     * {@code result.merge(MasterNode::getJobDescriptions)}
+     *
+     * @param mapper function that extracts the elements of a value
+     * @param <E>    element type
+     * @return merged elements, in master order
+     */
+    @NotNull public <E> List<E> merge(
+        @NotNull final Function<? super T, ? extends Collection<? extends E>> mapper) {
+        Preconditions.checkNotNull(mapper, "Mapper may not be null");
+        final List<E> merged = new ArrayList<>();
+        for (final T value : this.values.values()) {
+            merged.addAll(mapper.apply(value));
+        }
+        return merged;
+    }
+
+    @Override public String toString() {
+        return "FederatedResult{" + "values=" + values.keySet() + ", failures=" + failures
+            .keySet() + '}';
+    }
+
+}
@@ -0,0 +1,109 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Test that flipped between passing and failing, as reported by a
+ * {@link FlakyTestDetector}
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class FlakyTest {
+
+    private final String className;
+    private final String name;
+    private final int flips;
+    private final int runs;
+    private final int failures;
+
+    /**
+     * Instantiates a new Flaky test.
+     *
+     * @param className the test class name
+     * @param name      the test name
+     * @param flips     the number of flips within the window
+     * @param runs      the number of recorded outcomes within the window
+     * @param failures  the number of failed outcomes within the window
+     */
+    FlakyTest(@NotNull final String className, @NotNull final String name, final int flips,
+        final int runs, final int failures) {
+        this.className = className;
+        this.name = name;
+        this.flips = flips;
+        this.runs = runs;
+        this.failures = failures;
+    }
+
+    /**
+     * Gets class name.
+     *
+     * @return the test class name
+     */
+    @NotNull public String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the test name
+     */
+    @NotNull public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets flips.
+     *
+     * @return the number of times the test flipped between passing and failing
+     */
+    public int getFlips() {
+        return this.flips;
+    }
+
+    /**
+     * Gets runs.
+     *
+     * @return the number of recorded outcomes
+     */
+    public int getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * Gets failures.
+     *
+     * @return the number of failed outcomes
+     */
+    public int getFailures() {
+        return this.failures;
+    }
+
+    @Override public String toString() {
+        return "FlakyTest{" + "className='" + className + '\'' + ", name='" + name + '\''
+            + ", flips=" + flips + ", runs=" + runs + ", failures=" + failures + '}';
+    }
+
+}
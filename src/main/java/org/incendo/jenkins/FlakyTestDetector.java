@@ -0,0 +1,454 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.incendo.jenkins.objects.TestCase;
+import org.incendo.jenkins.objects.TestReportListener;
+import org.incendo.jenkins.objects.TestStatus;
+import org.incendo.jenkins.objects.TestTrend;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Detects tests of a job that flip between passing and failing over its most recent
+ * builds. Test reports are fed to the detector one build at a time, in ascending
+ * build number order, and the state of every test is updated incrementally, so that
+ * old builds never have to be read again
+ * <p>
+ * The outcomes of every test are kept as a rolling bitset of up to 64 builds, in
+ * an open addressing hash table keyed by a 64 bit hash of the test name. A tracked
+ * test takes up about 30 bytes, and the names are only kept for tests that flipped.
+ * The number of tracked tests is bounded: once the table is full, tests that were
+ * not run within the window are evicted, and if that is not enough, new tests are
+ * not tracked. Skipped tests do not count as an outcome
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class FlakyTestDetector {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int window;
+    private final int maxTests;
+    private final int maxCapacity;
+    private final Map<Long, TestName> names = new HashMap<>();
+
+    private long[] keys;
+    private long[] outcomes;
+    private byte[] runs;
+    private int[] lastSeen;
+    private int size;
+    private int sequence;
+    private int lastBuild;
+    private int purged;
+    private long dropped;
+    // the last update, which the next update waits for
+    private CompletableFuture<Integer> updating = CompletableFuture.completedFuture(0);
+
+    /**
+     * Instantiates a new Flaky test detector.
+     *
+     * @param window   the number of builds that outcomes are kept for, from 2 to 64
+     * @param maxTests the maximum number of tracked tests
+     */
+    public FlakyTestDetector(final int window, final int maxTests) {
+        Preconditions.checkArgument(window >= 2 && window <= Long.SIZE,
+            "Window must be between 2 and %s", Long.SIZE);
+        Preconditions.checkArgument(maxTests > 0, "Maximum test count must be positive");
+        final int required = (int) Math.min(1 << 30, (long) maxTests * 4 / 3 + 1);
+        this.window = window;
+        this.maxCapacity = Math.max(4, Integer.highestOneBit(required - 1) << 1);
+        this.maxTests = Math.min(maxTests, this.maxCapacity / 4 * 3);
+        this.allocate(Math.min(INITIAL_CAPACITY, this.maxCapacity));
+    }
+
+    /**
+     * Get a listener that records the test cases of a build. Builds must be recorded
+     * in ascending build number order, and the cases of a build must all be recorded
+     * before the next build is started
+     *
+     * @param build the build number
+     * @return listener that records the outcomes of the build
+     * @throws IllegalArgumentException if the build is not newer than the last recorded build
+     */
+    @NotNull public synchronized TestReportListener forBuild(final int build) {
+        Preconditions.checkArgument(build > this.lastBuild,
+            "Build %s is not newer than the last recorded build %s", build, this.lastBuild);
+        this.lastBuild = build;
+        this.sequence++;
+        return this::record;
+    }
+
+    /**
+     * Record the test reports of all builds of a job that were finished since the
+     * last update, and that are within the window. The test result counts are read
+     * first, so that builds without a test report are not requested
+     * <p>
+     * Builds are recorded in ascending order, up to the oldest build that is still
+     * running. Newer builds that have finished are recorded by a later update, once
+     * the running build has finished, so that no outcomes are skipped
+     * <p>
+     * The outcomes of a build are only recorded once its test report has been read
+     * completely, so a build whose report could not be read is read again by the next
+     * update. Updates run one at a time, each starting once the previous has finished
+     *
+     * @param jenkins the jenkins instance
+     * @param jobName the job name
+     * @return the number of builds that were recorded
+     */
+    @NotNull public CompletableFuture<Integer> update(@NotNull final Jenkins jenkins,
+        @NotNull final String jobName) {
+        Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        Preconditions.checkNotNull(jobName, "Job name may not be null");
+        synchronized (this) {
+            final CompletableFuture<Integer> update = this.updating
+                .handle((count, throwable) -> null)
+                .thenCompose(ignored -> this.read(jenkins, jobName));
+            this.updating = update;
+            return update;
+        }
+    }
+
+    @NotNull private CompletableFuture<Integer> read(@NotNull final Jenkins jenkins,
+        @NotNull final String jobName) {
+        return jenkins.getTestTrend(jobName, this.window).thenCompose(testTrend -> {
+            CompletableFuture<Integer> recorded = CompletableFuture.completedFuture(0);
+            for (int index = 0; index < testTrend.size(); index++) {
+                final int build = testTrend.getNumbers()[index];
+                if (build <= this.getLastBuild()) {
+                    continue;
+                }
+                if (testTrend.isBuilding(index)) {
+                    break;
+                }
+                if (!testTrend.hasTestReport(index)) {
+                    continue;
+                }
+                recorded = recorded.thenCompose(count -> {
+                    final PendingBuild pendingBuild = new PendingBuild();
+                    return jenkins.getTestReport(jobName, build, false, pendingBuild)
+                        .thenApply(ignored -> {
+                            this.commit(build, pendingBuild);
+                            return count + 1;
+                        });
+                });
+            }
+            return recorded;
+        });
+    }
+
+    /**
+     * Get the number of times that a test flipped between passing and failing
+     * within the window
+     *
+     * @param className test class name
+     * @param name      test name
+     * @return number of flips, or 0 if the test is not tracked
+     */
+    public synchronized int getFlipCount(@NotNull final String className,
+        @NotNull final String name) {
+        final int slot = this.find(key(className, name));
+        return this.keys[slot] == 0L ? 0 : this.flips(slot);
+    }
+
+    /**
+     * Get all tests that flipped at least a number of times within the window
+     *
+     * @param minFlips minimum number of flips
+     * @return the flaky tests, most flips first
+     */
+    @NotNull public synchronized List<FlakyTest> getFlakyTests(final int minFlips) {
+        Preconditions.checkArgument(minFlips > 0, "Minimum flip count must be positive");
+        final List<FlakyTest> flakyTests = new ArrayList<>();
+        final Iterator<Map.Entry<Long, TestName>> iterator = this.names.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Long, TestName> entry = iterator.next();
+            final int slot = this.find(entry.getKey());
+            final int flips = this.keys[slot] == 0L ? 0 : this.flips(slot);
+            if (flips == 0) {
+                // The flips have left the window
+                iterator.remove();
+            } else if (flips >= minFlips) {
+                final long mask = mask(this.runs[slot]);
+                flakyTests.add(new FlakyTest(entry.getValue().className, entry.getValue().name,
+                    flips, this.runs[slot], Long.bitCount(this.outcomes[slot] & mask)));
+            }
+        }
+        flakyTests.sort((first, second) -> Integer.compare(second.getFlips(), first.getFlips()));
+        return flakyTests;
+    }
+
+    /**
+     * Get the number of tracked tests
+     *
+     * @return tracked test count
+     */
+    public synchronized int getTrackedCount() {
+        return this.size;
+    }
+
+    /**
+     * Get the number of outcomes that were not recorded, because the maximum
+     * number of tests was tracked
+     *
+     * @return dropped outcome count
+     */
+    public synchronized long getDroppedCount() {
+        return this.dropped;
+    }
+
+    /**
+     * Get the number of the last build that was recorded
+     *
+     * @return build number, or 0 if no build has been recorded
+     */
+    public synchronized int getLastBuild() {
+        return this.lastBuild;
+    }
+
+    /**
+     * Gets window.
+     *
+     * @return the number of builds that outcomes are kept for
+     */
+    public int getWindow() {
+        return this.window;
+    }
+
+    /**
+     * Gets max tests.
+     *
+     * @return the maximum number of tracked tests
+     */
+    public int getMaxTests() {
+        return this.maxTests;
+    }
+
+    private synchronized void record(@NotNull final TestCase testCase) {
+        if (testCase.getStatus() == TestStatus.SKIPPED) {
+            return;
+        }
+        final long key = key(testCase.getClassName(), testCase.getName());
+        if (this.record(key, testCase.getStatus().isFailure())) {
+            this.names.put(key, new TestName(testCase.getClassName(), testCase.getName()));
+        }
+    }
+
+    /**
+     * Record the outcomes of a build whose test report was read completely
+     */
+    private synchronized void commit(final int build, @NotNull final PendingBuild pendingBuild) {
+        Preconditions.checkArgument(build > this.lastBuild,
+            "Build %s is not newer than the last recorded build %s", build, this.lastBuild);
+        this.lastBuild = build;
+        this.sequence++;
+        for (int index = 0; index < pendingBuild.size; index++) {
+            final long key = pendingBuild.keys[index];
+            final TestName name = pendingBuild.names.get(key);
+            if (this.record(key, pendingBuild.failures.get(index)) && name != null) {
+                this.names.put(key, name);
+            }
+        }
+    }
+
+    /**
+     * Record an outcome of a test
+     *
+     * @return true if the test flipped, and its name is not kept yet
+     */
+    private boolean record(final long key, final boolean failed) {
+        int slot = this.find(key);
+        if (this.keys[slot] == 0L) {
+            slot = this.insert(key);
+            if (slot < 0) {
+                this.dropped++;
+                return false;
+            }
+        }
+        this.outcomes[slot] = this.outcomes[slot] << 1 | (failed ? 1L : 0L);
+        if (this.runs[slot] < this.window) {
+            this.runs[slot]++;
+        }
+        this.lastSeen[slot] = this.sequence;
+        return !this.names.containsKey(key) && this.flips(slot) > 0;
+    }
+
+    /**
+     * Check whether recording an outcome of a test would make it flip for the first
+     * time within the window, so that its name has to be kept
+     */
+    private synchronized boolean flipsFirst(final long key, final boolean failed) {
+        final int slot = this.find(key);
+        return this.keys[slot] != 0L && this.runs[slot] > 0 && !this.names.containsKey(key)
+            && ((this.outcomes[slot] & 1L) == 1L) != failed;
+    }
+
+    /**
+     * Find the slot of a key, or the empty slot that it would be inserted into
+     */
+    private int find(final long key) {
+        final int mask = this.keys.length - 1;
+        int slot = (int) (key ^ key >>> 32) & mask;
+        while (this.keys[slot] != 0L && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Insert a key that is not in the table
+     *
+     * @return the slot, or -1 if the table is full
+     */
+    private int insert(final long key) {
+        if (this.size >= this.maxTests) {
+            // Evict at most once per build, so that dropping is cheap
+            if (this.purged != this.sequence) {
+                this.purged = this.sequence;
+                this.rehash(this.keys.length, this.sequence - this.window);
+            }
+            if (this.size >= this.maxTests) {
+                return -1;
+            }
+        } else if (this.size >= this.keys.length / 4 * 3) {
+            this.rehash(this.keys.length * 2, Integer.MIN_VALUE);
+        }
+        final int slot = this.find(key);
+        this.keys[slot] = key;
+        this.size++;
+        return slot;
+    }
+
+    /**
+     * Move all tests that were run after a build sequence into a new table
+     */
+    private void rehash(final int capacity, final int seenAfter) {
+        final long[] keys = this.keys;
+        final long[] outcomes = this.outcomes;
+        final byte[] runs = this.runs;
+        final int[] lastSeen = this.lastSeen;
+        this.allocate(Math.min(capacity, this.maxCapacity));
+        this.size = 0;
+        for (int index = 0; index < keys.length; index++) {
+            if (keys[index] == 0L) {
+                continue;
+            }
+            if (lastSeen[index] <= seenAfter) {
+                this.names.remove(keys[index]);
+                continue;
+            }
+            final int slot = this.find(keys[index]);
+            this.keys[slot] = keys[index];
+            this.outcomes[slot] = outcomes[index];
+            this.runs[slot] = runs[index];
+            this.lastSeen[slot] = lastSeen[index];
+            this.size++;
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        this.outcomes = new long[capacity];
+        this.runs = new byte[capacity];
+        this.lastSeen = new int[capacity];
+    }
+
+    private int flips(final int slot) {
+        final long outcomes = this.outcomes[slot];
+        return Long.bitCount((outcomes ^ outcomes >>> 1) & mask(this.runs[slot] - 1));
+    }
+
+    private static long mask(final int bits) {
+        return bits >= Long.SIZE ? -1L : (1L << bits) - 1L;
+    }
+
+    private static long key(@NotNull final String className, @NotNull final String name) {
+        final long key = HASH_FUNCTION.newHasher().putString(className, StandardCharsets.UTF_8)
+            .putByte((byte) 0).putString(name, StandardCharsets.UTF_8).hash().asLong();
+        // 0 marks an empty slot
+        return key == 0L ? 1L : key;
+    }
+
+    @Override public synchronized String toString() {
+        return "FlakyTestDetector{" + "window=" + window + ", tracked=" + size + ", lastBuild="
+            + lastBuild + ", flipped=" + names.size() + '}';
+    }
+
+    /**
+     * Outcomes of the test cases of a build, kept while its test report is read. The
+     * names are only kept for tests that flip when the outcomes are recorded
+     */
+    private final class PendingBuild implements TestReportListener {
+
+        private final BitSet failures = new BitSet();
+        private final Map<Long, TestName> names = new HashMap<>();
+        private long[] keys = new long[64];
+        private int size;
+
+        @Override public void onCase(@NotNull final TestCase testCase) {
+            if (testCase.getStatus() == TestStatus.SKIPPED) {
+                return;
+            }
+            final long key = key(testCase.getClassName(), testCase.getName());
+            final boolean failed = testCase.getStatus().isFailure();
+            if (this.size == this.keys.length) {
+                this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            }
+            this.keys[this.size] = key;
+            this.failures.set(this.size++, failed);
+            if (flipsFirst(key, failed)) {
+                this.names.put(key, new TestName(testCase.getClassName(), testCase.getName()));
+            }
+        }
+
+    }
+
+    /**
+     * Name of a test that flipped
+     */
+    private static final class TestName {
+
+        private final String className;
+        private final String name;
+
+        private TestName(@NotNull final String className, @NotNull final String name) {
+            this.className = className;
+            this.name = name;
+        }
+
+    }
+
+}
@@ -25,15 +25,40 @@
 package org.incendo.jenkins;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import okhttp3.OkHttpClient;
+import org.incendo.jenkins.exception.JenkinsBuildNotFoundException;
+import org.incendo.jenkins.exception.JenkinsNodeReadException;
 import org.incendo.jenkins.json.JsonJenkinsReader;
+import org.incendo.jenkins.metrics.FlightRecorderEvents;
+import org.incendo.jenkins.metrics.MetricsRecorder;
+import org.incendo.jenkins.objects.ArtifactIndex;
+import org.incendo.jenkins.objects.BuildDescription;
+import org.incendo.jenkins.objects.BuildHistory;
 import org.incendo.jenkins.objects.BuildInfo;
+import org.incendo.jenkins.objects.BuildTimeSeries;
+import org.incendo.jenkins.objects.ComputerSet;
+import org.incendo.jenkins.objects.JobDependencies;
 import org.incendo.jenkins.objects.JobDescription;
 import org.incendo.jenkins.objects.JobInfo;
 import org.incendo.jenkins.objects.MasterNode;
+import org.incendo.jenkins.objects.PipelineRun;
+import org.incendo.jenkins.objects.PipelineStageTimings;
+import org.incendo.jenkins.objects.TestReport;
+import org.incendo.jenkins.objects.TestReportListener;
+import org.incendo.jenkins.objects.TestTrend;
+import org.incendo.jenkins.xml.XmlJenkinsReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 /**
  * Jenkins4J instance class. Instances are retrieved using a
@@ -41,9 +66,29 @@ import java.util.concurrent.CompletableFuture;
  */
 @SuppressWarnings({"WeakerAccess", "unused"}) public class Jenkins {
 
+    private static final String PARENT_CACHE_NAME = "job-parents";
+    private static final long PARENT_CACHE_EXPIRY_SECONDS = 30L;
+    private static final long PARENT_CACHE_SIZE = 1024L;
+
+    /**
+     * The maximum number of builds that {@link #getPipelineStageTimings(String, int, int)}
+     * reads at once
+     */
+    public static final int MAX_PIPELINE_BUILDS = 1000;
+
     private final JenkinsAuthentication jenkinsAuthentication;
     private final JenkinsPathProvider jenkinsPathProvider;
     private final JenkinsReader jenkinsReader;
+    private final boolean lazyBuildDecoding;
+    private final MetricsRecorder metricsRecorder;
+    private final boolean requestTracing;
+    private final JenkinsAPIType jenkinsAPIType;
+    @Nullable private final OkHttpClient httpClient;
+    private final Executor executor;
+    // job infos resolved for builds that were read without their job
+    private final Cache<String, CompletableFuture<JobInfo>> parentCache = CacheBuilder.newBuilder()
+        .expireAfterWrite(PARENT_CACHE_EXPIRY_SECONDS, TimeUnit.SECONDS)
+        .maximumSize(PARENT_CACHE_SIZE).build();
 
     /**
      * Instantiates a new Jenkins.
@@ -51,16 +96,33 @@ import java.util.concurrent.CompletableFuture;
      * @param jenkinsPathProvider   the jenkins path provider
      * @param jenkinsAuthentication the jenkins authentication handler
      * @param jenkinsAPIType        the jenkins api type
+     * @param lazyBuildDecoding     whether or not job builds are decoded on demand
+     * @param metricsRecorder       recorder that request metrics are reported to
+     * @param requestTracing        whether or not the network phases of requests are traced
+     * @param httpClient            shared http client, or null to use a dedicated client
+     * @param executor              executor that requests are sent from
      */
     Jenkins(@NotNull final JenkinsPathProvider jenkinsPathProvider,
         @NotNull final JenkinsAuthentication jenkinsAuthentication,
-        @NotNull final JenkinsAPIType jenkinsAPIType) {
+        @NotNull final JenkinsAPIType jenkinsAPIType, final boolean lazyBuildDecoding,
+        @NotNull final MetricsRecorder metricsRecorder, final boolean requestTracing,
+        @Nullable final OkHttpClient httpClient, @NotNull final Executor executor) {
         Preconditions.checkNotNull(jenkinsPathProvider, "Path provider may not be null");
         this.jenkinsAuthentication = jenkinsAuthentication;
         this.jenkinsPathProvider = jenkinsPathProvider;
+        this.lazyBuildDecoding = lazyBuildDecoding;
+        this.metricsRecorder =
+            Preconditions.checkNotNull(metricsRecorder, "Metrics recorder may not be null");
+        this.requestTracing = requestTracing;
+        this.jenkinsAPIType =
+            Preconditions.checkNotNull(jenkinsAPIType, "API type may not be null");
+        this.httpClient = httpClient;
+        this.executor = Preconditions.checkNotNull(executor, "Executor may not be null");
         final JenkinsReader jenkinsReader;
         if (jenkinsAPIType == JenkinsAPIType.JSON) {
             this.jenkinsReader = new JsonJenkinsReader(this, this.jenkinsPathProvider);
+        } else if (jenkinsAPIType == JenkinsAPIType.XML) {
+            this.jenkinsReader = new XmlJenkinsReader(this, this.jenkinsPathProvider);
         } else {
             throw new IllegalArgumentException(
                 String.format("Unimplemented API type: %s", jenkinsAPIType));
@@ -94,13 +156,44 @@ import java.util.concurrent.CompletableFuture;
         return getMasterNode().thenApply(MasterNode::getJobDescriptions);
     }
 
+    /**
+     * Get the job descriptions that are assigned to a shard. Workers that each
+     * use a different shard of the same shard count process every job exactly once
+     *
+     * @param shard job shard
+     * @return the job descriptions of the shard
+     */
+    public CompletableFuture<List<JobDescription>> getJobDescriptions(
+        @NotNull final JobShard shard) {
+        Preconditions.checkNotNull(shard, "Shard may not be null");
+        return getMasterNode().thenApply(masterNode -> masterNode.getJobDescriptions(shard));
+    }
+
     /**
      * Get information about the Jenkins master node
      *
      * @return the master node
      */
     public CompletableFuture<MasterNode> getMasterNode() {
-        return CompletableFuture.supplyAsync(Jenkins.this.jenkinsReader::readMasterView);
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readMasterView(null, submitted), this.executor);
+    }
+
+    /**
+     * Get information about the Jenkins master node, filtered by the server. The
+     * filter result must still have the shape of the master node, so xpath
+     * expressions that select jobs should use the {@code hudson} wrapper
+     *
+     * @param filter server-side XML filter
+     * @return the master node
+     * @throws IllegalStateException if the XML API is not used
+     */
+    public CompletableFuture<MasterNode> getMasterNode(@NotNull final XmlFilter filter) {
+        this.checkXmlFilter(filter);
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readMasterView(filter, submitted), this.executor);
     }
 
     /**
@@ -110,7 +203,71 @@ import java.util.concurrent.CompletableFuture;
      * @return the job info
      */
     public CompletableFuture<JobInfo> getJobInfo(@NotNull final String jobName) {
-        return CompletableFuture.supplyAsync(() -> Jenkins.this.jenkinsReader.readJobInfo(jobName));
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readJobInfo(jobName, null, submitted), this.executor);
+    }
+
+    /**
+     * Get information about the job that builds belong to. Builds of the same job that
+     * resolve their parent at the same time, or within 30 seconds of each other, share
+     * a single request. Failed requests are not cached
+     *
+     * @param jobName the job name
+     * @return the job info
+     * @see BuildInfo#getParent()
+     */
+    public CompletableFuture<JobInfo> getParentJobInfo(@NotNull final String jobName) {
+        Preconditions.checkNotNull(jobName, "Job name may not be null");
+        final CompletableFuture<JobInfo> created = new CompletableFuture<>();
+        final CompletableFuture<JobInfo> cached =
+            this.parentCache.asMap().putIfAbsent(jobName, created);
+        FlightRecorderEvents.cacheAccess(PARENT_CACHE_NAME, jobName, -1, cached != null);
+        if (cached != null) {
+            return cached.thenApply(jobInfo -> jobInfo);
+        }
+        this.getJobInfo(jobName).whenComplete((jobInfo, throwable) -> {
+            if (throwable != null) {
+                this.parentCache.asMap().remove(jobName, created);
+                created.completeExceptionally(throwable);
+            } else {
+                created.complete(jobInfo);
+            }
+        });
+        return created.thenApply(jobInfo -> jobInfo);
+    }
+
+    /**
+     * Get the upstream and downstream projects of a job, using a tree projection that
+     * leaves out the rest of the job. Use a {@link DependencyGraph} to traverse the
+     * dependencies of many jobs
+     *
+     * @param jobName the job name
+     * @return the job dependencies
+     */
+    public CompletableFuture<JobDependencies> getJobDependencies(@NotNull final String jobName) {
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readJobDependencies(jobName, submitted),
+            this.executor);
+    }
+
+    /**
+     * Get information about a Jenkins job, filtered by the server, such as
+     * {@code XmlFilter.exclude("//build")} to leave out the build list
+     *
+     * @param jobName the job name
+     * @param filter  server-side XML filter
+     * @return the job info
+     * @throws IllegalStateException if the XML API is not used
+     */
+    public CompletableFuture<JobInfo> getJobInfo(@NotNull final String jobName,
+        @NotNull final XmlFilter filter) {
+        this.checkXmlFilter(filter);
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readJobInfo(jobName, filter, submitted),
+            this.executor);
     }
 
     /**
@@ -122,8 +279,330 @@ import java.util.concurrent.CompletableFuture;
      */
     public CompletableFuture<BuildInfo> getBuildInfo(@NotNull final String jobName,
         final int build) {
-        return CompletableFuture
-            .supplyAsync(() -> Jenkins.this.jenkinsReader.readBuildInfo(jobName, build));
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readBuildInfo(jobName, build, submitted),
+            this.executor);
+    }
+
+    /**
+     * Get information about the build that a permalink of a job resolves to, such as
+     * {@link Permalink#LAST_SUCCESSFUL_BUILD}, using a single request. The response is
+     * limited to the fields of {@link BuildInfo}, including the artifacts
+     *
+     * @param jobName   the job name
+     * @param permalink the permalink
+     * @return the build info. The future completes exceptionally with a
+     * {@link org.incendo.jenkins.exception.JenkinsBuildNotFoundException} if the job
+     * has no such build
+     */
+    public CompletableFuture<BuildInfo> getBuildInfo(@NotNull final String jobName,
+        @NotNull final Permalink permalink) {
+        Preconditions.checkNotNull(permalink, "Permalink may not be null");
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readPermalink(jobName, permalink, submitted),
+            this.executor);
+    }
+
+    /**
+     * Read the test report of a build. The report is parsed while it is downloaded,
+     * and every suite and case is passed to the listener as it is read, so the
+     * memory that is used does not depend on the size of the report. The standard
+     * output and error of the tests are not read
+     *
+     * @param jobName      the job name
+     * @param build        the build
+     * @param failuresOnly whether only failed cases should be passed to the listener.
+     *                     Suites are always passed to the listener
+     * @param listener     receives the suites and cases, on the thread that reads the report
+     * @return the report totals, once the complete report has been read
+     */
+    public CompletableFuture<TestReport> getTestReport(@NotNull final String jobName,
+        final int build, final boolean failuresOnly, @NotNull final TestReportListener listener) {
+        Preconditions.checkNotNull(listener, "Listener may not be null");
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> Jenkins.this.jenkinsReader
+            .readTestReport(jobName, build, failuresOnly, listener, submitted), this.executor);
+    }
+
+    /**
+     * Get the test result counts and durations of the newest builds of a job,
+     * using a single request
+     *
+     * @param jobName the job name
+     * @param builds  the number of builds
+     * @return the test trend, in ascending build number order
+     * @see #getTestTrend(String, int, int)
+     */
+    public CompletableFuture<TestTrend> getTestTrend(@NotNull final String jobName,
+        final int builds) {
+        return this.getTestTrend(jobName, 0, builds);
+    }
+
+    /**
+     * Get the test result counts and durations of a window of the complete build
+     * history of a job, using a single request. Builds are indexed newest first, like
+     * in {@link #getBuildPage(String, int, int)}, but the trend is ordered oldest
+     * first, so that it can be charted directly
+     *
+     * @param jobName the job name
+     * @param from    index of the first build (inclusive)
+     * @param to      index of the last build (exclusive)
+     * @return the test trend, in ascending build number order
+     */
+    public CompletableFuture<TestTrend> getTestTrend(@NotNull final String jobName,
+        final int from, final int to) {
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readTestTrend(jobName, from, to, submitted),
+            this.executor);
+    }
+
+    /**
+     * Get the stage timings of a pipeline ({@code WorkflowRun}) build, using the
+     * pipeline stage view API ({@code wfapi/describe})
+     *
+     * @param jobName the job name
+     * @param build   the build number
+     * @return the pipeline run
+     */
+    public CompletableFuture<PipelineRun> getPipelineRun(@NotNull final String jobName,
+        final int build) {
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readPipelineRun(jobName, build, submitted),
+            this.executor);
+    }
+
+    /**
+     * Get the stage timings of all pipeline builds of a job in a range of build numbers.
+     * The pipeline stage view API describes one build per request, so the builds are
+     * read with a bounded number of parallel requests. Builds that do not exist, and
+     * builds that have not finished, are left out
+     *
+     * @param jobName the job name
+     * @param from    the lowest build number (inclusive), from 1
+     * @param to      the highest build number (inclusive)
+     * @return the stage timings, in ascending build number order
+     * @throws IllegalArgumentException if the range is empty, or has more than
+     *                                  {@link #MAX_PIPELINE_BUILDS} builds
+     */
+    public CompletableFuture<PipelineStageTimings> getPipelineStageTimings(
+        @NotNull final String jobName, final int from, final int to) {
+        Preconditions.checkNotNull(jobName, "Job name may not be null");
+        Preconditions.checkArgument(from >= 1, "Build numbers start at 1, got %s", from);
+        Preconditions.checkArgument(to >= from, "Invalid build range: %s to %s", from, to);
+        Preconditions.checkArgument((long) to - from < MAX_PIPELINE_BUILDS,
+            "Cannot read more than %s pipeline builds at once, got %s to %s",
+            MAX_PIPELINE_BUILDS, from, to);
+        return CompletableFuture.supplyAsync(() -> {
+            final PipelineRun[] pipelineRuns = new PipelineRun[to - from + 1];
+            final List<Runnable> reads = new ArrayList<>(pipelineRuns.length);
+            for (int build = from; build <= to; build++) {
+                final int number = build;
+                final long submitted = System.nanoTime();
+                reads.add(() -> {
+                    try {
+                        pipelineRuns[number - from] =
+                            this.jenkinsReader.readPipelineRun(jobName, number, submitted);
+                    } catch (final JenkinsNodeReadException exception) {
+                        if (!(exception.getCause() instanceof JenkinsBuildNotFoundException)) {
+                            throw exception;
+                        }
+                    }
+                });
+            }
+            BuildInfoBatch.run(this.executor, reads);
+            final PipelineStageTimings.Builder builder = new PipelineStageTimings.Builder();
+            for (final PipelineRun pipelineRun : pipelineRuns) {
+                if (pipelineRun != null) {
+                    builder.add(pipelineRun);
+                }
+            }
+            return builder.build();
+        }, this.executor);
+    }
+
+    /**
+     * Get information about many builds of the same job. Nearby builds are read
+     * together using build history windows, and remaining builds are read
+     * individually with a bounded number of parallel requests
+     *
+     * @param jobName the job name
+     * @param numbers the build numbers
+     * @return the build infos, in ascending build number order
+     */
+    public CompletableFuture<List<BuildInfo>> getBuildInfos(@NotNull final String jobName,
+        @NotNull final int[] numbers) {
+        final BuildInfoBatch buildInfoBatch =
+            new BuildInfoBatch(this.jenkinsReader, this.executor, jobName, numbers);
+        return CompletableFuture.supplyAsync(buildInfoBatch::read, this.executor);
+    }
+
+    /**
+     * Get information about all builds of a job in a range of build numbers
+     *
+     * @param jobName the job name
+     * @param from    the lowest build number (inclusive)
+     * @param to      the highest build number (inclusive)
+     * @return the build infos, in ascending build number order
+     * @see #getBuildInfos(String, int[])
+     */
+    public CompletableFuture<List<BuildInfo>> getBuildInfos(@NotNull final String jobName,
+        final int from, final int to) {
+        Preconditions.checkArgument(from <= to, "Invalid build range");
+        return this.getBuildInfos(jobName, IntStream.rangeClosed(from, to).toArray());
+    }
+
+    /**
+     * Get a window of the complete build history of a job, using the Jenkins
+     * {@code allBuilds{m,n}} range syntax. Builds are indexed newest first, so
+     * index 0 is the newest build
+     *
+     * @param jobName the job name
+     * @param from    index of the first build (inclusive)
+     * @param to      index of the last build (exclusive)
+     * @return the builds in the window, newest first
+     */
+    public CompletableFuture<List<BuildDescription>> getBuildPage(@NotNull final String jobName,
+        final int from, final int to) {
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readBuildPage(jobName, from, to, submitted),
+            this.executor);
+    }
+
+    /**
+     * Get the number, timestamp, duration and result of a window of the complete build
+     * history of a job, as a columnar series. Builds are indexed newest first, like in
+     * {@link #getBuildPage(String, int, int)}. Use
+     * {@link BuildTimeSeries#sync(Jenkins, String, int)} to keep a series up to date
+     *
+     * @param jobName the job name
+     * @param from    index of the first build (inclusive)
+     * @param to      index of the last build (exclusive)
+     * @return the builds in the window
+     */
+    public CompletableFuture<BuildTimeSeries> getBuildTimeSeries(@NotNull final String jobName,
+        final int from, final int to) {
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readBuildTimeSeries(jobName, from, to, submitted),
+            this.executor);
+    }
+
+    /**
+     * Get the artifact file names of a window of the complete build history of a job,
+     * as an artifact index. Builds are indexed newest first, like in
+     * {@link #getBuildPage(String, int, int)}. Use
+     * {@link ArtifactIndex#sync(Jenkins, String, int)} to keep an index up to date
+     *
+     * @param jobName the job name
+     * @param from    index of the first build (inclusive)
+     * @param to      index of the last build (exclusive)
+     * @return an artifact index of the builds in the window
+     */
+    public CompletableFuture<ArtifactIndex> getArtifactIndex(@NotNull final String jobName,
+        final int from, final int to) {
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readArtifactIndex(jobName, from, to, submitted),
+            this.executor);
+    }
+
+    /**
+     * Get the complete build history of a job. The history is read in pages of the
+     * given size, and the next page is requested while the current page is consumed
+     *
+     * @param jobName  the job name
+     * @param pageSize the number of builds to request at a time
+     * @return the build history
+     */
+    public BuildHistory getBuildHistory(@NotNull final String jobName, final int pageSize) {
+        return new BuildHistory(this, jobName, pageSize, null);
+    }
+
+    /**
+     * Get information about all computers (master and agents) and their executors
+     *
+     * @return the computer set
+     */
+    public CompletableFuture<ComputerSet> getComputerSet() {
+        return this.getComputerSet(null);
+    }
+
+    /**
+     * Get information about all computers (master and agents) and their executors,
+     * limited to the fields selected by a Jenkins tree projection, such as
+     * {@code computer[offline,executors[idle]]}
+     *
+     * @param tree tree projection, or null to read the full computer set
+     * @return the computer set
+     */
+    public CompletableFuture<ComputerSet> getComputerSet(@Nullable final String tree) {
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+            () -> Jenkins.this.jenkinsReader.readComputerSet(tree, submitted), this.executor);
+    }
+
+    /**
+     * Check whether the builds listed by jobs are decoded on demand
+     *
+     * @return true if builds are decoded lazily
+     * @see JenkinsBuilder#withLazyBuildDecoding(boolean)
+     */
+    public boolean isLazyBuildDecoding() {
+        return this.lazyBuildDecoding;
+    }
+
+    /**
+     * Get the recorder that request metrics are reported to
+     *
+     * @return metrics recorder
+     * @see JenkinsBuilder#withMetricsRecorder(MetricsRecorder)
+     */
+    @NotNull public MetricsRecorder getMetricsRecorder() {
+        return this.metricsRecorder;
+    }
+
+    /**
+     * Check whether the network phases of requests are traced
+     *
+     * @return true if requests are traced
+     * @see JenkinsBuilder#withRequestTracing(boolean)
+     */
+    public boolean isRequestTracing() {
+        return this.requestTracing;
+    }
+
+    /**
+     * Get the API type used to read Jenkins nodes
+     *
+     * @return API type
+     */
+    @NotNull public JenkinsAPIType getJenkinsAPIType() {
+        return this.jenkinsAPIType;
+    }
+
+    /**
+     * Get the executor that requests are sent from
+     *
+     * @return executor
+     * @see JenkinsBuilder#withExecutor(Executor)
+     */
+    @NotNull public Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Get the shared http client that this instance derives its client from
+     *
+     * @return shared http client, or null if this instance uses a dedicated client
+     * @see JenkinsBuilder#withHttpClient(OkHttpClient)
+     */
+    @Nullable OkHttpClient getHttpClient() {
+        return this.httpClient;
     }
 
     /**
@@ -134,4 +613,11 @@ import java.util.concurrent.CompletableFuture;
     public JenkinsPathProvider getJenkinsPathProvider() {
         return this.jenkinsPathProvider;
     }
+
+    private void checkXmlFilter(@NotNull final XmlFilter filter) {
+        Preconditions.checkNotNull(filter, "Filter may not be null");
+        Preconditions.checkState(this.jenkinsAPIType == JenkinsAPIType.XML,
+            "XML filters require the XML API type");
+    }
+
 }
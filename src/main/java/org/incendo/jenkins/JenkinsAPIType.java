@@ -35,5 +35,5 @@ public enum JenkinsAPIType {
     /**
      * Xml jenkins api type.
      */
-    @SuppressWarnings("unused") XML
+    XML
 }
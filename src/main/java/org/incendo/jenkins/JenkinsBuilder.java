@@ -26,8 +26,12 @@ package org.incendo.jenkins;
 
 import com.google.common.base.Preconditions;
 import okhttp3.OkHttpClient;
+import org.incendo.jenkins.metrics.MetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Builder class for {@link Jenkins} instances
@@ -36,6 +40,11 @@ import org.jetbrains.annotations.NotNull;
 
     private String jenkinsPath;
     private JenkinsAPIType jenkinsAPIType = JenkinsAPIType.JSON;
+    private boolean lazyBuildDecoding = false;
+    private MetricsRecorder metricsRecorder = MetricsRecorder.NOOP;
+    private boolean requestTracing = false;
+    @Nullable private OkHttpClient httpClient = null;
+    private Executor executor = ForkJoinPool.commonPool();
     private JenkinsAuthentication jenkinsAuthentication = new JenkinsAuthentication() {
         @Override protected void initialize(OkHttpClient.@NotNull Builder clientBuilder) {
         }
@@ -79,6 +88,89 @@ import org.jetbrains.annotations.NotNull;
         return this;
     }
 
+    /**
+     * Specify the API type. The JSON API is used by default. The XML API supports
+     * server-side filtering using {@link XmlFilter}
+     *
+     * @param jenkinsAPIType API type
+     * @return this {@link JenkinsBuilder} instance
+     */
+    public JenkinsBuilder withAPIType(@NotNull final JenkinsAPIType jenkinsAPIType) {
+        this.jenkinsAPIType =
+            Preconditions.checkNotNull(jenkinsAPIType, "API type may not be null");
+        return this;
+    }
+
+    /**
+     * Decode the builds listed by jobs on demand. The encoded build list is kept,
+     * and a build is only decoded the first time it is accessed. This makes reading
+     * jobs with long build histories cheaper when only a few builds are used. This
+     * is only supported by the JSON API type
+     *
+     * @param lazyBuildDecoding whether or not builds should be decoded lazily
+     * @return this {@link JenkinsBuilder} instance
+     */
+    public JenkinsBuilder withLazyBuildDecoding(final boolean lazyBuildDecoding) {
+        this.lazyBuildDecoding = lazyBuildDecoding;
+        return this;
+    }
+
+    /**
+     * Report the timings and outcome of every request to a {@link MetricsRecorder},
+     * such as a {@link org.incendo.jenkins.metrics.HistogramMetricsRecorder}. By default,
+     * nothing is recorded
+     *
+     * @param metricsRecorder metrics recorder
+     * @return this {@link JenkinsBuilder} instance
+     */
+    public JenkinsBuilder withMetricsRecorder(@NotNull final MetricsRecorder metricsRecorder) {
+        this.metricsRecorder =
+            Preconditions.checkNotNull(metricsRecorder, "Metrics recorder may not be null");
+        return this;
+    }
+
+    /**
+     * Time the network phases (DNS, connect, TLS, time to first byte and transfer)
+     * of every request, and report them to the {@link MetricsRecorder} as
+     * {@link org.incendo.jenkins.metrics.RequestTrace request traces}. Use a
+     * {@link org.incendo.jenkins.metrics.SlowRequestLog} to keep the traces of
+     * slow requests
+     *
+     * @param requestTracing whether or not requests should be traced
+     * @return this {@link JenkinsBuilder} instance
+     */
+    public JenkinsBuilder withRequestTracing(final boolean requestTracing) {
+        this.requestTracing = requestTracing;
+        return this;
+    }
+
+    /**
+     * Share an http client, and with it the connection pool and dispatcher, with
+     * other instances. Authentication and request tracing are added to a client
+     * derived from the shared client, so they only apply to this instance. By
+     * default, every instance creates its own client
+     *
+     * @param httpClient shared http client
+     * @return this {@link JenkinsBuilder} instance
+     */
+    public JenkinsBuilder withHttpClient(@NotNull final OkHttpClient httpClient) {
+        this.httpClient = Preconditions.checkNotNull(httpClient, "Http client may not be null");
+        return this;
+    }
+
+    /**
+     * Specify the executor that requests are sent from. Requests block the thread
+     * that sends them until the response has been read. By default, the common
+     * {@link ForkJoinPool} is used
+     *
+     * @param executor executor
+     * @return this {@link JenkinsBuilder} instance
+     */
+    public JenkinsBuilder withExecutor(@NotNull final Executor executor) {
+        this.executor = Preconditions.checkNotNull(executor, "Executor may not be null");
+        return this;
+    }
+
     /**
      * Compile the information into a {@link Jenkins} instance
      *
@@ -87,7 +179,9 @@ import org.jetbrains.annotations.NotNull;
     public Jenkins build() {
         Preconditions.checkNotNull(jenkinsPath, "Path must be specified");
         final JenkinsPathProvider jenkinsPathProvider = new JenkinsPathProvider(this.jenkinsPath);
-        return new Jenkins(jenkinsPathProvider, this.jenkinsAuthentication, this.jenkinsAPIType);
+        return new Jenkins(jenkinsPathProvider, this.jenkinsAuthentication, this.jenkinsAPIType,
+            this.lazyBuildDecoding, this.metricsRecorder, this.requestTracing, this.httpClient,
+            this.executor);
     }
 
 }
@@ -25,20 +25,47 @@
 package org.incendo.jenkins;
 
 import com.google.common.base.Preconditions;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
 import org.incendo.jenkins.exception.JenkinsBuildNotFoundException;
 import org.incendo.jenkins.exception.JenkinsJobNotFoundException;
 import org.incendo.jenkins.exception.JenkinsNodeReadException;
 import org.incendo.jenkins.exception.JenkinsNotAuthenticatedException;
+import org.incendo.jenkins.metrics.Endpoint;
+import org.incendo.jenkins.metrics.FlightRecorderEvents;
+import org.incendo.jenkins.metrics.MetricsRecorder;
+import org.incendo.jenkins.metrics.Outcome;
+import org.incendo.jenkins.objects.ArtifactIndex;
+import org.incendo.jenkins.objects.BuildDescription;
 import org.incendo.jenkins.objects.BuildInfo;
+import org.incendo.jenkins.objects.BuildTimeSeries;
+import org.incendo.jenkins.objects.ComputerSet;
+import org.incendo.jenkins.objects.JobDependencies;
 import org.incendo.jenkins.objects.JobInfo;
 import org.incendo.jenkins.objects.MasterNode;
+import org.incendo.jenkins.objects.PipelineRun;
+import org.incendo.jenkins.objects.TestReport;
+import org.incendo.jenkins.objects.TestReportListener;
+import org.incendo.jenkins.objects.TestTrend;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit2.Call;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
+import java.util.function.Supplier;
 
 /**
  * Reader that reads data from a {@link JenkinsService} and then
@@ -48,8 +75,72 @@ import java.util.Locale;
  */
 public abstract class JenkinsReader {
 
+    /**
+     * Tree projection selecting a window of all builds, using the Jenkins range syntax
+     */
+    protected static final String BUILD_PAGE_TREE = "allBuilds[_class,number,url]{%d,%d}";
+
+    /**
+     * Tree projection selecting the fields of {@link BuildInfo}
+     */
+    protected static final String BUILD_INFO_TREE =
+        "_class,building,result,displayName,fullDisplayName,id,number,duration,timestamp,url,"
+            + "artifacts[displayPath,fileName,relativePath]";
+
+    /**
+     * Tree projection selecting a window of all builds with the fields
+     * of {@link BuildInfo}, using the Jenkins range syntax
+     */
+    protected static final String BUILD_INFO_PAGE_TREE =
+        "allBuilds[" + BUILD_INFO_TREE + "]{%d,%d}";
+
+    /**
+     * Tree projection selecting the fields of {@link BuildTimeSeries} for a window of
+     * all builds, using the Jenkins range syntax
+     */
+    protected static final String BUILD_TIME_SERIES_TREE =
+        "allBuilds[number,timestamp,duration,result,building]{%d,%d}";
+
+    /**
+     * Tree projection selecting the artifact file names of a window of all builds,
+     * using the Jenkins range syntax
+     */
+    protected static final String ARTIFACT_INDEX_TREE =
+        "allBuilds[number,building,artifacts[fileName]]{%d,%d}";
+
+    /**
+     * Tree projection selecting the upstream and downstream projects of a job
+     */
+    protected static final String JOB_DEPENDENCIES_TREE =
+        "upstreamProjects[name],downstreamProjects[name]";
+
+    /**
+     * Tree projection selecting the number of the newest build
+     */
+    protected static final String LAST_BUILD_TREE = "lastBuild[number]";
+
+    /**
+     * Tree projection selecting the totals, suites and cases of a test report. The
+     * standard output and error of suites and cases are left out, as they are
+     * often larger than the rest of the report
+     */
+    protected static final String TEST_REPORT_TREE =
+        "duration,passCount,failCount,skipCount,suites[name,duration,cases[className,name,"
+            + "status,duration,age,failedSince,errorDetails,errorStackTrace]]";
+
+    /**
+     * Tree projection selecting the test result counts of a window of all builds, using
+     * the Jenkins range syntax. Only the test result action has these fields, so all
+     * other actions are reduced to empty objects
+     */
+    protected static final String TEST_TREND_TREE =
+        "allBuilds[number,timestamp,duration,building,actions[totalCount,failCount,skipCount]]"
+            + "{%d,%d}";
+
     private final JenkinsAPIType jenkinsAPIType;
     private final JenkinsService jenkinsService;
+    private final MetricsRecorder metricsRecorder;
+    @Nullable private final CallTracer callTracer;
 
     /**
      * Instantiates a new Jenkins reader.
@@ -64,8 +155,18 @@ public abstract class JenkinsReader {
         Preconditions.checkNotNull(jenkinsPathProvider, "Path provider may not be null");
         Preconditions.checkNotNull(jenkinsAPIType, "API type may not be null");
         this.jenkinsAPIType = jenkinsAPIType;
-        final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        this.metricsRecorder = jenkins.getMetricsRecorder();
+        // A client derived from a shared client uses the same connection pool and dispatcher
+        final OkHttpClient sharedClient = jenkins.getHttpClient();
+        final OkHttpClient.Builder builder =
+            sharedClient == null ? new OkHttpClient.Builder() : sharedClient.newBuilder();
         jenkins.getJenkinsAuthentication().initialize(builder);
+        if (jenkins.isRequestTracing()) {
+            this.callTracer = new CallTracer();
+            builder.eventListenerFactory(this.callTracer);
+        } else {
+            this.callTracer = null;
+        }
         final Retrofit retrofit =
             new Retrofit.Builder().client(builder.build())
                 .baseUrl(jenkinsPathProvider.getBasePath()).build();
@@ -75,89 +176,435 @@ public abstract class JenkinsReader {
     /**
      * Read master view master node.
      *
+     * @param filter    server-side XML filter, or null
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
      * @return the master node
      * @throws JenkinsNodeReadException the jenkins node read exception
      */
-    final MasterNode readMasterView() throws JenkinsNodeReadException {
-        final String content;
-        try {
-            try (final ResponseBody body =
-                this.jenkinsService.getMasterNode(this.getAPITypeString()).execute().body()) {
-                if (body == null) {
-                    throw new NullPointerException("Response body is null");
-                }
-                content = body.string();
-            }
-        } catch (final Exception exception) {
-            throw new JenkinsNodeReadException("master node", exception);
-        }
-        return this.readMasterView(content);
+    final MasterNode readMasterView(@Nullable final XmlFilter filter, final long submitted)
+        throws JenkinsNodeReadException {
+        return this.read(Endpoint.MASTER_NODE, null, -1, submitted,
+            () -> this.jenkinsService.getMasterNode(this.getAPITypeString(),
+                filter == null ? null : filter.getXpath(),
+                filter == null ? null : filter.getWrapper(),
+                filter == null ? null : filter.getExcludes()), null, "", "master node",
+            this::readMasterView);
     }
 
     /**
      * Read job info job info.
      *
-     * @param jobName the job name
+     * @param jobName   the job name
+     * @param filter    server-side XML filter, or null
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
      * @return the job info
      * @throws JenkinsNodeReadException the jenkins node read exception
      */
-    final JobInfo readJobInfo(@NotNull final String jobName) throws JenkinsNodeReadException {
-        final String content;
-        try {
-            final Response<ResponseBody> response =
-                this.jenkinsService.getJobInfo(jobName, this.getAPITypeString()).execute();
-            if (response == null) {
-                throw new NullPointerException("Response is null");
-            }
-            if (response.code() == 404) {
-                throw new JenkinsJobNotFoundException(jobName);
-            } else if (response.code() == 403) {
-                throw new JenkinsNotAuthenticatedException(String.format("job/%s/", jobName));
-            }
-            try (final ResponseBody body = response.body()) {
-                if (body == null) {
-                    throw new NullPointerException("Response body is null");
-                }
-                content = body.string();
-            }
-        } catch (final Exception exception) {
-            throw new JenkinsNodeReadException(String.format("job node: %s", jobName), exception);
-        }
-        return this.readJobInfo(jobName, content);
+    final JobInfo readJobInfo(@NotNull final String jobName, @Nullable final XmlFilter filter,
+        final long submitted) throws JenkinsNodeReadException {
+        return this.readJobTree(jobName, null, filter, submitted, Endpoint.JOB,
+            String.format("job node: %s", jobName),
+            content -> this.readJobInfo(jobName, content));
     }
 
     /**
      * Read build info build info.
      *
-     * @param jobName the job name
-     * @param build   the build
+     * @param jobName   the job name
+     * @param build     the build
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
      * @return the build info
      * @throws JenkinsNodeReadException the jenkins node read exception
      */
-    final BuildInfo readBuildInfo(@NotNull final String jobName, final int build)
+    final BuildInfo readBuildInfo(@NotNull final String jobName, final int build,
+        final long submitted) throws JenkinsNodeReadException {
+        return this.read(Endpoint.BUILD, jobName, build, submitted,
+            () -> this.jenkinsService.getBuildInfo(jobName, build, this.getAPITypeString()),
+            () -> new JenkinsBuildNotFoundException(jobName, build),
+            String.format("job/%s/%d/", jobName, build), String.format("job node: %s", jobName),
+            content -> this.readBuildInfo(jobName, build, content));
+    }
+
+    /**
+     * Read the build that a permalink of a job resolves to, limited to the fields
+     * of {@link BuildInfo}
+     *
+     * @param jobName   the job name
+     * @param permalink the permalink
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the build info
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final BuildInfo readPermalink(@NotNull final String jobName,
+        @NotNull final Permalink permalink, final long submitted)
+        throws JenkinsNodeReadException {
+        return this.read(Endpoint.BUILD, jobName, -1, submitted, () -> this.jenkinsService
+                .getPermalink(jobName, permalink.getPath(), this.getAPITypeString(),
+                    BUILD_INFO_TREE),
+            () -> new JenkinsBuildNotFoundException(jobName, permalink.getPath()),
+            String.format("job/%s/%s/", jobName, permalink.getPath()),
+            String.format("job node: %s", jobName),
+            content -> this.readBuildInfo(jobName, -1, content));
+    }
+
+    /**
+     * Read a window of the complete build history of a job, newest first
+     *
+     * @param jobName   the job name
+     * @param from      index of the first build (inclusive)
+     * @param to        index of the last build (exclusive)
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the builds in the window
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final List<BuildDescription> readBuildPage(@NotNull final String jobName, final int from,
+        final int to, final long submitted) throws JenkinsNodeReadException {
+        Preconditions.checkArgument(from >= 0 && from <= to, "Invalid build range");
+        return this.readJobTree(jobName, String.format(BUILD_PAGE_TREE, from, to), null,
+            submitted, Endpoint.BUILD_PAGE,
+            String.format("build history: %s{%d,%d}", jobName, from, to),
+            content -> this.readBuildPage(jobName, from, to, content));
+    }
+
+    /**
+     * Read detailed information about a window of the complete build
+     * history of a job, newest first
+     *
+     * @param jobName   the job name
+     * @param from      index of the first build (inclusive)
+     * @param to        index of the last build (exclusive)
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the build infos in the window
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final List<BuildInfo> readBuildInfoPage(@NotNull final String jobName, final int from,
+        final int to, final long submitted) throws JenkinsNodeReadException {
+        Preconditions.checkArgument(from >= 0 && from <= to, "Invalid build range");
+        return this.readJobTree(jobName, String.format(BUILD_INFO_PAGE_TREE, from, to), null,
+            submitted, Endpoint.BUILD_PAGE,
+            String.format("build infos: %s{%d,%d}", jobName, from, to),
+            content -> this.readBuildInfoPage(jobName, from, to, content));
+    }
+
+    /**
+     * Read the test result counts of a window of the complete build history of a job,
+     * using a single request
+     *
+     * @param jobName   the job name
+     * @param from      index of the first build (inclusive)
+     * @param to        index of the last build (exclusive)
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the test trend, in ascending build number order
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final TestTrend readTestTrend(@NotNull final String jobName, final int from, final int to,
+        final long submitted) throws JenkinsNodeReadException {
+        Preconditions.checkArgument(from >= 0 && from <= to, "Invalid build range");
+        return this.readJobTree(jobName, String.format(TEST_TREND_TREE, from, to), null,
+            submitted, Endpoint.BUILD_PAGE,
+            String.format("test trend: %s{%d,%d}", jobName, from, to),
+            content -> this.readTestTrend(jobName, from, to, content));
+    }
+
+    /**
+     * Read the upstream and downstream projects of a job
+     *
+     * @param jobName   the job name
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the job dependencies
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final JobDependencies readJobDependencies(@NotNull final String jobName,
+        final long submitted) throws JenkinsNodeReadException {
+        return this.readJobTree(jobName, JOB_DEPENDENCIES_TREE, null, submitted, Endpoint.JOB,
+            String.format("job dependencies: %s", jobName),
+            content -> this.readJobDependencies(jobName, content));
+    }
+
+    /**
+     * Read the artifact file names of a window of the complete build history of a
+     * job into an artifact index
+     *
+     * @param jobName   the job name
+     * @param from      index of the first build (inclusive)
+     * @param to        index of the last build (exclusive)
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return an artifact index of the builds in the window
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final ArtifactIndex readArtifactIndex(@NotNull final String jobName, final int from,
+        final int to, final long submitted) throws JenkinsNodeReadException {
+        Preconditions.checkArgument(from >= 0 && from <= to, "Invalid build range");
+        return this.readJobTree(jobName, String.format(ARTIFACT_INDEX_TREE, from, to), null,
+            submitted, Endpoint.BUILD_PAGE,
+            String.format("artifact index: %s{%d,%d}", jobName, from, to),
+            content -> this.readArtifactIndex(jobName, from, to, content));
+    }
+
+    /**
+     * Read the number, timestamp, duration and result of a window of the complete
+     * build history of a job into a columnar series
+     *
+     * @param jobName   the job name
+     * @param from      index of the first build (inclusive)
+     * @param to        index of the last build (exclusive)
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the builds in the window
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final BuildTimeSeries readBuildTimeSeries(@NotNull final String jobName, final int from,
+        final int to, final long submitted) throws JenkinsNodeReadException {
+        Preconditions.checkArgument(from >= 0 && from <= to, "Invalid build range");
+        return this.readJobTree(jobName, String.format(BUILD_TIME_SERIES_TREE, from, to), null,
+            submitted, Endpoint.BUILD_PAGE,
+            String.format("build time series: %s{%d,%d}", jobName, from, to),
+            content -> this.readBuildTimeSeries(jobName, from, to, content));
+    }
+
+    /**
+     * Read the number of the newest build of a job
+     *
+     * @param jobName   the job name
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the build number, or -1 if the job has no builds
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final int readLastBuildNumber(@NotNull final String jobName, final long submitted)
         throws JenkinsNodeReadException {
-        final String content;
+        return this.readJobTree(jobName, LAST_BUILD_TREE, null, submitted, Endpoint.JOB,
+            String.format("last build: %s", jobName),
+            content -> this.readLastBuildNumber(jobName, content));
+    }
+
+    /**
+     * Read the computer set
+     *
+     * @param tree      tree projection, or null to read the full computer set
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the computer set
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final ComputerSet readComputerSet(@Nullable final String tree, final long submitted)
+        throws JenkinsNodeReadException {
+        return this.read(Endpoint.COMPUTER_SET, null, -1, submitted,
+            () -> this.jenkinsService.getComputerSet(this.getAPITypeString(), tree), null,
+            "computer/", "computer set", content -> this.readComputerSet(tree, content));
+    }
+
+    /**
+     * Read the stage timings of a pipeline build. The pipeline stage view API only
+     * serves JSON, whichever API type is used
+     *
+     * @param jobName   the job name
+     * @param build     the build
+     * @param submitted time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the pipeline run
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final PipelineRun readPipelineRun(@NotNull final String jobName, final int build,
+        final long submitted) throws JenkinsNodeReadException {
+        final String description = String.format("pipeline run: %s #%d", jobName, build);
+        return this.read(Endpoint.PIPELINE_RUN, jobName, build, submitted,
+            () -> this.jenkinsService.getPipelineRun(jobName, build),
+            () -> new JenkinsBuildNotFoundException(jobName, build),
+            String.format("job/%s/%d/wfapi/", jobName, build), description,
+            content -> this.readPipelineRun(jobName, build, content));
+    }
+
+    /**
+     * Read the test report of a build. The report is parsed while it is downloaded,
+     * and the suites and cases are passed to the listener as they are read
+     *
+     * @param jobName      the job name
+     * @param build        the build
+     * @param failuresOnly whether only failed cases should be passed to the listener
+     * @param listener     receives the suites and cases
+     * @param submitted    time ({@link System#nanoTime()}) at which the read was submitted
+     * @return the report totals
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    final TestReport readTestReport(@NotNull final String jobName, final int build,
+        final boolean failuresOnly, @NotNull final TestReportListener listener,
+        final long submitted) throws JenkinsNodeReadException {
+        return this.stream(Endpoint.TEST_REPORT, jobName, build, submitted,
+            () -> this.jenkinsService
+                .getTestReport(jobName, build, this.getAPITypeString(), TEST_REPORT_TREE),
+            () -> new JenkinsBuildNotFoundException(jobName, build),
+            String.format("job/%s/%d/testReport/", jobName, build),
+            String.format("test report: %s #%d", jobName, build),
+            reader -> this.readTestReport(jobName, build, reader, failuresOnly, listener));
+    }
+
+    /**
+     * Read a job, optionally limited to a tree projection or XML filter
+     */
+    private <T> T readJobTree(@NotNull final String jobName, @Nullable final String tree,
+        @Nullable final XmlFilter filter, final long submitted, @NotNull final Endpoint endpoint,
+        @NotNull final String description, @NotNull final Parser<T> parser)
+        throws JenkinsNodeReadException {
+        return this.read(endpoint, jobName, -1, submitted,
+            () -> this.jenkinsService.getJobInfo(jobName, this.getAPITypeString(), tree,
+                filter == null ? null : filter.getXpath(),
+                filter == null ? null : filter.getWrapper(),
+                filter == null ? null : filter.getExcludes()),
+            () -> new JenkinsJobNotFoundException(jobName), String.format("job/%s/", jobName),
+            description, parser);
+    }
+
+    /**
+     * Perform a request, read the response body and parse it. Failures to perform the
+     * request or to read the body are wrapped in a {@link JenkinsNodeReadException}.
+     * The timings and the outcome are reported to the {@link MetricsRecorder}, along
+     * with the network phases when request tracing is enabled
+     *
+     * @param endpoint    the endpoint that is read
+     * @param jobName     the job that is read, or null
+     * @param build       the build that is read, or -1
+     * @param submitted   time at which the read was submitted
+     * @param call        creates the request
+     * @param notFound    creates the exception for 404 responses, or null if 404 is not expected
+     * @param path        path reported for 403 responses
+     * @param description description of the node, used in exception messages
+     * @param parser      parses the response body
+     * @param <T>         node type
+     * @return the parsed node
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    private <T> T read(@NotNull final Endpoint endpoint, @Nullable final String jobName,
+        final int build, final long submitted,
+        @NotNull final Supplier<Call<ResponseBody>> call,
+        @Nullable final Supplier<? extends JenkinsNodeReadException> notFound,
+        @NotNull final String path, @NotNull final String description,
+        @NotNull final Parser<T> parser) throws JenkinsNodeReadException {
+        return this.read(endpoint, jobName, build, submitted, call, notFound, path, description,
+            parser, null);
+    }
+
+    /**
+     * Perform a request, and parse the response body while it is read. The network
+     * time only covers the response headers, and the parse time includes reading
+     * the body
+     *
+     * @see #read(Endpoint, String, int, long, Supplier, Supplier, String, String, Parser)
+     */
+    private <T> T stream(@NotNull final Endpoint endpoint, @Nullable final String jobName,
+        final int build, final long submitted,
+        @NotNull final Supplier<Call<ResponseBody>> call,
+        @Nullable final Supplier<? extends JenkinsNodeReadException> notFound,
+        @NotNull final String path, @NotNull final String description,
+        @NotNull final StreamParser<T> streamParser) throws JenkinsNodeReadException {
+        return this.read(endpoint, jobName, build, submitted, call, notFound, path, description,
+            null, streamParser);
+    }
+
+    /**
+     * Perform a request, using either a parser of the complete body or a parser
+     * of the body stream
+     */
+    private <T> T read(@NotNull final Endpoint endpoint, @Nullable final String jobName,
+        final int build, final long submitted,
+        @NotNull final Supplier<Call<ResponseBody>> call,
+        @Nullable final Supplier<? extends JenkinsNodeReadException> notFound,
+        @NotNull final String path, @NotNull final String description,
+        @Nullable final Parser<T> parser, @Nullable final StreamParser<T> streamParser)
+        throws JenkinsNodeReadException {
+        final long started = System.nanoTime();
+        final long queueNanos = submitted > 0 && started > submitted ? started - submitted : 0L;
+        final CallTracer.PhaseTimer phaseTimer =
+            this.callTracer == null ? null : this.callTracer.begin();
+        final FlightRecorderEvents.RequestEvent requestEvent = FlightRecorderEvents.beginRequest();
+        Call<ResponseBody> request = null;
+        Outcome outcome = Outcome.NETWORK_ERROR;
+        long networkNanos = 0L;
+        long responseBytes = 0L;
+        long parseNanos = 0L;
         try {
-            final Response<ResponseBody> response =
-                this.jenkinsService.getBuildInfo(jobName, build, this.getAPITypeString()).execute();
-            if (response == null) {
-                throw new NullPointerException("Response is null");
-            }
-            if (response.code() == 404) {
-                throw new JenkinsBuildNotFoundException(jobName, build);
-            } else if (response.code() == 403) {
-                throw new JenkinsNotAuthenticatedException(String.format("job/%s/%d/", jobName, build));
-            }
-            try (final ResponseBody body = response.body()) {
+            String content = null;
+            ResponseBody streamedBody = null;
+            try {
+                request = call.get();
+                final Response<ResponseBody> response = request.execute();
+                if (response == null) {
+                    throw new NullPointerException("Response is null");
+                }
+                if (response.code() == 404 && notFound != null) {
+                    outcome = Outcome.NOT_FOUND;
+                    throw notFound.get();
+                } else if (response.code() == 403) {
+                    outcome = Outcome.NOT_AUTHENTICATED;
+                    throw new JenkinsNotAuthenticatedException(path);
+                }
+                final ResponseBody body = response.body();
                 if (body == null) {
                     throw new NullPointerException("Response body is null");
                 }
-                content = body.string();
+                if (streamParser != null) {
+                    // the body is read by the parser
+                    streamedBody = body;
+                } else {
+                    try (final ResponseBody bufferedBody = body) {
+                        final byte[] bytes = bufferedBody.bytes();
+                        responseBytes = bytes.length;
+                        content = new String(bytes, charset(bufferedBody));
+                    }
+                }
+                // the response was received, so any failure from here on is a parse error
+                outcome = Outcome.PARSE_ERROR;
+            } catch (final Exception exception) {
+                throw new JenkinsNodeReadException(description, exception);
+            } finally {
+                networkNanos = System.nanoTime() - started;
+                if (phaseTimer != null) {
+                    this.callTracer.end();
+                }
+                if (requestEvent != null) {
+                    requestEvent.commit(endpoint,
+                        request == null ? "" : request.request().url().toString(), jobName, build,
+                        responseBytes, outcome == Outcome.PARSE_ERROR ? Outcome.SUCCESS : outcome);
+                }
+            }
+            final FlightRecorderEvents.ParseEvent parseEvent = FlightRecorderEvents.beginParse();
+            final long parseStarted = System.nanoTime();
+            try {
+                final T node;
+                if (streamedBody != null) {
+                    final CountingSource source = new CountingSource(streamedBody.source());
+                    try (final ResponseBody body = streamedBody;
+                        final Reader reader = new InputStreamReader(
+                            Okio.buffer(source).inputStream(), charset(body))) {
+                        node = streamParser.parse(reader);
+                    } catch (final IOException exception) {
+                        throw new JenkinsNodeReadException(description, exception);
+                    } finally {
+                        responseBytes = source.getCount();
+                    }
+                } else {
+                    node = parser.parse(content);
+                }
+                outcome = Outcome.SUCCESS;
+                return node;
+            } finally {
+                parseNanos = System.nanoTime() - parseStarted;
+                if (parseEvent != null) {
+                    parseEvent.commit(endpoint, jobName, build, responseBytes,
+                        outcome == Outcome.SUCCESS);
+                }
+            }
+        } finally {
+            this.metricsRecorder.record(endpoint, queueNanos, networkNanos, responseBytes,
+                parseNanos, outcome);
+            if (phaseTimer != null) {
+                this.metricsRecorder.recordTrace(phaseTimer
+                    .toTrace(endpoint, outcome, queueNanos, networkNanos, responseBytes,
+                        parseNanos));
             }
-        } catch (final Exception exception) {
-            throw new JenkinsNodeReadException(String.format("job node: %s", jobName), exception);
         }
-        return this.readBuildInfo(jobName, build, content);
+    }
+
+    @NotNull private static Charset charset(@NotNull final ResponseBody body) {
+        final MediaType contentType = body.contentType();
+        return contentType == null ?
+            StandardCharsets.UTF_8 : contentType.charset(StandardCharsets.UTF_8);
     }
 
     /**
@@ -193,8 +640,188 @@ public abstract class JenkinsReader {
     protected abstract BuildInfo readBuildInfo(@NotNull final String jobName, final int build,
         @NotNull final String rawContent) throws JenkinsNodeReadException;
 
+    /**
+     * Read the computer set
+     *
+     * @param tree       the tree projection that was used, or null
+     * @param rawContent the raw content
+     * @return the computer set
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract ComputerSet readComputerSet(@Nullable final String tree,
+        @NotNull final String rawContent)
+        throws JenkinsNodeReadException;
+
+    /**
+     * Read a window of the build history of a job
+     *
+     * @param jobName    the job name
+     * @param from       index of the first build (inclusive)
+     * @param to         index of the last build (exclusive)
+     * @param rawContent the raw content
+     * @return the builds in the window, newest first
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract List<BuildDescription> readBuildPage(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException;
+
+    /**
+     * Read a window of detailed build information
+     *
+     * @param jobName    the job name
+     * @param from       index of the first build (inclusive)
+     * @param to         index of the last build (exclusive)
+     * @param rawContent the raw content
+     * @return the build infos in the window, newest first
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract List<BuildInfo> readBuildInfoPage(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException;
+
+    /**
+     * Read the test result counts of a window of the build history
+     *
+     * @param jobName    the job name
+     * @param from       index of the first build (inclusive)
+     * @param to         index of the last build (exclusive)
+     * @param rawContent the raw content
+     * @return the test trend, in ascending build number order
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract TestTrend readTestTrend(@NotNull final String jobName, final int from,
+        final int to, @NotNull final String rawContent) throws JenkinsNodeReadException;
+
+    /**
+     * Read the number, timestamp, duration and result of a window of the build history
+     *
+     * @param jobName    the job name
+     * @param from       index of the first build (inclusive)
+     * @param to         index of the last build (exclusive)
+     * @param rawContent the raw content
+     * @return the builds in the window
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract BuildTimeSeries readBuildTimeSeries(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException;
+
+    /**
+     * Read the upstream and downstream projects of a job
+     *
+     * @param jobName    the job name
+     * @param rawContent the raw content
+     * @return the job dependencies
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract JobDependencies readJobDependencies(@NotNull final String jobName,
+        @NotNull final String rawContent) throws JenkinsNodeReadException;
+
+    /**
+     * Read the artifact file names of a window of the build history
+     *
+     * @param jobName    the job name
+     * @param from       index of the first build (inclusive)
+     * @param to         index of the last build (exclusive)
+     * @param rawContent the raw content
+     * @return an artifact index of the builds in the window
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract ArtifactIndex readArtifactIndex(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException;
+
+    /**
+     * Read the number of the newest build
+     *
+     * @param jobName    the job name
+     * @param rawContent the raw content
+     * @return the build number, or -1 if the job has no builds
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract int readLastBuildNumber(@NotNull final String jobName,
+        @NotNull final String rawContent) throws JenkinsNodeReadException;
+
+    /**
+     * Read a test report from a stream. Cases are passed to the listener as they are
+     * read, and are not kept
+     *
+     * @param jobName      the job name
+     * @param build        the build
+     * @param reader       the response body
+     * @param failuresOnly whether only failed cases should be passed to the listener
+     * @param listener     receives the suites and cases
+     * @return the report totals
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     * @throws IOException              if the response body could not be read
+     */
+    protected abstract TestReport readTestReport(@NotNull final String jobName, final int build,
+        @NotNull final Reader reader, final boolean failuresOnly,
+        @NotNull final TestReportListener listener) throws JenkinsNodeReadException, IOException;
+
+    /**
+     * Read the stage timings of a pipeline build
+     *
+     * @param jobName    the job name
+     * @param build      the build
+     * @param rawContent the raw content, which is always JSON
+     * @return the pipeline run
+     * @throws JenkinsNodeReadException the jenkins node read exception
+     */
+    protected abstract PipelineRun readPipelineRun(@NotNull final String jobName,
+        final int build, @NotNull final String rawContent) throws JenkinsNodeReadException;
+
     @NotNull private String getAPITypeString() {
         return this.jenkinsAPIType.name().toLowerCase(Locale.ENGLISH);
     }
 
+    /**
+     * Parses a raw response body
+     *
+     * @param <T> node type
+     */
+    @FunctionalInterface private interface Parser<T> {
+
+        T parse(@NotNull String rawContent) throws JenkinsNodeReadException;
+
+    }
+
+    /**
+     * Parses a response body while it is read
+     *
+     * @param <T> node type
+     */
+    @FunctionalInterface private interface StreamParser<T> {
+
+        T parse(@NotNull Reader reader) throws JenkinsNodeReadException, IOException;
+
+    }
+
+    /**
+     * Source that counts the bytes that are read from it
+     */
+    private static final class CountingSource extends ForwardingSource {
+
+        private long count;
+
+        private CountingSource(@NotNull final Source delegate) {
+            super(delegate);
+        }
+
+        @Override public long read(@NotNull final Buffer sink, final long byteCount)
+            throws IOException {
+            final long read = super.read(sink, byteCount);
+            if (read > 0) {
+                this.count += read;
+            }
+            return read;
+        }
+
+        private long getCount() {
+            return this.count;
+        }
+
+    }
+
 }
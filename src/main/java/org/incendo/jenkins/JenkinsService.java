@@ -28,6 +28,10 @@ import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.GET;
 import retrofit2.http.Path;
+import retrofit2.http.Query;
+import retrofit2.http.Streaming;
+
+import java.util.List;
 
 /**
  * Retrofit service, used to read Jenkins API response bodies
@@ -37,20 +41,30 @@ interface JenkinsService {
     /**
      * Gets master node.
      *
-     * @param type the type
+     * @param type    the type
+     * @param xpath   the xpath filter, or null (XML only)
+     * @param wrapper the xpath wrapper element, or null (XML only)
+     * @param exclude the excluded xpath expressions, or null (XML only)
      * @return the master node
      */
-    @GET("api/{type}") Call<ResponseBody> getMasterNode(@Path("type") String type);
+    @GET("api/{type}") Call<ResponseBody> getMasterNode(@Path("type") String type,
+        @Query("xpath") String xpath, @Query("wrapper") String wrapper,
+        @Query("exclude") List<String> exclude);
 
     /**
      * Gets job info.
      *
-     * @param job  the job
-     * @param type the type
+     * @param job     the job
+     * @param type    the type
+     * @param tree    the tree projection, or null to read the full job
+     * @param xpath   the xpath filter, or null (XML only)
+     * @param wrapper the xpath wrapper element, or null (XML only)
+     * @param exclude the excluded xpath expressions, or null (XML only)
      * @return the job info
      */
     @GET("job/{job}/api/{type}") Call<ResponseBody> getJobInfo(@Path("job") String job,
-        @Path("type") String type);
+        @Path("type") String type, @Query("tree") String tree, @Query("xpath") String xpath,
+        @Query("wrapper") String wrapper, @Query("exclude") List<String> exclude);
 
     /**
      * Gets build info.
@@ -63,4 +77,52 @@ interface JenkinsService {
     @GET("job/{job}/{build}/api/{type}") Call<ResponseBody> getBuildInfo(@Path("job") String job,
         @Path("build") int build, @Path("type") String type);
 
+    /**
+     * Gets the build info of a permalink, such as {@code lastSuccessfulBuild}.
+     *
+     * @param job       the job
+     * @param permalink the permalink path
+     * @param type      the type
+     * @param tree      the tree projection, or null to read the full build
+     * @return the build info
+     */
+    @GET("job/{job}/{permalink}/api/{type}") Call<ResponseBody> getPermalink(
+        @Path("job") String job, @Path("permalink") String permalink, @Path("type") String type,
+        @Query("tree") String tree);
+
+    /**
+     * Gets the computer set.
+     *
+     * @param type the type
+     * @param tree the tree projection, or null to read the full computer set
+     * @return the computer set
+     */
+    @GET("computer/api/{type}") Call<ResponseBody> getComputerSet(@Path("type") String type,
+        @Query("tree") String tree);
+
+    /**
+     * Gets the test report of a build. The response body is not buffered, so that
+     * it can be parsed while it is downloaded
+     *
+     * @param job   the job
+     * @param build the build
+     * @param type  the type
+     * @param tree  the tree projection
+     * @return the test report
+     */
+    @Streaming @GET("job/{job}/{build}/testReport/api/{type}") Call<ResponseBody> getTestReport(
+        @Path("job") String job, @Path("build") int build, @Path("type") String type,
+        @Query("tree") String tree);
+
+    /**
+     * Gets the stage timings of a pipeline build. The pipeline stage view API
+     * only serves JSON
+     *
+     * @param job   the job
+     * @param build the build
+     * @return the pipeline run
+     */
+    @GET("job/{job}/{build}/wfapi/describe") Call<ResponseBody> getPipelineRun(
+        @Path("job") String job, @Path("build") int build);
+
 }
@@ -0,0 +1,153 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.incendo.jenkins.objects.JobDescription;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * One of a fixed number of shards that the jobs of a Jenkins master are split
+ * into, so that several workers can each process a part of the jobs without
+ * coordinating with each other
+ * <p>
+ * A job is assigned to a shard using a consistent hash of its name. The assignment
+ * only depends on the job name and the shard count, so it is the same in every
+ * JVM, and it does not change when jobs are added or removed. When the shard count
+ * changes, only the jobs that move to the new shards are reassigned
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class JobShard {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final int index;
+    private final int count;
+
+    private JobShard(final int index, final int count) {
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * Get a shard
+     *
+     * @param index shard index, from 0 (inclusive) to the shard count (exclusive)
+     * @param count number of shards
+     * @return the shard
+     */
+    @NotNull public static JobShard of(final int index, final int count) {
+        Preconditions.checkArgument(count > 0, "Shard count must be positive");
+        Preconditions.checkArgument(index >= 0 && index < count,
+            "Shard index must be between 0 and %s", count - 1);
+        return new JobShard(index, count);
+    }
+
+    /**
+     * Get the shard that a job is assigned to
+     *
+     * @param jobName job name
+     * @param count   number of shards
+     * @return shard index
+     */
+    public static int indexOf(@NotNull final String jobName, final int count) {
+        Preconditions.checkNotNull(jobName, "Job name may not be null");
+        Preconditions.checkArgument(count > 0, "Shard count must be positive");
+        return Hashing.consistentHash(HASH_FUNCTION.hashString(jobName, StandardCharsets.UTF_8),
+            count);
+    }
+
+    /**
+     * Gets index.
+     *
+     * @return the shard index
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets count.
+     *
+     * @return the number of shards
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Check whether a job is assigned to this shard
+     *
+     * @param jobName job name
+     * @return true if the job belongs to this shard
+     */
+    public boolean contains(@NotNull final String jobName) {
+        return this.count == 1 || indexOf(jobName, this.count) == this.index;
+    }
+
+    /**
+     * Get the jobs that are assigned to this shard
+     *
+     * @param jobDescriptions all jobs
+     * @return the jobs that belong to this shard, in their original order
+     */
+    @NotNull public List<JobDescription> filter(
+        @NotNull final Collection<JobDescription> jobDescriptions) {
+        Preconditions.checkNotNull(jobDescriptions, "Job descriptions may not be null");
+        final List<JobDescription> shard = new ArrayList<>(jobDescriptions.size() / this.count + 1);
+        for (final JobDescription jobDescription : jobDescriptions) {
+            if (this.contains(jobDescription.getName())) {
+                shard.add(jobDescription);
+            }
+        }
+        return shard;
+    }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final JobShard jobShard = (JobShard) o;
+        return index == jobShard.index && count == jobShard.count;
+    }
+
+    @Override public int hashCode() {
+        return 31 * index + count;
+    }
+
+    @Override public String toString() {
+        return "JobShard{" + "index=" + index + ", count=" + count + '}';
+    }
+
+}
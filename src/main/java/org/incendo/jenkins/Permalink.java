@@ -0,0 +1,78 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Permalinks that Jenkins keeps for every job, which resolve to a build without
+ * reading the job first
+ */
+@SuppressWarnings("unused") public enum Permalink {
+    /**
+     * The newest build, which may still be running
+     */
+    LAST_BUILD("lastBuild"),
+    /**
+     * The newest build that has completed
+     */
+    LAST_COMPLETED_BUILD("lastCompletedBuild"),
+    /**
+     * The newest successful build
+     */
+    LAST_SUCCESSFUL_BUILD("lastSuccessfulBuild"),
+    /**
+     * The newest stable build, which is a successful build without test failures
+     */
+    LAST_STABLE_BUILD("lastStableBuild"),
+    /**
+     * The newest unstable build
+     */
+    LAST_UNSTABLE_BUILD("lastUnstableBuild"),
+    /**
+     * The newest build that was not successful
+     */
+    LAST_UNSUCCESSFUL_BUILD("lastUnsuccessfulBuild"),
+    /**
+     * The newest failed build
+     */
+    LAST_FAILED_BUILD("lastFailedBuild");
+
+    private final String path;
+
+    Permalink(@NotNull final String path) {
+        this.path = path;
+    }
+
+    /**
+     * Gets path.
+     *
+     * @return the url path segment of the permalink, such as {@code lastSuccessfulBuild}
+     */
+    @NotNull public String getPath() {
+        return this.path;
+    }
+
+}
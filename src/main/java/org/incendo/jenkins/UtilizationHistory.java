@@ -0,0 +1,186 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Fixed size ring buffer of executor utilization samples for a single label.
+ * Samples are stored in primitive arrays, so recording and querying does not
+ * allocate. Once the buffer is full, the oldest sample is overwritten
+ * <p>
+ * Instances are populated by an {@link ExecutorUtilizationSampler}
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class UtilizationHistory {
+
+    private final long[] timestamps;
+    private final int[] busy;
+    private final int[] total;
+
+    private int head;
+    private int size;
+
+    /**
+     * Instantiates a new Utilization history.
+     *
+     * @param capacity the maximum number of samples to retain
+     */
+    public UtilizationHistory(final int capacity) {
+        Preconditions.checkArgument(capacity > 0, "Capacity must be positive");
+        this.timestamps = new long[capacity];
+        this.busy = new int[capacity];
+        this.total = new int[capacity];
+    }
+
+    /**
+     * Record a new sample, overwriting the oldest sample if the buffer is full
+     *
+     * @param timestamp sample time, in milliseconds since the epoch
+     * @param busy      the number of busy executors
+     * @param total     the number of online executors
+     */
+    public synchronized void record(final long timestamp, final int busy, final int total) {
+        this.timestamps[this.head] = timestamp;
+        this.busy[this.head] = busy;
+        this.total[this.head] = total;
+        this.head = (this.head + 1) % this.timestamps.length;
+        if (this.size < this.timestamps.length) {
+            this.size++;
+        }
+    }
+
+    /**
+     * Get the busy ratio over the most recent samples. The ratio is
+     * the sum of busy executors divided by the sum of online executors
+     *
+     * @param samples number of samples to include
+     * @return busy ratio in [0, 1], or {@link Double#NaN} if there were no online executors
+     */
+    public synchronized double getBusyRatio(final int samples) {
+        final int count = Math.min(samples, this.size);
+        long busySum = 0;
+        long totalSum = 0;
+        for (int i = 1; i <= count; i++) {
+            final int slot = this.slot(i);
+            busySum += this.busy[slot];
+            totalSum += this.total[slot];
+        }
+        return ratio(busySum, totalSum);
+    }
+
+    /**
+     * Get the busy ratio over all samples recorded at, or after, the given time
+     *
+     * @param since time in milliseconds since the epoch
+     * @return busy ratio in [0, 1], or {@link Double#NaN} if there were no online executors
+     */
+    public synchronized double getBusyRatioSince(final long since) {
+        long busySum = 0;
+        long totalSum = 0;
+        for (int i = 1; i <= this.size; i++) {
+            final int slot = this.slot(i);
+            if (this.timestamps[slot] < since) {
+                break;
+            }
+            busySum += this.busy[slot];
+            totalSum += this.total[slot];
+        }
+        return ratio(busySum, totalSum);
+    }
+
+    /**
+     * Get the idle ratio over the most recent samples
+     *
+     * @param samples number of samples to include
+     * @return idle ratio in [0, 1], or {@link Double#NaN} if there were no online executors
+     * @see #getBusyRatio(int)
+     */
+    public double getIdleRatio(final int samples) {
+        return 1D - this.getBusyRatio(samples);
+    }
+
+    /**
+     * Get the idle ratio over all samples recorded at, or after, the given time
+     *
+     * @param since time in milliseconds since the epoch
+     * @return idle ratio in [0, 1], or {@link Double#NaN} if there were no online executors
+     * @see #getBusyRatioSince(long)
+     */
+    public double getIdleRatioSince(final long since) {
+        return 1D - this.getBusyRatioSince(since);
+    }
+
+    /**
+     * Get the number of busy executors in the latest sample
+     *
+     * @return busy executors, or 0 if nothing has been recorded
+     */
+    public synchronized int getLatestBusy() {
+        return this.size == 0 ? 0 : this.busy[this.slot(1)];
+    }
+
+    /**
+     * Get the number of online executors in the latest sample
+     *
+     * @return online executors, or 0 if nothing has been recorded
+     */
+    public synchronized int getLatestTotal() {
+        return this.size == 0 ? 0 : this.total[this.slot(1)];
+    }
+
+    /**
+     * Get the number of retained samples
+     *
+     * @return sample count
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the maximum number of retained samples
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return this.timestamps.length;
+    }
+
+    /**
+     * Get the slot of the n:th most recent sample (1 being the latest)
+     */
+    private int slot(final int age) {
+        final int capacity = this.timestamps.length;
+        return (this.head - age + capacity) % capacity;
+    }
+
+    private static double ratio(final long busy, final long total) {
+        if (total == 0) {
+            return Double.NaN;
+        }
+        return (double) busy / total;
+    }
+
+}
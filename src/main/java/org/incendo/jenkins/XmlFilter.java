@@ -0,0 +1,128 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Server-side filter for XML API responses, using the Jenkins {@code xpath},
+ * {@code wrapper} and {@code exclude} parameters. Filtering happens before the
+ * response is sent, so it can reduce the response size far more than a tree
+ * projection, such as when selecting only the failing jobs:
+ * <pre>{@code
+ * XmlFilter.xpath("/hudson/job[color='red']", "hudson")
+ * }</pre>
+ * Filters are only supported when {@link JenkinsAPIType#XML} is used
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class XmlFilter {
+
+    private final String xpath;
+    private final String wrapper;
+    private final List<String> excludes;
+
+    private XmlFilter(@Nullable final String xpath, @Nullable final String wrapper,
+        @NotNull final List<String> excludes) {
+        this.xpath = xpath;
+        this.wrapper = wrapper;
+        this.excludes = excludes;
+    }
+
+    /**
+     * Create a filter that selects the nodes matched by an xpath expression. When
+     * the expression matches several nodes, they are wrapped in an element with
+     * the given name
+     *
+     * @param xpath   xpath expression
+     * @param wrapper name of the wrapper element, or null if the expression
+     *                matches a single node
+     * @return the filter
+     */
+    @NotNull public static XmlFilter xpath(@NotNull final String xpath,
+        @Nullable final String wrapper) {
+        Preconditions.checkNotNull(xpath, "XPath may not be null");
+        return new XmlFilter(xpath, wrapper, ImmutableList.of());
+    }
+
+    /**
+     * Create a filter that removes the nodes matched by xpath expressions, such as
+     * {@code //build} to leave the builds out of a job
+     *
+     * @param excludes xpath expressions
+     * @return the filter
+     */
+    @NotNull public static XmlFilter exclude(@NotNull final String... excludes) {
+        return new XmlFilter(null, null, ImmutableList.copyOf(excludes));
+    }
+
+    /**
+     * Create a copy of this filter that also removes the nodes matched by xpath
+     * expressions
+     *
+     * @param excludes xpath expressions
+     * @return the filter
+     */
+    @NotNull public XmlFilter withExclude(@NotNull final String... excludes) {
+        return new XmlFilter(this.xpath, this.wrapper,
+            ImmutableList.<String>builder().addAll(this.excludes).add(excludes).build());
+    }
+
+    /**
+     * Gets xpath.
+     *
+     * @return the xpath expression, or null
+     */
+    @Nullable public String getXpath() {
+        return this.xpath;
+    }
+
+    /**
+     * Gets wrapper.
+     *
+     * @return the wrapper element name, or null
+     */
+    @Nullable public String getWrapper() {
+        return this.wrapper;
+    }
+
+    /**
+     * Gets excludes.
+     *
+     * @return the excluded xpath expressions
+     */
+    @NotNull public List<String> getExcludes() {
+        return this.excludes;
+    }
+
+    @NotNull @Override public String toString() {
+        return "XmlFilter{" + "xpath='" + xpath + '\'' + ", wrapper='" + wrapper + '\''
+            + ", excludes=" + excludes + '}';
+    }
+
+}
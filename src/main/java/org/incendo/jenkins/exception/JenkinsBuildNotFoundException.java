@@ -42,4 +42,17 @@ public final class JenkinsBuildNotFoundException extends JenkinsNodeReadExceptio
             new RuntimeException());
     }
 
+    /**
+     * Instantiates a new Jenkins build not found exception for a permalink, such
+     * as {@code lastSuccessfulBuild}, when the job has no such build.
+     *
+     * @param jobName   the job name
+     * @param permalink the permalink
+     */
+    public JenkinsBuildNotFoundException(@NotNull final String jobName,
+        @NotNull final String permalink) {
+        super(String.format("Could not find build %s in job %s", permalink, jobName),
+            new RuntimeException());
+    }
+
 }
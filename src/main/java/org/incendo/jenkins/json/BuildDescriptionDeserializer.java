@@ -26,6 +26,7 @@ package org.incendo.jenkins.json;
 
 import com.google.gson.*;
 import org.incendo.jenkins.objects.BuildDescription;
+import org.incendo.jenkins.objects.JenkinsClass;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Type;
@@ -40,7 +41,7 @@ final class BuildDescriptionDeserializer implements JsonDeserializer<BuildDescri
     public BuildDescription deserialize(@NotNull final JsonElement json, final Type typeOfT,
         final JsonDeserializationContext context) throws JsonParseException {
         final JsonObject jsonObject = json.getAsJsonObject();
-        final String jenkinsClass = jsonObject.get("_class").getAsString();
+        final JenkinsClass jenkinsClass = JenkinsClass.of(jsonObject.get("_class").getAsString());
         final int number = jsonObject.get("number").getAsInt();
         final String url = jsonObject.get("url").getAsString();
         return new BuildDescription(jenkinsClass, number, url);
@@ -28,6 +28,7 @@ import com.google.common.base.Preconditions;
 import com.google.gson.*;
 import org.incendo.jenkins.objects.ArtifactDescription;
 import org.incendo.jenkins.objects.BuildInfo;
+import org.incendo.jenkins.objects.BuildResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Type;
@@ -56,7 +57,13 @@ final class BuildInfoDeserializer implements JsonDeserializer<BuildInfo> {
         final JsonDeserializationContext context) throws JsonParseException {
         final JsonObject jsonObject = json.getAsJsonObject();
         final boolean building = jsonObject.get("building").getAsBoolean();
-        final String result = jsonObject.get("result").getAsString();
+        final BuildResult result;
+        // The result is null while the build is running
+        if (jsonObject.has("result") && !jsonObject.get("result").isJsonNull()) {
+            result = BuildResult.fromString(jsonObject.get("result").getAsString());
+        } else {
+            result = null;
+        }
         final String displayName = jsonObject.get("displayName").getAsString();
         final String fullDisplayName = jsonObject.get("fullDisplayName").getAsString();
         final int id = jsonObject.get("id").getAsInt();
@@ -0,0 +1,90 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.*;
+import org.incendo.jenkins.objects.ComputerInfo;
+import org.incendo.jenkins.objects.ExecutorInfo;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Json deserializer for {@link ComputerInfo}
+ * <p>
+ * All fields are optional, as the computer set is commonly read using a tree projection
+ * {@inheritDoc}
+ */
+final class ComputerInfoDeserializer implements JsonDeserializer<ComputerInfo> {
+
+    private final JsonJenkinsReader jsonJenkinsReader;
+
+    /**
+     * Instantiates a new Computer info deserializer.
+     *
+     * @param jsonJenkinsReader the json jenkins reader
+     */
+    ComputerInfoDeserializer(@NotNull final JsonJenkinsReader jsonJenkinsReader) {
+        this.jsonJenkinsReader =
+            Preconditions.checkNotNull(jsonJenkinsReader, "JsonJenkinsReader may not be null");
+    }
+
+    @NotNull @Override public ComputerInfo deserialize(@NotNull final JsonElement json,
+        final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
+        final JsonObject jsonObject = json.getAsJsonObject();
+        final String displayName;
+        if (jsonObject.has("displayName")) {
+            displayName = jsonObject.get("displayName").getAsString();
+        } else {
+            displayName = "";
+        }
+        final boolean offline =
+            jsonObject.has("offline") && jsonObject.get("offline").getAsBoolean();
+        final Collection<String> labels = new ArrayList<>();
+        if (jsonObject.has("assignedLabels")) {
+            for (final JsonElement label : jsonObject.get("assignedLabels").getAsJsonArray()) {
+                labels.add(label.getAsJsonObject().get("name").getAsString());
+            }
+        }
+        final Collection<ExecutorInfo> executors = new ArrayList<>();
+        if (jsonObject.has("executors")) {
+            for (final JsonElement executor : jsonObject.get("executors").getAsJsonArray()) {
+                executors.add(
+                    this.jsonJenkinsReader.getGson().fromJson(executor, ExecutorInfo.class));
+            }
+        }
+        final int numExecutors;
+        if (jsonObject.has("numExecutors")) {
+            numExecutors = jsonObject.get("numExecutors").getAsInt();
+        } else {
+            numExecutors = executors.size();
+        }
+        return new ComputerInfo(displayName, offline, numExecutors, labels, executors);
+    }
+
+}
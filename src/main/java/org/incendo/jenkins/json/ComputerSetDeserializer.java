@@ -0,0 +1,88 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.*;
+import org.incendo.jenkins.objects.ComputerInfo;
+import org.incendo.jenkins.objects.ComputerSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Json deserializer for {@link ComputerSet}
+ * <p>
+ * When the executor totals are not part of the response, they are computed
+ * from the online computers instead
+ * {@inheritDoc}
+ */
+final class ComputerSetDeserializer implements JsonDeserializer<ComputerSet> {
+
+    private final JsonJenkinsReader jsonJenkinsReader;
+
+    /**
+     * Instantiates a new Computer set deserializer.
+     *
+     * @param jsonJenkinsReader the json jenkins reader
+     */
+    ComputerSetDeserializer(@NotNull final JsonJenkinsReader jsonJenkinsReader) {
+        this.jsonJenkinsReader =
+            Preconditions.checkNotNull(jsonJenkinsReader, "JsonJenkinsReader may not be null");
+    }
+
+    @NotNull @Override public ComputerSet deserialize(@NotNull final JsonElement json,
+        final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
+        final JsonObject jsonObject = json.getAsJsonObject();
+        final Collection<ComputerInfo> computers = new ArrayList<>();
+        int busyExecutors = 0;
+        int totalExecutors = 0;
+        if (jsonObject.has("computer")) {
+            for (final JsonElement element : jsonObject.get("computer").getAsJsonArray()) {
+                final ComputerInfo computer =
+                    this.jsonJenkinsReader.getGson().fromJson(element, ComputerInfo.class);
+                if (!computer.isOffline()) {
+                    busyExecutors += computer.getBusyExecutors();
+                    totalExecutors += computer.getExecutors().size();
+                }
+                computers.add(computer);
+            }
+        }
+        if (jsonObject.has("busyExecutors")) {
+            busyExecutors = jsonObject.get("busyExecutors").getAsInt();
+        }
+        if (jsonObject.has("totalExecutors")) {
+            totalExecutors = jsonObject.get("totalExecutors").getAsInt();
+        }
+        final ComputerSet computerSet =
+            new ComputerSet(this.jsonJenkinsReader.getJenkins(), busyExecutors, totalExecutors,
+                computers);
+        computers.forEach(computer -> computer.setParent(computerSet));
+        return computerSet;
+    }
+
+}
@@ -0,0 +1,58 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import com.google.gson.*;
+import org.incendo.jenkins.objects.ExecutorInfo;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+
+/**
+ * Json deserializer for {@link ExecutorInfo}
+ * {@inheritDoc}
+ */
+final class ExecutorInfoDeserializer implements JsonDeserializer<ExecutorInfo> {
+
+    @NotNull @Override public ExecutorInfo deserialize(@NotNull final JsonElement json,
+        final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
+        final JsonObject jsonObject = json.getAsJsonObject();
+        final int number;
+        if (jsonObject.has("number")) {
+            number = jsonObject.get("number").getAsInt();
+        } else {
+            number = -1;
+        }
+        final boolean idle = jsonObject.has("idle") && jsonObject.get("idle").getAsBoolean();
+        final int progress;
+        if (jsonObject.has("progress")) {
+            progress = jsonObject.get("progress").getAsInt();
+        } else {
+            progress = -1;
+        }
+        return new ExecutorInfo(number, idle, progress);
+    }
+
+}
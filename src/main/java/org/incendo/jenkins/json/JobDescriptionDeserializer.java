@@ -25,6 +25,8 @@
 package org.incendo.jenkins.json;
 
 import com.google.gson.*;
+import org.incendo.jenkins.objects.JenkinsClass;
+import org.incendo.jenkins.objects.JobColor;
 import org.incendo.jenkins.objects.JobDescription;
 import org.jetbrains.annotations.NotNull;
 
@@ -40,11 +42,17 @@ final class JobDescriptionDeserializer implements JsonDeserializer<JobDescriptio
     public JobDescription deserialize(@NotNull final JsonElement json, final Type typeOfT,
         final JsonDeserializationContext context) throws JsonParseException {
         final JsonObject jsonObject = json.getAsJsonObject();
-        final String className = jsonObject.get("_class").getAsString();
+        final JenkinsClass jenkinsClass = JenkinsClass.of(jsonObject.get("_class").getAsString());
         final String name = jsonObject.get("name").getAsString();
         final String url = jsonObject.get("url").getAsString();
-        final String color = jsonObject.get("color").getAsString();
-        return new JobDescription(className, name, url, color);
+        final JobColor color;
+        // Folders and other non-buildable items do not have a color
+        if (jsonObject.has("color") && !jsonObject.get("color").isJsonNull()) {
+            color = JobColor.fromString(jsonObject.get("color").getAsString());
+        } else {
+            color = null;
+        }
+        return new JobDescription(jenkinsClass, name, url, color);
     }
 
 }
@@ -26,10 +26,12 @@ package org.incendo.jenkins.json;
 
 import com.google.common.base.Preconditions;
 import com.google.gson.*;
-import org.incendo.jenkins.exception.JenkinsNodeReadException;
 import org.incendo.jenkins.objects.BuildDescription;
+import org.incendo.jenkins.objects.BuildIndex;
 import org.incendo.jenkins.objects.JobInfo;
+import org.incendo.jenkins.objects.LazyBuildList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -55,69 +57,81 @@ final class JobInfoDeserializer implements JsonDeserializer<JobInfo> {
 
     @NotNull @Override public JobInfo deserialize(@NotNull final JsonElement json, final Type typeOfT,
         final JsonDeserializationContext context) throws JsonParseException {
-        final JsonObject jsonObject = json.getAsJsonObject();
+        return this.deserialize(json.getAsJsonObject(), null);
+    }
+
+    /**
+     * Deserialize a job. If an encoded build array is given, it is used instead of
+     * the "builds" member, and the builds are only decoded when they are accessed
+     *
+     * @param jsonObject    job object
+     * @param rawBuildArray encoded builds, or null to decode the "builds" member
+     * @return the job info
+     */
+    @NotNull JobInfo deserialize(@NotNull final JsonObject jsonObject,
+        @Nullable final RawBuildArray rawBuildArray) {
         final String name = jsonObject.get("name").getAsString();
         final String fullName = jsonObject.get("fullName").getAsString();
         final String displayName = jsonObject.get("displayName").getAsString();
         final String fullDisplayName = jsonObject.get("fullDisplayName").getAsString();
         final String description = jsonObject.get("description").getAsString();
         final String url = jsonObject.get("url").getAsString();
-        final Collection<BuildDescription> builds = new ArrayList<>();
-        if (jsonObject.has("builds")) {
-            final JsonArray buildArray = jsonObject.get("builds").getAsJsonArray();
-            for (final JsonElement build : buildArray) {
-                builds.add(jsonJenkinsReader.getGson().fromJson(build, BuildDescription.class));
-            }
-        }
-        final BuildDescription lastBuild;
-        if (jsonObject.has("lastBuild")) {
-            lastBuild = getActualBuildDescription(builds, jsonJenkinsReader.getGson()
-                .fromJson(jsonObject.get("lastBuild"), BuildDescription.class));
-        } else {
-            lastBuild = null;
-        }
-        final BuildDescription lastCompletedBuild;
-        if (jsonObject.has("lastCompletedBuild")) {
-            lastCompletedBuild = getActualBuildDescription(builds, jsonJenkinsReader.getGson()
-                .fromJson(jsonObject.get("lastBuild"), BuildDescription.class));
-        } else {
-            lastCompletedBuild = null;
-        }
-        final BuildDescription lastFailedBuild;
-        if (jsonObject.has("lastFailedBuild")) {
-            lastFailedBuild = getActualBuildDescription(builds, jsonJenkinsReader.getGson()
-                .fromJson(jsonObject.get("lastBuild"), BuildDescription.class));
+        final Collection<BuildDescription> builds;
+        final BuildIndex buildIndex;
+        if (rawBuildArray != null) {
+            builds = new LazyBuildList(rawBuildArray);
+            // looking permalinks up would decode the builds
+            buildIndex = BuildIndex.empty();
         } else {
-            lastFailedBuild = null;
-        }
-        final BuildDescription lastSuccessfulBuild;
-        if (jsonObject.has("lastSuccessfulBuild")) {
-            lastSuccessfulBuild = getActualBuildDescription(builds, jsonJenkinsReader.getGson()
-                .fromJson(jsonObject.get("lastBuild"), BuildDescription.class));
-        } else {
-            lastSuccessfulBuild = null;
+            final Collection<BuildDescription> decoded = new ArrayList<>();
+            if (jsonObject.has("builds")) {
+                final JsonArray buildArray = jsonObject.get("builds").getAsJsonArray();
+                for (final JsonElement build : buildArray) {
+                    decoded.add(
+                        jsonJenkinsReader.getGson().fromJson(build, BuildDescription.class));
+                }
+            }
+            builds = buildIndex = BuildIndex.of(decoded);
         }
+        final BuildDescription lastBuild = getPermalink(jsonObject, "lastBuild", buildIndex);
+        final BuildDescription lastCompletedBuild =
+            getPermalink(jsonObject, "lastCompletedBuild", buildIndex);
+        final BuildDescription lastFailedBuild =
+            getPermalink(jsonObject, "lastFailedBuild", buildIndex);
+        final BuildDescription lastSuccessfulBuild =
+            getPermalink(jsonObject, "lastSuccessfulBuild", buildIndex);
         final int nextBuildNumber = jsonObject.get("nextBuildNumber").getAsInt();
         final JobInfo jobInfo =
             new JobInfo(this.jsonJenkinsReader.getJenkins(), name, fullName, displayName,
                 fullDisplayName, description, url, builds, lastBuild, lastCompletedBuild,
                 lastFailedBuild, lastSuccessfulBuild, nextBuildNumber);
-        builds.forEach(buildDescription -> buildDescription.setParent(jobInfo));
+        buildIndex.forEach(buildDescription -> buildDescription.setParent(jobInfo));
+        // Permalinks to builds outside of the listed builds are not part of the index
+        for (final BuildDescription permalink : new BuildDescription[] {lastBuild,
+            lastCompletedBuild, lastFailedBuild, lastSuccessfulBuild}) {
+            if (permalink != null && buildIndex.get(permalink.getNumber()) != permalink) {
+                permalink.setParent(jobInfo);
+            }
+        }
         return jobInfo;
     }
 
-    private BuildDescription getActualBuildDescription(
-        @NotNull final Collection<BuildDescription> buildDescriptions,
-        @NotNull final BuildDescription query) {
-        for (final BuildDescription buildDescription : buildDescriptions) {
-            if (buildDescription.getNumber() == query.getNumber()) {
-                return buildDescription;
-            }
+    /**
+     * Get the build description a permalink points to. The instance from the build
+     * index is used when possible, so that permalinks and listed builds are shared
+     */
+    @Nullable private BuildDescription getPermalink(@NotNull final JsonObject jsonObject,
+        @NotNull final String permalink, @NotNull final BuildIndex buildIndex) {
+        if (!jsonObject.has(permalink) || jsonObject.get(permalink).isJsonNull()) {
+            return null;
         }
-        throw new JenkinsNodeReadException(
-            String.format("Could not find build description with number %d", query.getNumber()),
-            new RuntimeException());
+        final JsonObject permalinkObject = jsonObject.get(permalink).getAsJsonObject();
+        final BuildDescription indexed =
+            buildIndex.get(permalinkObject.get("number").getAsInt());
+        if (indexed != null) {
+            return indexed;
+        }
+        return jsonJenkinsReader.getGson().fromJson(permalinkObject, BuildDescription.class);
     }
 
-
 }
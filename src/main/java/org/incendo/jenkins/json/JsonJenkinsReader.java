@@ -27,6 +27,10 @@ package org.incendo.jenkins.json;
 import com.google.common.base.Preconditions;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import org.incendo.jenkins.Jenkins;
 import org.incendo.jenkins.JenkinsAPIType;
 import org.incendo.jenkins.JenkinsPathProvider;
@@ -34,6 +38,14 @@ import org.incendo.jenkins.JenkinsReader;
 import org.incendo.jenkins.exception.JenkinsNodeReadException;
 import org.incendo.jenkins.objects.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 
 /**
@@ -44,6 +56,7 @@ public final class JsonJenkinsReader extends JenkinsReader {
 
     private final Jenkins jenkins;
     private final Gson gson;
+    private final JobInfoDeserializer jobInfoDeserializer;
 
     /**
      * Instantiates a new Json jenkins reader.
@@ -55,13 +68,17 @@ public final class JsonJenkinsReader extends JenkinsReader {
         @NotNull JenkinsPathProvider jenkinsPathProvider) {
         super(jenkins, jenkinsPathProvider, JenkinsAPIType.JSON);
         this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        this.jobInfoDeserializer = new JobInfoDeserializer(this);
         this.gson = new GsonBuilder()
             .registerTypeAdapter(JobDescription.class, new JobDescriptionDeserializer())
             .registerTypeAdapter(MasterNode.class, new MasterNodeDeserializer(this))
             .registerTypeAdapter(BuildDescription.class, new BuildDescriptionDeserializer())
-            .registerTypeAdapter(JobInfo.class, new JobInfoDeserializer(this))
+            .registerTypeAdapter(JobInfo.class, this.jobInfoDeserializer)
             .registerTypeAdapter(ArtifactDescription.class, new ArtifactDescriptionDeserializer())
-            .registerTypeAdapter(BuildInfo.class, new BuildInfoDeserializer(this)).create();
+            .registerTypeAdapter(BuildInfo.class, new BuildInfoDeserializer(this))
+            .registerTypeAdapter(ExecutorInfo.class, new ExecutorInfoDeserializer())
+            .registerTypeAdapter(ComputerInfo.class, new ComputerInfoDeserializer(this))
+            .registerTypeAdapter(ComputerSet.class, new ComputerSetDeserializer(this)).create();
     }
 
     @Override protected MasterNode readMasterView(@NotNull final String rawContent)
@@ -72,6 +89,19 @@ public final class JsonJenkinsReader extends JenkinsReader {
     @Override
     protected JobInfo readJobInfo(@NotNull final String jobName, final @NotNull String rawContent)
         throws JenkinsNodeReadException {
+        if (this.jenkins.isLazyBuildDecoding()) {
+            final int[] builds = JsonSlices.findMember(rawContent, "builds");
+            if (builds != null && rawContent.charAt(builds[0]) == '[') {
+                // Keep the encoded builds, and parse the rest of the job
+                final byte[] encodedBuilds =
+                    rawContent.substring(builds[0], builds[1]).getBytes(StandardCharsets.UTF_8);
+                final String remainder =
+                    rawContent.substring(0, builds[0]) + "[]" + rawContent.substring(builds[1]);
+                return this.jobInfoDeserializer.deserialize(
+                    this.gson.fromJson(remainder, JsonObject.class),
+                    new RawBuildArray(this.gson, encodedBuilds));
+            }
+        }
         return gson.fromJson(rawContent, JobInfo.class);
     }
 
@@ -80,6 +110,156 @@ public final class JsonJenkinsReader extends JenkinsReader {
         return gson.fromJson(rawContent, BuildInfo.class);
     }
 
+    @Override protected List<BuildDescription> readBuildPage(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        final JsonObject jsonObject = gson.fromJson(rawContent, JsonObject.class);
+        if (!jsonObject.has("allBuilds") || jsonObject.get("allBuilds").isJsonNull()) {
+            return Collections.emptyList();
+        }
+        final JsonArray buildArray = jsonObject.get("allBuilds").getAsJsonArray();
+        final List<BuildDescription> builds = new ArrayList<>(buildArray.size());
+        for (final JsonElement build : buildArray) {
+            builds.add(gson.fromJson(build, BuildDescription.class));
+        }
+        return builds;
+    }
+
+    @Override protected List<BuildInfo> readBuildInfoPage(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        final JsonObject jsonObject = gson.fromJson(rawContent, JsonObject.class);
+        if (!jsonObject.has("allBuilds") || jsonObject.get("allBuilds").isJsonNull()) {
+            return Collections.emptyList();
+        }
+        final JsonArray buildArray = jsonObject.get("allBuilds").getAsJsonArray();
+        final List<BuildInfo> builds = new ArrayList<>(buildArray.size());
+        for (final JsonElement build : buildArray) {
+            builds.add(gson.fromJson(build, BuildInfo.class));
+        }
+        return builds;
+    }
+
+    @Override protected BuildTimeSeries readBuildTimeSeries(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        final JsonObject jsonObject = gson.fromJson(rawContent, JsonObject.class);
+        if (!jsonObject.has("allBuilds") || jsonObject.get("allBuilds").isJsonNull()) {
+            return new BuildTimeSeries(0);
+        }
+        final JsonArray buildArray = jsonObject.get("allBuilds").getAsJsonArray();
+        final BuildTimeSeries buildTimeSeries = new BuildTimeSeries(buildArray.size());
+        for (final JsonElement element : buildArray) {
+            final JsonObject build = element.getAsJsonObject();
+            final boolean building = build.has("building") && build.get("building").getAsBoolean();
+            final JsonElement result = build.get("result");
+            buildTimeSeries.add(build.get("number").getAsInt(), build.get("timestamp").getAsLong(),
+                build.get("duration").getAsLong(), building || result == null || result.isJsonNull()
+                    ? null : BuildResult.fromString(result.getAsString()));
+        }
+        return buildTimeSeries;
+    }
+
+    @Override protected JobDependencies readJobDependencies(@NotNull final String jobName,
+        @NotNull final String rawContent) throws JenkinsNodeReadException {
+        final JsonObject jsonObject = gson.fromJson(rawContent, JsonObject.class);
+        return new JobDependencies(jobName, readNames(jsonObject, "upstreamProjects"),
+            readNames(jsonObject, "downstreamProjects"));
+    }
+
+    @NotNull private static List<String> readNames(@NotNull final JsonObject jsonObject,
+        @NotNull final String member) {
+        if (!jsonObject.has(member) || jsonObject.get(member).isJsonNull()) {
+            return Collections.emptyList();
+        }
+        final JsonArray array = jsonObject.get(member).getAsJsonArray();
+        final List<String> names = new ArrayList<>(array.size());
+        for (final JsonElement element : array) {
+            names.add(element.getAsJsonObject().get("name").getAsString());
+        }
+        return names;
+    }
+
+    @Override protected ArtifactIndex readArtifactIndex(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        final JsonObject jsonObject = gson.fromJson(rawContent, JsonObject.class);
+        final ArtifactIndex artifactIndex = new ArtifactIndex();
+        if (!jsonObject.has("allBuilds") || jsonObject.get("allBuilds").isJsonNull()) {
+            return artifactIndex;
+        }
+        for (final JsonElement element : jsonObject.get("allBuilds").getAsJsonArray()) {
+            final JsonObject build = element.getAsJsonObject();
+            final int number = build.get("number").getAsInt();
+            if (build.has("building") && build.get("building").getAsBoolean()) {
+                artifactIndex.addRunning(number);
+                continue;
+            }
+            final List<String> fileNames = new ArrayList<>();
+            if (build.has("artifacts") && !build.get("artifacts").isJsonNull()) {
+                for (final JsonElement artifact : build.get("artifacts").getAsJsonArray()) {
+                    fileNames.add(artifact.getAsJsonObject().get("fileName").getAsString());
+                }
+            }
+            artifactIndex.add(number, fileNames);
+        }
+        return artifactIndex;
+    }
+
+    @Override protected TestTrend readTestTrend(@NotNull final String jobName, final int from,
+        final int to, @NotNull final String rawContent) throws JenkinsNodeReadException {
+        final JsonObject jsonObject = gson.fromJson(rawContent, JsonObject.class);
+        if (!jsonObject.has("allBuilds") || jsonObject.get("allBuilds").isJsonNull()) {
+            return new TestTrend.Builder(0).build();
+        }
+        final JsonArray buildArray = jsonObject.get("allBuilds").getAsJsonArray();
+        final TestTrend.Builder builder = new TestTrend.Builder(buildArray.size());
+        for (final JsonElement element : buildArray) {
+            final JsonObject build = element.getAsJsonObject();
+            JsonObject testResult = null;
+            if (build.has("actions") && build.get("actions").isJsonArray()) {
+                for (final JsonElement action : build.getAsJsonArray("actions")) {
+                    if (action.isJsonObject() && action.getAsJsonObject().has("totalCount")) {
+                        testResult = action.getAsJsonObject();
+                        break;
+                    }
+                }
+            }
+            builder.add(build.get("number").getAsInt(), build.get("timestamp").getAsLong(),
+                build.get("duration").getAsLong(),
+                testResult == null ? -1 : testResult.get("totalCount").getAsInt(),
+                testResult == null ? 0 : testResult.get("failCount").getAsInt(),
+                testResult == null ? 0 : testResult.get("skipCount").getAsInt(),
+                build.has("building") && build.get("building").getAsBoolean());
+        }
+        return builder.build();
+    }
+
+    @Override protected PipelineRun readPipelineRun(@NotNull final String jobName,
+        final int build, @NotNull final String rawContent) throws JenkinsNodeReadException {
+        return PipelineRunReader.read(build, rawContent);
+    }
+
+    @Override protected TestReport readTestReport(@NotNull final String jobName,
+        final int build, @NotNull final Reader reader, final boolean failuresOnly,
+        @NotNull final TestReportListener listener) throws JenkinsNodeReadException, IOException {
+        return new TestReportReader(failuresOnly, listener).read(new JsonReader(reader));
+    }
+
+    @Override protected int readLastBuildNumber(@NotNull final String jobName,
+        @NotNull final String rawContent) throws JenkinsNodeReadException {
+        final JsonObject jsonObject = gson.fromJson(rawContent, JsonObject.class);
+        if (!jsonObject.has("lastBuild") || jsonObject.get("lastBuild").isJsonNull()) {
+            return -1;
+        }
+        return jsonObject.get("lastBuild").getAsJsonObject().get("number").getAsInt();
+    }
+
+    @Override protected ComputerSet readComputerSet(@Nullable final String tree,
+        @NotNull final String rawContent) throws JenkinsNodeReadException {
+        return gson.fromJson(rawContent, ComputerSet.class);
+    }
+
     /**
      * Gets gson.
      *
@@ -0,0 +1,207 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Structural JSON scanner that locates values without parsing them. Only brackets,
+ * braces, commas and strings are tracked, which makes scanning much cheaper than
+ * building a tree. The input is assumed to be valid JSON
+ * <p>
+ * The scanner works on both {@link String strings} and UTF-8 encoded bytes, as
+ * multi-byte UTF-8 sequences never contain structural ASCII characters
+ */
+final class JsonSlices {
+
+    private JsonSlices() {
+    }
+
+    /**
+     * Find the value of a member of the root object
+     *
+     * @param json json object
+     * @param key  member name
+     * @return {start, end} of the member value, or null if there is no such member
+     */
+    @Nullable static int[] findMember(@NotNull final String json, @NotNull final String key) {
+        int depth = 0;
+        int position = 0;
+        final int length = json.length();
+        while (position < length) {
+            final char character = json.charAt(position);
+            if (character == '"') {
+                final int end = skipString(json, position);
+                if (depth == 1 && isKey(json, end) && end - position - 2 == key.length() && json
+                    .regionMatches(position + 1, key, 0, key.length())) {
+                    int start = json.indexOf(':', end) + 1;
+                    while (Character.isWhitespace(json.charAt(start))) {
+                        start++;
+                    }
+                    return new int[] {start, skipValue(json, start)};
+                }
+                position = end;
+                continue;
+            } else if (character == '{' || character == '[') {
+                depth++;
+            } else if (character == '}' || character == ']') {
+                depth--;
+            }
+            position++;
+        }
+        return null;
+    }
+
+    /**
+     * Find the elements of an encoded JSON array
+     *
+     * @param array UTF-8 encoded json array
+     * @return {start, end} pairs for every element, flattened into a single array
+     */
+    @NotNull static int[] findElements(@NotNull final byte[] array) {
+        int[] bounds = new int[16];
+        int count = 0;
+        int depth = 0;
+        int elementStart = -1;
+        for (int position = 0; position < array.length; position++) {
+            final byte character = array[position];
+            if (character == '"') {
+                if (depth == 1 && elementStart == -1) {
+                    elementStart = position;
+                }
+                position = skipString(array, position) - 1;
+            } else if (character == '{' || character == '[') {
+                if (depth == 1 && elementStart == -1) {
+                    elementStart = position;
+                }
+                depth++;
+            } else if (character == '}' || character == ']') {
+                depth--;
+                if (depth == 0 && elementStart != -1) {
+                    bounds = append(bounds, count, elementStart, trimEnd(array, position));
+                    count += 2;
+                    elementStart = -1;
+                }
+            } else if (character == ',' && depth == 1) {
+                bounds = append(bounds, count, elementStart, trimEnd(array, position));
+                count += 2;
+                elementStart = -1;
+            } else if (depth == 1 && elementStart == -1 && character > ' ') {
+                // primitive element
+                elementStart = position;
+            }
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private static int[] append(final int[] bounds, final int count, final int start,
+        final int end) {
+        final int[] target =
+            count + 2 > bounds.length ? Arrays.copyOf(bounds, bounds.length * 2) : bounds;
+        target[count] = start;
+        target[count + 1] = end;
+        return target;
+    }
+
+    private static int trimEnd(final byte[] array, int end) {
+        while (end > 0 && array[end - 1] <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isKey(final String json, int position) {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+        return position < json.length() && json.charAt(position) == ':';
+    }
+
+    /**
+     * Get the position after the closing quote of the string starting at the given position
+     */
+    private static int skipString(final String json, final int start) {
+        int position = start + 1;
+        while (true) {
+            final char character = json.charAt(position);
+            if (character == '\\') {
+                position += 2;
+            } else if (character == '"') {
+                return position + 1;
+            } else {
+                position++;
+            }
+        }
+    }
+
+    private static int skipString(final byte[] json, final int start) {
+        int position = start + 1;
+        while (true) {
+            final byte character = json[position];
+            if (character == '\\') {
+                position += 2;
+            } else if (character == '"') {
+                return position + 1;
+            } else {
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Get the position after the value starting at the given position
+     */
+    private static int skipValue(final String json, final int start) {
+        int depth = 0;
+        int position = start;
+        while (position < json.length()) {
+            final char character = json.charAt(position);
+            if (character == '"') {
+                position = skipString(json, position);
+                if (depth == 0) {
+                    return position;
+                }
+                continue;
+            } else if (character == '{' || character == '[') {
+                depth++;
+            } else if (character == '}' || character == ']') {
+                if (depth == 0) {
+                    return position;
+                }
+                if (--depth == 0) {
+                    return position + 1;
+                }
+            } else if (depth == 0 && (character == ',' || Character.isWhitespace(character))) {
+                return position;
+            }
+            position++;
+        }
+        return position;
+    }
+
+}
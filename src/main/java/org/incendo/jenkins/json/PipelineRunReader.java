@@ -0,0 +1,80 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.incendo.jenkins.objects.PipelineRun;
+import org.incendo.jenkins.objects.PipelineStage;
+import org.incendo.jenkins.objects.PipelineStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reader for the responses of the pipeline stage view API ({@code wfapi/describe}).
+ * The stage view API only serves JSON, so the XML reader uses this reader as well
+ */
+public final class PipelineRunReader {
+
+    private PipelineRunReader() {
+    }
+
+    /**
+     * Read a pipeline run
+     *
+     * @param build      the build number
+     * @param rawContent the raw content
+     * @return the pipeline run
+     */
+    @NotNull public static PipelineRun read(final int build, @NotNull final String rawContent) {
+        final JsonObject run = new JsonParser().parse(rawContent).getAsJsonObject();
+        final List<PipelineStage> stages = new ArrayList<>();
+        if (run.has("stages") && !run.get("stages").isJsonNull()) {
+            for (final JsonElement element : run.get("stages").getAsJsonArray()) {
+                final JsonObject stage = element.getAsJsonObject();
+                stages.add(new PipelineStage(stage.get("id").getAsString(),
+                    stage.get("name").getAsString(),
+                    PipelineStatus.fromString(stage.get("status").getAsString()),
+                    longValue(stage, "startTimeMillis"), longValue(stage, "durationMillis"),
+                    longValue(stage, "pauseDurationMillis")));
+            }
+        }
+        return new PipelineRun(build, run.get("name").getAsString(),
+            PipelineStatus.fromString(run.get("status").getAsString()),
+            longValue(run, "startTimeMillis"), longValue(run, "durationMillis"),
+            longValue(run, "queueDurationMillis"), longValue(run, "pauseDurationMillis"),
+            stages);
+    }
+
+    private static long longValue(@NotNull final JsonObject jsonObject,
+        @NotNull final String member) {
+        final JsonElement element = jsonObject.get(member);
+        return element == null || element.isJsonNull() ? 0L : element.getAsLong();
+    }
+
+}
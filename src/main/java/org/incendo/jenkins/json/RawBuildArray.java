@@ -0,0 +1,83 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import org.incendo.jenkins.objects.BuildDescription;
+import org.incendo.jenkins.objects.LazyBuildList;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decoder for a UTF-8 encoded JSON array of builds. Element boundaries are found
+ * the first time they are needed, and every element is parsed separately when
+ * it is decoded
+ * {@inheritDoc}
+ */
+final class RawBuildArray implements LazyBuildList.Decoder {
+
+    private final Gson gson;
+    private final byte[] bytes;
+
+    private volatile int[] bounds;
+
+    /**
+     * Instantiates a new Raw build array.
+     *
+     * @param gson  gson instance used to decode builds
+     * @param bytes UTF-8 encoded json array
+     */
+    RawBuildArray(@NotNull final Gson gson, @NotNull final byte[] bytes) {
+        this.gson = Preconditions.checkNotNull(gson, "Gson may not be null");
+        this.bytes = Preconditions.checkNotNull(bytes, "Bytes may not be null");
+    }
+
+    @Override public int size() {
+        return this.getBounds().length / 2;
+    }
+
+    @NotNull @Override public BuildDescription decode(final int index) {
+        final int[] bounds = this.getBounds();
+        final int start = bounds[index * 2];
+        final int length = bounds[index * 2 + 1] - start;
+        final JsonReader reader = new JsonReader(new InputStreamReader(
+            new ByteArrayInputStream(this.bytes, start, length), StandardCharsets.UTF_8));
+        return this.gson.fromJson(reader, BuildDescription.class);
+    }
+
+    private int[] getBounds() {
+        int[] bounds = this.bounds;
+        if (bounds == null) {
+            bounds = this.bounds = JsonSlices.findElements(this.bytes);
+        }
+        return bounds;
+    }
+
+}
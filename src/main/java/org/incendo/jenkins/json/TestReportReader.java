@@ -0,0 +1,210 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.json;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.incendo.jenkins.objects.TestCase;
+import org.incendo.jenkins.objects.TestReport;
+import org.incendo.jenkins.objects.TestReportListener;
+import org.incendo.jenkins.objects.TestStatus;
+import org.incendo.jenkins.objects.TestSuite;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Streaming reader for test reports. Unlike the deserializers, which work on a
+ * parsed tree, this reads tokens directly from the response, and passes every case
+ * to a {@link TestReportListener} as soon as it has been read. The memory that is
+ * used does not depend on the size of the report
+ */
+final class TestReportReader {
+
+    private final boolean failuresOnly;
+    private final TestReportListener listener;
+
+    /**
+     * Instantiates a new Test report reader.
+     *
+     * @param failuresOnly whether only failed cases should be passed to the listener
+     * @param listener     receives the suites and cases
+     */
+    TestReportReader(final boolean failuresOnly, @NotNull final TestReportListener listener) {
+        this.failuresOnly = failuresOnly;
+        this.listener = Preconditions.checkNotNull(listener, "Listener may not be null");
+    }
+
+    /**
+     * Read a test report
+     *
+     * @param reader reader, positioned before the report object
+     * @return the report totals
+     * @throws IOException if the report could not be read
+     */
+    @NotNull TestReport read(@NotNull final JsonReader reader) throws IOException {
+        long duration = 0L;
+        int passCount = 0;
+        int failCount = 0;
+        int skipCount = 0;
+        int suiteCount = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "duration":
+                    duration = millis(reader.nextDouble());
+                    break;
+                case "passCount":
+                    passCount = reader.nextInt();
+                    break;
+                case "failCount":
+                    failCount = reader.nextInt();
+                    break;
+                case "skipCount":
+                    skipCount = reader.nextInt();
+                    break;
+                case "suites":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        this.readSuite(reader);
+                        suiteCount++;
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new TestReport(duration, passCount, failCount, skipCount, suiteCount);
+    }
+
+    private void readSuite(@NotNull final JsonReader reader) throws IOException {
+        String name = "";
+        long duration = 0L;
+        int caseCount = 0;
+        int failCount = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = nullableString(reader);
+                    break;
+                case "duration":
+                    duration = millis(reader.nextDouble());
+                    break;
+                case "cases":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        final TestCase testCase = readCase(reader);
+                        caseCount++;
+                        if (testCase.getStatus().isFailure()) {
+                            failCount++;
+                        } else if (this.failuresOnly) {
+                            continue;
+                        }
+                        this.listener.onCase(testCase);
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        this.listener.onSuite(new TestSuite(name == null ? "" : name, duration, caseCount,
+            failCount));
+    }
+
+    @NotNull private static TestCase readCase(@NotNull final JsonReader reader)
+        throws IOException {
+        String className = null;
+        String name = null;
+        TestStatus status = null;
+        long duration = 0L;
+        int age = 0;
+        int failedSince = 0;
+        String errorDetails = null;
+        String errorStackTrace = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "className":
+                    className = nullableString(reader);
+                    break;
+                case "name":
+                    name = nullableString(reader);
+                    break;
+                case "status":
+                    status = TestStatus.fromString(nullableString(reader));
+                    break;
+                case "duration":
+                    duration = millis(reader.nextDouble());
+                    break;
+                case "age":
+                    age = reader.nextInt();
+                    break;
+                case "failedSince":
+                    failedSince = reader.nextInt();
+                    break;
+                case "errorDetails":
+                    errorDetails = nullableString(reader);
+                    break;
+                case "errorStackTrace":
+                    errorStackTrace = nullableString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (className == null || name == null || status == null) {
+            throw new JsonParseException(
+                String.format("Incomplete test case: %s.%s (%s)", className, name, status));
+        }
+        return new TestCase(className, name, status, duration, age, failedSince, errorDetails,
+            errorStackTrace);
+    }
+
+    @Nullable private static String nullableString(@NotNull final JsonReader reader)
+        throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    /**
+     * Jenkins reports test durations in seconds
+     */
+    private static long millis(final double seconds) {
+        return Math.round(seconds * 1000D);
+    }
+
+}
@@ -0,0 +1,59 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+/**
+ * Jenkins API endpoints that are read by Jenkins4J
+ */
+public enum Endpoint {
+    /**
+     * The master node (job list)
+     */
+    MASTER_NODE,
+    /**
+     * A job, or a tree projection of a job
+     */
+    JOB,
+    /**
+     * A single build
+     */
+    BUILD,
+    /**
+     * A window of the build history of a job
+     */
+    BUILD_PAGE,
+    /**
+     * The computer set
+     */
+    COMPUTER_SET,
+    /**
+     * The test report of a build
+     */
+    TEST_REPORT,
+    /**
+     * The pipeline stage timings of a build ({@code wfapi})
+     */
+    PIPELINE_RUN
+}
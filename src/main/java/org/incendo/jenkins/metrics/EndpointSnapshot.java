@@ -0,0 +1,144 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Snapshot of the metrics recorded for an {@link Endpoint} by
+ * a {@link HistogramMetricsRecorder}. Times are in nanoseconds
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class EndpointSnapshot {
+
+    private final Endpoint endpoint;
+    private final HistogramSnapshot queue;
+    private final HistogramSnapshot network;
+    private final HistogramSnapshot responseBytes;
+    private final HistogramSnapshot parse;
+    private final HistogramSnapshot[] phases;
+    private final long[] outcomes;
+
+    EndpointSnapshot(@NotNull final Endpoint endpoint, @NotNull final HistogramSnapshot queue,
+        @NotNull final HistogramSnapshot network, @NotNull final HistogramSnapshot responseBytes,
+        @NotNull final HistogramSnapshot parse, @NotNull final HistogramSnapshot[] phases,
+        @NotNull final long[] outcomes) {
+        this.endpoint = endpoint;
+        this.queue = queue;
+        this.network = network;
+        this.responseBytes = responseBytes;
+        this.parse = parse;
+        this.phases = phases;
+        this.outcomes = outcomes;
+    }
+
+    /**
+     * Gets endpoint.
+     *
+     * @return the endpoint
+     */
+    @NotNull public Endpoint getEndpoint() {
+        return this.endpoint;
+    }
+
+    /**
+     * Get the time that requests waited before they were started
+     *
+     * @return queue wait histogram
+     */
+    @NotNull public HistogramSnapshot getQueue() {
+        return this.queue;
+    }
+
+    /**
+     * Get the time spent sending requests and reading response bodies
+     *
+     * @return network time histogram
+     */
+    @NotNull public HistogramSnapshot getNetwork() {
+        return this.network;
+    }
+
+    /**
+     * Get the response body sizes, in bytes
+     *
+     * @return response size histogram
+     */
+    @NotNull public HistogramSnapshot getResponseBytes() {
+        return this.responseBytes;
+    }
+
+    /**
+     * Get the time spent parsing response bodies
+     *
+     * @return parse time histogram
+     */
+    @NotNull public HistogramSnapshot getParse() {
+        return this.parse;
+    }
+
+    /**
+     * Get the time spent in a network phase. Only traced requests are included,
+     * see {@link org.incendo.jenkins.JenkinsBuilder#withRequestTracing(boolean)}
+     *
+     * @param phase phase
+     * @return phase time histogram
+     */
+    @NotNull public HistogramSnapshot getPhase(@NotNull final Phase phase) {
+        Preconditions.checkNotNull(phase, "Phase may not be null");
+        return this.phases[phase.ordinal()];
+    }
+
+    /**
+     * Get the number of requests with an outcome
+     *
+     * @param outcome outcome
+     * @return request count
+     */
+    public long getCount(@NotNull final Outcome outcome) {
+        Preconditions.checkNotNull(outcome, "Outcome may not be null");
+        return this.outcomes[outcome.ordinal()];
+    }
+
+    /**
+     * Get the total number of requests
+     *
+     * @return request count
+     */
+    public long getCount() {
+        long count = 0;
+        for (final long outcomeCount : this.outcomes) {
+            count += outcomeCount;
+        }
+        return count;
+    }
+
+    @NotNull @Override public String toString() {
+        return "EndpointSnapshot{" + "endpoint=" + endpoint + ", requests=" + getCount()
+            + ", queue=" + queue + ", network=" + network + ", responseBytes=" + responseBytes
+            + ", parse=" + parse + '}';
+    }
+
+}
@@ -0,0 +1,208 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emits JDK Flight Recorder events for requests, parsing, cache accesses and
+ * crawl steps. The events are defined in a separate class that is loaded
+ * reflectively, so that the client still works on Java 8 runtimes without
+ * {@code jdk.jfr}
+ * <p>
+ * The {@code begin} methods return null unless the event is enabled in a
+ * running recording, so callers only pay for a null check when nothing is
+ * being recorded
+ * <p>
+ * This is used internally by Jenkins4J, and should not need to be called
+ * directly
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class FlightRecorderEvents {
+
+    private static final Sink SINK = loadSink();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Check whether flight recorder events are supported by the runtime
+     *
+     * @return true if events are emitted when recording
+     */
+    public static boolean isAvailable() {
+        return SINK != NoopSink.INSTANCE;
+    }
+
+    /**
+     * Start timing a request
+     *
+     * @return the event, or null if request events are not recorded
+     */
+    @Nullable public static RequestEvent beginRequest() {
+        return SINK.beginRequest();
+    }
+
+    /**
+     * Start timing the parsing of a response
+     *
+     * @return the event, or null if parse events are not recorded
+     */
+    @Nullable public static ParseEvent beginParse() {
+        return SINK.beginParse();
+    }
+
+    /**
+     * Start timing a crawl step, such as reading a page of the build history
+     *
+     * @return the event, or null if crawl step events are not recorded
+     */
+    @Nullable public static CrawlStepEvent beginCrawlStep() {
+        return SINK.beginCrawlStep();
+    }
+
+    /**
+     * Record a cache access
+     *
+     * @param cache   name of the cache
+     * @param jobName the job name, or null if unknown
+     * @param build   the build number, or -1 if unknown
+     * @param hit     whether or not the entry was cached
+     */
+    public static void cacheAccess(@NotNull final String cache, @Nullable final String jobName,
+        final int build, final boolean hit) {
+        SINK.cacheAccess(cache, jobName, build, hit);
+    }
+
+    @NotNull private static Sink loadSink() {
+        try {
+            final Class<?> sinkClass =
+                Class.forName("org.incendo.jenkins.metrics.JfrEventSink", true,
+                    FlightRecorderEvents.class.getClassLoader());
+            return (Sink) sinkClass.getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError exception) {
+            // jdk.jfr is not available in this runtime
+            return NoopSink.INSTANCE;
+        }
+    }
+
+    /**
+     * Started request event
+     */
+    public interface RequestEvent {
+
+        /**
+         * End the request and commit the event
+         *
+         * @param endpoint      the endpoint that was read
+         * @param url           the requested url
+         * @param jobName       the job name, or null if the endpoint is not job specific
+         * @param build         the build number, or -1 if the endpoint is not build specific
+         * @param responseBytes size of the response body
+         * @param outcome       the outcome of the request
+         */
+        void commit(@NotNull Endpoint endpoint, @NotNull String url, @Nullable String jobName,
+            int build, long responseBytes, @NotNull Outcome outcome);
+
+    }
+
+
+    /**
+     * Started parse event
+     */
+    public interface ParseEvent {
+
+        /**
+         * End the parsing and commit the event
+         *
+         * @param endpoint the endpoint that was read
+         * @param jobName  the job name, or null if the endpoint is not job specific
+         * @param build    the build number, or -1 if the endpoint is not build specific
+         * @param bytes    size of the parsed content
+         * @param success  whether or not the content could be parsed
+         */
+        void commit(@NotNull Endpoint endpoint, @Nullable String jobName, int build, long bytes,
+            boolean success);
+
+    }
+
+
+    /**
+     * Started crawl step event
+     */
+    public interface CrawlStepEvent {
+
+        /**
+         * End the step and commit the event
+         *
+         * @param jobName the job name
+         * @param step    description of the step
+         * @param from    index of the first build in the step
+         * @param builds  number of builds read in the step
+         */
+        void commit(@NotNull String jobName, @NotNull String step, int from, int builds);
+
+    }
+
+
+    /**
+     * Event implementation
+     */
+    interface Sink {
+
+        @Nullable RequestEvent beginRequest();
+
+        @Nullable ParseEvent beginParse();
+
+        @Nullable CrawlStepEvent beginCrawlStep();
+
+        void cacheAccess(@NotNull String cache, @Nullable String jobName, int build, boolean hit);
+
+    }
+
+
+    private static final class NoopSink implements Sink {
+
+        private static final NoopSink INSTANCE = new NoopSink();
+
+        @Nullable @Override public RequestEvent beginRequest() {
+            return null;
+        }
+
+        @Nullable @Override public ParseEvent beginParse() {
+            return null;
+        }
+
+        @Nullable @Override public CrawlStepEvent beginCrawlStep() {
+            return null;
+        }
+
+        @Override public void cacheAccess(@NotNull final String cache,
+            @Nullable final String jobName, final int build, final boolean hit) {
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of non-negative values with log-linear buckets, in the style
+ * of HdrHistogram. Every power of two is split into {@link #SUB_BUCKETS} linear
+ * buckets, which bounds the relative error of reported values to roughly 3%
+ * <p>
+ * Recording a value does not allocate, and only touches the counter of a single
+ * bucket and a few striped adders, so concurrent recording has low contention
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * Number of linear buckets in every power of two
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Record a value. Negative values are recorded as 0
+     *
+     * @param value value
+     */
+    public void record(final long value) {
+        final long clamped = Math.max(0L, value);
+        this.counts.incrementAndGet(bucketIndex(clamped));
+        this.count.increment();
+        this.sum.add(clamped);
+        this.max.accumulate(clamped);
+    }
+
+    /**
+     * Get the number of recorded values
+     *
+     * @return value count
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Take a snapshot of the histogram. Values that are recorded while the
+     * snapshot is taken may or may not be included
+     *
+     * @return snapshot
+     */
+    @NotNull public HistogramSnapshot snapshot() {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            snapshot[index] = this.counts.get(index);
+        }
+        return new HistogramSnapshot(snapshot, this.sum.sum(), this.max.get());
+    }
+
+    /**
+     * Get the bucket that a value is counted in
+     *
+     * @param value non-negative value
+     * @return bucket index
+     */
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        // the SUB_BUCKET_BITS bits after the leading one select the linear bucket
+        final int subBucket = (int) (value >>> exponent) - SUB_BUCKETS;
+        return (exponent + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the highest value that is counted in a bucket
+     *
+     * @param index bucket index
+     * @return highest value
+     */
+    static long highestValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKETS - 1;
+        final long subBucket = SUB_BUCKETS + index % SUB_BUCKETS;
+        return ((subBucket + 1) << exponent) - 1;
+    }
+
+}
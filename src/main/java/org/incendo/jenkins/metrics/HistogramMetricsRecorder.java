@@ -0,0 +1,127 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MetricsRecorder} that keeps a {@link Histogram} per endpoint for the
+ * queue wait, network time, response size and parse time, and a counter per
+ * outcome. When request tracing is enabled, the network {@link Phase phases} are
+ * recorded as well. Recording does not allocate
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class HistogramMetricsRecorder
+    implements MetricsRecorder {
+
+    private final EndpointMetrics[] endpointMetrics =
+        new EndpointMetrics[Endpoint.values().length];
+
+    /**
+     * Instantiates a new Histogram metrics recorder.
+     */
+    public HistogramMetricsRecorder() {
+        for (int index = 0; index < this.endpointMetrics.length; index++) {
+            this.endpointMetrics[index] = new EndpointMetrics();
+        }
+    }
+
+    @Override public void record(@NotNull final Endpoint endpoint, final long queueNanos,
+        final long networkNanos, final long responseBytes, final long parseNanos,
+        @NotNull final Outcome outcome) {
+        final EndpointMetrics metrics = this.endpointMetrics[endpoint.ordinal()];
+        metrics.queue.record(queueNanos);
+        metrics.network.record(networkNanos);
+        metrics.responseBytes.record(responseBytes);
+        metrics.parse.record(parseNanos);
+        metrics.outcomes[outcome.ordinal()].increment();
+    }
+
+    @Override public void recordTrace(@NotNull final RequestTrace requestTrace) {
+        final EndpointMetrics metrics = this.endpointMetrics[requestTrace.getEndpoint().ordinal()];
+        for (final Phase phase : Phase.values()) {
+            metrics.phases[phase.ordinal()].record(requestTrace.getPhaseNanos(phase));
+        }
+    }
+
+    /**
+     * Take a snapshot of the metrics of an endpoint
+     *
+     * @param endpoint endpoint
+     * @return snapshot
+     */
+    @NotNull public EndpointSnapshot getSnapshot(@NotNull final Endpoint endpoint) {
+        Preconditions.checkNotNull(endpoint, "Endpoint may not be null");
+        final EndpointMetrics metrics = this.endpointMetrics[endpoint.ordinal()];
+        final long[] outcomes = new long[Outcome.values().length];
+        for (int index = 0; index < outcomes.length; index++) {
+            outcomes[index] = metrics.outcomes[index].sum();
+        }
+        final HistogramSnapshot[] phases = new HistogramSnapshot[metrics.phases.length];
+        for (int index = 0; index < phases.length; index++) {
+            phases[index] = metrics.phases[index].snapshot();
+        }
+        return new EndpointSnapshot(endpoint, metrics.queue.snapshot(), metrics.network.snapshot(),
+            metrics.responseBytes.snapshot(), metrics.parse.snapshot(), phases, outcomes);
+    }
+
+    /**
+     * Take a snapshot of the metrics of all endpoints
+     *
+     * @return snapshots, by endpoint
+     */
+    @NotNull public Map<Endpoint, EndpointSnapshot> getSnapshots() {
+        final Map<Endpoint, EndpointSnapshot> snapshots = new EnumMap<>(Endpoint.class);
+        for (final Endpoint endpoint : Endpoint.values()) {
+            snapshots.put(endpoint, this.getSnapshot(endpoint));
+        }
+        return snapshots;
+    }
+
+    private static final class EndpointMetrics {
+
+        private final Histogram queue = new Histogram();
+        private final Histogram network = new Histogram();
+        private final Histogram responseBytes = new Histogram();
+        private final Histogram parse = new Histogram();
+        private final Histogram[] phases = new Histogram[Phase.values().length];
+        private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+
+        private EndpointMetrics() {
+            for (int index = 0; index < this.phases.length; index++) {
+                this.phases[index] = new Histogram();
+            }
+            for (int index = 0; index < this.outcomes.length; index++) {
+                this.outcomes[index] = new LongAdder();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable snapshot of a {@link Histogram}
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(@NotNull final long[] counts, final long sum, final long max) {
+        this.counts = counts;
+        long count = 0;
+        for (final long bucketCount : counts) {
+            count += bucketCount;
+        }
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Get the number of recorded values
+     *
+     * @return value count
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Get the sum of all recorded values
+     *
+     * @return value sum
+     */
+    public long getSum() {
+        return this.sum;
+    }
+
+    /**
+     * Get the highest recorded value
+     *
+     * @return max value, or 0 if nothing has been recorded
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Get the mean of all recorded values
+     *
+     * @return mean value, or 0 if nothing has been recorded
+     */
+    public double getMean() {
+        return this.count == 0 ? 0D : (double) this.sum / this.count;
+    }
+
+    /**
+     * Get the value at a percentile. The value is the highest value that is
+     * equivalent (within the histogram precision) to the recorded value
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return value at the percentile, or 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        Preconditions.checkArgument(percentile >= 0D && percentile <= 100D,
+            "Percentile must be between 0 and 100");
+        if (this.count == 0) {
+            return 0L;
+        }
+        final long target = Math.max(1L, (long) Math.ceil(percentile / 100D * this.count));
+        long seen = 0;
+        for (int index = 0; index < this.counts.length; index++) {
+            seen += this.counts[index];
+            if (seen >= target) {
+                return Math.min(Histogram.highestValue(index), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    @NotNull @Override public String toString() {
+        return "HistogramSnapshot{" + "count=" + count + ", mean=" + getMean() + ", p50="
+            + getValueAtPercentile(50D) + ", p99=" + getValueAtPercentile(99D) + ", max=" + max
+            + '}';
+    }
+
+}
@@ -0,0 +1,185 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link FlightRecorderEvents.Sink} that emits JDK Flight Recorder events. This
+ * class references {@code jdk.jfr}, and is only loaded reflectively
+ */
+final class JfrEventSink implements FlightRecorderEvents.Sink {
+
+    private static final String CATEGORY = "Jenkins4J";
+
+    private final EventType requestType = EventType.getEventType(JfrRequestEvent.class);
+    private final EventType parseType = EventType.getEventType(JfrParseEvent.class);
+    private final EventType crawlStepType = EventType.getEventType(JfrCrawlStepEvent.class);
+    private final EventType cacheType = EventType.getEventType(JfrCacheEvent.class);
+
+    JfrEventSink() {
+    }
+
+    @Nullable @Override public FlightRecorderEvents.RequestEvent beginRequest() {
+        if (!this.requestType.isEnabled()) {
+            return null;
+        }
+        final JfrRequestEvent event = new JfrRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    @Nullable @Override public FlightRecorderEvents.ParseEvent beginParse() {
+        if (!this.parseType.isEnabled()) {
+            return null;
+        }
+        final JfrParseEvent event = new JfrParseEvent();
+        event.begin();
+        return event;
+    }
+
+    @Nullable @Override public FlightRecorderEvents.CrawlStepEvent beginCrawlStep() {
+        if (!this.crawlStepType.isEnabled()) {
+            return null;
+        }
+        final JfrCrawlStepEvent event = new JfrCrawlStepEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override public void cacheAccess(@NotNull final String cache, @Nullable final String jobName,
+        final int build, final boolean hit) {
+        if (!this.cacheType.isEnabled()) {
+            return;
+        }
+        final JfrCacheEvent event = new JfrCacheEvent();
+        event.cache = cache;
+        event.jobName = jobName;
+        event.build = build;
+        event.hit = hit;
+        event.commit();
+    }
+
+    @Name("org.incendo.jenkins.Request") @Label("Jenkins Request") @Category(CATEGORY)
+    @Description("Request to the Jenkins API, including reading the response body")
+    static final class JfrRequestEvent extends Event implements FlightRecorderEvents.RequestEvent {
+
+        @Label("Endpoint") String endpoint;
+        @Label("URL") String url;
+        @Label("Job") String jobName;
+        @Label("Build") int build;
+        @Label("Response Size") @DataAmount long responseBytes;
+        @Label("Outcome") String outcome;
+
+        @Override public void commit(@NotNull final Endpoint endpoint, @NotNull final String url,
+            @Nullable final String jobName, final int build, final long responseBytes,
+            @NotNull final Outcome outcome) {
+            this.end();
+            if (this.shouldCommit()) {
+                this.endpoint = endpoint.name();
+                this.url = url;
+                this.jobName = jobName;
+                this.build = build;
+                this.responseBytes = responseBytes;
+                this.outcome = outcome.name();
+                this.commit();
+            }
+        }
+
+    }
+
+
+    @Name("org.incendo.jenkins.Parse") @Label("Jenkins Parse") @Category(CATEGORY)
+    @Description("Parsing of a Jenkins API response")
+    static final class JfrParseEvent extends Event implements FlightRecorderEvents.ParseEvent {
+
+        @Label("Endpoint") String endpoint;
+        @Label("Job") String jobName;
+        @Label("Build") int build;
+        @Label("Size") @DataAmount long bytes;
+        @Label("Success") boolean success;
+
+        @Override public void commit(@NotNull final Endpoint endpoint,
+            @Nullable final String jobName, final int build, final long bytes,
+            final boolean success) {
+            this.end();
+            if (this.shouldCommit()) {
+                this.endpoint = endpoint.name();
+                this.jobName = jobName;
+                this.build = build;
+                this.bytes = bytes;
+                this.success = success;
+                this.commit();
+            }
+        }
+
+    }
+
+
+    @Name("org.incendo.jenkins.CrawlStep") @Label("Jenkins Crawl Step") @Category(CATEGORY)
+    @Description("Step of a traversal that spans several requests, such as a build history page")
+    static final class JfrCrawlStepEvent extends Event
+        implements FlightRecorderEvents.CrawlStepEvent {
+
+        @Label("Job") String jobName;
+        @Label("Step") String step;
+        @Label("From") int from;
+        @Label("Builds") int builds;
+
+        @Override public void commit(@NotNull final String jobName, @NotNull final String step,
+            final int from, final int builds) {
+            this.end();
+            if (this.shouldCommit()) {
+                this.jobName = jobName;
+                this.step = step;
+                this.from = from;
+                this.builds = builds;
+                this.commit();
+            }
+        }
+
+    }
+
+
+    @Name("org.incendo.jenkins.CacheAccess") @Label("Jenkins Cache Access") @Category(CATEGORY)
+    @Description("Access to a cache of decoded Jenkins objects")
+    static final class JfrCacheEvent extends Event {
+
+        @Label("Cache") String cache;
+        @Label("Job") String jobName;
+        @Label("Build") int build;
+        @Label("Hit") boolean hit;
+
+    }
+
+}
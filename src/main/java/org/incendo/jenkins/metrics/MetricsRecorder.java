@@ -0,0 +1,96 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives timings for every Jenkins API request. Recorders are called from
+ * the threads that perform the requests, so implementations must be thread safe
+ * and should not block
+ */
+@FunctionalInterface public interface MetricsRecorder {
+
+    /**
+     * Recorder that discards everything
+     */
+    MetricsRecorder NOOP = (endpoint, queueNanos, networkNanos, responseBytes, parseNanos,
+        outcome) -> {
+    };
+
+    /**
+     * Record a completed request
+     *
+     * @param endpoint      the endpoint that was read
+     * @param queueNanos    time between the request being submitted and it being started
+     * @param networkNanos  time spent sending the request and reading the response body
+     * @param responseBytes size of the response body, or 0 if no body was read
+     * @param parseNanos    time spent parsing the response body, or 0 if it was not parsed
+     * @param outcome       the outcome of the request
+     */
+    void record(@NotNull Endpoint endpoint, long queueNanos, long networkNanos, long responseBytes,
+        long parseNanos, @NotNull Outcome outcome);
+
+    /**
+     * Record the network phases of a completed request. This is only called when
+     * request tracing is enabled, and is called after {@link #record}
+     *
+     * @param requestTrace the request trace
+     * @see org.incendo.jenkins.JenkinsBuilder#withRequestTracing(boolean)
+     */
+    default void recordTrace(@NotNull final RequestTrace requestTrace) {
+    }
+
+    /**
+     * Create a recorder that forwards everything to several recorders, in order
+     *
+     * @param recorders recorders
+     * @return combined recorder
+     */
+    @NotNull static MetricsRecorder combine(@NotNull final MetricsRecorder... recorders) {
+        final MetricsRecorder[] copy = recorders.clone();
+        for (final MetricsRecorder recorder : copy) {
+            Preconditions.checkNotNull(recorder, "Recorders may not be null");
+        }
+        return new MetricsRecorder() {
+            @Override public void record(@NotNull final Endpoint endpoint, final long queueNanos,
+                final long networkNanos, final long responseBytes, final long parseNanos,
+                @NotNull final Outcome outcome) {
+                for (final MetricsRecorder recorder : copy) {
+                    recorder.record(endpoint, queueNanos, networkNanos, responseBytes, parseNanos,
+                        outcome);
+                }
+            }
+
+            @Override public void recordTrace(@NotNull final RequestTrace requestTrace) {
+                for (final MetricsRecorder recorder : copy) {
+                    recorder.recordTrace(requestTrace);
+                }
+            }
+        };
+    }
+
+}
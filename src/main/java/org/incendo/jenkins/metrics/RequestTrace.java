@@ -0,0 +1,188 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Timings of a single traced Jenkins API request, broken down into the
+ * network {@link Phase phases}. Times are in nanoseconds. Phases that did not
+ * take place, such as DNS and connecting when a pooled connection was reused,
+ * are reported as 0
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class RequestTrace {
+
+    private final Endpoint endpoint;
+    private final String url;
+    private final Outcome outcome;
+    private final long queueNanos;
+    private final long networkNanos;
+    private final long responseBytes;
+    private final long parseNanos;
+    private final long[] phaseNanos;
+    private final boolean connectionReused;
+
+    /**
+     * Instantiates a new Request trace.
+     *
+     * @param endpoint         the endpoint that was read
+     * @param url              the requested url
+     * @param outcome          the outcome of the request
+     * @param queueNanos       time between the request being submitted and it being started
+     * @param networkNanos     time spent sending the request and reading the response body
+     * @param responseBytes    size of the response body
+     * @param parseNanos       time spent parsing the response body
+     * @param phaseNanos       time spent in every {@link Phase}, indexed by ordinal
+     * @param connectionReused whether or not a pooled connection was used
+     */
+    public RequestTrace(@NotNull final Endpoint endpoint, @NotNull final String url,
+        @NotNull final Outcome outcome, final long queueNanos, final long networkNanos,
+        final long responseBytes, final long parseNanos, @NotNull final long[] phaseNanos,
+        final boolean connectionReused) {
+        Preconditions.checkNotNull(endpoint, "Endpoint may not be null");
+        Preconditions.checkNotNull(url, "Url may not be null");
+        Preconditions.checkNotNull(outcome, "Outcome may not be null");
+        Preconditions.checkArgument(phaseNanos.length == Phase.values().length,
+            "Expected a time for every phase");
+        this.endpoint = endpoint;
+        this.url = url;
+        this.outcome = outcome;
+        this.queueNanos = queueNanos;
+        this.networkNanos = networkNanos;
+        this.responseBytes = responseBytes;
+        this.parseNanos = parseNanos;
+        this.phaseNanos = phaseNanos.clone();
+        this.connectionReused = connectionReused;
+    }
+
+    /**
+     * Gets endpoint.
+     *
+     * @return the endpoint
+     */
+    @NotNull public Endpoint getEndpoint() {
+        return this.endpoint;
+    }
+
+    /**
+     * Gets url.
+     *
+     * @return the url
+     */
+    @NotNull public String getUrl() {
+        return this.url;
+    }
+
+    /**
+     * Gets outcome.
+     *
+     * @return the outcome
+     */
+    @NotNull public Outcome getOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * Get the time between the request being submitted and it being started
+     *
+     * @return queue wait
+     */
+    public long getQueueNanos() {
+        return this.queueNanos;
+    }
+
+    /**
+     * Get the time spent sending the request and reading the response body
+     *
+     * @return network time
+     */
+    public long getNetworkNanos() {
+        return this.networkNanos;
+    }
+
+    /**
+     * Get the size of the response body, in bytes
+     *
+     * @return response size, or 0 if no body was read
+     */
+    public long getResponseBytes() {
+        return this.responseBytes;
+    }
+
+    /**
+     * Get the time spent parsing the response body
+     *
+     * @return parse time
+     */
+    public long getParseNanos() {
+        return this.parseNanos;
+    }
+
+    /**
+     * Get the time spent in a network phase
+     *
+     * @param phase phase
+     * @return phase time
+     */
+    public long getPhaseNanos(@NotNull final Phase phase) {
+        Preconditions.checkNotNull(phase, "Phase may not be null");
+        return this.phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Get the total time, from submission until the response was parsed
+     *
+     * @return total time
+     */
+    public long getTotalNanos() {
+        return this.queueNanos + this.networkNanos + this.parseNanos;
+    }
+
+    /**
+     * Check whether a pooled connection was used, rather than a new connection
+     *
+     * @return true if the connection was reused
+     */
+    public boolean isConnectionReused() {
+        return this.connectionReused;
+    }
+
+    @NotNull @Override public String toString() {
+        final StringBuilder builder = new StringBuilder("RequestTrace{").append("endpoint=")
+            .append(endpoint).append(", url=").append(url).append(", outcome=").append(outcome)
+            .append(", total=").append(getTotalNanos()).append(", queue=").append(queueNanos);
+        for (final Phase phase : Phase.values()) {
+            builder.append(", ").append(phase.name().toLowerCase(Locale.ENGLISH))
+                .append('=').append(phaseNanos[phase.ordinal()]);
+        }
+        return builder.append(", parse=").append(parseNanos).append(", responseBytes=")
+            .append(responseBytes).append(", connectionReused=").append(connectionReused)
+            .append('}').toString();
+    }
+
+}
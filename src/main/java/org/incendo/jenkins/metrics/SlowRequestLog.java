@@ -0,0 +1,120 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link MetricsRecorder} that keeps the most recent traces of requests that
+ * took longer than a threshold, and optionally passes them on to a listener
+ * (such as a logger) as they complete. Requires request tracing to be enabled,
+ * see {@link org.incendo.jenkins.JenkinsBuilder#withRequestTracing(boolean)}
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class SlowRequestLog
+    implements MetricsRecorder {
+
+    private final long thresholdNanos;
+    private final int capacity;
+    private final Consumer<RequestTrace> listener;
+    private final Deque<RequestTrace> entries;
+
+    /**
+     * Instantiates a new Slow request log.
+     *
+     * @param threshold minimum total time of logged requests
+     * @param unit      time unit of the threshold
+     * @param capacity  number of traces to keep
+     * @param listener  listener that is called with every slow request trace
+     */
+    public SlowRequestLog(final long threshold, @NotNull final TimeUnit unit, final int capacity,
+        @NotNull final Consumer<RequestTrace> listener) {
+        Preconditions.checkArgument(threshold >= 0, "Threshold may not be negative");
+        Preconditions.checkArgument(capacity > 0, "Capacity must be positive");
+        this.thresholdNanos = Preconditions.checkNotNull(unit, "Unit may not be null")
+            .toNanos(threshold);
+        this.capacity = capacity;
+        this.listener = Preconditions.checkNotNull(listener, "Listener may not be null");
+        this.entries = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Instantiates a new Slow request log, without a listener.
+     *
+     * @param threshold minimum total time of logged requests
+     * @param unit      time unit of the threshold
+     * @param capacity  number of traces to keep
+     */
+    public SlowRequestLog(final long threshold, @NotNull final TimeUnit unit, final int capacity) {
+        this(threshold, unit, capacity, requestTrace -> {
+        });
+    }
+
+    @Override public void record(@NotNull final Endpoint endpoint, final long queueNanos,
+        final long networkNanos, final long responseBytes, final long parseNanos,
+        @NotNull final Outcome outcome) {
+    }
+
+    @Override public void recordTrace(@NotNull final RequestTrace requestTrace) {
+        if (requestTrace.getTotalNanos() < this.thresholdNanos) {
+            return;
+        }
+        synchronized (this.entries) {
+            if (this.entries.size() == this.capacity) {
+                this.entries.removeFirst();
+            }
+            this.entries.addLast(requestTrace);
+        }
+        this.listener.accept(requestTrace);
+    }
+
+    /**
+     * Get the kept slow request traces, oldest first
+     *
+     * @return slow request traces
+     */
+    @NotNull public List<RequestTrace> getEntries() {
+        synchronized (this.entries) {
+            return new ArrayList<>(this.entries);
+        }
+    }
+
+    /**
+     * Remove all kept traces
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+}
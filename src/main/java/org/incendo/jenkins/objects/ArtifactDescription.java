@@ -126,18 +126,6 @@ import java.util.concurrent.CompletableFuture;
      * @return artifact url
      */
     @Override public String getUrl() {
-        final String path;
-        if (this.relativePath.startsWith("/")) {
-            path = this.relativePath.substring(1);
-        } else {
-            path = relativePath;
-        }
-        final String jobUrl;
-        if (this.parent.getUrl().endsWith("/")) {
-            jobUrl = this.parent.getUrl().substring(0, this.parent.getUrl().length() - 1);
-        } else {
-            jobUrl = this.parent.getUrl();
-        }
-        return String.format("%s/artifact/%s", jobUrl, path);
+        return JenkinsUrls.child(this.parent.getUrl(), "artifact", this.relativePath);
     }
 }
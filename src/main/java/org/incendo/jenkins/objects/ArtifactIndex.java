@@ -0,0 +1,413 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.metrics.FlightRecorderEvents;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Inverted index from artifact file names to the builds of a job that archived them,
+ * so that questions such as "which is the newest build that produced
+ * {@code PlotSquared-Bukkit-*.jar}" are answered without reading any builds
+ * <p>
+ * Patterns are either exact file names, or glob patterns in which {@code *} matches
+ * any sequence of characters and {@code ?} matches a single character. The builds
+ * matching a glob pattern are cached, and the cached patterns are kept up to date as
+ * builds are added, so repeated queries are a hash lookup
+ * <p>
+ * Only completed builds are indexed, as artifacts are archived when a build ends.
+ * Running builds are remembered, so that {@link #sync(Jenkins, String, int)} reads
+ * them again once they have completed
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class ArtifactIndex {
+
+    private static final int MAX_CACHED_GLOBS = 64;
+
+    private final Map<String, Postings> byName = new HashMap<>();
+    private final Map<String, Postings> globs = new GlobCache();
+    private final Postings builds = new Postings();
+    private final NavigableSet<Integer> running = new TreeSet<>();
+
+    /**
+     * Add the artifacts of a completed build. Builds that are already indexed are
+     * ignored, as their artifacts do not change
+     *
+     * @param build     the build number
+     * @param fileNames the artifact file names
+     */
+    public synchronized void add(final int build, @NotNull final Collection<String> fileNames) {
+        Preconditions.checkNotNull(fileNames, "File names may not be null");
+        if (!this.builds.add(build)) {
+            return;
+        }
+        this.running.remove(build);
+        for (final String fileName : fileNames) {
+            Preconditions.checkNotNull(fileName, "File name may not be null");
+            this.byName.computeIfAbsent(fileName, name -> new Postings()).add(build);
+            for (final Map.Entry<String, Postings> glob : this.globs.entrySet()) {
+                if (Globs.matches(glob.getKey(), fileName)) {
+                    glob.getValue().add(build);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remember a build that is running, and has not archived its artifacts yet
+     *
+     * @param build the build number
+     */
+    public synchronized void addRunning(final int build) {
+        if (!this.builds.contains(build)) {
+            this.running.add(build);
+        }
+    }
+
+    /**
+     * Add the artifacts of a build, or remember it if it is running
+     *
+     * @param buildInfo the build
+     */
+    public void add(@NotNull final BuildInfo buildInfo) {
+        Preconditions.checkNotNull(buildInfo, "Build info may not be null");
+        if (buildInfo.isBuilding()) {
+            this.addRunning(buildInfo.getId());
+            return;
+        }
+        final List<String> fileNames = new ArrayList<>(buildInfo.getArtifacts().size());
+        for (final ArtifactDescription artifactDescription : buildInfo.getArtifacts()) {
+            fileNames.add(artifactDescription.getFileName());
+        }
+        this.add(buildInfo.getId(), fileNames);
+    }
+
+    /**
+     * Add all builds of another index
+     *
+     * @param other the other index
+     */
+    public void addAll(@NotNull final ArtifactIndex other) {
+        Preconditions.checkNotNull(other, "Other index may not be null");
+        Preconditions.checkArgument(other != this, "Cannot add an index to itself");
+        final Map<Integer, List<String>> fileNames = new TreeMap<>();
+        final NavigableSet<Integer> running = new TreeSet<>();
+        other.collect(fileNames, running);
+        this.addSorted(fileNames, running);
+    }
+
+    /**
+     * Read the builds of a job that are not yet indexed, or that were running when
+     * they were read. The build history is read newest first, in pages of the given
+     * size, until a page reaches the builds that are already indexed. The pages are
+     * added once all of them have been read, oldest build first, and running builds
+     * that the pages no longer list are forgotten, as they have been deleted
+     *
+     * @param jenkins  the jenkins instance
+     * @param jobName  the job name
+     * @param pageSize the number of builds to request at a time
+     * @return the number of builds that were read
+     */
+    @NotNull public CompletableFuture<Integer> sync(@NotNull final Jenkins jenkins,
+        @NotNull final String jobName, final int pageSize) {
+        Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        Preconditions.checkNotNull(jobName, "Job name may not be null");
+        Preconditions.checkArgument(pageSize > 0, "Page size must be positive");
+        return this.sync(jenkins, jobName, pageSize, this.getSyncedThrough(), 0,
+            new ArrayList<>());
+    }
+
+    @NotNull private CompletableFuture<Integer> sync(@NotNull final Jenkins jenkins,
+        @NotNull final String jobName, final int pageSize, final int syncedThrough,
+        final int from, @NotNull final List<ArtifactIndex> pages) {
+        final FlightRecorderEvents.CrawlStepEvent crawlStep = FlightRecorderEvents.beginCrawlStep();
+        return jenkins.getArtifactIndex(jobName, from, from + pageSize).thenCompose(page -> {
+            final int pageBuilds = page.getBuildCount();
+            if (crawlStep != null) {
+                crawlStep.commit(jobName, "artifact index page", from, pageBuilds);
+            }
+            pages.add(page);
+            if (pageBuilds < pageSize) {
+                // the pages reach the first build of the job
+                return CompletableFuture.completedFuture(this.merge(pages, 0));
+            }
+            if (page.getFirstBuild() <= syncedThrough) {
+                return CompletableFuture.completedFuture(this.merge(pages, page.getFirstBuild()));
+            }
+            return this.sync(jenkins, jobName, pageSize, syncedThrough, from + pageSize, pages);
+        });
+    }
+
+    /**
+     * Add the pages read by a sync in ascending build order, so that the builds are
+     * appended to the postings, and forget the running builds from the first read
+     * build onwards that none of the pages list
+     *
+     * @return the number of builds that were read
+     */
+    private int merge(@NotNull final List<ArtifactIndex> pages, final int firstBuild) {
+        final Map<Integer, List<String>> fileNames = new TreeMap<>();
+        final NavigableSet<Integer> running = new TreeSet<>();
+        int read = 0;
+        for (final ArtifactIndex page : pages) {
+            page.collect(fileNames, running);
+            read += page.getBuildCount();
+        }
+        synchronized (this) {
+            this.addSorted(fileNames, running);
+            this.running.tailSet(firstBuild, true).retainAll(running);
+        }
+        return read;
+    }
+
+    /**
+     * Collect the file names of every indexed build, and the running builds
+     */
+    private synchronized void collect(@NotNull final Map<Integer, List<String>> fileNames,
+        @NotNull final Collection<Integer> running) {
+        for (int index = 0; index < this.builds.size; index++) {
+            fileNames.put(this.builds.values[index], new ArrayList<>());
+        }
+        for (final Map.Entry<String, Postings> entry : this.byName.entrySet()) {
+            final Postings postings = entry.getValue();
+            for (int index = 0; index < postings.size; index++) {
+                fileNames.get(postings.values[index]).add(entry.getKey());
+            }
+        }
+        running.addAll(this.running);
+    }
+
+    private synchronized void addSorted(@NotNull final Map<Integer, List<String>> fileNames,
+        @NotNull final Collection<Integer> running) {
+        for (final Map.Entry<Integer, List<String>> build : fileNames.entrySet()) {
+            this.add(build.getKey(), build.getValue());
+        }
+        for (final int build : running) {
+            this.addRunning(build);
+        }
+    }
+
+    /**
+     * Get the newest build that archived an artifact matching a pattern
+     *
+     * @param pattern file name, or glob pattern
+     * @return the build number, or -1 if no indexed build archived a matching artifact
+     */
+    public synchronized int getNewestBuild(@NotNull final String pattern) {
+        final Postings postings = this.getPostings(pattern);
+        return postings.size == 0 ? -1 : postings.values[postings.size - 1];
+    }
+
+    /**
+     * Get all builds that archived an artifact matching a pattern
+     *
+     * @param pattern file name, or glob pattern
+     * @return a new array with the build numbers, ascending
+     */
+    @NotNull public synchronized int[] getBuilds(@NotNull final String pattern) {
+        final Postings postings = this.getPostings(pattern);
+        return Arrays.copyOf(postings.values, postings.size);
+    }
+
+    /**
+     * Get the artifact file names that match a pattern
+     *
+     * @param pattern file name, or glob pattern
+     * @return the file names, in ascending order
+     */
+    @NotNull public synchronized List<String> getFileNames(@NotNull final String pattern) {
+        Preconditions.checkNotNull(pattern, "Pattern may not be null");
+        if (Globs.literalLength(pattern) == pattern.length()) {
+            return this.byName.containsKey(pattern) ? Collections.singletonList(pattern) :
+                Collections.emptyList();
+        }
+        final List<String> fileNames = new ArrayList<>();
+        for (final String fileName : this.byName.keySet()) {
+            if (Globs.matches(pattern, fileName)) {
+                fileNames.add(fileName);
+            }
+        }
+        Collections.sort(fileNames);
+        return fileNames;
+    }
+
+    /**
+     * Get the number of distinct artifact file names
+     *
+     * @return file name count
+     */
+    public synchronized int getFileNameCount() {
+        return this.byName.size();
+    }
+
+    /**
+     * Get the number of builds that were read, including the running builds
+     *
+     * @return build count
+     */
+    public synchronized int getBuildCount() {
+        return this.builds.size + this.running.size();
+    }
+
+    /**
+     * Get the lowest build number that was read
+     *
+     * @return the build number, or -1 if the index is empty
+     */
+    public synchronized int getFirstBuild() {
+        if (this.running.isEmpty()) {
+            return this.builds.size == 0 ? -1 : this.builds.values[0];
+        }
+        return this.builds.size == 0 ? this.running.first() :
+            Math.min(this.builds.values[0], this.running.first());
+    }
+
+    /**
+     * Get the highest indexed build number
+     *
+     * @return the build number, or -1 if no build is indexed
+     */
+    public synchronized int getLastBuild() {
+        return this.builds.size == 0 ? -1 : this.builds.values[this.builds.size - 1];
+    }
+
+    /**
+     * Check whether a build is running, and has not been indexed yet
+     *
+     * @param build the build number
+     * @return true if the build was running when it was read
+     */
+    public synchronized boolean isRunning(final int build) {
+        return this.running.contains(build);
+    }
+
+    @Override public synchronized String toString() {
+        return "ArtifactIndex{" + "builds=" + this.builds.size + ", fileNames=" + this.byName
+            .size() + ", running=" + this.running + '}';
+    }
+
+    /**
+     * Get the highest build number up to which all read builds are indexed
+     */
+    private synchronized int getSyncedThrough() {
+        final int lastBuild = Math.max(0, this.getLastBuild());
+        return this.running.isEmpty() ? lastBuild :
+            Math.min(lastBuild, this.running.first() - 1);
+    }
+
+    @NotNull private Postings getPostings(@NotNull final String pattern) {
+        Preconditions.checkNotNull(pattern, "Pattern may not be null");
+        if (Globs.literalLength(pattern) == pattern.length()) {
+            final Postings postings = this.byName.get(pattern);
+            return postings == null ? Postings.EMPTY : postings;
+        }
+        Postings postings = this.globs.get(pattern);
+        if (postings == null) {
+            postings = new Postings();
+            for (final Map.Entry<String, Postings> entry : this.byName.entrySet()) {
+                if (Globs.matches(pattern, entry.getKey())) {
+                    postings.addAll(entry.getValue());
+                }
+            }
+            this.globs.put(pattern, postings);
+        }
+        return postings;
+    }
+
+    /**
+     * Ascending set of build numbers. Synced and merged builds are added oldest first,
+     * which appends to the array. Other builds are inserted, such as while a page is
+     * read newest first, which moves at most a page of builds per insert
+     */
+    private static final class Postings {
+
+        private static final Postings EMPTY = new Postings();
+
+        private int[] values = new int[2];
+        private int size;
+
+        private boolean contains(final int build) {
+            return Arrays.binarySearch(this.values, 0, this.size, build) >= 0;
+        }
+
+        private boolean add(final int build) {
+            int index = this.size;
+            if (this.size > 0 && this.values[this.size - 1] >= build) {
+                index = Arrays.binarySearch(this.values, 0, this.size, build);
+                if (index >= 0) {
+                    return false;
+                }
+                index = -index - 1;
+            }
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+            this.values[index] = build;
+            this.size++;
+            return true;
+        }
+
+        private void addAll(@NotNull final Postings other) {
+            for (int index = 0; index < other.size; index++) {
+                this.add(other.values[index]);
+            }
+        }
+
+    }
+
+    /**
+     * Cache of the builds matching glob patterns, evicting the least recently
+     * queried pattern
+     */
+    private static final class GlobCache extends LinkedHashMap<String, Postings> {
+
+        private static final long serialVersionUID = 1L;
+
+        private GlobCache() {
+            super(16, 0.75F, true);
+        }
+
+        @Override protected boolean removeEldestEntry(final Map.Entry<String, Postings> eldest) {
+            return this.size() > MAX_CACHED_GLOBS;
+        }
+
+    }
+
+}
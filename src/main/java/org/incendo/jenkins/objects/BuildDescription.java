@@ -33,15 +33,21 @@ import java.util.concurrent.CompletableFuture;
 /**
  * Build description, which a reference to a Jenkins job build
  * <p>
+ * Descriptions are stored compactly: the class is an interned {@link JenkinsClass}, and
+ * the url is stored as the shared job url from which the full url is derived using
+ * the build number
+ * <p>
  * This is a direct child to {@link JobInfo}
  * {@inheritDoc}
  */
 @SuppressWarnings("unused") public final class BuildDescription
     implements NodeChild<JobInfo>, NodePath {
 
-    private final String jenkinsClass;
+    private final JenkinsClass jenkinsClass;
     private final int number;
+    // the shared job url if derivedUrl is true, otherwise the full url
     private final String url;
+    private final boolean derivedUrl;
 
     private JobInfo parent;
 
@@ -53,12 +59,26 @@ import java.util.concurrent.CompletableFuture;
      * @param url          the url
      */
     public BuildDescription(@NotNull final String jenkinsClass, final int number,
+        @NotNull final String url) {
+        this(JenkinsClass.of(jenkinsClass), number, url);
+    }
+
+    /**
+     * Instantiates a new Build description.
+     *
+     * @param jenkinsClass the jenkins class
+     * @param number       the number
+     * @param url          the url
+     */
+    public BuildDescription(@NotNull final JenkinsClass jenkinsClass, final int number,
         @NotNull final String url) {
         Preconditions.checkNotNull(jenkinsClass, "Jenkins class may not be null");
         Preconditions.checkNotNull(url, "Url may not be null");
         this.jenkinsClass = jenkinsClass;
         this.number = number;
-        this.url = url;
+        final String prefix = CompactUrls.prefix(url, "", Integer.toString(number));
+        this.derivedUrl = prefix != null;
+        this.url = this.derivedUrl ? prefix : url;
     }
 
     /**
@@ -67,6 +87,15 @@ import java.util.concurrent.CompletableFuture;
      * @return the jenkins class
      */
     public String getJenkinsClass() {
+        return this.jenkinsClass.getName();
+    }
+
+    /**
+     * Get the interned jenkins class
+     *
+     * @return the jenkins class
+     */
+    @NotNull public JenkinsClass getJenkinsClassType() {
         return this.jenkinsClass;
     }
 
@@ -85,6 +114,9 @@ import java.util.concurrent.CompletableFuture;
      * @return build url
      */
     @Override public String getUrl() {
+        if (this.derivedUrl) {
+            return CompactUrls.join(this.url, "", Integer.toString(this.number));
+        }
         return this.url;
     }
 
@@ -96,8 +128,8 @@ import java.util.concurrent.CompletableFuture;
             return false;
         }
         final BuildDescription that = (BuildDescription) o;
-        return number == that.number && jenkinsClass.equals(that.jenkinsClass) && url
-            .equals(that.url);
+        return number == that.number && jenkinsClass == that.jenkinsClass
+            && derivedUrl == that.derivedUrl && url.equals(that.url);
     }
 
     @Override public int hashCode() {
@@ -106,7 +138,7 @@ import java.util.concurrent.CompletableFuture;
 
     @NotNull @Override public String toString() {
         return "BuildDescription{" + "jenkinsClass='" + jenkinsClass + '\'' + ", number=" + number
-            + ", url='" + url + '\'' + '}';
+            + ", url='" + getUrl() + '\'' + '}';
     }
 
     @NotNull @Override public CompletableFuture<JobInfo> getParent() {
@@ -0,0 +1,189 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.metrics.FlightRecorderEvents;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The complete build history of a job, newest first. Jenkins only lists a limited
+ * number of builds in {@link JobInfo#getBuilds()}, and reading all builds at once
+ * can produce enormous responses. The history is instead read in fixed size pages,
+ * using the {@code allBuilds{m,n}} range syntax
+ * <p>
+ * Iterating over the history requests the next page as soon as the current page has
+ * been received, so that it is read while the current page is consumed. Every iterator
+ * reads the history from the start
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class BuildHistory
+    implements Iterable<BuildDescription> {
+
+    /**
+     * Page size used by Jenkins for the default build list
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final Jenkins jenkins;
+    private final String jobName;
+    private final int pageSize;
+    private final JobInfo job;
+
+    /**
+     * Instantiates a new Build history.
+     *
+     * @param jenkins  the jenkins
+     * @param jobName  the job name
+     * @param pageSize the number of builds to request at a time
+     * @param job      the job that the builds are bound to, or null
+     */
+    public BuildHistory(@NotNull final Jenkins jenkins, @NotNull final String jobName,
+        final int pageSize, @Nullable final JobInfo job) {
+        Preconditions.checkArgument(pageSize > 0, "Page size must be positive");
+        this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        this.jobName = Preconditions.checkNotNull(jobName, "Job name may not be null");
+        this.pageSize = pageSize;
+        this.job = job;
+    }
+
+    /**
+     * Gets job name.
+     *
+     * @return the job name
+     */
+    @NotNull public String getJobName() {
+        return this.jobName;
+    }
+
+    /**
+     * Gets page size.
+     *
+     * @return the page size
+     */
+    public int getPageSize() {
+        return this.pageSize;
+    }
+
+    /**
+     * Read a single page of the history
+     *
+     * @param page page index, where page 0 contains the newest builds
+     * @return the builds in the page, newest first
+     */
+    @NotNull public CompletableFuture<List<BuildDescription>> getPage(final int page) {
+        Preconditions.checkArgument(page >= 0, "Page may not be negative");
+        final int from = page * this.pageSize;
+        return this.jenkins.getBuildPage(this.jobName, from, from + this.pageSize)
+            .thenApply(builds -> {
+                if (this.job != null) {
+                    builds.forEach(build -> build.setParent(this.job));
+                }
+                return builds;
+            });
+    }
+
+    /**
+     * Iterate over the history, newest first. Builds that are started while the
+     * history is iterated over shift the pages, so builds that have already been
+     * returned are skipped rather than returned twice
+     *
+     * @return paging iterator
+     */
+    @NotNull @Override public Iterator<BuildDescription> iterator() {
+        return new PagingIterator();
+    }
+
+    @NotNull @Override public String toString() {
+        return "BuildHistory{" + "jobName='" + jobName + '\'' + ", pageSize=" + pageSize + '}';
+    }
+
+    private final class PagingIterator implements Iterator<BuildDescription> {
+
+        private int page = 0;
+        private CompletableFuture<List<BuildDescription>> next = getPage(0);
+        private Iterator<BuildDescription> current = Collections.emptyIterator();
+        private BuildDescription buffered;
+        private int lastNumber = Integer.MAX_VALUE;
+
+        @Override public boolean hasNext() {
+            while (this.buffered == null) {
+                while (!this.current.hasNext()) {
+                    if (this.next == null) {
+                        return false;
+                    }
+                    final FlightRecorderEvents.CrawlStepEvent crawlStep =
+                        FlightRecorderEvents.beginCrawlStep();
+                    final List<BuildDescription> builds = join(this.next);
+                    if (crawlStep != null) {
+                        crawlStep.commit(jobName, "build history page", this.page * pageSize,
+                            builds.size());
+                    }
+                    this.page++;
+                    // prefetch the next page, unless this is the last one
+                    this.next = builds.size() < pageSize ? null : getPage(this.page);
+                    this.current = builds.iterator();
+                }
+                final BuildDescription build = this.current.next();
+                if (build.getNumber() < this.lastNumber) {
+                    this.buffered = build;
+                }
+            }
+            return true;
+        }
+
+        @Override public BuildDescription next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final BuildDescription build = this.buffered;
+            this.buffered = null;
+            this.lastNumber = build.getNumber();
+            return build;
+        }
+
+        private List<BuildDescription> join(
+            @NotNull final CompletableFuture<List<BuildDescription>> future) {
+            try {
+                return future.join();
+            } catch (final CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                }
+                throw exception;
+            }
+        }
+
+    }
+
+}
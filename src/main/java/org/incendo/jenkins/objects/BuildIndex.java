@@ -0,0 +1,308 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable collection of {@link BuildDescription build descriptions}, indexed by build number.
+ * Build numbers are kept in a sorted primitive array, which gives O(log n) floor, ceiling
+ * and range queries, and a primitive lookup table gives O(1) lookup by build number.
+ * No build numbers are boxed
+ * <p>
+ * Iteration order is newest first (descending build number), which is the order
+ * Jenkins lists builds in
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class BuildIndex
+    extends AbstractCollection<BuildDescription> {
+
+    private static final BuildIndex EMPTY = new BuildIndex(new int[0], new BuildDescription[0]);
+
+    /**
+     * A direct lookup table is used when the number span is at most this many
+     * times the number of builds, otherwise an open addressing table is used
+     */
+    private static final int MAX_DIRECT_SPARSENESS = 4;
+
+    // ascending build numbers, and the descriptions at the same positions
+    private final int[] numbers;
+    private final BuildDescription[] builds;
+
+    // direct table: position + 1 at (number - base), or 0 if there is no such build
+    private final int base;
+    private final int[] direct;
+
+    // open addressing table, used when build numbers are too sparse for the direct table
+    private final int[] keys;
+    private final int[] positions;
+    private final int mask;
+
+    private BuildIndex(@NotNull final int[] numbers, @NotNull final BuildDescription[] builds) {
+        this.numbers = numbers;
+        this.builds = builds;
+        if (numbers.length == 0) {
+            this.base = 0;
+            this.direct = new int[0];
+            this.keys = null;
+            this.positions = null;
+            this.mask = 0;
+            return;
+        }
+        this.base = numbers[0];
+        final long span = (long) numbers[numbers.length - 1] - numbers[0] + 1L;
+        if (span <= (long) numbers.length * MAX_DIRECT_SPARSENESS) {
+            this.direct = new int[(int) span];
+            for (int position = 0; position < numbers.length; position++) {
+                this.direct[numbers[position] - this.base] = position + 1;
+            }
+            this.keys = null;
+            this.positions = null;
+            this.mask = 0;
+        } else {
+            this.direct = null;
+            final int capacity = Integer.highestOneBit(numbers.length * 2 - 1) << 1;
+            this.keys = new int[capacity];
+            this.positions = new int[capacity];
+            this.mask = capacity - 1;
+            for (int position = 0; position < numbers.length; position++) {
+                int slot = mix(numbers[position]) & this.mask;
+                while (this.positions[slot] != 0) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.keys[slot] = numbers[position];
+                this.positions[slot] = position + 1;
+            }
+        }
+    }
+
+    /**
+     * Create a new index from a collection of build descriptions. If several
+     * descriptions share the same build number, only the first one is kept
+     *
+     * @param buildDescriptions build descriptions, in any order
+     * @return the index
+     */
+    @NotNull public static BuildIndex of(
+        @NotNull final Collection<BuildDescription> buildDescriptions) {
+        Preconditions.checkNotNull(buildDescriptions, "Build descriptions may not be null");
+        if (buildDescriptions instanceof BuildIndex) {
+            return (BuildIndex) buildDescriptions;
+        }
+        if (buildDescriptions.isEmpty()) {
+            return EMPTY;
+        }
+        final BuildDescription[] sorted = buildDescriptions.toArray(new BuildDescription[0]);
+        // stable sort, so that the first duplicate stays first
+        Arrays.sort(sorted, Comparator.comparingInt(BuildDescription::getNumber));
+        int size = 0;
+        final int[] numbers = new int[sorted.length];
+        for (final BuildDescription buildDescription : sorted) {
+            Preconditions.checkNotNull(buildDescription, "Build description may not be null");
+            final int number = buildDescription.getNumber();
+            if (size > 0 && numbers[size - 1] == number) {
+                continue;
+            }
+            numbers[size] = number;
+            sorted[size++] = buildDescription;
+        }
+        return new BuildIndex(Arrays.copyOf(numbers, size), Arrays.copyOf(sorted, size));
+    }
+
+    /**
+     * Get an empty index
+     *
+     * @return empty index
+     */
+    @NotNull public static BuildIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Get the build with the given number
+     *
+     * @param number build number
+     * @return the build description, or null if the index does not contain the build
+     */
+    @Nullable public BuildDescription get(final int number) {
+        final int position = this.positionOf(number);
+        return position < 0 ? null : this.builds[position];
+    }
+
+    /**
+     * Check whether the index contains a build with the given number
+     *
+     * @param number build number
+     * @return true if the build is indexed
+     */
+    public boolean contains(final int number) {
+        return this.positionOf(number) >= 0;
+    }
+
+    /**
+     * Get the newest build with a number that is less than or equal to the given number
+     *
+     * @param number build number
+     * @return the build description, or null if there is no such build
+     */
+    @Nullable public BuildDescription floor(final int number) {
+        final int position = this.insertionPoint(number, true) - 1;
+        return position < 0 ? null : this.builds[position];
+    }
+
+    /**
+     * Get the oldest build with a number that is greater than or equal to the given number
+     *
+     * @param number build number
+     * @return the build description, or null if there is no such build
+     */
+    @Nullable public BuildDescription ceiling(final int number) {
+        final int position = this.insertionPoint(number, false);
+        return position >= this.builds.length ? null : this.builds[position];
+    }
+
+    /**
+     * Get all builds with numbers in the given (inclusive) range, newest first
+     *
+     * @param from lowest build number
+     * @param to   highest build number
+     * @return the build descriptions
+     */
+    @NotNull public List<BuildDescription> range(final int from, final int to) {
+        if (from > to) {
+            return Collections.emptyList();
+        }
+        final int start = this.insertionPoint(from, false);
+        final int end = this.insertionPoint(to, true);
+        final List<BuildDescription> result = new ArrayList<>(Math.max(0, end - start));
+        for (int position = end - 1; position >= start; position--) {
+            result.add(this.builds[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Get the build with the highest number
+     *
+     * @return the newest build, or null if the index is empty
+     */
+    @Nullable public BuildDescription getNewest() {
+        return this.builds.length == 0 ? null : this.builds[this.builds.length - 1];
+    }
+
+    /**
+     * Get the build with the lowest number
+     *
+     * @return the oldest build, or null if the index is empty
+     */
+    @Nullable public BuildDescription getOldest() {
+        return this.builds.length == 0 ? null : this.builds[0];
+    }
+
+    @Override public int size() {
+        return this.builds.length;
+    }
+
+    @Override public boolean contains(final Object o) {
+        if (!(o instanceof BuildDescription)) {
+            return false;
+        }
+        final BuildDescription buildDescription = (BuildDescription) o;
+        return buildDescription.equals(this.get(buildDescription.getNumber()));
+    }
+
+    @NotNull @Override public Iterator<BuildDescription> iterator() {
+        return new Iterator<BuildDescription>() {
+
+            private int position = BuildIndex.this.builds.length;
+
+            @Override public boolean hasNext() {
+                return this.position > 0;
+            }
+
+            @Override public BuildDescription next() {
+                if (this.position == 0) {
+                    throw new NoSuchElementException();
+                }
+                return BuildIndex.this.builds[--this.position];
+            }
+
+        };
+    }
+
+    private int positionOf(final int number) {
+        if (this.direct != null) {
+            final long offset = (long) number - this.base;
+            if (offset < 0 || offset >= this.direct.length) {
+                return -1;
+            }
+            return this.direct[(int) offset] - 1;
+        }
+        int slot = mix(number) & this.mask;
+        while (this.positions[slot] != 0) {
+            if (this.keys[slot] == number) {
+                return this.positions[slot] - 1;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Get the first position with a number greater than (or, unless
+     * inclusive, equal to) the given number
+     */
+    private int insertionPoint(final int number, final boolean inclusive) {
+        int low = 0;
+        int high = this.numbers.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int value = this.numbers[middle];
+            if (value < number || (inclusive && value == number)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int mix(final int number) {
+        final int hash = number * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+}
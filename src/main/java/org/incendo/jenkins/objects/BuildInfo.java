@@ -37,6 +37,9 @@ import java.util.concurrent.CompletableFuture;
 /**
  * Information regarding a Jenkins build
  * <p>
+ * The result is stored as a {@link BuildResult}, and the url is stored as the shared
+ * job url from which the full url is derived using the build id
+ * <p>
  * This is a child to {@link JobInfo}, and has the direct child {@link ArtifactDescription}
  * {@inheritDoc}
  */
@@ -45,16 +48,20 @@ import java.util.concurrent.CompletableFuture;
 
     private final Jenkins jenkins;
     private final boolean building;
-    private final String result;
+    private final BuildResult result;
     private final String displayName;
     private final String fullDisplayName;
     private final int id;
     private final long duration;
     private final long timestamp;
+    // the shared job url if derivedUrl is true, otherwise the full url
     private final String url;
+    private final boolean derivedUrl;
     private final Collection<ArtifactDescription> artifacts;
 
-    private JobInfo parent;
+    private volatile JobInfo parent;
+    // parsed from the url on first use
+    private volatile String jobName;
 
     /**
      * Instantiates a new Build info.
@@ -75,6 +82,29 @@ import java.util.concurrent.CompletableFuture;
         @NotNull final String fullDisplayName, final int id, final long duration,
         final long timestamp, @NotNull final String url,
         @NotNull final Collection<ArtifactDescription> artifacts) {
+        this(jenkins, building, BuildResult.fromString(result), displayName, fullDisplayName, id,
+            duration, timestamp, url, artifacts);
+    }
+
+    /**
+     * Instantiates a new Build info.
+     *
+     * @param jenkins         the jenkins
+     * @param building        the building
+     * @param result          the result, or null if the build has not completed
+     * @param displayName     the display name
+     * @param fullDisplayName the full display name
+     * @param id              the id
+     * @param duration        the duration
+     * @param timestamp       the timestamp
+     * @param url             the url
+     * @param artifacts       the artifacts
+     */
+    public BuildInfo(@NotNull final Jenkins jenkins, final boolean building,
+        @Nullable final BuildResult result, @NotNull final String displayName,
+        @NotNull final String fullDisplayName, final int id, final long duration,
+        final long timestamp, @NotNull final String url,
+        @NotNull final Collection<ArtifactDescription> artifacts) {
         this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
         this.building = building;
         this.result = result;
@@ -84,7 +114,10 @@ import java.util.concurrent.CompletableFuture;
         this.id = id;
         this.duration = duration;
         this.timestamp = timestamp;
-        this.url = Preconditions.checkNotNull(url, "URL may not be null");
+        Preconditions.checkNotNull(url, "URL may not be null");
+        final String prefix = CompactUrls.prefix(url, "", Integer.toString(id));
+        this.derivedUrl = prefix != null;
+        this.url = this.derivedUrl ? prefix : url;
         this.artifacts = Preconditions.checkNotNull(artifacts, "Artifacts may not be null");
     }
 
@@ -100,10 +133,19 @@ import java.util.concurrent.CompletableFuture;
     /**
      * Gets result.
      *
-     * @return the result
+     * @return the result, or null if the build has not completed
      */
     public String getResult() {
-        return result;
+        return result == null ? null : result.name();
+    }
+
+    /**
+     * Get the build result
+     *
+     * @return the result, or null if the build has not completed
+     */
+    @Nullable public BuildResult getBuildResult() {
+        return this.result;
     }
 
     /**
@@ -157,7 +199,10 @@ import java.util.concurrent.CompletableFuture;
      * @return build url
      */
     @Override public String getUrl() {
-        return url;
+        if (this.derivedUrl) {
+            return CompactUrls.join(this.url, "", Integer.toString(this.id));
+        }
+        return this.url;
     }
 
     /**
@@ -178,9 +223,10 @@ import java.util.concurrent.CompletableFuture;
         }
         final BuildInfo buildInfo = (BuildInfo) o;
         return building == buildInfo.building && id == buildInfo.id
-            && duration == buildInfo.duration && timestamp == buildInfo.timestamp && Objects
-            .equals(result, buildInfo.result) && displayName.equals(buildInfo.displayName)
-            && fullDisplayName.equals(buildInfo.fullDisplayName) && url.equals(buildInfo.url)
+            && duration == buildInfo.duration && timestamp == buildInfo.timestamp
+            && result == buildInfo.result && displayName.equals(buildInfo.displayName)
+            && fullDisplayName.equals(buildInfo.fullDisplayName)
+            && derivedUrl == buildInfo.derivedUrl && url.equals(buildInfo.url)
             && Objects.equals(artifacts, buildInfo.artifacts);
     }
 
@@ -194,47 +240,69 @@ import java.util.concurrent.CompletableFuture;
         return "BuildInfo{" + "building=" + building + ", result='" + result + '\''
             + ", displayName='" + displayName + '\'' + ", fullDisplayName='" + fullDisplayName
             + '\'' + ", id=" + id + ", duration=" + duration + ", timestamp=" + timestamp
-            + ", url='" + url + '\'' + ", artifacts=" + artifacts + '}';
+            + ", url='" + getUrl() + '\'' + ", artifacts=" + artifacts + '}';
     }
 
+    /**
+     * Get the job of this build. If the build was not read as part of its job, the job
+     * is read using {@link Jenkins#getParentJobInfo(String)}, which shares the request
+     * with the other builds of the same job
+     *
+     * @return the job info
+     */
     @NotNull @Override public CompletableFuture<JobInfo> getParent() {
-        if (this.parent != null) {
-            return CompletableFuture.completedFuture(this.parent);
+        final JobInfo parent = this.parent;
+        if (parent != null) {
+            return CompletableFuture.completedFuture(parent);
         }
-        // We need to find the job name
-        String url = this.url;
-        // The urls look something like this $baseurl/job/$jobname/$buildnum/"
-        // we can get the base url, so let's do that
-        final String baseUrl = this.jenkins.getJenkinsPathProvider().getBasePath();
-        // let's remove that
-        url = url.replace(baseUrl, "");
-        // now we should have job/$jobname/$buildnum/
-        final String[] pieces = url.split("/");
-        final String jobName;
-        if (pieces.length == 2) {
-            // Oh-oh.
-            if (pieces[0].equalsIgnoreCase("job")) {
-                jobName = pieces[1];
-            } else {
-                jobName = pieces[0];
+        return this.jenkins.getParentJobInfo(this.getJobName()).thenApply(jobInfo -> {
+            synchronized (this) {
+                if (this.parent == null) {
+                    this.parent = jobInfo;
+                }
             }
-        } else if (pieces.length == 3) {
-            if (pieces[0].equalsIgnoreCase("job")) {
-                jobName = pieces[1];
-            } else if (pieces[1].equalsIgnoreCase("job")) {
-                jobName = pieces[2];
-            } else {
+            return jobInfo;
+        });
+    }
+
+    /**
+     * Read the test report of this build. The suites and cases are passed to the
+     * listener as they are read
+     *
+     * @param failuresOnly whether only failed cases should be passed to the listener
+     * @param listener     receives the suites and cases
+     * @return the report totals
+     * @see Jenkins#getTestReport(String, int, boolean, TestReportListener)
+     */
+    public CompletableFuture<TestReport> getTestReport(final boolean failuresOnly,
+        @NotNull final TestReportListener listener) {
+        return this.jenkins.getTestReport(this.getJobName(), this.id, failuresOnly, listener);
+    }
+
+    /**
+     * Read the stage timings of this build, if it is a pipeline build
+     *
+     * @return the pipeline run
+     * @see Jenkins#getPipelineRun(String, int)
+     */
+    public CompletableFuture<PipelineRun> getPipelineRun() {
+        return this.jenkins.getPipelineRun(this.getJobName(), this.id);
+    }
+
+    @NotNull private String getJobName() {
+        String jobName = this.jobName;
+        if (jobName == null) {
+            jobName = JenkinsUrls.jobName(this.getUrl());
+            if (jobName == null) {
                 throw new IllegalStateException(
-                    String.format("Could not extract job name from URL: %s", url));
+                    String.format("Could not extract job name from URL: %s", this.getUrl()));
             }
-        } else {
-            throw new IllegalStateException(
-                String.format("Could not extract job name from URL: %s", url));
+            this.jobName = jobName;
         }
-        return this.jenkins.getJobInfo(jobName);
+        return jobName;
     }
 
-    public void setParent(@NotNull final JobInfo parent) {
+    public synchronized void setParent(@NotNull final JobInfo parent) {
         if (this.parent != null) {
             throw new IllegalStateException("Cannot re-set node parent");
         }
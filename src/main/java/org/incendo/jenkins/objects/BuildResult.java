@@ -0,0 +1,81 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Result of a completed Jenkins build. The constants are ordered from best to worst,
+ * in the same way as Jenkins orders them
+ */
+@SuppressWarnings("unused") public enum BuildResult {
+    /**
+     * The build had no errors
+     */
+    SUCCESS,
+    /**
+     * The build had some errors, but they were not fatal (for example failing tests)
+     */
+    UNSTABLE,
+    /**
+     * The build had a fatal error
+     */
+    FAILURE,
+    /**
+     * The module was not built
+     */
+    NOT_BUILT,
+    /**
+     * The build was manually aborted
+     */
+    ABORTED;
+
+    /**
+     * Parse a result as it is represented in the Jenkins API
+     *
+     * @param result result string, or null if the build has not completed
+     * @return the result, or null if the input was null
+     * @throws IllegalArgumentException if the result is unknown
+     */
+    @Nullable public static BuildResult fromString(@Nullable final String result) {
+        if (result == null) {
+            return null;
+        }
+        return valueOf(result.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Check whether this result is at least as good as another result
+     *
+     * @param other result to compare with
+     * @return true if this result is better than, or equal to, the other result
+     */
+    public boolean isBetterOrEqualTo(final BuildResult other) {
+        return this.ordinal() <= other.ordinal();
+    }
+
+}
@@ -0,0 +1,500 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.metrics.FlightRecorderEvents;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Columnar store of the number, timestamp, duration and result of the builds of a job.
+ * The columns are primitive arrays in ascending build number order, so that duration
+ * percentiles, moving averages and success rates can be computed over time windows
+ * without creating a {@link BuildInfo} per build, and without allocating
+ * <p>
+ * Builds that are still running are stored without a result, and are left out of
+ * all aggregates. Adding a build that is already stored replaces it, so a store
+ * can be kept up to date using {@link #sync(Jenkins, String, int)}. Time windows
+ * assume that builds with higher numbers did not start earlier
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class BuildTimeSeries {
+
+    private static final BuildResult[] RESULTS = BuildResult.values();
+    private static final byte NO_RESULT = -1;
+
+    private int[] numbers;
+    private long[] timestamps;
+    private long[] durations;
+    private byte[] results;
+    private int size;
+
+    // scratch space for percentile selection, kept between queries
+    private long[] scratch = new long[0];
+
+    /**
+     * Instantiates a new empty Build time series.
+     *
+     * @param capacity the initial number of builds that can be stored
+     */
+    public BuildTimeSeries(final int capacity) {
+        Preconditions.checkArgument(capacity >= 0, "Capacity may not be negative");
+        this.numbers = new int[capacity];
+        this.timestamps = new long[capacity];
+        this.durations = new long[capacity];
+        this.results = new byte[capacity];
+    }
+
+    /**
+     * Add a build, or replace it if a build with the same number is stored
+     *
+     * @param number    the build number
+     * @param timestamp the build timestamp, in milliseconds since the epoch
+     * @param duration  the build duration, in milliseconds
+     * @param result    the build result, or null if the build is running
+     */
+    public synchronized void add(final int number, final long timestamp, final long duration,
+        @Nullable final BuildResult result) {
+        int index = Arrays.binarySearch(this.numbers, 0, this.size, number);
+        if (index < 0) {
+            index = -index - 1;
+            this.ensureCapacity(this.size + 1);
+            this.shift(index);
+        }
+        this.numbers[index] = number;
+        this.timestamps[index] = timestamp;
+        this.durations[index] = duration;
+        this.results[index] = result == null ? NO_RESULT : (byte) result.ordinal();
+    }
+
+    /**
+     * Add a build, or replace it if a build with the same number is stored
+     *
+     * @param buildInfo the build
+     */
+    public void add(@NotNull final BuildInfo buildInfo) {
+        Preconditions.checkNotNull(buildInfo, "Build info may not be null");
+        this.add(buildInfo.getId(), buildInfo.getTimestamp(), buildInfo.getDuration(),
+            buildInfo.isBuilding() ? null : buildInfo.getBuildResult());
+    }
+
+    /**
+     * Add all builds of another series, replacing the builds with the same numbers
+     *
+     * @param other the other series
+     */
+    public void addAll(@NotNull final BuildTimeSeries other) {
+        Preconditions.checkNotNull(other, "Other series may not be null");
+        Preconditions.checkArgument(other != this, "Cannot add a series to itself");
+        synchronized (other) {
+            synchronized (this) {
+                this.merge(other, Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Read the builds of a job that are not yet stored, or that were running when
+     * they were stored. The build history is read newest first, in pages of the given
+     * size, until a page reaches the builds that are already up to date. The pages
+     * are added with one merge once all of them have been read, and running builds
+     * that the pages no longer list are removed, as they have been deleted
+     *
+     * @param jenkins  the jenkins instance
+     * @param jobName  the job name
+     * @param pageSize the number of builds to request at a time
+     * @return the number of builds that were read
+     */
+    @NotNull public CompletableFuture<Integer> sync(@NotNull final Jenkins jenkins,
+        @NotNull final String jobName, final int pageSize) {
+        Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        Preconditions.checkNotNull(jobName, "Job name may not be null");
+        Preconditions.checkArgument(pageSize > 0, "Page size must be positive");
+        return this.sync(jenkins, jobName, pageSize, this.getSyncedThrough(), 0,
+            new ArrayList<>());
+    }
+
+    @NotNull private CompletableFuture<Integer> sync(@NotNull final Jenkins jenkins,
+        @NotNull final String jobName, final int pageSize, final int syncedThrough,
+        final int from, @NotNull final List<BuildTimeSeries> pages) {
+        final FlightRecorderEvents.CrawlStepEvent crawlStep = FlightRecorderEvents.beginCrawlStep();
+        return jenkins.getBuildTimeSeries(jobName, from, from + pageSize).thenCompose(page -> {
+            if (crawlStep != null) {
+                crawlStep.commit(jobName, "build time series page", from, page.size());
+            }
+            pages.add(page);
+            if (page.size() < pageSize) {
+                // the pages reach the first build of the job
+                return CompletableFuture.completedFuture(this.mergePages(pages, 0));
+            }
+            if (page.getFirstNumber() <= syncedThrough) {
+                return CompletableFuture.completedFuture(
+                    this.mergePages(pages, page.getFirstNumber()));
+            }
+            return this.sync(jenkins, jobName, pageSize, syncedThrough, from + pageSize, pages);
+        });
+    }
+
+    /**
+     * Add the pages read by a sync with a single merge, and remove the running builds
+     * from the first read build onwards that none of the pages list
+     *
+     * @return the number of builds that were read
+     */
+    private int mergePages(@NotNull final List<BuildTimeSeries> pages, final int firstNumber) {
+        int read = 0;
+        for (final BuildTimeSeries page : pages) {
+            read += page.size();
+        }
+        // the pages are read newest first, so the oldest page is appended first. A build
+        // that moved to the next page while the pages were read is appended once
+        final BuildTimeSeries combined = new BuildTimeSeries(read);
+        for (int page = pages.size() - 1; page >= 0; page--) {
+            final BuildTimeSeries source = pages.get(page);
+            for (int index = 0; index < source.size; index++) {
+                if (combined.size == 0
+                    || source.numbers[index] > combined.numbers[combined.size - 1]) {
+                    combined.numbers[combined.size] = source.numbers[index];
+                    combined.timestamps[combined.size] = source.timestamps[index];
+                    combined.durations[combined.size] = source.durations[index];
+                    combined.results[combined.size] = source.results[index];
+                    combined.size++;
+                }
+            }
+        }
+        synchronized (this) {
+            this.merge(combined, firstNumber);
+        }
+        return read;
+    }
+
+    /**
+     * Get the number of stored builds
+     *
+     * @return build count
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the number of a stored build
+     *
+     * @param index build index, in ascending build number order
+     * @return the build number
+     */
+    public synchronized int getNumber(final int index) {
+        Preconditions.checkElementIndex(index, this.size);
+        return this.numbers[index];
+    }
+
+    /**
+     * Get the timestamp of a stored build
+     *
+     * @param index build index, in ascending build number order
+     * @return the build timestamp, in milliseconds since the epoch
+     */
+    public synchronized long getTimestamp(final int index) {
+        Preconditions.checkElementIndex(index, this.size);
+        return this.timestamps[index];
+    }
+
+    /**
+     * Get the duration of a stored build
+     *
+     * @param index build index, in ascending build number order
+     * @return the build duration, in milliseconds
+     */
+    public synchronized long getDuration(final int index) {
+        Preconditions.checkElementIndex(index, this.size);
+        return this.durations[index];
+    }
+
+    /**
+     * Get the result of a stored build
+     *
+     * @param index build index, in ascending build number order
+     * @return the build result, or null if the build was running when it was stored
+     */
+    @Nullable public synchronized BuildResult getResult(final int index) {
+        Preconditions.checkElementIndex(index, this.size);
+        return this.results[index] == NO_RESULT ? null : RESULTS[this.results[index]];
+    }
+
+    /**
+     * Get the lowest stored build number
+     *
+     * @return the build number, or -1 if the series is empty
+     */
+    public synchronized int getFirstNumber() {
+        return this.size == 0 ? -1 : this.numbers[0];
+    }
+
+    /**
+     * Get the highest stored build number
+     *
+     * @return the build number, or -1 if the series is empty
+     */
+    public synchronized int getLastNumber() {
+        return this.size == 0 ? -1 : this.numbers[this.size - 1];
+    }
+
+    /**
+     * Get a duration percentile of the completed builds that started within a time window
+     *
+     * @param percentile percentile, from 0 to 100
+     * @param from       window start, in milliseconds since the epoch (inclusive)
+     * @param to         window end, in milliseconds since the epoch (exclusive)
+     * @return the duration in milliseconds, or -1 if no completed build started in the window
+     */
+    public synchronized long getDurationPercentile(final double percentile, final long from,
+        final long to) {
+        Preconditions.checkArgument(percentile >= 0D && percentile <= 100D,
+            "Percentile must be between 0 and 100");
+        if (this.scratch.length < this.size) {
+            this.scratch = new long[this.numbers.length];
+        }
+        int count = 0;
+        for (int index = this.indexOf(from), end = this.indexOf(to); index < end; index++) {
+            if (this.results[index] != NO_RESULT) {
+                this.scratch[count++] = this.durations[index];
+            }
+        }
+        if (count == 0) {
+            return -1L;
+        }
+        return Percentiles.select(this.scratch, count, percentile);
+    }
+
+    /**
+     * Get the mean duration of the completed builds that started within a time window
+     *
+     * @param from window start, in milliseconds since the epoch (inclusive)
+     * @param to   window end, in milliseconds since the epoch (exclusive)
+     * @return the mean duration in milliseconds, or {@link Double#NaN} if no completed
+     * build started in the window
+     */
+    public synchronized double getAverageDuration(final long from, final long to) {
+        long sum = 0L;
+        int count = 0;
+        for (int index = this.indexOf(from), end = this.indexOf(to); index < end; index++) {
+            if (this.results[index] != NO_RESULT) {
+                sum += this.durations[index];
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : (double) sum / count;
+    }
+
+    /**
+     * Compute the moving average of the durations of completed builds. The value at
+     * a position is the mean duration of the completed build at that position and the
+     * completed builds before it, up to the given number of builds. Builds that are
+     * running are left out, so the values are in ascending build number order of the
+     * completed builds
+     *
+     * @param builds number of builds to average over
+     * @param target array that receives the values, which must be at least as long
+     *               as the number of completed builds
+     * @return the number of values that were written
+     */
+    public synchronized int getMovingAverage(final int builds, @NotNull final double[] target) {
+        Preconditions.checkArgument(builds > 0, "Build count must be positive");
+        int completed = 0;
+        for (int index = 0; index < this.size; index++) {
+            if (this.results[index] != NO_RESULT) {
+                completed++;
+            }
+        }
+        Preconditions.checkArgument(target.length >= completed,
+            "Target must hold at least %s values", completed);
+        // walks the completed builds with a trailing cursor, keeping a running sum
+        long sum = 0L;
+        int written = 0;
+        int trailing = 0;
+        for (int index = 0; index < this.size; index++) {
+            if (this.results[index] == NO_RESULT) {
+                continue;
+            }
+            sum += this.durations[index];
+            if (written >= builds) {
+                while (this.results[trailing] == NO_RESULT) {
+                    trailing++;
+                }
+                sum -= this.durations[trailing++];
+            }
+            target[written] = (double) sum / Math.min(written + 1, builds);
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Get the share of completed builds that started within a time window, and
+     * that were successful
+     *
+     * @param from window start, in milliseconds since the epoch (inclusive)
+     * @param to   window end, in milliseconds since the epoch (exclusive)
+     * @return success rate in [0, 1], or {@link Double#NaN} if no completed build
+     * started in the window
+     */
+    public synchronized double getSuccessRate(final long from, final long to) {
+        int successful = 0;
+        int count = 0;
+        for (int index = this.indexOf(from), end = this.indexOf(to); index < end; index++) {
+            if (this.results[index] != NO_RESULT) {
+                if (this.results[index] == BuildResult.SUCCESS.ordinal()) {
+                    successful++;
+                }
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : (double) successful / count;
+    }
+
+    /**
+     * Get the number of completed builds that started within a time window
+     *
+     * @param from window start, in milliseconds since the epoch (inclusive)
+     * @param to   window end, in milliseconds since the epoch (exclusive)
+     * @return completed build count
+     */
+    public synchronized int getCompletedCount(final long from, final long to) {
+        int count = 0;
+        for (int index = this.indexOf(from), end = this.indexOf(to); index < end; index++) {
+            if (this.results[index] != NO_RESULT) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @NotNull @Override public synchronized String toString() {
+        return "BuildTimeSeries{" + "size=" + size + ", first=" + this.getFirstNumber()
+            + ", last=" + this.getLastNumber() + '}';
+    }
+
+    /**
+     * Get the number below which all stored builds are complete
+     */
+    private synchronized int getSyncedThrough() {
+        for (int index = 0; index < this.size; index++) {
+            if (this.results[index] == NO_RESULT) {
+                return this.numbers[index] - 1;
+            }
+        }
+        return this.size == 0 ? 0 : this.numbers[this.size - 1];
+    }
+
+    /**
+     * Get the index of the first build that started at, or after, the given time
+     */
+    private int indexOf(final long time) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (this.timestamps[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Merge the builds of another series, and remove the stored running builds from
+     * the given number onwards that the other series does not list
+     */
+    private void merge(@NotNull final BuildTimeSeries other, final int pruneFrom) {
+        final int[] numbers = new int[this.size + other.size];
+        final long[] timestamps = new long[numbers.length];
+        final long[] durations = new long[numbers.length];
+        final byte[] results = new byte[numbers.length];
+        int own = 0;
+        int added = 0;
+        int size = 0;
+        while (own < this.size || added < other.size) {
+            final BuildTimeSeries source;
+            final int index;
+            if (added == other.size || own < this.size
+                && this.numbers[own] < other.numbers[added]) {
+                if (this.results[own] == NO_RESULT && this.numbers[own] >= pruneFrom) {
+                    own++;
+                    continue;
+                }
+                source = this;
+                index = own++;
+            } else {
+                if (own < this.size && this.numbers[own] == other.numbers[added]) {
+                    // the added build replaces the stored build
+                    own++;
+                }
+                source = other;
+                index = added++;
+            }
+            numbers[size] = source.numbers[index];
+            timestamps[size] = source.timestamps[index];
+            durations[size] = source.durations[index];
+            results[size] = source.results[index];
+            size++;
+        }
+        this.numbers = numbers;
+        this.timestamps = timestamps;
+        this.durations = durations;
+        this.results = results;
+        this.size = size;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.numbers.length) {
+            final int length = Math.max(capacity, this.numbers.length * 2);
+            this.numbers = Arrays.copyOf(this.numbers, length);
+            this.timestamps = Arrays.copyOf(this.timestamps, length);
+            this.durations = Arrays.copyOf(this.durations, length);
+            this.results = Arrays.copyOf(this.results, length);
+        }
+    }
+
+    /**
+     * Make room for a build at an index
+     */
+    private void shift(final int index) {
+        final int moved = this.size - index;
+        System.arraycopy(this.numbers, index, this.numbers, index + 1, moved);
+        System.arraycopy(this.timestamps, index, this.timestamps, index + 1, moved);
+        System.arraycopy(this.durations, index, this.durations, index + 1, moved);
+        System.arraycopy(this.results, index, this.results, index + 1, moved);
+        this.size++;
+    }
+
+}
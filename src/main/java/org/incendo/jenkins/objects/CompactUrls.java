@@ -0,0 +1,79 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility for storing Jenkins URLs as a shared prefix and a derivable suffix.
+ * Job and build URLs share long common prefixes (the Jenkins base url and the
+ * job path), so only one instance of every prefix is kept, and the full
+ * URL is recreated when it is requested
+ */
+final class CompactUrls {
+
+    private static final Interner<String> PREFIXES = Interners.newWeakInterner();
+
+    private CompactUrls() {
+    }
+
+    /**
+     * Get the shared prefix of a URL that has the form {@code prefix + first + second + "/"}
+     *
+     * @param url    full url
+     * @param first  first suffix segment
+     * @param second second suffix segment
+     * @return the shared prefix, or null if the url does not end with the expected suffix
+     */
+    @Nullable static String prefix(@NotNull final String url, @NotNull final String first,
+        @NotNull final String second) {
+        final int suffixLength = first.length() + second.length() + 1;
+        final int prefixLength = url.length() - suffixLength;
+        if (prefixLength < 0 || url.charAt(url.length() - 1) != '/'
+            || !url.regionMatches(prefixLength, first, 0, first.length())
+            || !url.regionMatches(prefixLength + first.length(), second, 0, second.length())) {
+            return null;
+        }
+        return PREFIXES.intern(url.substring(0, prefixLength));
+    }
+
+    /**
+     * Recreate a url from its shared prefix
+     *
+     * @param prefix shared prefix
+     * @param first  first suffix segment
+     * @param second second suffix segment
+     * @return the full url
+     */
+    @NotNull static String join(@NotNull final String prefix, @NotNull final String first,
+        @NotNull final String second) {
+        return new StringBuilder(prefix.length() + first.length() + second.length() + 1)
+            .append(prefix).append(first).append(second).append('/').toString();
+    }
+
+}
@@ -0,0 +1,165 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Information regarding a Jenkins computer (the master, or an agent)
+ * <p>
+ * This is a child to {@link ComputerSet}, and has the members {@link ExecutorInfo}
+ * {@inheritDoc}
+ */
+@SuppressWarnings("unused") public final class ComputerInfo implements NodeChild<ComputerSet> {
+
+    private final String displayName;
+    private final boolean offline;
+    private final int numExecutors;
+    private final Collection<String> labels;
+    private final Collection<ExecutorInfo> executors;
+
+    private ComputerSet parent;
+
+    /**
+     * Instantiates a new Computer info.
+     *
+     * @param displayName  the display name
+     * @param offline      whether or not the computer is offline
+     * @param numExecutors the number of configured executors
+     * @param labels       the labels assigned to the computer
+     * @param executors    the executors
+     */
+    public ComputerInfo(@NotNull final String displayName, final boolean offline,
+        final int numExecutors, @NotNull final Collection<String> labels,
+        @NotNull final Collection<ExecutorInfo> executors) {
+        this.displayName = Preconditions.checkNotNull(displayName, "Display name may not be null");
+        this.offline = offline;
+        this.numExecutors = numExecutors;
+        this.labels = Preconditions.checkNotNull(labels, "Labels may not be null");
+        this.executors = Preconditions.checkNotNull(executors, "Executors may not be null");
+    }
+
+    /**
+     * Gets display name.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return this.displayName;
+    }
+
+    /**
+     * Is offline boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isOffline() {
+        return this.offline;
+    }
+
+    /**
+     * Get the number of executors that are configured for this computer
+     *
+     * @return configured executor count
+     */
+    public int getNumExecutors() {
+        return this.numExecutors;
+    }
+
+    /**
+     * Get the labels assigned to this computer. This includes the
+     * self label (the computer name)
+     *
+     * @return label names
+     */
+    @NotNull public Collection<String> getLabels() {
+        return Collections.unmodifiableCollection(this.labels);
+    }
+
+    /**
+     * Get the executors of this computer
+     *
+     * @return executors
+     */
+    @NotNull public Collection<ExecutorInfo> getExecutors() {
+        return Collections.unmodifiableCollection(this.executors);
+    }
+
+    /**
+     * Get the number of executors that are currently running something
+     *
+     * @return busy executor count
+     */
+    public int getBusyExecutors() {
+        int busy = 0;
+        for (final ExecutorInfo executor : this.executors) {
+            if (!executor.isIdle()) {
+                busy++;
+            }
+        }
+        return busy;
+    }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ComputerInfo that = (ComputerInfo) o;
+        return offline == that.offline && numExecutors == that.numExecutors && displayName
+            .equals(that.displayName) && labels.equals(that.labels) && executors
+            .equals(that.executors);
+    }
+
+    @Override public int hashCode() {
+        return Objects.hash(displayName, offline, numExecutors, labels, executors);
+    }
+
+    @NotNull @Override public String toString() {
+        return "ComputerInfo{" + "displayName='" + displayName + '\'' + ", offline=" + offline
+            + ", numExecutors=" + numExecutors + ", labels=" + labels + ", executors=" + executors
+            + '}';
+    }
+
+    @NotNull @Override public CompletableFuture<ComputerSet> getParent() {
+        return CompletableFuture.completedFuture(this.parent);
+    }
+
+    @Override public void setParent(@NotNull final ComputerSet parent) {
+        if (this.parent != null) {
+            throw new IllegalStateException("Cannot re-set node parent");
+        }
+        this.parent = parent;
+    }
+
+}
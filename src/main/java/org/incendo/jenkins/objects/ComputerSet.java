@@ -0,0 +1,109 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Information regarding all computers (master and agents) attached to Jenkins
+ * <p>
+ * This has the direct child {@link ComputerInfo}
+ * {@inheritDoc}
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class ComputerSet
+    implements Node, NodePath {
+
+    private final Jenkins jenkins;
+    private final int busyExecutors;
+    private final int totalExecutors;
+    private final Collection<ComputerInfo> computers;
+
+    /**
+     * Instantiates a new Computer set.
+     *
+     * @param jenkins        the jenkins
+     * @param busyExecutors  the busy executor count
+     * @param totalExecutors the total executor count
+     * @param computers      the computers
+     */
+    public ComputerSet(@NotNull final Jenkins jenkins, final int busyExecutors,
+        final int totalExecutors, @NotNull final Collection<ComputerInfo> computers) {
+        this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        this.busyExecutors = busyExecutors;
+        this.totalExecutors = totalExecutors;
+        this.computers = Preconditions.checkNotNull(computers, "Computers may not be null");
+    }
+
+    /**
+     * Get the number of busy executors across all computers
+     *
+     * @return busy executor count
+     */
+    public int getBusyExecutors() {
+        return this.busyExecutors;
+    }
+
+    /**
+     * Get the number of executors across all computers
+     *
+     * @return total executor count
+     */
+    public int getTotalExecutors() {
+        return this.totalExecutors;
+    }
+
+    /**
+     * Gets computers.
+     *
+     * @return the computers
+     */
+    @NotNull public Collection<ComputerInfo> getComputers() {
+        return Collections.unmodifiableCollection(this.computers);
+    }
+
+    /**
+     * Get the url of the computer overview
+     *
+     * @return computer set url
+     */
+    @Override public String getUrl() {
+        return String.format("%scomputer/", this.jenkins.getJenkinsPathProvider().getBasePath());
+    }
+
+    @Override public Jenkins getJenkins() {
+        return this.jenkins;
+    }
+
+    @NotNull @Override public String toString() {
+        return "ComputerSet{" + "busyExecutors=" + busyExecutors + ", totalExecutors="
+            + totalExecutors + ", computers=" + computers + '}';
+    }
+
+}
@@ -0,0 +1,103 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Information regarding a single executor slot on a Jenkins computer
+ * <p>
+ * This is a member of {@link ComputerInfo}
+ */
+@SuppressWarnings("unused") public final class ExecutorInfo {
+
+    private final int number;
+    private final boolean idle;
+    private final int progress;
+
+    /**
+     * Instantiates a new Executor info.
+     *
+     * @param number   the executor number
+     * @param idle     whether or not the executor is idle
+     * @param progress the progress of the current executable, or -1
+     */
+    public ExecutorInfo(final int number, final boolean idle, final int progress) {
+        this.number = number;
+        this.idle = idle;
+        this.progress = progress;
+    }
+
+    /**
+     * Gets the executor number
+     *
+     * @return the executor number
+     */
+    public int getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Is idle boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isIdle() {
+        return this.idle;
+    }
+
+    /**
+     * Get the progress (in percent) of the executable that is currently
+     * running on this executor
+     *
+     * @return progress, or -1 if the executor is idle or the progress is unknown
+     */
+    public int getProgress() {
+        return this.progress;
+    }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ExecutorInfo that = (ExecutorInfo) o;
+        return number == that.number && idle == that.idle && progress == that.progress;
+    }
+
+    @Override public int hashCode() {
+        return Objects.hash(number, idle, progress);
+    }
+
+    @NotNull @Override public String toString() {
+        return "ExecutorInfo{" + "number=" + number + ", idle=" + idle + ", progress=" + progress
+            + '}';
+    }
+
+}
@@ -0,0 +1,96 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Glob patterns, in which {@code *} matches any sequence of characters and
+ * {@code ?} matches a single character
+ */
+final class Globs {
+
+    private Globs() {
+    }
+
+    /**
+     * Get the length of the literal part of a glob pattern, before the first wildcard
+     *
+     * @param glob glob pattern
+     * @return the literal prefix length, which is the pattern length if it has no wildcards
+     */
+    static int literalLength(@NotNull final String glob) {
+        int literal = 0;
+        while (literal < glob.length() && glob.charAt(literal) != '*'
+            && glob.charAt(literal) != '?') {
+            literal++;
+        }
+        return literal;
+    }
+
+    /**
+     * Check whether a string matches a glob pattern
+     *
+     * @param glob glob pattern
+     * @param name string to match
+     * @return true if the string matches
+     */
+    static boolean matches(@NotNull final String glob, @NotNull final String name) {
+        final int literal = literalLength(glob);
+        return name.regionMatches(0, glob, 0, literal) && matches(glob, literal, name, literal);
+    }
+
+    /**
+     * Match the remainder of a name against the remainder of a glob pattern. The most
+     * recent {@code *} is backtracked to when a character does not match
+     */
+    static boolean matches(@NotNull final String glob, final int globStart,
+        @NotNull final String name, final int nameStart) {
+        int globIndex = globStart;
+        int nameIndex = nameStart;
+        int star = -1;
+        int starMatch = 0;
+        while (nameIndex < name.length()) {
+            if (globIndex < glob.length() && (glob.charAt(globIndex) == '?'
+                || glob.charAt(globIndex) == name.charAt(nameIndex))) {
+                globIndex++;
+                nameIndex++;
+            } else if (globIndex < glob.length() && glob.charAt(globIndex) == '*') {
+                star = globIndex++;
+                starMatch = nameIndex;
+            } else if (star >= 0) {
+                globIndex = star + 1;
+                nameIndex = ++starMatch;
+            } else {
+                return false;
+            }
+        }
+        while (globIndex < glob.length() && glob.charAt(globIndex) == '*') {
+            globIndex++;
+        }
+        return globIndex == glob.length();
+    }
+
+}
@@ -0,0 +1,103 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Enum-like registry of Jenkins model classes (the {@code _class} property of API objects).
+ * Every class name is only stored once, no matter how many objects refer to it, and
+ * instances can be compared by identity
+ * <p>
+ * Well known classes are available as constants, and any other class is registered
+ * the first time it is seen
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class JenkinsClass {
+
+    private static final ConcurrentMap<String, JenkinsClass> REGISTRY = new ConcurrentHashMap<>();
+
+    public static final JenkinsClass FREE_STYLE_PROJECT = of("hudson.model.FreeStyleProject");
+    public static final JenkinsClass FREE_STYLE_BUILD = of("hudson.model.FreeStyleBuild");
+    public static final JenkinsClass MAVEN_MODULE_SET = of("hudson.maven.MavenModuleSet");
+    public static final JenkinsClass MAVEN_MODULE_SET_BUILD =
+        of("hudson.maven.MavenModuleSetBuild");
+    public static final JenkinsClass MATRIX_PROJECT = of("hudson.matrix.MatrixProject");
+    public static final JenkinsClass MATRIX_BUILD = of("hudson.matrix.MatrixBuild");
+    public static final JenkinsClass WORKFLOW_JOB =
+        of("org.jenkinsci.plugins.workflow.job.WorkflowJob");
+    public static final JenkinsClass WORKFLOW_RUN =
+        of("org.jenkinsci.plugins.workflow.job.WorkflowRun");
+    public static final JenkinsClass WORKFLOW_MULTI_BRANCH_PROJECT =
+        of("org.jenkinsci.plugins.workflow.multibranch.WorkflowMultiBranchProject");
+    public static final JenkinsClass FOLDER = of("com.cloudbees.hudson.plugins.folder.Folder");
+
+    private final String name;
+
+    private JenkinsClass(@NotNull final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the registered instance for a class name, registering it if needed
+     *
+     * @param name fully qualified Jenkins class name
+     * @return the shared instance
+     */
+    @NotNull public static JenkinsClass of(@NotNull final String name) {
+        Preconditions.checkNotNull(name, "Name may not be null");
+        final JenkinsClass jenkinsClass = REGISTRY.get(name);
+        if (jenkinsClass != null) {
+            return jenkinsClass;
+        }
+        return REGISTRY.computeIfAbsent(name, JenkinsClass::new);
+    }
+
+    /**
+     * Get the fully qualified class name
+     *
+     * @return class name
+     */
+    @NotNull public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the simple class name, without the package
+     *
+     * @return simple class name
+     */
+    @NotNull public String getSimpleName() {
+        return this.name.substring(this.name.lastIndexOf('.') + 1);
+    }
+
+    @NotNull @Override public String toString() {
+        return this.name;
+    }
+
+}
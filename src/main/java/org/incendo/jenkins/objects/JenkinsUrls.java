@@ -0,0 +1,99 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility for parsing and building Jenkins object URLs. URLs are scanned in place,
+ * so parsing only allocates the extracted segment, and URLs are built in a
+ * single right-sized buffer
+ */
+final class JenkinsUrls {
+
+    private static final String JOB_SEGMENT = "job/";
+
+    private JenkinsUrls() {
+    }
+
+    /**
+     * Extract the job name from a job or build url, which looks like
+     * {@code $baseurl/job/$jobname/} or {@code $baseurl/job/$jobname/$buildnum/}.
+     * The base url is not needed, so urls that use another host name than the
+     * configured path are parsed as well
+     *
+     * @param url job or build url
+     * @return the job name, or null if the url does not contain a job segment
+     */
+    @Nullable static String jobName(@NotNull final String url) {
+        int end = url.length();
+        if (end > 0 && url.charAt(end - 1) == '/') {
+            end--;
+        }
+        int start = url.lastIndexOf('/', end - 1) + 1;
+        if (start < end && isNumber(url, start, end)) {
+            // skip the build number
+            end = start - 1;
+            start = url.lastIndexOf('/', end - 1) + 1;
+        }
+        final int jobStart = start - JOB_SEGMENT.length();
+        if (start >= end || jobStart < 0
+            || !url.regionMatches(true, jobStart, JOB_SEGMENT, 0, JOB_SEGMENT.length())
+            || (jobStart > 0 && url.charAt(jobStart - 1) != '/')) {
+            return null;
+        }
+        return url.substring(start, end);
+    }
+
+    /**
+     * Create the url of a path below an object url, such as
+     * {@code $buildurl/artifact/$path}
+     *
+     * @param parentUrl object url, with or without a trailing slash
+     * @param segment   segment between the object url and the path
+     * @param path      path, with or without a leading slash
+     * @return the url
+     */
+    @NotNull static String child(@NotNull final String parentUrl, @NotNull final String segment,
+        @NotNull final String path) {
+        final int parentEnd =
+            parentUrl.endsWith("/") ? parentUrl.length() - 1 : parentUrl.length();
+        final int pathStart = path.startsWith("/") ? 1 : 0;
+        return new StringBuilder(parentEnd + segment.length() + path.length() - pathStart + 2)
+            .append(parentUrl, 0, parentEnd).append('/').append(segment).append('/')
+            .append(path, pathStart, path.length()).toString();
+    }
+
+    private static boolean isNumber(@NotNull final String url, final int start, final int end) {
+        for (int index = start; index < end; index++) {
+            if (url.charAt(index) < '0' || url.charAt(index) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
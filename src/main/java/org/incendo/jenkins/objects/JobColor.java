@@ -0,0 +1,86 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * The status ball color of a Jenkins job. Animated colors indicate that
+ * the job is currently building
+ */
+@SuppressWarnings("unused") public enum JobColor {
+    RED,
+    RED_ANIME,
+    YELLOW,
+    YELLOW_ANIME,
+    BLUE,
+    BLUE_ANIME,
+    GREY,
+    GREY_ANIME,
+    DISABLED,
+    DISABLED_ANIME,
+    ABORTED,
+    ABORTED_ANIME,
+    NOTBUILT,
+    NOTBUILT_ANIME;
+
+    private final String name = this.name().toLowerCase(Locale.ENGLISH);
+
+    /**
+     * Parse a color as it is represented in the Jenkins API
+     *
+     * @param color color string, or null
+     * @return the color, or null if the input was null
+     * @throws IllegalArgumentException if the color is unknown
+     */
+    @Nullable public static JobColor fromString(@Nullable final String color) {
+        if (color == null) {
+            return null;
+        }
+        return valueOf(color.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Get the color as it is represented in the Jenkins API
+     *
+     * @return api name
+     */
+    @NotNull public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Check whether this color indicates that the job is building
+     *
+     * @return true if the color is animated
+     */
+    public boolean isAnimated() {
+        return this.name.endsWith("_anime");
+    }
+
+}
@@ -0,0 +1,92 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The upstream and downstream projects of a job, as configured using build triggers.
+ * Jobs that do not support triggers, such as folders, have no dependencies
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class JobDependencies {
+
+    private final String jobName;
+    private final List<String> upstreamProjects;
+    private final List<String> downstreamProjects;
+
+    /**
+     * Instantiates new Job dependencies.
+     *
+     * @param jobName            the job name
+     * @param upstreamProjects   the names of the jobs that trigger the job
+     * @param downstreamProjects the names of the jobs that are triggered by the job
+     */
+    public JobDependencies(@NotNull final String jobName,
+        @NotNull final List<String> upstreamProjects,
+        @NotNull final List<String> downstreamProjects) {
+        this.jobName = Preconditions.checkNotNull(jobName, "Job name may not be null");
+        this.upstreamProjects = Collections.unmodifiableList(
+            Preconditions.checkNotNull(upstreamProjects, "Upstream projects may not be null"));
+        this.downstreamProjects = Collections.unmodifiableList(
+            Preconditions.checkNotNull(downstreamProjects, "Downstream projects may not be null"));
+    }
+
+    /**
+     * Gets job name.
+     *
+     * @return the job name
+     */
+    @NotNull public String getJobName() {
+        return this.jobName;
+    }
+
+    /**
+     * Gets upstream projects.
+     *
+     * @return the names of the jobs that trigger the job
+     */
+    @NotNull public List<String> getUpstreamProjects() {
+        return this.upstreamProjects;
+    }
+
+    /**
+     * Gets downstream projects.
+     *
+     * @return the names of the jobs that are triggered by the job
+     */
+    @NotNull public List<String> getDownstreamProjects() {
+        return this.downstreamProjects;
+    }
+
+    @Override public String toString() {
+        return "JobDependencies{" + "jobName='" + jobName + '\'' + ", upstreamProjects="
+            + upstreamProjects + ", downstreamProjects=" + downstreamProjects + '}';
+    }
+
+}
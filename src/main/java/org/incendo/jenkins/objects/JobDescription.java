@@ -26,21 +26,28 @@ package org.incendo.jenkins.objects;
 
 import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * The type Job description.
+ * <p>
+ * Descriptions are stored compactly: the class is an interned {@link JenkinsClass}, the
+ * color is a {@link JobColor}, and the url is stored as a shared prefix from which the
+ * full url is derived using the job name
  * {@inheritDoc}
  */
 @SuppressWarnings("unused") public final class JobDescription
     implements NodeChild<MasterNode>, NodePath {
 
-    private final String jenkinsClass;
+    private final JenkinsClass jenkinsClass;
     private final String name;
+    // the shared prefix if derivedUrl is true, otherwise the full url
     private final String url;
-    private final String color;
+    private final boolean derivedUrl;
+    private final JobColor color;
 
     private MasterNode parent;
 
@@ -54,13 +61,28 @@ import java.util.concurrent.CompletableFuture;
      */
     public JobDescription(@NotNull final String jenkinsClass, @NotNull final String name,
         @NotNull final String url, @NotNull final String color) {
+        this(JenkinsClass.of(jenkinsClass), name, url,
+            JobColor.fromString(Preconditions.checkNotNull(color, "Color may not be null")));
+    }
+
+    /**
+     * Instantiates a new Job description.
+     *
+     * @param jenkinsClass the jenkins class
+     * @param name         the name
+     * @param url          the url
+     * @param color        the color, or null if the job has no color (such as folders)
+     */
+    public JobDescription(@NotNull final JenkinsClass jenkinsClass, @NotNull final String name,
+        @NotNull final String url, @Nullable final JobColor color) {
         Preconditions.checkNotNull(jenkinsClass, "Jenkins class may not be null");
         Preconditions.checkNotNull(name, "Name may not be null");
         Preconditions.checkNotNull(url, "Url may not be null");
-        Preconditions.checkNotNull(color, "Color may not be null");
         this.jenkinsClass = jenkinsClass;
         this.name = name;
-        this.url = url;
+        final String prefix = CompactUrls.prefix(url, "job/", name);
+        this.derivedUrl = prefix != null;
+        this.url = this.derivedUrl ? prefix : url;
         this.color = color;
     }
 
@@ -70,6 +92,15 @@ import java.util.concurrent.CompletableFuture;
      * @return the jenkins class
      */
     public String getJenkinsClass() {
+        return this.jenkinsClass.getName();
+    }
+
+    /**
+     * Get the interned jenkins class
+     *
+     * @return the jenkins class
+     */
+    @NotNull public JenkinsClass getJenkinsClassType() {
         return this.jenkinsClass;
     }
 
@@ -88,15 +119,27 @@ import java.util.concurrent.CompletableFuture;
      * @return job url
      */
     @Override public String getUrl() {
+        if (this.derivedUrl) {
+            return CompactUrls.join(this.url, "job/", this.name);
+        }
         return this.url;
     }
 
     /**
      * Gets color.
      *
-     * @return the color
+     * @return the color, or null if the job has no color
+     */
+    @Nullable public String getColor() {
+        return this.color == null ? null : this.color.getName();
+    }
+
+    /**
+     * Get the job color
+     *
+     * @return the color, or null if the job has no color
      */
-    public String getColor() {
+    @Nullable public JobColor getJobColor() {
         return this.color;
     }
 
@@ -108,8 +151,8 @@ import java.util.concurrent.CompletableFuture;
             return false;
         }
         final JobDescription that = (JobDescription) o;
-        return jenkinsClass.equals(that.jenkinsClass) && name.equals(that.name) && url
-            .equals(that.url) && color.equals(that.color);
+        return jenkinsClass == that.jenkinsClass && name.equals(that.name) && derivedUrl
+            == that.derivedUrl && url.equals(that.url) && color == that.color;
     }
 
     @Override public int hashCode() {
@@ -118,7 +161,7 @@ import java.util.concurrent.CompletableFuture;
 
     @NotNull @Override public String toString() {
         return "JobDescription{" + "jenkinsClass='" + jenkinsClass + '\'' + ", name='" + name + '\''
-            + ", url='" + url + '\'' + ", color='" + color + '\'' + '}';
+            + ", url='" + getUrl() + '\'' + ", color='" + getColor() + '\'' + '}';
     }
 
     @NotNull @Override public CompletableFuture<MasterNode> getParent() {
@@ -30,6 +30,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -53,6 +54,8 @@ import java.util.concurrent.CompletableFuture;
     private final BuildDescription lastSuccessfulBuild;
     private final int nextBuildNumber;
 
+    private volatile BuildIndex buildIndex;
+
     /**
      * Instantiates a new Job info.
      *
@@ -63,7 +66,9 @@ import java.util.concurrent.CompletableFuture;
      * @param fullDisplayName     the full display name
      * @param description         the description
      * @param url                 the url
-     * @param builds              the builds
+     * @param builds              the builds. If this is a {@link LazyBuildList}, the builds are
+     *                            indexed the first time they are looked up by number. Otherwise,
+     *                            an index is created from the builds
      * @param lastBuild           the last build
      * @param lastCompletedBuild  the last completed build
      * @param lastFailedBuild     the last failed build
@@ -86,7 +91,14 @@ import java.util.concurrent.CompletableFuture;
             Preconditions.checkNotNull(fullDisplayName, "Full display name may not be null");
         this.description = Preconditions.checkNotNull(description, "Description may not be null");
         this.url = Preconditions.checkNotNull(url, "Url may not be null");
-        this.builds = Preconditions.checkNotNull(builds);
+        Preconditions.checkNotNull(builds, "Builds may not be null");
+        if (builds instanceof LazyBuildList) {
+            this.builds = builds;
+            ((LazyBuildList) builds).setParent(this);
+        } else {
+            this.buildIndex = BuildIndex.of(builds);
+            this.builds = this.buildIndex;
+        }
         this.lastBuild = lastBuild;
         this.lastCompletedBuild = lastCompletedBuild;
         this.lastFailedBuild = lastFailedBuild;
@@ -149,7 +161,8 @@ import java.util.concurrent.CompletableFuture;
     }
 
     /**
-     * Gets builds.
+     * Gets builds, newest first. When lazy build decoding is used, builds are
+     * decoded as they are iterated over
      *
      * @return the builds
      */
@@ -157,6 +170,47 @@ import java.util.concurrent.CompletableFuture;
         return builds;
     }
 
+    /**
+     * Get the builds, indexed by build number. When lazy build decoding is used,
+     * this decodes all builds the first time it is called
+     *
+     * @return build index
+     */
+    @NotNull public BuildIndex getBuildIndex() {
+        BuildIndex buildIndex = this.buildIndex;
+        if (buildIndex == null) {
+            synchronized (this) {
+                buildIndex = this.buildIndex;
+                if (buildIndex == null) {
+                    buildIndex = this.buildIndex = BuildIndex.of(this.builds);
+                }
+            }
+        }
+        return buildIndex;
+    }
+
+    /**
+     * Get a build by its build number. Only builds listed by
+     * {@link #getBuilds()} can be found
+     *
+     * @param number build number
+     * @return the build description, or null if the job does not list the build
+     */
+    @Nullable public BuildDescription getBuild(final int number) {
+        return this.getBuildIndex().get(number);
+    }
+
+    /**
+     * Get the complete build history of this job. Unlike {@link #getBuilds()},
+     * this is not limited to the builds that Jenkins lists by default
+     *
+     * @param pageSize the number of builds to request at a time
+     * @return the build history
+     */
+    @NotNull public BuildHistory getBuildHistory(final int pageSize) {
+        return new BuildHistory(this.jenkins, this.name, pageSize, this);
+    }
+
     /**
      * Gets last build.
      *
@@ -235,4 +289,18 @@ import java.util.concurrent.CompletableFuture;
         });
     }
 
+    /**
+     * Get build infos for many builds of this job
+     *
+     * @param numbers the build numbers
+     * @return the build infos, in ascending build number order
+     * @see Jenkins#getBuildInfos(String, int[])
+     */
+    public CompletableFuture<List<BuildInfo>> getBuildInfos(@NotNull final int[] numbers) {
+        return this.jenkins.getBuildInfos(this.name, numbers).thenApply(buildInfos -> {
+            buildInfos.forEach(buildInfo -> buildInfo.setParent(JobInfo.this));
+            return buildInfos;
+        });
+    }
+
 }
@@ -0,0 +1,227 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable collection of {@link JobDescription job descriptions}, indexed by job name.
+ * A hash table gives O(1) lookup by name, and the names are kept in a sorted array,
+ * which gives O(log n + k) prefix queries. Glob queries narrow the candidates down
+ * to the names that start with the literal part of the pattern before matching
+ * <p>
+ * Iteration order is ascending job name order
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class JobNameIndex
+    extends AbstractCollection<JobDescription> {
+
+    private static final JobNameIndex EMPTY =
+        new JobNameIndex(new String[0], new JobDescription[0]);
+
+    // ascending job names, and the descriptions at the same positions
+    private final String[] names;
+    private final JobDescription[] jobs;
+    private final Map<String, JobDescription> byName;
+
+    private JobNameIndex(@NotNull final String[] names, @NotNull final JobDescription[] jobs) {
+        this.names = names;
+        this.jobs = jobs;
+        this.byName = new HashMap<>(Math.max(16, names.length * 4 / 3 + 1));
+        for (int position = 0; position < names.length; position++) {
+            this.byName.put(names[position], jobs[position]);
+        }
+    }
+
+    /**
+     * Create a new index from a collection of job descriptions. If several
+     * descriptions share the same name, only the first one is kept
+     *
+     * @param jobDescriptions job descriptions, in any order
+     * @return the index
+     */
+    @NotNull public static JobNameIndex of(
+        @NotNull final Collection<JobDescription> jobDescriptions) {
+        Preconditions.checkNotNull(jobDescriptions, "Job descriptions may not be null");
+        if (jobDescriptions instanceof JobNameIndex) {
+            return (JobNameIndex) jobDescriptions;
+        }
+        if (jobDescriptions.isEmpty()) {
+            return EMPTY;
+        }
+        final JobDescription[] sorted = jobDescriptions.toArray(new JobDescription[0]);
+        for (final JobDescription jobDescription : sorted) {
+            Preconditions.checkNotNull(jobDescription, "Job description may not be null");
+        }
+        // stable sort, so that the first duplicate stays first
+        Arrays.sort(sorted, Comparator.comparing(JobDescription::getName));
+        int size = 0;
+        final String[] names = new String[sorted.length];
+        for (final JobDescription jobDescription : sorted) {
+            final String name = jobDescription.getName();
+            if (size > 0 && names[size - 1].equals(name)) {
+                continue;
+            }
+            names[size] = name;
+            sorted[size++] = jobDescription;
+        }
+        return new JobNameIndex(Arrays.copyOf(names, size), Arrays.copyOf(sorted, size));
+    }
+
+    /**
+     * Get an empty index
+     *
+     * @return empty index
+     */
+    @NotNull public static JobNameIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Get the job with the given name
+     *
+     * @param name job name
+     * @return the job description, or null if the index does not contain the job
+     */
+    @Nullable public JobDescription get(@NotNull final String name) {
+        return this.byName.get(name);
+    }
+
+    /**
+     * Check whether the index contains a job with the given name
+     *
+     * @param name job name
+     * @return true if the job is indexed
+     */
+    public boolean containsName(@NotNull final String name) {
+        return this.byName.containsKey(name);
+    }
+
+    /**
+     * Get all jobs with names that start with the given prefix, such as {@code release-}
+     *
+     * @param prefix name prefix
+     * @return the job descriptions, in ascending name order
+     */
+    @NotNull public List<JobDescription> withPrefix(@NotNull final String prefix) {
+        Preconditions.checkNotNull(prefix, "Prefix may not be null");
+        final int start = this.insertionPoint(prefix);
+        final int end = this.prefixEnd(prefix, start);
+        if (start == end) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(this.jobs, start,
+            end)));
+    }
+
+    /**
+     * Get all jobs with names that match a glob pattern, in which {@code *} matches any
+     * sequence of characters and {@code ?} matches a single character, such as
+     * {@code release-*-linux}
+     *
+     * @param glob glob pattern
+     * @return the job descriptions, in ascending name order
+     */
+    @NotNull public List<JobDescription> matching(@NotNull final String glob) {
+        Preconditions.checkNotNull(glob, "Glob may not be null");
+        final int literal = Globs.literalLength(glob);
+        if (literal == glob.length()) {
+            // no wildcards
+            final JobDescription jobDescription = this.get(glob);
+            if (jobDescription == null) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(jobDescription);
+        }
+        final String prefix = glob.substring(0, literal);
+        final int start = this.insertionPoint(prefix);
+        final int end = this.prefixEnd(prefix, start);
+        final List<JobDescription> result = new ArrayList<>();
+        for (int position = start; position < end; position++) {
+            if (Globs.matches(glob, literal, this.names[position], literal)) {
+                result.add(this.jobs[position]);
+            }
+        }
+        return result;
+    }
+
+    @Override public int size() {
+        return this.jobs.length;
+    }
+
+    @Override public boolean contains(final Object o) {
+        if (!(o instanceof JobDescription)) {
+            return false;
+        }
+        final JobDescription jobDescription = (JobDescription) o;
+        return jobDescription.equals(this.get(jobDescription.getName()));
+    }
+
+    @NotNull @Override public Iterator<JobDescription> iterator() {
+        return Collections.unmodifiableList(Arrays.asList(this.jobs)).iterator();
+    }
+
+    /**
+     * Get the first position with a name greater than or equal to the given name
+     */
+    private int insertionPoint(@NotNull final String name) {
+        int low = 0;
+        int high = this.names.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (this.names[middle].compareTo(name) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the first position after the given start with a name that does not
+     * start with the prefix
+     */
+    private int prefixEnd(@NotNull final String prefix, final int start) {
+        int end = start;
+        while (end < this.names.length && this.names[end].startsWith(prefix)) {
+            end++;
+        }
+        return end;
+    }
+
+}
@@ -0,0 +1,143 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.metrics.FlightRecorderEvents;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * List of {@link BuildDescription build descriptions} that are decoded on demand. The
+ * list keeps the encoded builds, and only decodes an entry the first time it is accessed
+ * or iterated over. Decoded entries are cached
+ * <p>
+ * This is used by {@link JobInfo} when lazy build decoding is enabled, so that callers
+ * who never look at the build list do not pay for decoding it
+ */
+@SuppressWarnings("unused") public final class LazyBuildList extends AbstractList<BuildDescription>
+    implements RandomAccess {
+
+    private static final String CACHE_NAME = "lazy-builds";
+
+    private final Decoder decoder;
+
+    private BuildDescription[] decoded;
+    private JobInfo parent;
+
+    /**
+     * Instantiates a new Lazy build list.
+     *
+     * @param decoder decoder that has access to the encoded builds
+     */
+    public LazyBuildList(@NotNull final Decoder decoder) {
+        this.decoder = Preconditions.checkNotNull(decoder, "Decoder may not be null");
+    }
+
+    @Override public synchronized BuildDescription get(final int index) {
+        if (this.decoded == null) {
+            this.decoded = new BuildDescription[this.decoder.size()];
+        }
+        Preconditions.checkElementIndex(index, this.decoded.length);
+        BuildDescription buildDescription = this.decoded[index];
+        final boolean hit = buildDescription != null;
+        if (!hit) {
+            buildDescription = this.decoder.decode(index);
+            if (this.parent != null) {
+                buildDescription.setParent(this.parent);
+            }
+            this.decoded[index] = buildDescription;
+        }
+        FlightRecorderEvents.cacheAccess(CACHE_NAME, this.parent == null ?
+            null : this.parent.getName(), buildDescription.getNumber(), hit);
+        return buildDescription;
+    }
+
+    @Override public int size() {
+        return this.decoder.size();
+    }
+
+    /**
+     * Get the number of entries that have been decoded so far
+     *
+     * @return decoded entry count
+     */
+    public synchronized int getDecodedCount() {
+        if (this.decoded == null) {
+            return 0;
+        }
+        int count = 0;
+        for (final BuildDescription buildDescription : this.decoded) {
+            if (buildDescription != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Set the job that all decoded entries belong to
+     *
+     * @param parent the job
+     */
+    synchronized void setParent(@NotNull final JobInfo parent) {
+        if (this.parent != null) {
+            throw new IllegalStateException("Cannot re-set node parent");
+        }
+        this.parent = parent;
+        if (this.decoded != null) {
+            for (final BuildDescription buildDescription : this.decoded) {
+                if (buildDescription != null) {
+                    buildDescription.setParent(parent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Decoder with access to an encoded build list
+     */
+    public interface Decoder {
+
+        /**
+         * Get the number of encoded builds
+         *
+         * @return build count
+         */
+        int size();
+
+        /**
+         * Decode a single build
+         *
+         * @param index index in the encoded list
+         * @return the decoded build description
+         */
+        @NotNull BuildDescription decode(int index);
+
+    }
+
+}
@@ -26,10 +26,13 @@ package org.incendo.jenkins.objects;
 
 import com.google.common.base.Preconditions;
 import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.JobShard;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -39,10 +42,11 @@ import java.util.concurrent.CompletableFuture;
 @SuppressWarnings({"unused", "WeakerAccess"}) public class MasterNode implements Node, NodePath {
 
     private final Collection<JobDescription> jobDescriptions;
+    private final JobNameIndex jobNameIndex;
     private final Jenkins jenkins;
 
     /**
-     * Instantiates a new Master node.
+     * Instantiates a new Master node. The job descriptions are indexed by name
      *
      * @param jenkins         the jenkins
      * @param jobDescriptions the job descriptions
@@ -52,6 +56,7 @@ import java.util.concurrent.CompletableFuture;
         this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
         this.jobDescriptions =
             Preconditions.checkNotNull(jobDescriptions, "Job descriptions may not be null");
+        this.jobNameIndex = JobNameIndex.of(jobDescriptions);
     }
 
     /**
@@ -72,6 +77,58 @@ import java.util.concurrent.CompletableFuture;
         return Collections.unmodifiableCollection(this.jobDescriptions);
     }
 
+    /**
+     * Gets the job descriptions that are assigned to a shard.
+     *
+     * @param shard job shard
+     * @return the job descriptions of the shard
+     */
+    public List<JobDescription> getJobDescriptions(@NotNull final JobShard shard) {
+        return Preconditions.checkNotNull(shard, "Shard may not be null")
+            .filter(this.jobDescriptions);
+    }
+
+    /**
+     * Gets a job description by name, without iterating over the jobs.
+     *
+     * @param jobName the job name
+     * @return the job description, or null if there is no such job
+     */
+    @Nullable public JobDescription getJobDescription(@NotNull final String jobName) {
+        return this.jobNameIndex.get(jobName);
+    }
+
+    /**
+     * Gets the job descriptions with names that start with a prefix, such as {@code release-}.
+     *
+     * @param prefix the name prefix
+     * @return the job descriptions, in ascending name order
+     */
+    public List<JobDescription> getJobDescriptionsByPrefix(@NotNull final String prefix) {
+        return this.jobNameIndex.withPrefix(prefix);
+    }
+
+    /**
+     * Gets the job descriptions with names that match a glob pattern, such as
+     * {@code release-*-linux}.
+     *
+     * @param glob the glob pattern, using {@code *} and {@code ?} as wildcards
+     * @return the job descriptions, in ascending name order
+     * @see JobNameIndex#matching(String)
+     */
+    public List<JobDescription> getJobDescriptionsMatching(@NotNull final String glob) {
+        return this.jobNameIndex.matching(glob);
+    }
+
+    /**
+     * Gets job name index.
+     *
+     * @return the index of the job descriptions by name
+     */
+    @NotNull public JobNameIndex getJobNameIndex() {
+        return this.jobNameIndex;
+    }
+
     /**
      * Gets job info.
      *
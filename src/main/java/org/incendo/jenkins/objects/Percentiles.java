@@ -0,0 +1,86 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Percentiles of primitive values, found by selection rather than by sorting
+ */
+final class Percentiles {
+
+    private Percentiles() {
+    }
+
+    /**
+     * Get a percentile of the first values of an array, using the nearest rank
+     * method. The values are reordered
+     *
+     * @param values     values
+     * @param count      number of values, which must be positive
+     * @param percentile percentile, from 0 to 100
+     * @return the value at the percentile
+     */
+    static long select(@NotNull final long[] values, final int count, final double percentile) {
+        final int rank = (int) Math.ceil(percentile / 100D * count) - 1;
+        return quickselect(values, count, Math.max(0, rank));
+    }
+
+    /**
+     * Find the value of the given rank among the first values of an array, using
+     * quickselect. The values are reordered
+     */
+    private static long quickselect(@NotNull final long[] values, final int count, final int rank) {
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            final long pivot = values[(low + high) >>> 1];
+            int left = low;
+            int right = high;
+            while (left <= right) {
+                while (values[left] < pivot) {
+                    left++;
+                }
+                while (values[right] > pivot) {
+                    right--;
+                }
+                if (left <= right) {
+                    final long swap = values[left];
+                    values[left++] = values[right];
+                    values[right--] = swap;
+                }
+            }
+            if (rank <= right) {
+                high = right;
+            } else if (rank >= left) {
+                low = left;
+            } else {
+                return values[rank];
+            }
+        }
+        return values[low];
+    }
+
+}
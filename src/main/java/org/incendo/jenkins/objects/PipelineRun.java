@@ -0,0 +1,168 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stage timings of a pipeline ({@code WorkflowRun}) build, as reported by the
+ * pipeline stage view API ({@code wfapi/describe})
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class PipelineRun {
+
+    private final int number;
+    private final String name;
+    private final PipelineStatus status;
+    private final long startTimeMillis;
+    private final long durationMillis;
+    private final long queueDurationMillis;
+    private final long pauseDurationMillis;
+    private final List<PipelineStage> stages;
+
+    /**
+     * Instantiates a new Pipeline run.
+     *
+     * @param number              the build number
+     * @param name                the build display name
+     * @param status              the run status
+     * @param startTimeMillis     the start time, in milliseconds since the epoch
+     * @param durationMillis      the duration, in milliseconds
+     * @param queueDurationMillis the time spent in the queue, in milliseconds
+     * @param pauseDurationMillis the time spent waiting for input, in milliseconds
+     * @param stages              the stages, in execution order
+     */
+    public PipelineRun(final int number, @NotNull final String name,
+        @NotNull final PipelineStatus status, final long startTimeMillis,
+        final long durationMillis, final long queueDurationMillis,
+        final long pauseDurationMillis, @NotNull final List<PipelineStage> stages) {
+        this.number = number;
+        this.name = Preconditions.checkNotNull(name, "Name may not be null");
+        this.status = Preconditions.checkNotNull(status, "Status may not be null");
+        this.startTimeMillis = startTimeMillis;
+        this.durationMillis = durationMillis;
+        this.queueDurationMillis = queueDurationMillis;
+        this.pauseDurationMillis = pauseDurationMillis;
+        this.stages = Collections.unmodifiableList(
+            Preconditions.checkNotNull(stages, "Stages may not be null"));
+    }
+
+    /**
+     * Gets number.
+     *
+     * @return the build number
+     */
+    public int getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the build display name
+     */
+    @NotNull public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets status.
+     *
+     * @return the run status
+     */
+    @NotNull public PipelineStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Gets start time millis.
+     *
+     * @return the start time, in milliseconds since the epoch
+     */
+    public long getStartTimeMillis() {
+        return this.startTimeMillis;
+    }
+
+    /**
+     * Gets duration millis.
+     *
+     * @return the duration, in milliseconds
+     */
+    public long getDurationMillis() {
+        return this.durationMillis;
+    }
+
+    /**
+     * Gets queue duration millis.
+     *
+     * @return the time spent in the queue, in milliseconds
+     */
+    public long getQueueDurationMillis() {
+        return this.queueDurationMillis;
+    }
+
+    /**
+     * Gets pause duration millis.
+     *
+     * @return the time spent waiting for input, in milliseconds
+     */
+    public long getPauseDurationMillis() {
+        return this.pauseDurationMillis;
+    }
+
+    /**
+     * Gets stages.
+     *
+     * @return the stages, in execution order
+     */
+    @NotNull public List<PipelineStage> getStages() {
+        return this.stages;
+    }
+
+    /**
+     * Get a stage by name
+     *
+     * @param name stage name
+     * @return the first stage with the name, or null if the run has no such stage
+     */
+    @Nullable public PipelineStage getStage(@NotNull final String name) {
+        for (final PipelineStage stage : this.stages) {
+            if (stage.getName().equals(name)) {
+                return stage;
+            }
+        }
+        return null;
+    }
+
+    @Override public String toString() {
+        return "PipelineRun{" + "number=" + number + ", status=" + status + ", durationMillis="
+            + durationMillis + ", stages=" + stages + '}';
+    }
+
+}
@@ -0,0 +1,122 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Timing of a single stage of a {@link PipelineRun}
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class PipelineStage {
+
+    private final String id;
+    private final String name;
+    private final PipelineStatus status;
+    private final long startTimeMillis;
+    private final long durationMillis;
+    private final long pauseDurationMillis;
+
+    /**
+     * Instantiates a new Pipeline stage.
+     *
+     * @param id                  the flow node id of the stage
+     * @param name                the stage name
+     * @param status              the stage status
+     * @param startTimeMillis     the start time, in milliseconds since the epoch
+     * @param durationMillis      the duration, in milliseconds
+     * @param pauseDurationMillis the time spent waiting for input, in milliseconds
+     */
+    public PipelineStage(@NotNull final String id, @NotNull final String name,
+        @NotNull final PipelineStatus status, final long startTimeMillis,
+        final long durationMillis, final long pauseDurationMillis) {
+        this.id = Preconditions.checkNotNull(id, "Id may not be null");
+        this.name = Preconditions.checkNotNull(name, "Name may not be null");
+        this.status = Preconditions.checkNotNull(status, "Status may not be null");
+        this.startTimeMillis = startTimeMillis;
+        this.durationMillis = durationMillis;
+        this.pauseDurationMillis = pauseDurationMillis;
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the flow node id of the stage
+     */
+    @NotNull public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the stage name
+     */
+    @NotNull public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets status.
+     *
+     * @return the stage status
+     */
+    @NotNull public PipelineStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Gets start time millis.
+     *
+     * @return the start time, in milliseconds since the epoch
+     */
+    public long getStartTimeMillis() {
+        return this.startTimeMillis;
+    }
+
+    /**
+     * Gets duration millis.
+     *
+     * @return the duration, in milliseconds
+     */
+    public long getDurationMillis() {
+        return this.durationMillis;
+    }
+
+    /**
+     * Gets pause duration millis.
+     *
+     * @return the time spent waiting for input, in milliseconds
+     */
+    public long getPauseDurationMillis() {
+        return this.pauseDurationMillis;
+    }
+
+    @Override public String toString() {
+        return "PipelineStage{" + "id='" + id + '\'' + ", name='" + name + '\'' + ", status="
+            + status + ", durationMillis=" + durationMillis + '}';
+    }
+
+}
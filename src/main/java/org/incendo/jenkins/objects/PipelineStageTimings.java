@@ -0,0 +1,250 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stage durations of a range of pipeline builds of a job, in ascending build number
+ * order. The durations of every stage are kept in a primitive array with one value
+ * per build, so that the stages in which pipeline time is spent can be found without
+ * creating objects per stage
+ * <p>
+ * Stages are identified by name, in the order in which they first ran. A build has
+ * a duration of -1 for stages that it did not run, that were skipped, or that were
+ * still running when the build was read. The arrays returned by the getters are
+ * shared, and must not be modified
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class PipelineStageTimings {
+
+    private final int[] numbers;
+    private final List<String> stageNames;
+    private final long[][] durations;
+
+    /**
+     * Instantiates new Pipeline stage timings. The build numbers must be ascending,
+     * and every duration array must have one value per build
+     *
+     * @param numbers    the build numbers
+     * @param stageNames the stage names
+     * @param durations  the durations of every stage, in milliseconds, or -1 for builds
+     *                   without a completed run of the stage
+     */
+    public PipelineStageTimings(@NotNull final int[] numbers,
+        @NotNull final List<String> stageNames, @NotNull final long[][] durations) {
+        Preconditions.checkArgument(durations.length == stageNames.size(),
+            "There must be one duration array per stage");
+        for (final long[] stageDurations : durations) {
+            Preconditions.checkArgument(stageDurations.length == numbers.length,
+                "There must be one duration per build");
+        }
+        this.numbers = numbers;
+        this.stageNames = Collections.unmodifiableList(new ArrayList<>(stageNames));
+        this.durations = durations;
+    }
+
+    /**
+     * Get the number of builds
+     *
+     * @return build count
+     */
+    public int size() {
+        return this.numbers.length;
+    }
+
+    /**
+     * Gets numbers.
+     *
+     * @return the build numbers, ascending
+     */
+    @NotNull public int[] getNumbers() {
+        return this.numbers;
+    }
+
+    /**
+     * Gets stage names.
+     *
+     * @return the stage names, in the order in which they first ran
+     */
+    @NotNull public List<String> getStageNames() {
+        return this.stageNames;
+    }
+
+    /**
+     * Get the index of a stage
+     *
+     * @param stageName stage name
+     * @return the stage index, or -1 if no build ran the stage
+     */
+    public int getStageIndex(@NotNull final String stageName) {
+        return this.stageNames.indexOf(stageName);
+    }
+
+    /**
+     * Get the durations of a stage
+     *
+     * @param stage stage index
+     * @return the duration of the stage in every build, in milliseconds, or -1 for
+     * builds without a completed run of the stage
+     */
+    @NotNull public long[] getDurations(final int stage) {
+        Preconditions.checkElementIndex(stage, this.durations.length);
+        return this.durations[stage];
+    }
+
+    /**
+     * Get the number of builds with a completed run of a stage
+     *
+     * @param stage stage index
+     * @return build count
+     */
+    public int getCount(final int stage) {
+        int count = 0;
+        for (final long duration : this.getDurations(stage)) {
+            if (duration >= 0L) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the total duration of a stage over all builds
+     *
+     * @param stage stage index
+     * @return the total duration, in milliseconds
+     */
+    public long getTotalDuration(final int stage) {
+        long total = 0L;
+        for (final long duration : this.getDurations(stage)) {
+            if (duration >= 0L) {
+                total += duration;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Get the mean duration of a stage
+     *
+     * @param stage stage index
+     * @return the mean duration in milliseconds, or {@link Double#NaN} if no build
+     * completed the stage
+     */
+    public double getAverageDuration(final int stage) {
+        final int count = this.getCount(stage);
+        return count == 0 ? Double.NaN : (double) this.getTotalDuration(stage) / count;
+    }
+
+    /**
+     * Get a duration percentile of a stage
+     *
+     * @param stage      stage index
+     * @param percentile percentile, from 0 to 100
+     * @return the duration in milliseconds, or -1 if no build completed the stage
+     */
+    public long getDurationPercentile(final int stage, final double percentile) {
+        Preconditions.checkArgument(percentile >= 0D && percentile <= 100D,
+            "Percentile must be between 0 and 100");
+        final long[] stageDurations = this.getDurations(stage);
+        final long[] completed = new long[stageDurations.length];
+        int count = 0;
+        for (final long duration : stageDurations) {
+            if (duration >= 0L) {
+                completed[count++] = duration;
+            }
+        }
+        return count == 0 ? -1L : Percentiles.select(completed, count, percentile);
+    }
+
+    @NotNull @Override public String toString() {
+        return "PipelineStageTimings{" + "numbers=" + Arrays.toString(numbers) + ", stageNames="
+            + stageNames + '}';
+    }
+
+    /**
+     * Collects pipeline runs in any order. Runs that have not finished are left out
+     */
+    public static final class Builder {
+
+        private final List<PipelineRun> runs = new ArrayList<>();
+
+        /**
+         * Add a run, unless it has not finished
+         *
+         * @param pipelineRun the run
+         * @return this builder
+         */
+        @NotNull public Builder add(@NotNull final PipelineRun pipelineRun) {
+            Preconditions.checkNotNull(pipelineRun, "Pipeline run may not be null");
+            if (!pipelineRun.getStatus().isRunning()) {
+                this.runs.add(pipelineRun);
+            }
+            return this;
+        }
+
+        /**
+         * Create the timings, in ascending build number order
+         *
+         * @return the timings
+         */
+        @NotNull public PipelineStageTimings build() {
+            this.runs.sort(Comparator.comparingInt(PipelineRun::getNumber));
+            final int[] numbers = new int[this.runs.size()];
+            final Map<String, long[]> stages = new LinkedHashMap<>();
+            for (int build = 0; build < numbers.length; build++) {
+                final PipelineRun pipelineRun = this.runs.get(build);
+                numbers[build] = pipelineRun.getNumber();
+                for (final PipelineStage stage : pipelineRun.getStages()) {
+                    if (stage.getStatus().isRunning()
+                        || stage.getStatus() == PipelineStatus.NOT_EXECUTED) {
+                        continue;
+                    }
+                    final long[] stageDurations = stages.computeIfAbsent(stage.getName(), name -> {
+                        final long[] missing = new long[numbers.length];
+                        Arrays.fill(missing, -1L);
+                        return missing;
+                    });
+                    // stages that run more than once, such as in loops, are summed
+                    stageDurations[build] = Math.max(0L, stageDurations[build])
+                        + stage.getDurationMillis();
+                }
+            }
+            return new PipelineStageTimings(numbers, new ArrayList<>(stages.keySet()),
+                stages.values().toArray(new long[0][]));
+        }
+
+    }
+
+}
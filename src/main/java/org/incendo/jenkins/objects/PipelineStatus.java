@@ -0,0 +1,88 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Status of a pipeline run or stage, as reported by the pipeline stage view
+ * API ({@code wfapi})
+ */
+@SuppressWarnings("unused") public enum PipelineStatus {
+    /**
+     * The run or stage had no errors
+     */
+    SUCCESS,
+    /**
+     * The run or stage had errors that were not fatal (for example failing tests)
+     */
+    UNSTABLE,
+    /**
+     * The run or stage had a fatal error
+     */
+    FAILED,
+    /**
+     * The run or stage was manually aborted
+     */
+    ABORTED,
+    /**
+     * The stage was skipped
+     */
+    NOT_EXECUTED,
+    /**
+     * The run or stage is running
+     */
+    IN_PROGRESS,
+    /**
+     * The run or stage is waiting for input
+     */
+    PAUSED_PENDING_INPUT;
+
+    /**
+     * Parse a status as it is represented in the pipeline stage view API
+     *
+     * @param status status string
+     * @return the status, or null if the input was null
+     * @throws IllegalArgumentException if the status is unknown
+     */
+    @Nullable public static PipelineStatus fromString(@Nullable final String status) {
+        if (status == null) {
+            return null;
+        }
+        return valueOf(status.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Check whether the run or stage has not finished yet
+     *
+     * @return true if the status is {@link #IN_PROGRESS} or {@link #PAUSED_PENDING_INPUT}
+     */
+    public boolean isRunning() {
+        return this == IN_PROGRESS || this == PAUSED_PENDING_INPUT;
+    }
+
+}
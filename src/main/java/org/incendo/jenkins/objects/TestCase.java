@@ -0,0 +1,169 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Result of a single test case in a build test report
+ */
+@SuppressWarnings("unused") public final class TestCase {
+
+    private final String className;
+    private final String name;
+    private final TestStatus status;
+    private final long duration;
+    private final int age;
+    private final int failedSince;
+    private final String errorDetails;
+    private final String errorStackTrace;
+
+    /**
+     * Instantiates a new Test case.
+     *
+     * @param className       the test class name
+     * @param name            the test name
+     * @param status          the status
+     * @param duration        the duration, in milliseconds
+     * @param age             the number of builds that the test has been failing for
+     * @param failedSince     the build in which the test started failing, or 0
+     * @param errorDetails    the error message, or null
+     * @param errorStackTrace the error stack trace, or null
+     */
+    public TestCase(@NotNull final String className, @NotNull final String name,
+        @NotNull final TestStatus status, final long duration, final int age,
+        final int failedSince, @Nullable final String errorDetails,
+        @Nullable final String errorStackTrace) {
+        this.className = Preconditions.checkNotNull(className, "Class name may not be null");
+        this.name = Preconditions.checkNotNull(name, "Name may not be null");
+        this.status = Preconditions.checkNotNull(status, "Status may not be null");
+        this.duration = duration;
+        this.age = age;
+        this.failedSince = failedSince;
+        this.errorDetails = errorDetails;
+        this.errorStackTrace = errorStackTrace;
+    }
+
+    /**
+     * Gets class name.
+     *
+     * @return the test class name
+     */
+    @NotNull public String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the test name
+     */
+    @NotNull public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets status.
+     *
+     * @return the status
+     */
+    @NotNull public TestStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Gets duration.
+     *
+     * @return the duration, in milliseconds
+     */
+    public long getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Gets age.
+     *
+     * @return the number of builds that the test has been failing for, or 0
+     */
+    public int getAge() {
+        return this.age;
+    }
+
+    /**
+     * Gets failed since.
+     *
+     * @return the build in which the test started failing, or 0
+     */
+    public int getFailedSince() {
+        return this.failedSince;
+    }
+
+    /**
+     * Gets error details.
+     *
+     * @return the error message, or null
+     */
+    @Nullable public String getErrorDetails() {
+        return this.errorDetails;
+    }
+
+    /**
+     * Gets error stack trace.
+     *
+     * @return the error stack trace, or null
+     */
+    @Nullable public String getErrorStackTrace() {
+        return this.errorStackTrace;
+    }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TestCase testCase = (TestCase) o;
+        return duration == testCase.duration && age == testCase.age
+            && failedSince == testCase.failedSince && className.equals(testCase.className)
+            && name.equals(testCase.name) && status == testCase.status && Objects
+            .equals(errorDetails, testCase.errorDetails) && Objects
+            .equals(errorStackTrace, testCase.errorStackTrace);
+    }
+
+    @Override public int hashCode() {
+        return Objects.hash(className, name, status, duration, age, failedSince);
+    }
+
+    @NotNull @Override public String toString() {
+        return "TestCase{" + "className='" + className + '\'' + ", name='" + name + '\''
+            + ", status=" + status + ", duration=" + duration + ", age=" + age + '}';
+    }
+
+}
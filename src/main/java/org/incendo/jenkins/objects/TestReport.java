@@ -0,0 +1,119 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Totals of a build test report. The suites and cases of the report are passed
+ * to a {@link TestReportListener} as they are read, so only the totals are kept
+ */
+@SuppressWarnings("unused") public final class TestReport {
+
+    private final long duration;
+    private final int passCount;
+    private final int failCount;
+    private final int skipCount;
+    private final int suiteCount;
+
+    /**
+     * Instantiates a new Test report.
+     *
+     * @param duration   the duration, in milliseconds
+     * @param passCount  the number of passed cases
+     * @param failCount  the number of failed cases
+     * @param skipCount  the number of skipped cases
+     * @param suiteCount the number of suites
+     */
+    public TestReport(final long duration, final int passCount, final int failCount,
+        final int skipCount, final int suiteCount) {
+        this.duration = duration;
+        this.passCount = passCount;
+        this.failCount = failCount;
+        this.skipCount = skipCount;
+        this.suiteCount = suiteCount;
+    }
+
+    /**
+     * Gets duration.
+     *
+     * @return the duration, in milliseconds
+     */
+    public long getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Gets pass count.
+     *
+     * @return the number of passed cases
+     */
+    public int getPassCount() {
+        return this.passCount;
+    }
+
+    /**
+     * Gets fail count.
+     *
+     * @return the number of failed cases
+     */
+    public int getFailCount() {
+        return this.failCount;
+    }
+
+    /**
+     * Gets skip count.
+     *
+     * @return the number of skipped cases
+     */
+    public int getSkipCount() {
+        return this.skipCount;
+    }
+
+    /**
+     * Gets total count.
+     *
+     * @return the number of cases
+     */
+    public int getTotalCount() {
+        return this.passCount + this.failCount + this.skipCount;
+    }
+
+    /**
+     * Gets suite count.
+     *
+     * @return the number of suites
+     */
+    public int getSuiteCount() {
+        return this.suiteCount;
+    }
+
+    @NotNull @Override public String toString() {
+        return "TestReport{" + "duration=" + duration + ", passCount=" + passCount
+            + ", failCount=" + failCount + ", skipCount=" + skipCount + ", suiteCount="
+            + suiteCount + '}';
+    }
+
+}
@@ -0,0 +1,79 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Status of a test case, relative to the previous build
+ */
+@SuppressWarnings("unused") public enum TestStatus {
+    /**
+     * The test passed, and passed in the previous build
+     */
+    PASSED,
+    /**
+     * The test was skipped
+     */
+    SKIPPED,
+    /**
+     * The test failed, and failed in the previous build
+     */
+    FAILED,
+    /**
+     * The test passed, and failed in the previous build
+     */
+    FIXED,
+    /**
+     * The test failed, and passed in the previous build
+     */
+    REGRESSION;
+
+    /**
+     * Parse a status as it is represented in the Jenkins API
+     *
+     * @param status status string, or null
+     * @return the status, or null if the input was null
+     * @throws IllegalArgumentException if the status is unknown
+     */
+    @Nullable public static TestStatus fromString(@Nullable final String status) {
+        if (status == null) {
+            return null;
+        }
+        return valueOf(status.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Check whether the test failed
+     *
+     * @return true if the status is {@link #FAILED} or {@link #REGRESSION}
+     */
+    public boolean isFailure() {
+        return this == FAILED || this == REGRESSION;
+    }
+
+}
@@ -0,0 +1,99 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Summary of a test suite in a build test report. The cases of the suite are
+ * not kept, they are passed to a {@link TestReportListener} as they are read
+ */
+@SuppressWarnings("unused") public final class TestSuite {
+
+    private final String name;
+    private final long duration;
+    private final int caseCount;
+    private final int failCount;
+
+    /**
+     * Instantiates a new Test suite.
+     *
+     * @param name      the suite name
+     * @param duration  the duration, in milliseconds
+     * @param caseCount the number of cases in the suite
+     * @param failCount the number of failed cases in the suite
+     */
+    public TestSuite(@NotNull final String name, final long duration, final int caseCount,
+        final int failCount) {
+        this.name = Preconditions.checkNotNull(name, "Name may not be null");
+        this.duration = duration;
+        this.caseCount = caseCount;
+        this.failCount = failCount;
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the suite name
+     */
+    @NotNull public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets duration.
+     *
+     * @return the duration, in milliseconds
+     */
+    public long getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Gets case count.
+     *
+     * @return the number of cases in the suite, including cases that were not
+     * passed to the listener
+     */
+    public int getCaseCount() {
+        return this.caseCount;
+    }
+
+    /**
+     * Gets fail count.
+     *
+     * @return the number of failed cases in the suite
+     */
+    public int getFailCount() {
+        return this.failCount;
+    }
+
+    @NotNull @Override public String toString() {
+        return "TestSuite{" + "name='" + name + '\'' + ", duration=" + duration + ", caseCount="
+            + caseCount + ", failCount=" + failCount + '}';
+    }
+
+}
@@ -0,0 +1,293 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Test result counts of a range of builds of a job, in ascending build number order.
+ * The values are kept in primitive arrays, one value per build, so that they can be
+ * passed to charting code without conversion
+ * <p>
+ * Builds without a test report have a total count of -1, and fail and skip counts
+ * of 0. Builds that are still running are included, as builds of the same job may
+ * run concurrently, and are marked using {@link #isBuilding(int)}. The arrays
+ * returned by the getters are shared, and must not be modified
+ */
+@SuppressWarnings({"unused", "WeakerAccess"}) public final class TestTrend {
+
+    private final int[] numbers;
+    private final long[] timestamps;
+    private final long[] durations;
+    private final int[] totalCounts;
+    private final int[] failCounts;
+    private final int[] skipCounts;
+    private final boolean[] building;
+
+    /**
+     * Instantiates a new Test trend. All arrays must have the same length, and be
+     * ordered by ascending build number
+     *
+     * @param numbers     the build numbers
+     * @param timestamps  the build timestamps
+     * @param durations   the build durations, in milliseconds
+     * @param totalCounts the test case counts, or -1 for builds without a test report
+     * @param failCounts  the failed test case counts
+     * @param skipCounts  the skipped test case counts
+     * @param building    whether the builds were running when they were read
+     */
+    public TestTrend(@NotNull final int[] numbers, @NotNull final long[] timestamps,
+        @NotNull final long[] durations, @NotNull final int[] totalCounts,
+        @NotNull final int[] failCounts, @NotNull final int[] skipCounts,
+        @NotNull final boolean[] building) {
+        Preconditions.checkArgument(timestamps.length == numbers.length
+                && durations.length == numbers.length && totalCounts.length == numbers.length
+                && failCounts.length == numbers.length && skipCounts.length == numbers.length
+                && building.length == numbers.length, "All arrays must have the same length");
+        this.numbers = numbers;
+        this.timestamps = timestamps;
+        this.durations = durations;
+        this.totalCounts = totalCounts;
+        this.failCounts = failCounts;
+        this.skipCounts = skipCounts;
+        this.building = building;
+    }
+
+    /**
+     * Get the number of builds in the trend
+     *
+     * @return build count
+     */
+    public int size() {
+        return this.numbers.length;
+    }
+
+    /**
+     * Gets numbers.
+     *
+     * @return the build numbers, ascending
+     */
+    @NotNull public int[] getNumbers() {
+        return this.numbers;
+    }
+
+    /**
+     * Gets timestamps.
+     *
+     * @return the build timestamps
+     */
+    @NotNull public long[] getTimestamps() {
+        return this.timestamps;
+    }
+
+    /**
+     * Gets durations.
+     *
+     * @return the build durations, in milliseconds
+     */
+    @NotNull public long[] getDurations() {
+        return this.durations;
+    }
+
+    /**
+     * Gets total counts.
+     *
+     * @return the test case counts, or -1 for builds without a test report
+     */
+    @NotNull public int[] getTotalCounts() {
+        return this.totalCounts;
+    }
+
+    /**
+     * Gets fail counts.
+     *
+     * @return the failed test case counts
+     */
+    @NotNull public int[] getFailCounts() {
+        return this.failCounts;
+    }
+
+    /**
+     * Gets skip counts.
+     *
+     * @return the skipped test case counts
+     */
+    @NotNull public int[] getSkipCounts() {
+        return this.skipCounts;
+    }
+
+    /**
+     * Get the passed test case counts
+     *
+     * @return a new array with the passed test case counts, or 0 for builds
+     * without a test report
+     */
+    @NotNull public int[] getPassCounts() {
+        final int[] passCounts = new int[this.numbers.length];
+        for (int index = 0; index < passCounts.length; index++) {
+            if (this.totalCounts[index] >= 0) {
+                passCounts[index] =
+                    this.totalCounts[index] - this.failCounts[index] - this.skipCounts[index];
+            }
+        }
+        return passCounts;
+    }
+
+    /**
+     * Check whether a build has a test report
+     *
+     * @param index build index
+     * @return true if the build has a test report
+     */
+    public boolean hasTestReport(final int index) {
+        return this.totalCounts[index] >= 0;
+    }
+
+    /**
+     * Check whether a build was running when the trend was read. Running builds
+     * have a duration of 0, and may not have a test report yet
+     *
+     * @param index build index
+     * @return true if the build was running
+     */
+    public boolean isBuilding(final int index) {
+        return this.building[index];
+    }
+
+    @NotNull @Override public String toString() {
+        return "TestTrend{" + "numbers=" + Arrays.toString(numbers) + ", totalCounts=" + Arrays
+            .toString(totalCounts) + ", failCounts=" + Arrays.toString(failCounts) + '}';
+    }
+
+    /**
+     * Collects the builds of a trend in the order in which Jenkins lists them,
+     * which is newest first
+     */
+    public static final class Builder {
+
+        private int size;
+        private int[] numbers;
+        private long[] timestamps;
+        private long[] durations;
+        private int[] totalCounts;
+        private int[] failCounts;
+        private int[] skipCounts;
+        private boolean[] building;
+
+        /**
+         * Instantiates a new Builder.
+         *
+         * @param expectedSize expected number of builds
+         */
+        public Builder(final int expectedSize) {
+            final int capacity = Math.max(1, expectedSize);
+            this.numbers = new int[capacity];
+            this.timestamps = new long[capacity];
+            this.durations = new long[capacity];
+            this.totalCounts = new int[capacity];
+            this.failCounts = new int[capacity];
+            this.skipCounts = new int[capacity];
+            this.building = new boolean[capacity];
+        }
+
+        /**
+         * Add a build, which is older than all builds that were added before
+         *
+         * @param number     the build number
+         * @param timestamp  the build timestamp
+         * @param duration   the build duration, in milliseconds
+         * @param totalCount the test case count, or -1 if the build has no test report
+         * @param failCount  the failed test case count
+         * @param skipCount  the skipped test case count
+         * @param building   whether the build is running
+         * @return this builder
+         */
+        @NotNull public Builder add(final int number, final long timestamp, final long duration,
+            final int totalCount, final int failCount, final int skipCount,
+            final boolean building) {
+            if (this.size == this.numbers.length) {
+                final int capacity = this.size * 2;
+                this.numbers = Arrays.copyOf(this.numbers, capacity);
+                this.timestamps = Arrays.copyOf(this.timestamps, capacity);
+                this.durations = Arrays.copyOf(this.durations, capacity);
+                this.totalCounts = Arrays.copyOf(this.totalCounts, capacity);
+                this.failCounts = Arrays.copyOf(this.failCounts, capacity);
+                this.skipCounts = Arrays.copyOf(this.skipCounts, capacity);
+                this.building = Arrays.copyOf(this.building, capacity);
+            }
+            this.numbers[this.size] = number;
+            this.timestamps[this.size] = timestamp;
+            this.durations[this.size] = duration;
+            this.totalCounts[this.size] = totalCount;
+            this.failCounts[this.size] = failCount;
+            this.skipCounts[this.size] = skipCount;
+            this.building[this.size] = building;
+            this.size++;
+            return this;
+        }
+
+        /**
+         * Create the trend, in ascending build number order
+         *
+         * @return the trend
+         */
+        @NotNull public TestTrend build() {
+            return new TestTrend(reverse(this.numbers, this.size),
+                reverse(this.timestamps, this.size), reverse(this.durations, this.size),
+                reverse(this.totalCounts, this.size), reverse(this.failCounts, this.size),
+                reverse(this.skipCounts, this.size), reverse(this.building, this.size));
+        }
+
+        @NotNull private static int[] reverse(@NotNull final int[] values, final int size) {
+            final int[] reversed = new int[size];
+            for (int index = 0; index < size; index++) {
+                reversed[index] = values[size - 1 - index];
+            }
+            return reversed;
+        }
+
+        @NotNull private static long[] reverse(@NotNull final long[] values, final int size) {
+            final long[] reversed = new long[size];
+            for (int index = 0; index < size; index++) {
+                reversed[index] = values[size - 1 - index];
+            }
+            return reversed;
+        }
+
+        @NotNull private static boolean[] reverse(@NotNull final boolean[] values,
+            final int size) {
+            final boolean[] reversed = new boolean[size];
+            for (int index = 0; index < size; index++) {
+                reversed[index] = values[size - 1 - index];
+            }
+            return reversed;
+        }
+
+    }
+
+}
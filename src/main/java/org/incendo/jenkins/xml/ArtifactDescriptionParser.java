@@ -0,0 +1,62 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.ArtifactDescription;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * XML parser for {@link ArtifactDescription}
+ */
+final class ArtifactDescriptionParser implements XmlParser<ArtifactDescription> {
+
+    @NotNull @Override public ArtifactDescription parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        // Null values are omitted, which the JSON API reports as "null"
+        String displayPath = "null";
+        String fileName = "";
+        String relativePath = "";
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "displayPath":
+                    displayPath = XmlStreams.text(reader);
+                    break;
+                case "fileName":
+                    fileName = XmlStreams.text(reader);
+                    break;
+                case "relativePath":
+                    relativePath = XmlStreams.text(reader);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        return new ArtifactDescription(displayPath, fileName, relativePath);
+    }
+
+}
@@ -0,0 +1,93 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.ArtifactIndex;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * XML parser for {@link ArtifactIndex}, reading the {@code allBuild} elements of a job
+ */
+final class ArtifactIndexParser implements XmlParser<ArtifactIndex> {
+
+    @NotNull @Override public ArtifactIndex parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final ArtifactIndex artifactIndex = new ArtifactIndex();
+        while (XmlStreams.nextChild(reader)) {
+            if (reader.getLocalName().equals("allBuild")) {
+                this.parseBuild(reader, artifactIndex);
+            } else {
+                XmlStreams.skip(reader);
+            }
+        }
+        return artifactIndex;
+    }
+
+    private void parseBuild(@NotNull final XMLStreamReader reader,
+        @NotNull final ArtifactIndex artifactIndex) throws XMLStreamException {
+        Integer number = null;
+        boolean building = false;
+        final List<String> fileNames = new ArrayList<>();
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "number":
+                    number = XmlStreams.intValue(reader);
+                    break;
+                case "building":
+                    building = XmlStreams.booleanValue(reader);
+                    break;
+                case "artifact":
+                    this.parseArtifact(reader, fileNames);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        if (building) {
+            artifactIndex.addRunning(XmlStreams.require(number, "number"));
+        } else {
+            artifactIndex.add(XmlStreams.require(number, "number"), fileNames);
+        }
+    }
+
+    private void parseArtifact(@NotNull final XMLStreamReader reader,
+        @NotNull final List<String> fileNames) throws XMLStreamException {
+        String fileName = null;
+        while (XmlStreams.nextChild(reader)) {
+            if (reader.getLocalName().equals("fileName")) {
+                fileName = XmlStreams.text(reader);
+            } else {
+                XmlStreams.skip(reader);
+            }
+        }
+        fileNames.add(XmlStreams.require(fileName, "fileName"));
+    }
+
+}
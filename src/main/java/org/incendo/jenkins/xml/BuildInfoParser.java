@@ -0,0 +1,113 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.objects.ArtifactDescription;
+import org.incendo.jenkins.objects.BuildInfo;
+import org.incendo.jenkins.objects.BuildResult;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * XML parser for {@link BuildInfo}
+ */
+final class BuildInfoParser implements XmlParser<BuildInfo> {
+
+    private final Jenkins jenkins;
+    private final ArtifactDescriptionParser artifactDescriptionParser =
+        new ArtifactDescriptionParser();
+
+    /**
+     * Instantiates a new Build info parser.
+     *
+     * @param jenkins the jenkins instance
+     */
+    BuildInfoParser(@NotNull final Jenkins jenkins) {
+        this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+    }
+
+    @NotNull @Override public BuildInfo parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        Boolean building = null;
+        // The result is omitted while the build is running
+        BuildResult result = null;
+        String displayName = null;
+        String fullDisplayName = null;
+        Integer id = null;
+        Long duration = null;
+        Long timestamp = null;
+        String url = null;
+        final Collection<ArtifactDescription> artifacts = new ArrayList<>();
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "building":
+                    building = XmlStreams.booleanValue(reader);
+                    break;
+                case "result":
+                    result = BuildResult.fromString(XmlStreams.text(reader));
+                    break;
+                case "displayName":
+                    displayName = XmlStreams.text(reader);
+                    break;
+                case "fullDisplayName":
+                    fullDisplayName = XmlStreams.text(reader);
+                    break;
+                case "id":
+                    id = XmlStreams.intValue(reader);
+                    break;
+                case "duration":
+                    duration = XmlStreams.longValue(reader);
+                    break;
+                case "timestamp":
+                    timestamp = XmlStreams.longValue(reader);
+                    break;
+                case "url":
+                    url = XmlStreams.text(reader);
+                    break;
+                case "artifact":
+                    artifacts.add(this.artifactDescriptionParser.parse(reader));
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        final BuildInfo buildInfo =
+            new BuildInfo(this.jenkins, XmlStreams.require(building, "building"), result,
+                XmlStreams.require(displayName, "displayName"),
+                XmlStreams.require(fullDisplayName, "fullDisplayName"),
+                XmlStreams.require(id, "id"), XmlStreams.require(duration, "duration"),
+                XmlStreams.require(timestamp, "timestamp"), XmlStreams.require(url, "url"),
+                artifacts);
+        artifacts.forEach(artifactInfo -> artifactInfo.setParent(buildInfo));
+        return buildInfo;
+    }
+
+}
@@ -0,0 +1,86 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.BuildResult;
+import org.incendo.jenkins.objects.BuildTimeSeries;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * XML parser for {@link BuildTimeSeries}, reading the {@code allBuild} elements of a job
+ */
+final class BuildTimeSeriesParser implements XmlParser<BuildTimeSeries> {
+
+    @NotNull @Override public BuildTimeSeries parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final BuildTimeSeries buildTimeSeries = new BuildTimeSeries(16);
+        while (XmlStreams.nextChild(reader)) {
+            if (reader.getLocalName().equals("allBuild")) {
+                this.parseBuild(reader, buildTimeSeries);
+            } else {
+                XmlStreams.skip(reader);
+            }
+        }
+        return buildTimeSeries;
+    }
+
+    private void parseBuild(@NotNull final XMLStreamReader reader,
+        @NotNull final BuildTimeSeries buildTimeSeries) throws XMLStreamException {
+        Integer number = null;
+        Long timestamp = null;
+        Long duration = null;
+        boolean building = false;
+        // The result is omitted while the build is running
+        BuildResult result = null;
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "number":
+                    number = XmlStreams.intValue(reader);
+                    break;
+                case "timestamp":
+                    timestamp = XmlStreams.longValue(reader);
+                    break;
+                case "duration":
+                    duration = XmlStreams.longValue(reader);
+                    break;
+                case "building":
+                    building = XmlStreams.booleanValue(reader);
+                    break;
+                case "result":
+                    result = BuildResult.fromString(XmlStreams.text(reader));
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        buildTimeSeries.add(XmlStreams.require(number, "number"),
+            XmlStreams.require(timestamp, "timestamp"), XmlStreams.require(duration, "duration"),
+            building ? null : result);
+    }
+
+}
@@ -0,0 +1,90 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.ComputerInfo;
+import org.incendo.jenkins.objects.ExecutorInfo;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * XML parser for {@link ComputerInfo}
+ */
+final class ComputerInfoParser implements XmlParser<ComputerInfo> {
+
+    private final ExecutorInfoParser executorInfoParser = new ExecutorInfoParser();
+
+    @NotNull @Override public ComputerInfo parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        String displayName = "";
+        boolean offline = false;
+        int numExecutors = -1;
+        final Collection<String> labels = new ArrayList<>();
+        final Collection<ExecutorInfo> executors = new ArrayList<>();
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "displayName":
+                    displayName = XmlStreams.text(reader);
+                    break;
+                case "offline":
+                    offline = XmlStreams.booleanValue(reader);
+                    break;
+                case "numExecutors":
+                    numExecutors = XmlStreams.intValue(reader);
+                    break;
+                case "assignedLabel":
+                    labels.add(this.readLabel(reader));
+                    break;
+                case "executor":
+                    executors.add(this.executorInfoParser.parse(reader));
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        if (numExecutors == -1) {
+            numExecutors = executors.size();
+        }
+        return new ComputerInfo(displayName, offline, numExecutors, labels, executors);
+    }
+
+    @NotNull private String readLabel(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        String name = null;
+        while (XmlStreams.nextChild(reader)) {
+            if (reader.getLocalName().equals("name")) {
+                name = XmlStreams.text(reader);
+            } else {
+                XmlStreams.skip(reader);
+            }
+        }
+        return XmlStreams.require(name, "name");
+    }
+
+}
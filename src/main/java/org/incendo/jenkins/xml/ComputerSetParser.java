@@ -0,0 +1,93 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.objects.ComputerInfo;
+import org.incendo.jenkins.objects.ComputerSet;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * XML parser for {@link ComputerSet}
+ */
+final class ComputerSetParser implements XmlParser<ComputerSet> {
+
+    private final Jenkins jenkins;
+    private final ComputerInfoParser computerInfoParser = new ComputerInfoParser();
+
+    /**
+     * Instantiates a new Computer set parser.
+     *
+     * @param jenkins the jenkins instance
+     */
+    ComputerSetParser(@NotNull final Jenkins jenkins) {
+        this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+    }
+
+    @NotNull @Override public ComputerSet parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final Collection<ComputerInfo> computers = new ArrayList<>();
+        int busyExecutors = -1;
+        int totalExecutors = -1;
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "computer":
+                    computers.add(this.computerInfoParser.parse(reader));
+                    break;
+                case "busyExecutors":
+                    busyExecutors = XmlStreams.intValue(reader);
+                    break;
+                case "totalExecutors":
+                    totalExecutors = XmlStreams.intValue(reader);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        if (busyExecutors == -1 || totalExecutors == -1) {
+            int busy = 0;
+            int total = 0;
+            for (final ComputerInfo computer : computers) {
+                if (!computer.isOffline()) {
+                    busy += computer.getBusyExecutors();
+                    total += computer.getExecutors().size();
+                }
+            }
+            busyExecutors = busyExecutors == -1 ? busy : busyExecutors;
+            totalExecutors = totalExecutors == -1 ? total : totalExecutors;
+        }
+        final ComputerSet computerSet =
+            new ComputerSet(this.jenkins, busyExecutors, totalExecutors, computers);
+        computers.forEach(computer -> computer.setParent(computerSet));
+        return computerSet;
+    }
+
+}
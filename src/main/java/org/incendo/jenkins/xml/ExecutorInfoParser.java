@@ -0,0 +1,61 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.ExecutorInfo;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * XML parser for {@link ExecutorInfo}
+ */
+final class ExecutorInfoParser implements XmlParser<ExecutorInfo> {
+
+    @NotNull @Override public ExecutorInfo parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        int number = -1;
+        boolean idle = false;
+        int progress = -1;
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "number":
+                    number = XmlStreams.intValue(reader);
+                    break;
+                case "idle":
+                    idle = XmlStreams.booleanValue(reader);
+                    break;
+                case "progress":
+                    progress = XmlStreams.intValue(reader);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        return new ExecutorInfo(number, idle, progress);
+    }
+
+}
@@ -0,0 +1,79 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.JobDependencies;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * XML parser for {@link JobDependencies}, reading the {@code upstreamProject} and
+ * {@code downstreamProject} elements of a job
+ */
+final class JobDependenciesParser implements XmlParser<JobDependencies> {
+
+    private final String jobName;
+
+    JobDependenciesParser(@NotNull final String jobName) {
+        this.jobName = jobName;
+    }
+
+    @NotNull @Override public JobDependencies parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final List<String> upstreamProjects = new ArrayList<>();
+        final List<String> downstreamProjects = new ArrayList<>();
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "upstreamProject":
+                    upstreamProjects.add(this.parseName(reader));
+                    break;
+                case "downstreamProject":
+                    downstreamProjects.add(this.parseName(reader));
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        return new JobDependencies(this.jobName, upstreamProjects, downstreamProjects);
+    }
+
+    @NotNull private String parseName(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        String name = null;
+        while (XmlStreams.nextChild(reader)) {
+            if (reader.getLocalName().equals("name")) {
+                name = XmlStreams.text(reader);
+            } else {
+                XmlStreams.skip(reader);
+            }
+        }
+        return XmlStreams.require(name, "name");
+    }
+
+}
@@ -0,0 +1,66 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.JenkinsClass;
+import org.incendo.jenkins.objects.JobColor;
+import org.incendo.jenkins.objects.JobDescription;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * XML parser for {@link JobDescription}
+ */
+final class JobDescriptionParser implements XmlParser<JobDescription> {
+
+    @NotNull @Override public JobDescription parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final JenkinsClass jenkinsClass = XmlStreams.jenkinsClass(reader);
+        String name = null;
+        String url = null;
+        // Folders and other non-buildable items do not have a color
+        JobColor color = null;
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "name":
+                    name = XmlStreams.text(reader);
+                    break;
+                case "url":
+                    url = XmlStreams.text(reader);
+                    break;
+                case "color":
+                    color = JobColor.fromString(XmlStreams.text(reader));
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        return new JobDescription(jenkinsClass, XmlStreams.require(name, "name"),
+            XmlStreams.require(url, "url"), color);
+    }
+
+}
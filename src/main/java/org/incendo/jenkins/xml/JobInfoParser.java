@@ -0,0 +1,150 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.objects.BuildDescription;
+import org.incendo.jenkins.objects.BuildIndex;
+import org.incendo.jenkins.objects.JobInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * XML parser for {@link JobInfo}
+ */
+final class JobInfoParser implements XmlParser<JobInfo> {
+
+    private final Jenkins jenkins;
+    private final BuildDescriptionParser buildDescriptionParser;
+
+    /**
+     * Instantiates a new Job info parser.
+     *
+     * @param jenkins                the jenkins instance
+     * @param buildDescriptionParser the build description parser
+     */
+    JobInfoParser(@NotNull final Jenkins jenkins,
+        @NotNull final BuildDescriptionParser buildDescriptionParser) {
+        this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        this.buildDescriptionParser = Preconditions
+            .checkNotNull(buildDescriptionParser, "Build description parser may not be null");
+    }
+
+    @NotNull @Override public JobInfo parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        String name = null;
+        String fullName = null;
+        String displayName = null;
+        String fullDisplayName = null;
+        String description = "";
+        String url = null;
+        Integer nextBuildNumber = null;
+        final Collection<BuildDescription> decoded = new ArrayList<>();
+        BuildDescription lastBuild = null;
+        BuildDescription lastCompletedBuild = null;
+        BuildDescription lastFailedBuild = null;
+        BuildDescription lastSuccessfulBuild = null;
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "name":
+                    name = XmlStreams.text(reader);
+                    break;
+                case "fullName":
+                    fullName = XmlStreams.text(reader);
+                    break;
+                case "displayName":
+                    displayName = XmlStreams.text(reader);
+                    break;
+                case "fullDisplayName":
+                    fullDisplayName = XmlStreams.text(reader);
+                    break;
+                case "description":
+                    description = XmlStreams.text(reader);
+                    break;
+                case "url":
+                    url = XmlStreams.text(reader);
+                    break;
+                case "nextBuildNumber":
+                    nextBuildNumber = XmlStreams.intValue(reader);
+                    break;
+                case "build":
+                    decoded.add(this.buildDescriptionParser.parse(reader));
+                    break;
+                case "lastBuild":
+                    lastBuild = this.buildDescriptionParser.parse(reader);
+                    break;
+                case "lastCompletedBuild":
+                    lastCompletedBuild = this.buildDescriptionParser.parse(reader);
+                    break;
+                case "lastFailedBuild":
+                    lastFailedBuild = this.buildDescriptionParser.parse(reader);
+                    break;
+                case "lastSuccessfulBuild":
+                    lastSuccessfulBuild = this.buildDescriptionParser.parse(reader);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        final BuildIndex buildIndex = BuildIndex.of(decoded);
+        // Share the listed instances with the permalinks, as the JSON reader does
+        lastBuild = indexed(lastBuild, buildIndex);
+        lastCompletedBuild = indexed(lastCompletedBuild, buildIndex);
+        lastFailedBuild = indexed(lastFailedBuild, buildIndex);
+        lastSuccessfulBuild = indexed(lastSuccessfulBuild, buildIndex);
+        final JobInfo jobInfo = new JobInfo(this.jenkins, XmlStreams.require(name, "name"),
+            XmlStreams.require(fullName, "fullName"),
+            XmlStreams.require(displayName, "displayName"),
+            XmlStreams.require(fullDisplayName, "fullDisplayName"), description,
+            XmlStreams.require(url, "url"), buildIndex, lastBuild, lastCompletedBuild,
+            lastFailedBuild, lastSuccessfulBuild,
+            XmlStreams.require(nextBuildNumber, "nextBuildNumber"));
+        buildIndex.forEach(buildDescription -> buildDescription.setParent(jobInfo));
+        // Permalinks to builds outside of the listed builds are not part of the index
+        for (final BuildDescription permalink : new BuildDescription[] {lastBuild,
+            lastCompletedBuild, lastFailedBuild, lastSuccessfulBuild}) {
+            if (permalink != null && buildIndex.get(permalink.getNumber()) != permalink) {
+                permalink.setParent(jobInfo);
+            }
+        }
+        return jobInfo;
+    }
+
+    @Nullable private static BuildDescription indexed(@Nullable final BuildDescription permalink,
+        @NotNull final BuildIndex buildIndex) {
+        if (permalink == null) {
+            return null;
+        }
+        final BuildDescription indexed = buildIndex.get(permalink.getNumber());
+        return indexed == null ? permalink : indexed;
+    }
+
+}
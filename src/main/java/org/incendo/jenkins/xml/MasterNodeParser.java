@@ -0,0 +1,71 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.objects.JobDescription;
+import org.incendo.jenkins.objects.MasterNode;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * XML parser for {@link MasterNode}. Only the {@code job} children of the root
+ * are read, so the root may also be an xpath wrapper element
+ */
+final class MasterNodeParser implements XmlParser<MasterNode> {
+
+    private final Jenkins jenkins;
+    private final JobDescriptionParser jobDescriptionParser = new JobDescriptionParser();
+
+    /**
+     * Instantiates a new Master node parser.
+     *
+     * @param jenkins the jenkins instance
+     */
+    MasterNodeParser(@NotNull final Jenkins jenkins) {
+        this.jenkins = Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+    }
+
+    @NotNull @Override public MasterNode parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final Collection<JobDescription> jobDescriptions = new ArrayList<>();
+        while (XmlStreams.nextChild(reader)) {
+            if (reader.getLocalName().equals("job")) {
+                jobDescriptions.add(this.jobDescriptionParser.parse(reader));
+            } else {
+                XmlStreams.skip(reader);
+            }
+        }
+        final MasterNode masterNode = new MasterNode(this.jenkins, jobDescriptions);
+        jobDescriptions.forEach(jobDescription -> jobDescription.setParent(masterNode));
+        return masterNode;
+    }
+
+}
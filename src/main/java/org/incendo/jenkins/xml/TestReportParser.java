@@ -0,0 +1,180 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.objects.TestCase;
+import org.incendo.jenkins.objects.TestReport;
+import org.incendo.jenkins.objects.TestReportListener;
+import org.incendo.jenkins.objects.TestStatus;
+import org.incendo.jenkins.objects.TestSuite;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * XML parser for {@link TestReport}. Every case is passed to a
+ * {@link TestReportListener} as soon as it has been read, and is not kept
+ */
+final class TestReportParser implements XmlParser<TestReport> {
+
+    private final boolean failuresOnly;
+    private final TestReportListener listener;
+
+    /**
+     * Instantiates a new Test report parser.
+     *
+     * @param failuresOnly whether only failed cases should be passed to the listener
+     * @param listener     receives the suites and cases
+     */
+    TestReportParser(final boolean failuresOnly, @NotNull final TestReportListener listener) {
+        this.failuresOnly = failuresOnly;
+        this.listener = Preconditions.checkNotNull(listener, "Listener may not be null");
+    }
+
+    @NotNull @Override public TestReport parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        long duration = 0L;
+        int passCount = 0;
+        int failCount = 0;
+        int skipCount = 0;
+        int suiteCount = 0;
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "duration":
+                    duration = millis(reader);
+                    break;
+                case "passCount":
+                    passCount = XmlStreams.intValue(reader);
+                    break;
+                case "failCount":
+                    failCount = XmlStreams.intValue(reader);
+                    break;
+                case "skipCount":
+                    skipCount = XmlStreams.intValue(reader);
+                    break;
+                case "suite":
+                    this.parseSuite(reader);
+                    suiteCount++;
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        return new TestReport(duration, passCount, failCount, skipCount, suiteCount);
+    }
+
+    private void parseSuite(@NotNull final XMLStreamReader reader) throws XMLStreamException {
+        String name = "";
+        long duration = 0L;
+        int caseCount = 0;
+        int failCount = 0;
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "name":
+                    name = XmlStreams.text(reader);
+                    break;
+                case "duration":
+                    duration = millis(reader);
+                    break;
+                case "case":
+                    final TestCase testCase = parseCase(reader);
+                    caseCount++;
+                    if (testCase.getStatus().isFailure()) {
+                        failCount++;
+                    } else if (this.failuresOnly) {
+                        break;
+                    }
+                    this.listener.onCase(testCase);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        this.listener.onSuite(new TestSuite(name, duration, caseCount, failCount));
+    }
+
+    @NotNull private static TestCase parseCase(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        String className = null;
+        String name = null;
+        String status = null;
+        long duration = 0L;
+        int age = 0;
+        int failedSince = 0;
+        String errorDetails = null;
+        String errorStackTrace = null;
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "className":
+                    className = XmlStreams.text(reader);
+                    break;
+                case "name":
+                    name = XmlStreams.text(reader);
+                    break;
+                case "status":
+                    status = XmlStreams.text(reader);
+                    break;
+                case "duration":
+                    duration = millis(reader);
+                    break;
+                case "age":
+                    age = XmlStreams.intValue(reader);
+                    break;
+                case "failedSince":
+                    failedSince = XmlStreams.intValue(reader);
+                    break;
+                case "errorDetails":
+                    errorDetails = XmlStreams.text(reader);
+                    break;
+                case "errorStackTrace":
+                    errorStackTrace = XmlStreams.text(reader);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        return new TestCase(XmlStreams.require(className, "className"),
+            XmlStreams.require(name, "name"),
+            XmlStreams.require(TestStatus.fromString(status), "status"), duration, age,
+            failedSince, errorDetails, errorStackTrace);
+    }
+
+    /**
+     * Jenkins reports test durations in seconds
+     */
+    private static long millis(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final String text = XmlStreams.text(reader);
+        try {
+            return Math.round(Double.parseDouble(text.trim()) * 1000D);
+        } catch (final NumberFormatException exception) {
+            throw new XMLStreamException(String.format("Expected a number, got: %s", text),
+                reader.getLocation(), exception);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.TestTrend;
+import org.jetbrains.annotations.NotNull;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * XML parser for {@link TestTrend}, reading the {@code allBuild} elements of a job
+ * and the counts of their test result {@code action} elements
+ */
+final class TestTrendParser implements XmlParser<TestTrend> {
+
+    @NotNull @Override public TestTrend parse(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final TestTrend.Builder builder = new TestTrend.Builder(16);
+        while (XmlStreams.nextChild(reader)) {
+            if (reader.getLocalName().equals("allBuild")) {
+                this.parseBuild(reader, builder);
+            } else {
+                XmlStreams.skip(reader);
+            }
+        }
+        return builder.build();
+    }
+
+    private void parseBuild(@NotNull final XMLStreamReader reader,
+        @NotNull final TestTrend.Builder builder) throws XMLStreamException {
+        Integer number = null;
+        long timestamp = 0L;
+        long duration = 0L;
+        boolean building = false;
+        // total, fail and skip count of the test result action
+        final int[] counts = {-1, 0, 0};
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "number":
+                    number = XmlStreams.intValue(reader);
+                    break;
+                case "timestamp":
+                    timestamp = XmlStreams.longValue(reader);
+                    break;
+                case "duration":
+                    duration = XmlStreams.longValue(reader);
+                    break;
+                case "building":
+                    building = XmlStreams.booleanValue(reader);
+                    break;
+                case "action":
+                    this.parseAction(reader, counts);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+        builder.add(XmlStreams.require(number, "number"), timestamp, duration, counts[0],
+            counts[1], counts[2], building);
+    }
+
+    private void parseAction(@NotNull final XMLStreamReader reader, @NotNull final int[] counts)
+        throws XMLStreamException {
+        while (XmlStreams.nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "totalCount":
+                    counts[0] = XmlStreams.intValue(reader);
+                    break;
+                case "failCount":
+                    counts[1] = XmlStreams.intValue(reader);
+                    break;
+                case "skipCount":
+                    counts[2] = XmlStreams.intValue(reader);
+                    break;
+                default:
+                    XmlStreams.skip(reader);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,229 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import com.google.common.base.Preconditions;
+import org.incendo.jenkins.Jenkins;
+import org.incendo.jenkins.JenkinsAPIType;
+import org.incendo.jenkins.JenkinsPathProvider;
+import org.incendo.jenkins.JenkinsReader;
+import org.incendo.jenkins.exception.JenkinsNodeReadException;
+import org.incendo.jenkins.json.PipelineRunReader;
+import org.incendo.jenkins.objects.ArtifactIndex;
+import org.incendo.jenkins.objects.BuildDescription;
+import org.incendo.jenkins.objects.BuildInfo;
+import org.incendo.jenkins.objects.BuildTimeSeries;
+import org.incendo.jenkins.objects.ComputerSet;
+import org.incendo.jenkins.objects.JobDependencies;
+import org.incendo.jenkins.objects.JobInfo;
+import org.incendo.jenkins.objects.MasterNode;
+import org.incendo.jenkins.objects.PipelineRun;
+import org.incendo.jenkins.objects.TestReport;
+import org.incendo.jenkins.objects.TestReportListener;
+import org.incendo.jenkins.objects.TestTrend;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link JenkinsReader} using StAX pull parsing. Responses are parsed as they are
+ * read, without building a document tree
+ * <p>
+ * Builds are always decoded eagerly, as lazy build decoding is only supported by
+ * the JSON reader
+ */
+public final class XmlJenkinsReader extends JenkinsReader {
+
+    private final XMLInputFactory xmlInputFactory;
+    private final MasterNodeParser masterNodeParser;
+    private final JobInfoParser jobInfoParser;
+    private final BuildDescriptionParser buildDescriptionParser;
+    private final BuildInfoParser buildInfoParser;
+    private final ComputerSetParser computerSetParser;
+
+    /**
+     * Instantiates a new Xml jenkins reader.
+     *
+     * @param jenkins             the jenkins
+     * @param jenkinsPathProvider the jenkins path provider
+     */
+    public XmlJenkinsReader(@NotNull final Jenkins jenkins,
+        @NotNull final JenkinsPathProvider jenkinsPathProvider) {
+        super(jenkins, jenkinsPathProvider, JenkinsAPIType.XML);
+        Preconditions.checkNotNull(jenkins, "Jenkins may not be null");
+        this.xmlInputFactory = XMLInputFactory.newInstance();
+        // Jenkins responses never use DTDs, so there is no reason to resolve them
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        this.buildDescriptionParser = new BuildDescriptionParser();
+        this.masterNodeParser = new MasterNodeParser(jenkins);
+        this.jobInfoParser = new JobInfoParser(jenkins, this.buildDescriptionParser);
+        this.buildInfoParser = new BuildInfoParser(jenkins);
+        this.computerSetParser = new ComputerSetParser(jenkins);
+    }
+
+    @Override protected MasterNode readMasterView(@NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent, "master node", this.masterNodeParser);
+    }
+
+    @Override protected JobInfo readJobInfo(@NotNull final String jobName,
+        @NotNull final String rawContent) throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent, String.format("job node: %s", jobName),
+            this.jobInfoParser);
+    }
+
+    @Override protected BuildInfo readBuildInfo(@NotNull final String jobName, final int build,
+        @NotNull final String rawContent) throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent, String.format("job node: %s", jobName),
+            this.buildInfoParser);
+    }
+
+    @Override protected List<BuildDescription> readBuildPage(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent,
+            String.format("build history: %s{%d,%d}", jobName, from, to),
+            reader -> this.parseChildren(reader, "allBuild", this.buildDescriptionParser));
+    }
+
+    @Override protected List<BuildInfo> readBuildInfoPage(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent,
+            String.format("build infos: %s{%d,%d}", jobName, from, to),
+            reader -> this.parseChildren(reader, "allBuild", this.buildInfoParser));
+    }
+
+    @Override protected BuildTimeSeries readBuildTimeSeries(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent,
+            String.format("build time series: %s{%d,%d}", jobName, from, to),
+            new BuildTimeSeriesParser());
+    }
+
+    @Override protected JobDependencies readJobDependencies(@NotNull final String jobName,
+        @NotNull final String rawContent) throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent, String.format("job dependencies: %s", jobName),
+            new JobDependenciesParser(jobName));
+    }
+
+    @Override protected ArtifactIndex readArtifactIndex(@NotNull final String jobName,
+        final int from, final int to, @NotNull final String rawContent)
+        throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent,
+            String.format("artifact index: %s{%d,%d}", jobName, from, to),
+            new ArtifactIndexParser());
+    }
+
+    @Override protected TestTrend readTestTrend(@NotNull final String jobName, final int from,
+        final int to, @NotNull final String rawContent) throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent,
+            String.format("test trend: %s{%d,%d}", jobName, from, to), new TestTrendParser());
+    }
+
+    @Override protected int readLastBuildNumber(@NotNull final String jobName,
+        @NotNull final String rawContent) throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent, String.format("last build: %s", jobName), reader -> {
+            final List<BuildDescription> lastBuild =
+                this.parseChildren(reader, "lastBuild", this.buildDescriptionParser);
+            return lastBuild.isEmpty() ? -1 : lastBuild.get(0).getNumber();
+        });
+    }
+
+    @Override protected ComputerSet readComputerSet(@Nullable final String tree,
+        @NotNull final String rawContent) throws JenkinsNodeReadException {
+        return this.parseRoot(rawContent, "computer set", this.computerSetParser);
+    }
+
+    @Override protected PipelineRun readPipelineRun(@NotNull final String jobName,
+        final int build, @NotNull final String rawContent) throws JenkinsNodeReadException {
+        // the stage view API only serves JSON
+        return PipelineRunReader.read(build, rawContent);
+    }
+
+    @Override protected TestReport readTestReport(@NotNull final String jobName,
+        final int build, @NotNull final Reader reader, final boolean failuresOnly,
+        @NotNull final TestReportListener listener) throws JenkinsNodeReadException {
+        return this.parseRoot(reader, String.format("test report: %s #%d", jobName, build),
+            new TestReportParser(failuresOnly, listener));
+    }
+
+    @NotNull private <T> List<T> parseChildren(@NotNull final XMLStreamReader reader,
+        @NotNull final String element, @NotNull final XmlParser<T> parser)
+        throws XMLStreamException {
+        final List<T> children = new ArrayList<>();
+        while (XmlStreams.nextChild(reader)) {
+            if (reader.getLocalName().equals(element)) {
+                children.add(parser.parse(reader));
+            } else {
+                XmlStreams.skip(reader);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Parse the root element of a document
+     */
+    @NotNull private <T> T parseRoot(@NotNull final String rawContent,
+        @NotNull final String description, @NotNull final XmlParser<T> parser)
+        throws JenkinsNodeReadException {
+        return this.parseRoot(new StringReader(rawContent), description, parser);
+    }
+
+    /**
+     * Parse the root element of a document that is read from a stream
+     */
+    @NotNull private <T> T parseRoot(@NotNull final Reader content,
+        @NotNull final String description, @NotNull final XmlParser<T> parser)
+        throws JenkinsNodeReadException {
+        XMLStreamReader reader = null;
+        try {
+            reader = this.xmlInputFactory.createXMLStreamReader(content);
+            XmlStreams.root(reader);
+            return parser.parse(reader);
+        } catch (final XMLStreamException exception) {
+            throw new JenkinsNodeReadException(description, exception);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final XMLStreamException ignored) {
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.xml;
+
+import org.incendo.jenkins.objects.JenkinsClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Helpers for walking Jenkins XML API responses with a {@link XMLStreamReader}.
+ * Jenkins omits null values, and represents lists as repeated elements with the
+ * singular name of the list (such as {@code job} for {@code jobs})
+ */
+final class XmlStreams {
+
+    private XmlStreams() {
+    }
+
+    /**
+     * Advance to the next child of the current element. Every child that is
+     * returned must be consumed completely, by reading its text, parsing it or
+     * skipping it
+     *
+     * @param reader reader, positioned at the start of the parent or at the end
+     *               of the previous child
+     * @return true if the reader is positioned at the start of a child, false if
+     * it is positioned at the end of the parent
+     * @throws XMLStreamException if the document could not be read
+     */
+    static boolean nextChild(@NotNull final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skip the current element and all of its children
+     *
+     * @param reader reader, positioned at the start of the element
+     * @throws XMLStreamException if the document could not be read
+     */
+    static void skip(@NotNull final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Advance to the root element of the document
+     *
+     * @param reader reader, positioned at the start of the document
+     * @throws XMLStreamException if the document has no root element
+     */
+    static void root(@NotNull final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return;
+            }
+        }
+        throw new XMLStreamException("Document has no root element");
+    }
+
+    /**
+     * Read the text of the current element
+     *
+     * @param reader reader, positioned at the start of a text-only element
+     * @return the text
+     * @throws XMLStreamException if the element is not text-only
+     */
+    @NotNull static String text(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        return reader.getElementText();
+    }
+
+    /**
+     * Read the text of the current element as an int
+     *
+     * @param reader reader, positioned at the start of a text-only element
+     * @return the number
+     * @throws XMLStreamException if the element is not a number
+     */
+    static int intValue(@NotNull final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText();
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (final NumberFormatException exception) {
+            throw new XMLStreamException(String.format("Expected a number, got: %s", text),
+                reader.getLocation(), exception);
+        }
+    }
+
+    /**
+     * Read the text of the current element as a long
+     *
+     * @param reader reader, positioned at the start of a text-only element
+     * @return the number
+     * @throws XMLStreamException if the element is not a number
+     */
+    static long longValue(@NotNull final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText();
+        try {
+            return Long.parseLong(text.trim());
+        } catch (final NumberFormatException exception) {
+            throw new XMLStreamException(String.format("Expected a number, got: %s", text),
+                reader.getLocation(), exception);
+        }
+    }
+
+    /**
+     * Read the text of the current element as a boolean
+     *
+     * @param reader reader, positioned at the start of a text-only element
+     * @return the boolean
+     * @throws XMLStreamException if the element could not be read
+     */
+    static boolean booleanValue(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        return Boolean.parseBoolean(reader.getElementText().trim());
+    }
+
+    /**
+     * Get the Jenkins class of the current element
+     *
+     * @param reader reader, positioned at the start of an element
+     * @return the Jenkins class, from the {@code _class} attribute
+     * @throws XMLStreamException if the element has no {@code _class} attribute
+     */
+    @NotNull static JenkinsClass jenkinsClass(@NotNull final XMLStreamReader reader)
+        throws XMLStreamException {
+        final String jenkinsClass = reader.getAttributeValue(null, "_class");
+        if (jenkinsClass == null) {
+            throw new XMLStreamException(
+                String.format("Element %s has no _class attribute", reader.getLocalName()),
+                reader.getLocation());
+        }
+        return JenkinsClass.of(jenkinsClass);
+    }
+
+    /**
+     * Check that a required child element was present
+     *
+     * @param value   the value read from the element, or null if it was not present
+     * @param element the element name
+     * @param <T>     value type
+     * @return the value
+     * @throws XMLStreamException if the element was not present
+     */
+    @NotNull static <T> T require(@Nullable final T value, @NotNull final String element)
+        throws XMLStreamException {
+        if (value == null) {
+            throw new XMLStreamException(String.format("Missing element: %s", element));
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,94 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import org.incendo.jenkins.objects.TestCase;
+import org.incendo.jenkins.objects.TestReportListener;
+import org.incendo.jenkins.objects.TestStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlakyTestDetectorTest {
+
+    private static TestCase testCase(final String name, final TestStatus status) {
+        return new TestCase("org.example.SomeTest", name, status, 0L, 0, 0, null, null);
+    }
+
+    @Test void detectFlips() {
+        final FlakyTestDetector detector = new FlakyTestDetector(8, 100);
+        final boolean[] flaky = {false, true, false, true, true, false};
+        for (int build = 1; build <= flaky.length; build++) {
+            final TestReportListener listener = detector.forBuild(build);
+            listener.onCase(testCase("stable", TestStatus.PASSED));
+            listener.onCase(testCase("broken", TestStatus.FAILED));
+            listener.onCase(testCase("flaky", flaky[build - 1] ? TestStatus.FAILED
+                : TestStatus.PASSED));
+            listener.onCase(testCase("skipped", TestStatus.SKIPPED));
+        }
+        assertEquals(3, detector.getTrackedCount());
+        assertEquals(0, detector.getFlipCount("org.example.SomeTest", "stable"));
+        assertEquals(0, detector.getFlipCount("org.example.SomeTest", "broken"));
+        assertEquals(4, detector.getFlipCount("org.example.SomeTest", "flaky"));
+        final List<FlakyTest> flakyTests = detector.getFlakyTests(2);
+        assertEquals(1, flakyTests.size());
+        assertEquals("flaky", flakyTests.get(0).getName());
+        assertEquals(6, flakyTests.get(0).getRuns());
+        assertEquals(3, flakyTests.get(0).getFailures());
+        // Builds must be recorded in order
+        assertThrows(IllegalArgumentException.class, () -> detector.forBuild(6));
+    }
+
+    @Test void slidingWindow() {
+        final FlakyTestDetector detector = new FlakyTestDetector(4, 100);
+        detector.forBuild(1).onCase(testCase("test", TestStatus.FAILED));
+        detector.forBuild(2).onCase(testCase("test", TestStatus.FIXED));
+        assertEquals(1, detector.getFlakyTests(1).size());
+        for (int build = 3; build <= 6; build++) {
+            detector.forBuild(build).onCase(testCase("test", TestStatus.PASSED));
+        }
+        // The flip has left the window
+        assertEquals(0, detector.getFlipCount("org.example.SomeTest", "test"));
+        assertTrue(detector.getFlakyTests(1).isEmpty());
+    }
+
+    @Test void boundedMemory() {
+        final FlakyTestDetector detector = new FlakyTestDetector(2, 1000);
+        for (int build = 1; build <= 3; build++) {
+            final TestReportListener listener = detector.forBuild(build);
+            // Every build runs a different set of tests
+            for (int test = 0; test < 1000; test++) {
+                listener.onCase(testCase(build + "-" + test, TestStatus.PASSED));
+            }
+        }
+        assertEquals(1000, detector.getTrackedCount());
+        // The tests of build 1 are still in the window during build 2, but not during build 3
+        assertEquals(1000, detector.getDroppedCount());
+        assertEquals(3, detector.getLastBuild());
+    }
+
+}
@@ -24,24 +24,45 @@
 
 package org.incendo.jenkins;
 
+import org.incendo.jenkins.exception.JenkinsBuildNotFoundException;
 import org.incendo.jenkins.exception.JenkinsJobNotFoundException;
 import org.incendo.jenkins.exception.JenkinsNodeReadException;
 import org.incendo.jenkins.exception.JenkinsNotAuthenticatedException;
+import org.incendo.jenkins.metrics.Endpoint;
+import org.incendo.jenkins.metrics.EndpointSnapshot;
+import org.incendo.jenkins.metrics.HistogramMetricsRecorder;
+import org.incendo.jenkins.metrics.MetricsRecorder;
+import org.incendo.jenkins.metrics.Outcome;
+import org.incendo.jenkins.metrics.Phase;
+import org.incendo.jenkins.metrics.RequestTrace;
+import org.incendo.jenkins.metrics.SlowRequestLog;
 import org.incendo.jenkins.objects.*;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 import javax.annotation.Nonnull;
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,8 +72,14 @@ class JenkinsTest {
     private static final int EXPECTED_JOBS = 15;
     private static final String REAL_JOB = "PlotSquared";
     private static final int REAL_BUILD = 1;
+    private static final String HISTORY_JOB = "History";
+    private static final String BROKEN_JOB = "Broken";
+    private static final String RERUN_JOB = "Rerun";
+    private static final String PIPELINE_JOB = "Pipeline";
+    private static final String DEPENDENCY_TREE = "upstreamProjects[name],downstreamProjects[name]";
     private static final String FAKE_JOB = "FakeJob";
     private static final String ILLEGAL_JOB = "IllegalJob";
+    private static final String RED_JOBS_XPATH = "/hudson/job[color='red']";
     private static final int ILLEGAL_BUILD = 1;
 
     private static ClientAndServer mockServer;
@@ -71,12 +98,25 @@ class JenkinsTest {
         return builder.toString();
     }
 
+    private static String toNameArray(@Nonnull final String names) {
+        final StringBuilder builder = new StringBuilder();
+        for (final String name : names.split(",")) {
+            if (!name.isEmpty()) {
+                builder.append(builder.length() == 0 ? "" : ",")
+                    .append(String.format("{\"name\":\"%s\"}", name));
+            }
+        }
+        return builder.toString();
+    }
+
     @BeforeAll static void setupServer() throws Throwable {
         mockServer = ClientAndServer.startClientAndServer(1080);
         // Read the mock data
         final String mainNodeResponse = readResourceContent("main_node_successful.json");
         final String jobResponse = readResourceContent("job_plotsquared_successful.json");
         final String buildResponse = readResourceContent("job_plotsquared_build_successful.json");
+        final String computerResponse = readResourceContent("computer_set_successful.json");
+        final String testReportResponse = readResourceContent("test_report_successful.json");
         // Setup mock main node using data from an actual Jenkins instance
         mockServer.when(HttpRequest.request().withMethod("GET").withPath("/api/json"))
             .respond(HttpResponse.response().withStatusCode(200)
@@ -87,6 +127,289 @@ class JenkinsTest {
         mockServer.when(HttpRequest.request().withMethod("GET").withPath("/job/PlotSquared/1/api/json"))
             .respond(HttpResponse.response().withStatusCode(200)
                 .withHeader("X-Jenkins", "2.160").withBody(buildResponse));
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath("/job/PlotSquared/lastSuccessfulBuild/api/json"))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody(buildResponse));
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath("/job/PlotSquared/lastFailedBuild/api/json"))
+            .respond(HttpResponse.response().withStatusCode(404));
+        mockServer.when(HttpRequest.request().withMethod("GET").withPath("/computer/api/json"))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody(computerResponse));
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath("/job/PlotSquared/1/testReport/api/json"))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody(testReportResponse));
+        // Setup a job with five builds, which is read in pages of two builds
+        for (int from = 0; from < 6; from += 2) {
+            final StringBuilder historyResponse = new StringBuilder("{\"allBuilds\":[");
+            for (int number = 5 - from; number > Math.max(0, 3 - from); number--) {
+                historyResponse.append(String.format("{\"_class\":\"hudson.model.FreeStyleBuild\","
+                    + "\"number\":%d,\"url\":\"https://ci.athion.net/job/%s/%d/\"},", number,
+                    HISTORY_JOB, number));
+            }
+            historyResponse.setLength(historyResponse.length() - 1);
+            historyResponse.append("]}");
+            mockServer.when(HttpRequest.request().withMethod("GET")
+                .withPath(String.format("/job/%s/api/json", HISTORY_JOB))
+                .withQueryStringParameter("tree",
+                    String.format("allBuilds[_class,number,url]{%d,%d}", from, from + 2)))
+                .respond(HttpResponse.response().withStatusCode(200)
+                    .withHeader("X-Jenkins", "2.160").withBody(historyResponse.toString()));
+        }
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/json", HISTORY_JOB))
+            .withQueryStringParameter("tree", "lastBuild[number]"))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody("{\"lastBuild\":{\"number\":5}}"));
+        final StringBuilder buildInfosResponse = new StringBuilder("{\"allBuilds\":[");
+        for (int number = 5; number >= 3; number--) {
+            buildInfosResponse.append(String.format("{\"_class\":\"hudson.model.FreeStyleBuild\","
+                + "\"building\":false,\"result\":\"SUCCESS\",\"displayName\":\"#%d\","
+                + "\"fullDisplayName\":\"%s #%d\",\"id\":\"%d\",\"number\":%d,"
+                + "\"duration\":1000,\"timestamp\":1550000000000,"
+                + "\"url\":\"https://ci.athion.net/job/%s/%d/\",\"artifacts\":[]}%s", number,
+                HISTORY_JOB, number, number, number, HISTORY_JOB, number, number > 3 ? "," : ""));
+        }
+        buildInfosResponse.append("]}");
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/json", HISTORY_JOB))
+            .withQueryStringParameter("tree", "allBuilds[_class,building,result,displayName,"
+                + "fullDisplayName,id,number,duration,timestamp,url,artifacts[displayPath,"
+                + "fileName,relativePath]]{0,3}"))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody(buildInfosResponse.toString()));
+        // Setup the time series of the five builds, of which build 5 is running
+        for (int from = 0; from < 6; from += 2) {
+            final StringBuilder seriesResponse = new StringBuilder("{\"allBuilds\":[");
+            for (int number = 5 - from; number > Math.max(0, 3 - from); number--) {
+                seriesResponse.append(String.format("{\"building\":%b,\"duration\":%d,"
+                    + "\"number\":%d,\"result\":%s,\"timestamp\":%d},", number == 5,
+                    number == 5 ? 0 : number * 1000, number,
+                    number == 5 ? "null" : number == 2 ? "\"FAILURE\"" : "\"SUCCESS\"",
+                    1550000000000L + number * 60_000L));
+            }
+            seriesResponse.setLength(seriesResponse.length() - 1);
+            seriesResponse.append("]}");
+            mockServer.when(HttpRequest.request().withMethod("GET")
+                .withPath(String.format("/job/%s/api/json", HISTORY_JOB))
+                .withQueryStringParameter("tree", String.format(
+                    "allBuilds[number,timestamp,duration,result,building]{%d,%d}", from, from + 2)))
+                .respond(HttpResponse.response().withStatusCode(200)
+                    .withHeader("X-Jenkins", "2.160").withBody(seriesResponse.toString()));
+        }
+        // Setup a job whose running build 3 is deleted after it is first read
+        final String rerunTree = "allBuilds[number,timestamp,duration,result,building]{0,5}";
+        final String rerunBuilds = "{\"building\":false,\"duration\":2000,\"number\":2,"
+            + "\"result\":\"SUCCESS\",\"timestamp\":1550000120000},"
+            + "{\"building\":false,\"duration\":1000,\"number\":1,"
+            + "\"result\":\"SUCCESS\",\"timestamp\":1550000060000}]}";
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/json", RERUN_JOB))
+            .withQueryStringParameter("tree", rerunTree), Times.once())
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody("{\"allBuilds\":["
+                    + "{\"building\":true,\"duration\":0,\"number\":3,\"result\":null,"
+                    + "\"timestamp\":1550000180000}," + rerunBuilds));
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/json", RERUN_JOB))
+            .withQueryStringParameter("tree", rerunTree))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody("{\"allBuilds\":[" + rerunBuilds));
+        // Setup a dependency graph with cycles: Library triggers Core and Docs, Core
+        // triggers Plugin, and Plugin triggers Core and Library. Release triggers
+        // Deploy, and Removed, which does not exist
+        final String[][] dependencies = {
+            {"Library", "", "Core,Docs"},
+            {"Core", "Library,Plugin", "Plugin"},
+            {"Docs", "Library", ""},
+            {"Plugin", "Core", "Core,Library"},
+            {"Release", "", "Removed,Deploy"},
+            {"Deploy", "Release", ""}};
+        for (final String[] job : dependencies) {
+            mockServer.when(HttpRequest.request().withMethod("GET")
+                .withPath(String.format("/job/%s/api/json", job[0]))
+                .withQueryStringParameter("tree", DEPENDENCY_TREE))
+                .respond(HttpResponse.response().withStatusCode(200)
+                    .withHeader("X-Jenkins", "2.160").withBody(String.format(
+                        "{\"upstreamProjects\":[%s],\"downstreamProjects\":[%s]}",
+                        toNameArray(job[1]), toNameArray(job[2]))));
+        }
+        mockServer.when(HttpRequest.request().withMethod("GET").withPath("/job/Docs/api/xml")
+            .withQueryStringParameter("tree", DEPENDENCY_TREE))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160")
+                .withHeader("Content-Type", "application/xml;charset=utf-8")
+                .withBody("<freeStyleProject _class=\"hudson.model.FreeStyleProject\">"
+                    + "<upstreamProject _class=\"hudson.model.FreeStyleProject\">"
+                    + "<name>Library</name></upstreamProject></freeStyleProject>"));
+        // Setup the stage timings of pipeline builds 1 to 4, of which build 2 was
+        // deleted and build 4 is running
+        for (int number = 1; number <= 4; number++) {
+            if (number == 2) {
+                mockServer.when(HttpRequest.request().withMethod("GET")
+                    .withPath(String.format("/job/%s/%d/wfapi/describe", PIPELINE_JOB, number)))
+                    .respond(HttpResponse.response().withStatusCode(404));
+                continue;
+            }
+            final String status = number == 4 ? "IN_PROGRESS" : "SUCCESS";
+            mockServer.when(HttpRequest.request().withMethod("GET")
+                .withPath(String.format("/job/%s/%d/wfapi/describe", PIPELINE_JOB, number)))
+                .respond(HttpResponse.response().withStatusCode(200)
+                    .withHeader("X-Jenkins", "2.160").withBody(String.format("{\"id\":\"%d\","
+                        + "\"name\":\"#%d\",\"status\":\"%s\",\"startTimeMillis\":%d,"
+                        + "\"durationMillis\":%d,\"queueDurationMillis\":5,"
+                        + "\"pauseDurationMillis\":0,\"stages\":["
+                        + "{\"id\":\"6\",\"name\":\"Build\",\"status\":\"SUCCESS\","
+                        + "\"startTimeMillis\":%d,\"durationMillis\":%d,"
+                        + "\"pauseDurationMillis\":0},"
+                        + "{\"id\":\"12\",\"name\":\"Test\",\"status\":\"%s\","
+                        + "\"startTimeMillis\":%d,\"durationMillis\":%d,"
+                        + "\"pauseDurationMillis\":0}]}", number, number, status,
+                        1550000000000L + number, number * 3000, 1550000000000L + number,
+                        number * 1000, status, 1550000000000L + number, number * 2000)));
+        }
+        // Setup the artifacts of the five builds, of which build 2 archived nothing
+        for (int from = 0; from < 6; from += 2) {
+            final StringBuilder artifactsResponse = new StringBuilder("{\"allBuilds\":[");
+            for (int number = 5 - from; number > Math.max(0, 3 - from); number--) {
+                artifactsResponse.append(String.format("{\"artifacts\":[%s],\"building\":%b,"
+                    + "\"number\":%d},", number == 2 || number == 5 ? "" : String.format(
+                    "{\"fileName\":\"History-1.%d.jar\"}", number), number == 5, number));
+            }
+            artifactsResponse.setLength(artifactsResponse.length() - 1);
+            artifactsResponse.append("]}");
+            mockServer.when(HttpRequest.request().withMethod("GET")
+                .withPath(String.format("/job/%s/api/json", HISTORY_JOB))
+                .withQueryStringParameter("tree", String.format(
+                    "allBuilds[number,building,artifacts[fileName]]{%d,%d}", from, from + 2)))
+                .respond(HttpResponse.response().withStatusCode(200)
+                    .withHeader("X-Jenkins", "2.160").withBody(artifactsResponse.toString()));
+        }
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/xml", HISTORY_JOB))
+            .withQueryStringParameter("tree",
+                "allBuilds[number,building,artifacts[fileName]]{0,2}"))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160")
+                .withHeader("Content-Type", "application/xml;charset=utf-8")
+                .withBody("<freeStyleProject _class=\"hudson.model.FreeStyleProject\">"
+                    + "<allBuild><building>true</building><number>5</number></allBuild>"
+                    + "<allBuild><artifact><fileName>History-1.4.jar</fileName></artifact>"
+                    + "<building>false</building><number>4</number></allBuild>"
+                    + "</freeStyleProject>"));
+        // Setup the test trend of the three newest builds, of which build 4 has no tests
+        final String trendTree = "allBuilds[number,timestamp,duration,building,"
+            + "actions[totalCount,failCount,skipCount]]{0,3}";
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/json", HISTORY_JOB))
+            .withQueryStringParameter("tree", trendTree))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody("{\"allBuilds\":["
+                    + "{\"actions\":[{},{\"_class\":\"hudson.tasks.junit.TestResultAction\","
+                    + "\"failCount\":2,\"skipCount\":1,\"totalCount\":10}],"
+                    + "\"building\":false,\"duration\":3000,\"number\":5,"
+                    + "\"timestamp\":1550000300000},"
+                    + "{\"actions\":[{}],\"building\":false,\"duration\":2000,\"number\":4,"
+                    + "\"timestamp\":1550000200000},"
+                    + "{\"actions\":[{\"failCount\":0,\"skipCount\":0,\"totalCount\":9}],"
+                    + "\"building\":false,\"duration\":1000,\"number\":3,"
+                    + "\"timestamp\":1550000100000}]}"));
+        // A wider trend, in which build 4 is still running
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/json", HISTORY_JOB))
+            .withQueryStringParameter("tree", trendTree.replace("{0,3}", "{0,4}")))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody("{\"allBuilds\":["
+                    + "{\"actions\":[{\"failCount\":0,\"skipCount\":0,\"totalCount\":9}],"
+                    + "\"building\":false,\"duration\":3000,\"number\":5,"
+                    + "\"timestamp\":1550000300000},"
+                    + "{\"actions\":[{}],\"building\":true,\"duration\":0,\"number\":4,"
+                    + "\"timestamp\":1550000200000},"
+                    + "{\"actions\":[{\"failCount\":0,\"skipCount\":0,\"totalCount\":9}],"
+                    + "\"building\":false,\"duration\":1000,\"number\":3,"
+                    + "\"timestamp\":1550000100000},"
+                    + "{\"actions\":[{\"failCount\":0,\"skipCount\":0,\"totalCount\":9}],"
+                    + "\"building\":false,\"duration\":1000,\"number\":2,"
+                    + "\"timestamp\":1550000000000}]}"));
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/xml", HISTORY_JOB))
+            .withQueryStringParameter("tree", trendTree))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160")
+                .withHeader("Content-Type", "application/xml;charset=utf-8")
+                .withBody("<freeStyleProject _class=\"hudson.model.FreeStyleProject\">"
+                    + "<allBuild><action></action><action><failCount>2</failCount>"
+                    + "<skipCount>1</skipCount><totalCount>10</totalCount></action>"
+                    + "<building>false</building><duration>3000</duration><number>5</number>"
+                    + "<timestamp>1550000300000</timestamp></allBuild>"
+                    + "<allBuild><action></action><building>false</building>"
+                    + "<duration>2000</duration><number>4</number>"
+                    + "<timestamp>1550000200000</timestamp></allBuild>"
+                    + "<allBuild><action><failCount>0</failCount><skipCount>0</skipCount>"
+                    + "<totalCount>9</totalCount></action><building>false</building>"
+                    + "<duration>1000</duration>"
+                    + "<number>3</number><timestamp>1550000100000</timestamp></allBuild>"
+                    + "</freeStyleProject>"));
+        for (final int number : new int[] {2, 3, 5}) {
+            mockServer.when(HttpRequest.request().withMethod("GET")
+                .withPath(String.format("/job/%s/%d/testReport/api/json", HISTORY_JOB, number)))
+                .respond(HttpResponse.response().withStatusCode(200)
+                    .withHeader("X-Jenkins", "2.160").withBody(testReportResponse));
+        }
+        // Setup a job whose second test report is cut off the first time it is read
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/api/json", BROKEN_JOB))
+            .withQueryStringParameter("tree", trendTree.replace("{0,3}", "{0,2}")))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody("{\"allBuilds\":["
+                    + "{\"actions\":[{\"failCount\":0,\"skipCount\":0,\"totalCount\":9}],"
+                    + "\"building\":false,\"duration\":1000,\"number\":2,"
+                    + "\"timestamp\":1550000100000},"
+                    + "{\"actions\":[{\"failCount\":0,\"skipCount\":0,\"totalCount\":9}],"
+                    + "\"building\":false,\"duration\":1000,\"number\":1,"
+                    + "\"timestamp\":1550000000000}]}"));
+        mockServer.when(HttpRequest.request().withMethod("GET")
+            .withPath(String.format("/job/%s/2/testReport/api/json", BROKEN_JOB)), Times.once())
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160")
+                .withBody(testReportResponse.substring(0, testReportResponse.length() / 2)));
+        for (final int number : new int[] {1, 2}) {
+            mockServer.when(HttpRequest.request().withMethod("GET")
+                .withPath(String.format("/job/%s/%d/testReport/api/json", BROKEN_JOB, number)))
+                .respond(HttpResponse.response().withStatusCode(200)
+                    .withHeader("X-Jenkins", "2.160").withBody(testReportResponse));
+        }
+        // Setup the XML API. The filtered expectation must be registered first,
+        // as the unfiltered one matches any query string
+        mockServer.when(HttpRequest.request().withMethod("GET").withPath("/api/xml")
+            .withQueryStringParameter("xpath", RED_JOBS_XPATH)
+            .withQueryStringParameter("wrapper", "hudson"))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody("<hudson>"
+                    + "<job _class=\"hudson.model.FreeStyleProject\"><name>RedEdit</name>"
+                    + "<url>https://ci.athion.net/job/RedEdit/</url><color>red</color></job>"
+                    + "</hudson>"));
+        // The XML API serves the same data as the JSON API
+        for (final String[] xmlResource : new String[][] {{"/api/xml", "main_node_successful.xml"},
+            {"/job/PlotSquared/api/xml", "job_plotsquared_successful.xml"},
+            {"/job/PlotSquared/1/api/xml", "job_plotsquared_build_successful.xml"},
+            {"/job/PlotSquared/lastSuccessfulBuild/api/xml",
+                "job_plotsquared_build_successful.xml"},
+            {"/computer/api/xml", "computer_set_successful.xml"},
+            {"/job/PlotSquared/1/testReport/api/xml", "test_report_successful.xml"}}) {
+            mockServer.when(HttpRequest.request().withMethod("GET").withPath(xmlResource[0]))
+                .respond(HttpResponse.response().withStatusCode(200)
+                    .withHeader("X-Jenkins", "2.160")
+                    .withHeader("Content-Type", "application/xml;charset=utf-8")
+                    .withBody(readResourceContent(xmlResource[1])));
+        }
+        // Setup a master that responds too slowly
+        mockServer.when(HttpRequest.request().withMethod("GET").withPath("/slow/api/json"))
+            .respond(HttpResponse.response().withStatusCode(200)
+                .withHeader("X-Jenkins", "2.160").withBody(mainNodeResponse)
+                .withDelay(TimeUnit.SECONDS, 2));
         // Setup 404 and 403 responses
         mockServer.when(HttpRequest.request().withMethod("GET").withPath("/job/FakeJob/api/json"))
             .respond(HttpResponse.response().withStatusCode(404));
@@ -162,8 +485,15 @@ class JenkinsTest {
             assertFalse(jobDescription.getName().isEmpty());
             assertNotNull(jobDescription.getUrl());
             assertFalse(jobDescription.getUrl().isEmpty());
+            assertEquals(String.format("https://ci.athion.net/job/%s/", jobDescription.getName()),
+                jobDescription.getUrl());
+            assertNotNull(jobDescription.getJobColor());
             assertEquals(jobDescription.getParent().get(), node);
         }
+        assertEquals(REAL_JOB, node.getJobDescription(REAL_JOB).getName());
+        assertNull(node.getJobDescription(FAKE_JOB));
+        assertEquals(node.getJobDescriptionsByPrefix("Plot"),
+            node.getJobDescriptionsMatching("Plot*"));
     }
 
     @Test void fetchJobNode() throws ExecutionException, InterruptedException {
@@ -183,16 +513,78 @@ class JenkinsTest {
         for (final BuildDescription buildDescription : buildDescriptions) {
             assertNotNull(buildDescription);
             assertTrue(buildDescription.getNumber() > 0); // ensure positive
-            assertNotNull(buildDescription.getUrl());
+            assertEquals(String.format("https://ci.athion.net/job/PlotSquared/%d/",
+                buildDescription.getNumber()), buildDescription.getUrl());
+            assertSame(JenkinsClass.FREE_STYLE_BUILD, buildDescription.getJenkinsClassType());
             assertEquals(buildDescription.getParent().get(), jobInfo);
         }
         assertNotNull(jobInfo.getLastSuccessfulBuild());
         assertEquals(686, jobInfo.getLastSuccessfulBuild().getNumber());
+        assertNotNull(jobInfo.getLastFailedBuild());
+        assertEquals(654, jobInfo.getLastFailedBuild().getNumber());
+        assertSame(jobInfo.getBuild(654), jobInfo.getLastFailedBuild());
+        assertNull(jobInfo.getBuild(1));
+        assertEquals(586, jobInfo.getBuildIndex().getOldest().getNumber());
         final BuildDescription lastBuild = jobInfo.getLastBuild();
         assertNotNull(lastBuild);
         assertEquals(lastBuild.getNumber() + 1, jobInfo.getNextBuildNumber());
     }
 
+    @Test void fetchJobNodeLazily() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).withLazyBuildDecoding(true).build();
+        assertTrue(jenkins.isLazyBuildDecoding());
+        final JobInfo jobInfo = jenkins.getJobInfo(REAL_JOB).get();
+        assertNotNull(jobInfo);
+        assertTrue(jobInfo.getBuilds() instanceof LazyBuildList);
+        final LazyBuildList lazyBuildList = (LazyBuildList) jobInfo.getBuilds();
+        assertEquals(0, lazyBuildList.getDecodedCount());
+        assertNotNull(jobInfo.getLastSuccessfulBuild());
+        assertEquals(686, jobInfo.getLastSuccessfulBuild().getNumber());
+        assertEquals(jobInfo.getLastSuccessfulBuild().getParent().get(), jobInfo);
+        assertEquals(100, lazyBuildList.size());
+        assertEquals(0, lazyBuildList.getDecodedCount());
+        final BuildDescription newest = lazyBuildList.get(0);
+        assertEquals(1, lazyBuildList.getDecodedCount());
+        assertEquals(jobInfo.getLastBuild().getNumber(), newest.getNumber());
+        assertEquals(newest.getParent().get(), jobInfo);
+        final JobInfo eagerJobInfo =
+            newBuilder().withPath(BASE_PATH).build().getJobInfo(REAL_JOB).get();
+        assertEquals(new ArrayList<>(eagerJobInfo.getBuilds()),
+            new ArrayList<>(jobInfo.getBuilds()));
+        assertEquals(100, lazyBuildList.getDecodedCount());
+        final BuildDescription indexed = jobInfo.getBuild(654);
+        assertNotNull(indexed);
+        assertTrue(lazyBuildList.stream().anyMatch(build -> build == indexed));
+    }
+
+    @Test void pageBuildHistory() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final BuildHistory buildHistory = jenkins.getBuildHistory(HISTORY_JOB, 2);
+        final List<BuildDescription> firstPage = buildHistory.getPage(0).get();
+        assertEquals(2, firstPage.size());
+        assertEquals(5, firstPage.get(0).getNumber());
+        int expected = 5;
+        for (final BuildDescription buildDescription : buildHistory) {
+            assertEquals(expected--, buildDescription.getNumber());
+            assertEquals(String.format("https://ci.athion.net/job/%s/%d/", HISTORY_JOB,
+                buildDescription.getNumber()), buildDescription.getUrl());
+        }
+        assertEquals(0, expected);
+    }
+
+    @Test void fetchBuildInfos() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final List<BuildInfo> buildInfos =
+            jenkins.getBuildInfos(HISTORY_JOB, new int[] {5, 3, 4, 4}).get();
+        assertEquals(3, buildInfos.size());
+        for (int index = 0; index < 3; index++) {
+            assertEquals(index + 3, buildInfos.get(index).getId());
+            assertEquals(BuildResult.SUCCESS, buildInfos.get(index).getBuildResult());
+        }
+        assertEquals(buildInfos, jenkins.getBuildInfos(HISTORY_JOB, 3, 5).get());
+        assertTrue(jenkins.getBuildInfos(HISTORY_JOB, new int[0]).get().isEmpty());
+    }
+
     @Test void testJobInfo() throws ExecutionException, InterruptedException {
         final JenkinsBuilder jenkinsBuilder = newBuilder();
         assertNotNull(jenkinsBuilder);
@@ -203,6 +595,9 @@ class JenkinsTest {
             jenkins.getBuildInfo(REAL_JOB, REAL_BUILD);
         final BuildInfo buildInfo = buildInfoCompletableFuture.get();
         assertNotNull(buildInfo);
+        assertEquals(BuildResult.SUCCESS, buildInfo.getBuildResult());
+        assertEquals("SUCCESS", buildInfo.getResult());
+        assertEquals("https://ci.athion.net/job/PlotSquared/1/", buildInfo.getUrl());
         final Collection<ArtifactDescription> artifactDescriptions = buildInfo.getArtifacts();
         assertNotNull(artifactDescriptions);
         for (final ArtifactDescription artifactDescription : artifactDescriptions) {
@@ -215,6 +610,29 @@ class JenkinsTest {
             assertEquals(String.format("%s/job/%s/%d/artifact/%s", "https://ci.athion.net",
                 REAL_JOB, REAL_BUILD, artifactDescription.getRelativePath()), artifactDescription.getUrl());
         }
+        // Builds that were read without their job share a single parent request
+        final BuildInfo sibling = jenkins.getBuildInfo(REAL_JOB, REAL_BUILD).get();
+        final JobInfo parent = buildInfo.getParent().get();
+        assertEquals(REAL_JOB, parent.getName());
+        assertSame(parent, sibling.getParent().get());
+        assertSame(parent, buildInfo.getParent().get());
+    }
+
+    @Test void fetchPermalink() throws ExecutionException, InterruptedException {
+        for (final JenkinsAPIType apiType : JenkinsAPIType.values()) {
+            final Jenkins jenkins = newBuilder().withPath(BASE_PATH).withAPIType(apiType).build();
+            final BuildInfo buildInfo =
+                jenkins.getBuildInfo(REAL_JOB, Permalink.LAST_SUCCESSFUL_BUILD).get();
+            assertEquals(REAL_BUILD, buildInfo.getId(), apiType.name());
+            assertEquals(BuildResult.SUCCESS, buildInfo.getBuildResult());
+            assertFalse(buildInfo.getArtifacts().isEmpty());
+        }
+        final ExecutionException executionException = assertThrows(ExecutionException.class,
+            () -> newBuilder().withPath(BASE_PATH).build()
+                .getBuildInfo(REAL_JOB, Permalink.LAST_FAILED_BUILD).get());
+        final Throwable cause = executionException.getCause();
+        assertTrue(cause instanceof JenkinsNodeReadException);
+        assertTrue(cause.getCause() instanceof JenkinsBuildNotFoundException);
     }
 
     @Test void testFakeJob() {
@@ -230,6 +648,316 @@ class JenkinsTest {
         assertTrue(cause.getCause() instanceof JenkinsJobNotFoundException);
     }
 
+    @Test void streamTestReport() throws ExecutionException, InterruptedException {
+        for (final JenkinsAPIType apiType : JenkinsAPIType.values()) {
+            final Jenkins jenkins = newBuilder().withPath(BASE_PATH).withAPIType(apiType).build();
+            final List<TestCase> cases = new ArrayList<>();
+            final List<TestSuite> suites = new ArrayList<>();
+            final TestReportListener listener = new TestReportListener() {
+                @Override public void onCase(@NotNull final TestCase testCase) {
+                    cases.add(testCase);
+                }
+
+                @Override public void onSuite(@NotNull final TestSuite testSuite) {
+                    suites.add(testSuite);
+                }
+            };
+            // The job name is parsed from the build url
+            final TestReport testReport = jenkins.getBuildInfo(REAL_JOB, REAL_BUILD).get()
+                .getTestReport(false, listener).get();
+            assertEquals(5, testReport.getTotalCount(), apiType.name());
+            assertEquals(1750L, testReport.getDuration());
+            assertEquals(2, testReport.getSuiteCount());
+            assertEquals(5, cases.size());
+            assertEquals(2, suites.size());
+            assertEquals(3, suites.get(1).getCaseCount());
+            assertEquals(1, suites.get(1).getFailCount());
+            assertEquals(TestStatus.FAILED, cases.get(1).getStatus());
+            assertEquals(684, cases.get(1).getFailedSince());
+            assertEquals(500L, cases.get(1).getDuration());
+            assertNull(cases.get(0).getErrorDetails());
+            // Only failures are passed to the listener, but all cases are counted
+            cases.clear();
+            suites.clear();
+            jenkins.getTestReport(REAL_JOB, REAL_BUILD, true, listener).get();
+            assertEquals(2, cases.size());
+            assertTrue(cases.stream().allMatch(testCase -> testCase.getStatus().isFailure()));
+            assertEquals(2, suites.get(0).getCaseCount());
+        }
+    }
+
+    @Test void fetchTestTrend() throws ExecutionException, InterruptedException {
+        for (final JenkinsAPIType apiType : JenkinsAPIType.values()) {
+            final Jenkins jenkins = newBuilder().withPath(BASE_PATH).withAPIType(apiType).build();
+            final TestTrend testTrend = jenkins.getTestTrend(HISTORY_JOB, 3).get();
+            assertEquals(3, testTrend.size(), apiType.name());
+            assertArrayEquals(new int[] {3, 4, 5}, testTrend.getNumbers());
+            assertArrayEquals(new long[] {1000L, 2000L, 3000L}, testTrend.getDurations());
+            assertArrayEquals(new int[] {9, -1, 10}, testTrend.getTotalCounts());
+            assertArrayEquals(new int[] {0, 0, 2}, testTrend.getFailCounts());
+            assertArrayEquals(new int[] {9, 0, 7}, testTrend.getPassCounts());
+            assertFalse(testTrend.hasTestReport(1));
+            assertFalse(testTrend.isBuilding(2));
+            assertEquals(1550000300000L, testTrend.getTimestamps()[2]);
+        }
+    }
+
+    @Test void syncBuildTimeSeries() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final BuildTimeSeries buildTimeSeries = new BuildTimeSeries(0);
+        assertEquals(5, buildTimeSeries.sync(jenkins, HISTORY_JOB, 2).get().intValue());
+        assertEquals(5, buildTimeSeries.size());
+        assertEquals(1, buildTimeSeries.getNumber(0));
+        assertNull(buildTimeSeries.getResult(4));
+        // The running build is left out
+        assertEquals(0.75D, buildTimeSeries.getSuccessRate(0L, Long.MAX_VALUE));
+        assertEquals(2500D, buildTimeSeries.getAverageDuration(0L, Long.MAX_VALUE));
+        // Only the page with the running build is read again
+        assertEquals(2, buildTimeSeries.sync(jenkins, HISTORY_JOB, 2).get().intValue());
+        assertEquals(5, buildTimeSeries.size());
+    }
+
+    @Test void syncBuildTimeSeriesWithDeletedBuild()
+        throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final BuildTimeSeries buildTimeSeries = new BuildTimeSeries(0);
+        assertEquals(3, buildTimeSeries.sync(jenkins, RERUN_JOB, 5).get().intValue());
+        assertNull(buildTimeSeries.getResult(2));
+        // The running build was deleted, and no longer holds back the sync
+        assertEquals(2, buildTimeSeries.sync(jenkins, RERUN_JOB, 5).get().intValue());
+        assertEquals(2, buildTimeSeries.size());
+        assertEquals(2, buildTimeSeries.getLastNumber());
+        assertEquals(1D, buildTimeSeries.getSuccessRate(0L, Long.MAX_VALUE));
+    }
+
+    @Test void syncArtifactIndex() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final ArtifactIndex artifactIndex = new ArtifactIndex();
+        assertEquals(5, artifactIndex.sync(jenkins, HISTORY_JOB, 2).get().intValue());
+        assertEquals(4, artifactIndex.getNewestBuild("History-*.jar"));
+        assertArrayEquals(new int[] {1, 3, 4}, artifactIndex.getBuilds("History-1.?.jar"));
+        assertTrue(artifactIndex.isRunning(5));
+        // Only the page with the running build is read again, and running builds
+        // that are no longer listed were deleted
+        artifactIndex.addRunning(6);
+        assertEquals(2, artifactIndex.sync(jenkins, HISTORY_JOB, 2).get().intValue());
+        assertFalse(artifactIndex.isRunning(6));
+        assertTrue(artifactIndex.isRunning(5));
+        final ArtifactIndex page = newBuilder().withPath(BASE_PATH)
+            .withAPIType(JenkinsAPIType.XML).build().getArtifactIndex(HISTORY_JOB, 0, 2).get();
+        assertEquals(2, page.getBuildCount());
+        assertTrue(page.isRunning(5));
+        assertEquals(4, page.getNewestBuild("History-1.4.jar"));
+    }
+
+    @Test void traverseDependencyGraph() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final DependencyGraph graph = new DependencyGraph(jenkins, 2);
+        final Map<String, Integer> downstream = graph.getDownstream("Library", 10).get();
+        assertEquals(Arrays.asList("Core", "Docs", "Plugin"), new ArrayList<>(downstream.keySet()));
+        assertEquals(2, downstream.get("Plugin").intValue());
+        assertEquals(2, graph.getDownstream("Library", 1).get().size());
+        final Map<String, Integer> upstream = graph.getUpstream("Plugin", 10).get();
+        assertEquals(Arrays.asList("Core", "Library"), new ArrayList<>(upstream.keySet()));
+        // Every job was read once, and shared by the traversals
+        assertEquals(4, graph.getJobCount());
+        for (final String job : new String[] {"Library", "Core", "Docs", "Plugin"}) {
+            mockServer.verify(HttpRequest.request().withPath(String.format("/job/%s/api/json",
+                job)), VerificationTimes.exactly(1));
+        }
+        final JobDependencies docs = newBuilder().withPath(BASE_PATH)
+            .withAPIType(JenkinsAPIType.XML).build().getJobDependencies("Docs").get();
+        assertEquals(Collections.singletonList("Library"), docs.getUpstreamProjects());
+        assertTrue(docs.getDownstreamProjects().isEmpty());
+    }
+
+    @Test void traverseDependencyGraphWithMissingJob()
+        throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final DependencyGraph graph = new DependencyGraph(jenkins, 2);
+        // The missing job is visited without dependencies
+        final Map<String, Integer> downstream = graph.getDownstream("Release", 10).get();
+        assertEquals(Arrays.asList("Removed", "Deploy"), new ArrayList<>(downstream.keySet()));
+        assertEquals(1, downstream.get("Removed").intValue());
+        assertThrows(ExecutionException.class, () -> graph.getDependencies("Removed").get());
+    }
+
+    @Test void readPipelineStages() throws ExecutionException, InterruptedException {
+        for (final JenkinsAPIType apiType : JenkinsAPIType.values()) {
+            // The stage view API serves JSON, whichever API type is used
+            final Jenkins jenkins = newBuilder().withPath(BASE_PATH).withAPIType(apiType).build();
+            final PipelineRun pipelineRun = jenkins.getPipelineRun(PIPELINE_JOB, 3).get();
+            assertEquals(3, pipelineRun.getNumber());
+            assertEquals(PipelineStatus.SUCCESS, pipelineRun.getStatus());
+            assertEquals(Arrays.asList("Build", "Test"), pipelineRun.getStages().stream()
+                .map(PipelineStage::getName).collect(Collectors.toList()));
+            assertEquals(6000L, pipelineRun.getStage("Test").getDurationMillis());
+        }
+        final PipelineStageTimings timings = newBuilder().withPath(BASE_PATH).build()
+            .getPipelineStageTimings(PIPELINE_JOB, 1, 4).get();
+        // Build 2 does not exist, and build 4 is running
+        assertArrayEquals(new int[] {1, 3}, timings.getNumbers());
+        assertEquals(Arrays.asList("Build", "Test"), timings.getStageNames());
+        final int test = timings.getStageIndex("Test");
+        assertArrayEquals(new long[] {2000L, 6000L}, timings.getDurations(test));
+        assertEquals(4000D, timings.getAverageDuration(test));
+    }
+
+    @Test void readPipelineStagesInInvalidRange() {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        assertThrows(IllegalArgumentException.class,
+            () -> jenkins.getPipelineStageTimings(PIPELINE_JOB, 4, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> jenkins.getPipelineStageTimings(PIPELINE_JOB, 0, 4));
+        assertThrows(IllegalArgumentException.class,
+            () -> jenkins.getPipelineStageTimings(PIPELINE_JOB, 1, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> jenkins
+            .getPipelineStageTimings(PIPELINE_JOB, 1, Jenkins.MAX_PIPELINE_BUILDS + 1));
+    }
+
+    @Test void detectFlakyTests() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final FlakyTestDetector detector = new FlakyTestDetector(3, 100);
+        // Build 4 has no test report, and is not requested
+        assertEquals(2, detector.update(jenkins, HISTORY_JOB).get().intValue());
+        assertEquals(5, detector.getLastBuild());
+        // Skipped cases are not tracked
+        assertEquals(4, detector.getTrackedCount());
+        assertTrue(detector.getFlakyTests(1).isEmpty());
+        assertEquals(0, detector.update(jenkins, HISTORY_JOB).get().intValue());
+    }
+
+    @Test void detectFlakyTestsWithFailedRead() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final FlakyTestDetector detector = new FlakyTestDetector(2, 100);
+        // The report of build 2 is cut off, so only build 1 is recorded
+        assertThrows(ExecutionException.class, () -> detector.update(jenkins, BROKEN_JOB).get());
+        assertEquals(1, detector.getLastBuild());
+        assertEquals(4, detector.getTrackedCount());
+        assertEquals(1, detector.update(jenkins, BROKEN_JOB).get().intValue());
+        assertEquals(2, detector.getLastBuild());
+    }
+
+    @Test void detectFlakyTestsConcurrently() throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final FlakyTestDetector detector = new FlakyTestDetector(3, 100);
+        // The second update starts once the first has finished
+        final CompletableFuture<Integer> first = detector.update(jenkins, HISTORY_JOB);
+        final CompletableFuture<Integer> second = detector.update(jenkins, HISTORY_JOB);
+        assertEquals(2, first.get().intValue());
+        assertEquals(0, second.get().intValue());
+        assertEquals(5, detector.getLastBuild());
+    }
+
+    @Test void detectFlakyTestsWithRunningBuild()
+        throws ExecutionException, InterruptedException {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final FlakyTestDetector detector = new FlakyTestDetector(4, 100);
+        // Build 5 has finished, but is not recorded before the running build 4
+        assertEquals(2, detector.update(jenkins, HISTORY_JOB).get().intValue());
+        assertEquals(3, detector.getLastBuild());
+        assertEquals(0, detector.update(jenkins, HISTORY_JOB).get().intValue());
+        assertEquals(3, detector.getLastBuild());
+    }
+
+    @Test void queryFederation() throws ExecutionException, InterruptedException {
+        try (final FederatedJenkins federation = FederatedJenkins.newBuilder()
+            .withMaster("first", builder -> builder.withPath(BASE_PATH))
+            .withMaster("second", builder -> builder.withPath(BASE_PATH))
+            .withMaster("slow", 200, TimeUnit.MILLISECONDS,
+                builder -> builder.withPath(BASE_PATH + "slow/")).build()) {
+            final FederatedResult<Collection<JobDescription>> result =
+                federation.getJobDescriptions().get();
+            assertFalse(result.isComplete());
+            assertEquals(2, result.getValues().size());
+            assertTrue(result.getFailures().get("slow") instanceof TimeoutException);
+            assertEquals(EXPECTED_JOBS * 2, result.merge(Function.identity()).size());
+            assertSame(federation.getMaster("first").getExecutor(),
+                federation.getMaster("slow").getExecutor());
+        }
+    }
+
+    @Test void recordMetrics() throws ExecutionException, InterruptedException {
+        final HistogramMetricsRecorder metricsRecorder = new HistogramMetricsRecorder();
+        final Jenkins jenkins =
+            newBuilder().withPath(BASE_PATH).withMetricsRecorder(metricsRecorder).build();
+        assertSame(metricsRecorder, jenkins.getMetricsRecorder());
+        jenkins.getMasterNode().get();
+        jenkins.getJobInfo(REAL_JOB).get();
+        assertThrows(ExecutionException.class, () -> jenkins.getJobInfo(FAKE_JOB).get());
+        final EndpointSnapshot master = metricsRecorder.getSnapshot(Endpoint.MASTER_NODE);
+        assertEquals(1, master.getCount());
+        assertEquals(1, master.getCount(Outcome.SUCCESS));
+        assertTrue(master.getResponseBytes().getMax() > 0);
+        assertTrue(master.getNetwork().getMax() > 0);
+        final EndpointSnapshot job = metricsRecorder.getSnapshot(Endpoint.JOB);
+        assertEquals(2, job.getCount());
+        assertEquals(1, job.getCount(Outcome.SUCCESS));
+        assertEquals(1, job.getCount(Outcome.NOT_FOUND));
+        assertEquals(0, metricsRecorder.getSnapshot(Endpoint.BUILD).getCount());
+    }
+
+    @Test void traceRequests() throws ExecutionException, InterruptedException {
+        final HistogramMetricsRecorder metricsRecorder = new HistogramMetricsRecorder();
+        final SlowRequestLog slowRequestLog = new SlowRequestLog(0, TimeUnit.MILLISECONDS, 1);
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).withRequestTracing(true)
+            .withMetricsRecorder(MetricsRecorder.combine(metricsRecorder, slowRequestLog)).build();
+        assertTrue(jenkins.isRequestTracing());
+        jenkins.getJobInfo(REAL_JOB).get();
+        jenkins.getBuildInfo(REAL_JOB, REAL_BUILD).get();
+        final List<RequestTrace> traces = slowRequestLog.getEntries();
+        assertEquals(1, traces.size());
+        final RequestTrace trace = traces.get(0);
+        assertEquals(Endpoint.BUILD, trace.getEndpoint());
+        assertEquals(Outcome.SUCCESS, trace.getOutcome());
+        assertTrue(trace.getUrl().startsWith(String.format("%sjob/%s/%d/", BASE_PATH, REAL_JOB,
+            REAL_BUILD)));
+        assertTrue(trace.getPhaseNanos(Phase.TIME_TO_FIRST_BYTE) > 0);
+        assertTrue(trace.getTotalNanos() >= trace.getNetworkNanos());
+        assertEquals(1, metricsRecorder.getSnapshot(Endpoint.JOB)
+            .getPhase(Phase.TIME_TO_FIRST_BYTE).getCount());
+    }
+
+    @Test void fetchXml() throws ExecutionException, InterruptedException {
+        final Jenkins jsonJenkins = newBuilder().withPath(BASE_PATH).build();
+        final Jenkins xmlJenkins =
+            newBuilder().withPath(BASE_PATH).withAPIType(JenkinsAPIType.XML).build();
+        assertEquals(JenkinsAPIType.XML, xmlJenkins.getJenkinsAPIType());
+        final MasterNode masterNode = xmlJenkins.getMasterNode().get();
+        assertEquals(EXPECTED_JOBS, masterNode.getJobDescriptions().size());
+        final JobInfo jsonJob = jsonJenkins.getJobInfo(REAL_JOB).get();
+        final JobInfo xmlJob = xmlJenkins.getJobInfo(REAL_JOB).get();
+        assertEquals(jsonJob.getFullDisplayName(), xmlJob.getFullDisplayName());
+        assertEquals(jsonJob.getUrl(), xmlJob.getUrl());
+        assertEquals(jsonJob.getNextBuildNumber(), xmlJob.getNextBuildNumber());
+        assertEquals(jsonJob.getBuilds().size(), xmlJob.getBuilds().size());
+        assertEquals(jsonJob.getLastSuccessfulBuild().getNumber(),
+            xmlJob.getLastSuccessfulBuild().getNumber());
+        for (final BuildDescription build : xmlJob.getBuilds()) {
+            assertSame(xmlJob, build.getParent().get());
+        }
+        final BuildInfo jsonBuild = jsonJenkins.getBuildInfo(REAL_JOB, REAL_BUILD).get();
+        final BuildInfo xmlBuild = xmlJenkins.getBuildInfo(REAL_JOB, REAL_BUILD).get();
+        assertEquals(jsonBuild.getResult(), xmlBuild.getResult());
+        assertEquals(jsonBuild.getTimestamp(), xmlBuild.getTimestamp());
+        assertEquals(jsonBuild.getArtifacts().size(), xmlBuild.getArtifacts().size());
+        final ComputerSet computerSet = xmlJenkins.getComputerSet().get();
+        assertEquals(jsonJenkins.getComputerSet().get().getTotalExecutors(),
+            computerSet.getTotalExecutors());
+    }
+
+    @Test void fetchXmlFiltered() throws ExecutionException, InterruptedException {
+        final XmlFilter filter = XmlFilter.xpath(RED_JOBS_XPATH, "hudson");
+        final Jenkins xmlJenkins =
+            newBuilder().withPath(BASE_PATH).withAPIType(JenkinsAPIType.XML).build();
+        final Collection<JobDescription> jobs =
+            xmlJenkins.getMasterNode(filter).get().getJobDescriptions();
+        assertEquals(1, jobs.size());
+        assertEquals(JobColor.RED, jobs.iterator().next().getJobColor());
+        final Jenkins jsonJenkins = newBuilder().withPath(BASE_PATH).build();
+        assertThrows(IllegalStateException.class, () -> jsonJenkins.getMasterNode(filter));
+    }
+
     @Test void testIllegalBuild() {
         final JenkinsBuilder jenkinsBuilder = newBuilder();
         assertNotNull(jenkinsBuilder);
@@ -243,4 +971,42 @@ class JenkinsTest {
         assertTrue(cause.getCause() instanceof JenkinsNotAuthenticatedException);
     }
 
+    @Test void fetchComputerSet() throws ExecutionException, InterruptedException {
+        final JenkinsBuilder jenkinsBuilder = newBuilder();
+        assertNotNull(jenkinsBuilder);
+        jenkinsBuilder.withPath(BASE_PATH);
+        final Jenkins jenkins = jenkinsBuilder.build();
+        assertNotNull(jenkins);
+        final ComputerSet computerSet = jenkins.getComputerSet().get();
+        assertNotNull(computerSet);
+        assertEquals(3, computerSet.getBusyExecutors());
+        assertEquals(4, computerSet.getTotalExecutors());
+        assertEquals(3, computerSet.getComputers().size());
+        for (final ComputerInfo computerInfo : computerSet.getComputers()) {
+            assertNotNull(computerInfo.getDisplayName());
+            assertFalse(computerInfo.getLabels().isEmpty());
+            assertEquals(computerInfo.getParent().get(), computerSet);
+            assertTrue(computerInfo.getBusyExecutors() <= computerInfo.getExecutors().size());
+        }
+    }
+
+    @Test void sampleExecutorUtilization() {
+        final Jenkins jenkins = newBuilder().withPath(BASE_PATH).build();
+        final ExecutorUtilizationSampler sampler =
+            new ExecutorUtilizationSampler(jenkins, 1, TimeUnit.MINUTES, 10);
+        sampler.sample();
+        sampler.sample();
+        final UtilizationHistory all = sampler.getHistory(ExecutorUtilizationSampler.ALL_LABELS);
+        assertNotNull(all);
+        assertEquals(2, all.size());
+        assertEquals(0.75D, all.getBusyRatio(10));
+        final UtilizationHistory linux = sampler.getHistory("linux");
+        assertNotNull(linux);
+        // agent-2 is offline, and does not contribute any executors
+        assertEquals(1D, linux.getBusyRatio(1));
+        assertEquals(0D, linux.getIdleRatio(1));
+        assertEquals(0.5D, sampler.getHistory("master").getBusyRatio(1));
+        assertNull(sampler.getHistory("agent-3"));
+    }
+
 }
@@ -0,0 +1,78 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobShardTest {
+
+    private static final int JOBS = 10_000;
+
+    @Test void everyJobInOneShard() {
+        final int count = 7;
+        final int[] sizes = new int[count];
+        for (int job = 0; job < JOBS; job++) {
+            final String jobName = "job-" + job;
+            int shards = 0;
+            for (int index = 0; index < count; index++) {
+                if (JobShard.of(index, count).contains(jobName)) {
+                    shards++;
+                    sizes[index]++;
+                }
+            }
+            assertEquals(1, shards, jobName);
+        }
+        // Shards are roughly balanced
+        for (final int size : sizes) {
+            assertTrue(Math.abs(size - JOBS / count) < JOBS / count / 5, String.valueOf(size));
+        }
+    }
+
+    @Test void stableAssignment() {
+        // The assignment only depends on the name and shard count, in any JVM
+        assertEquals(JobShard.indexOf("PlotSquared", 8), JobShard.indexOf("PlotSquared", 8));
+        int moved = 0;
+        for (int job = 0; job < JOBS; job++) {
+            final String jobName = "job-" + job;
+            final int before = JobShard.indexOf(jobName, 4);
+            final int after = JobShard.indexOf(jobName, 5);
+            if (before != after) {
+                // Jobs only move to the new shard
+                assertEquals(4, after, jobName);
+                moved++;
+            }
+        }
+        assertTrue(moved < JOBS / 4, String.valueOf(moved));
+    }
+
+    @Test void invalidShard() {
+        assertThrows(IllegalArgumentException.class, () -> JobShard.of(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> JobShard.of(0, 0));
+        assertTrue(JobShard.of(0, 1).contains("anything"));
+    }
+
+}
@@ -0,0 +1,552 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.incendo.jenkins.objects.BuildResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Deterministic stand-in for a Jenkins master of arbitrary size. Nothing is stored:
+ * every response is generated while it is written, and all generated values (build
+ * results, durations, artifacts and logs) are derived from the seed, the job name
+ * and the build number. Two servers with the same seed and configuration serve
+ * identical responses
+ * <p>
+ * The server has top level jobs named {@code job-00000} and onwards, and folders named
+ * {@code folder-000} and onwards that contain jobs of their own. Every job has builds
+ * numbered from 1, and every build has artifacts and a console log. Like Jenkins, the
+ * {@code builds} list of a job is limited to the 100 newest builds, and the
+ * {@code allBuilds{m,n}} and {@code lastBuild[number]} tree projections are supported
+ */
+final class SyntheticJenkinsServer implements AutoCloseable {
+
+    static {
+        // Headers and body are written separately, which otherwise adds a delayed
+        // ACK round trip to every response
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    /**
+     * Number of builds that Jenkins lists in the builds list of a job
+     */
+    static final int LISTED_BUILDS = 100;
+
+    private static final String FOLDER_CLASS = "com.cloudbees.hudson.plugins.folder.Folder";
+    private static final String JOB_CLASS = "hudson.model.FreeStyleProject";
+    private static final String BUILD_CLASS = "hudson.model.FreeStyleBuild";
+    private static final long FIRST_BUILD_TIMESTAMP = 1500000000000L;
+    private static final String LAST_BUILD_TREE = "lastBuild[number]";
+    private static final Pattern RANGE_PATTERN =
+        Pattern.compile("^allBuilds\\[(.*)]\\{(\\d+),(\\d+)}$");
+
+    private final long seed;
+    private final int jobs;
+    private final int folders;
+    private final int jobsPerFolder;
+    private final int builds;
+    private final int artifacts;
+    private final int logLines;
+
+    private HttpServer httpServer;
+    private ExecutorService executorService;
+
+    private SyntheticJenkinsServer(final Builder builder) {
+        this.seed = builder.seed;
+        this.jobs = builder.jobs;
+        this.folders = builder.folders;
+        this.jobsPerFolder = builder.jobsPerFolder;
+        this.builds = builder.builds;
+        this.artifacts = builder.artifacts;
+        this.logLines = builder.logLines;
+    }
+
+    /**
+     * Create a new builder
+     *
+     * @return new builder
+     */
+    @NotNull static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Start serving requests on a free local port
+     *
+     * @return this server
+     * @throws IOException if the server could not be bound
+     */
+    @NotNull SyntheticJenkinsServer start() throws IOException {
+        Preconditions.checkState(this.httpServer == null, "Server already started");
+        this.httpServer =
+            HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        this.executorService = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "synthetic-jenkins");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpServer.setExecutor(this.executorService);
+        this.httpServer.createContext("/", this::handle);
+        this.httpServer.start();
+        return this;
+    }
+
+    @Override public void close() {
+        if (this.httpServer != null) {
+            this.httpServer.stop(0);
+            this.executorService.shutdownNow();
+            this.httpServer = null;
+        }
+    }
+
+    /**
+     * Get the base url of the server
+     *
+     * @return base url, with trailing slash
+     */
+    @NotNull String getUrl() {
+        Preconditions.checkState(this.httpServer != null, "Server not started");
+        final InetSocketAddress address = this.httpServer.getAddress();
+        return String.format("http://%s:%d/", address.getHostString(), address.getPort());
+    }
+
+    /**
+     * Get the name of a top level job
+     *
+     * @param job job index
+     * @return job name
+     */
+    @NotNull static String jobName(final int job) {
+        return String.format("job-%05d", job);
+    }
+
+    /**
+     * Get the name of a folder
+     *
+     * @param folder folder index
+     * @return folder name
+     */
+    @NotNull static String folderName(final int folder) {
+        return String.format("folder-%03d", folder);
+    }
+
+    /**
+     * Get the result of a build
+     *
+     * @param jobName full job name
+     * @param number  build number
+     * @return build result
+     */
+    @NotNull BuildResult getResult(@NotNull final String jobName, final int number) {
+        final int roll = (int) Long.remainderUnsigned(this.hash(jobName, number, 0), 100);
+        if (roll < 80) {
+            return BuildResult.SUCCESS;
+        } else if (roll < 90) {
+            return BuildResult.FAILURE;
+        } else if (roll < 97) {
+            return BuildResult.UNSTABLE;
+        }
+        return BuildResult.ABORTED;
+    }
+
+    /**
+     * Get the newest build with the given result
+     *
+     * @param jobName full job name
+     * @param result  build result
+     * @return build number, or 0 if there is no such build
+     */
+    int getLastBuildWithResult(@NotNull final String jobName, @NotNull final BuildResult result) {
+        for (int number = this.builds; number > 0; number--) {
+            if (this.getResult(jobName, number) == result) {
+                return number;
+            }
+        }
+        return 0;
+    }
+
+    private long hash(@NotNull final String jobName, final int number, final int salt) {
+        long hash = this.seed ^ 0x9E3779B97F4A7C15L * (jobName.hashCode() + 1L);
+        hash ^= 0xC2B2AE3D27D4EB4FL * (number + 1L) + salt;
+        // SplitMix64 finalizer
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private void handle(@NotNull final HttpExchange exchange) throws IOException {
+        try {
+            final String[] segments = exchange.getRequestURI().getPath().substring(1).split("/");
+            // Consume job/<name> pairs
+            final List<String> names = new ArrayList<>();
+            int position = 0;
+            while (position + 1 < segments.length && segments[position].equals("job")) {
+                names.add(segments[position + 1]);
+                position += 2;
+            }
+            final String tree = getTree(exchange.getRequestURI().getRawQuery());
+            final int remaining = segments.length - position;
+            final String fullName = String.join("/", names);
+            if (remaining == 2 && segments[position].equals("api")) {
+                if (names.isEmpty()) {
+                    this.respond(exchange, writer -> this.writeMasterNode(writer));
+                } else if (this.isFolder(names)) {
+                    this.respond(exchange, writer -> this.writeFolder(writer, names.get(0)));
+                } else if (this.isJob(names)) {
+                    this.respond(exchange, writer -> this.writeJob(writer, fullName, tree));
+                } else {
+                    exchange.sendResponseHeaders(404, -1);
+                }
+                return;
+            }
+            final int number = remaining >= 2 ? parseNumber(segments[position]) : -1;
+            if (!this.isJob(names) || number < 1 || number > this.builds) {
+                exchange.sendResponseHeaders(404, -1);
+            } else if (remaining == 3 && segments[position + 1].equals("api")) {
+                this.respond(exchange, writer -> this.writeBuild(writer, fullName, number));
+            } else if (remaining == 2 && segments[position + 1].equals("consoleText")) {
+                exchange.getResponseHeaders().add("Content-Type", "text/plain;charset=utf-8");
+                exchange.sendResponseHeaders(200, 0);
+                try (final Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8))) {
+                    for (int line = 0; line < this.logLines; line++) {
+                        writer.write(String.format("[%s #%d] step %d: %016x%n", fullName, number,
+                            line, this.hash(fullName, number, line + 1)));
+                    }
+                }
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean isFolder(@NotNull final List<String> names) {
+        return names.size() == 1 && parseIndex(names.get(0), "folder-") < this.folders;
+    }
+
+    private boolean isJob(@NotNull final List<String> names) {
+        if (names.size() == 1) {
+            return parseIndex(names.get(0), "job-") < this.jobs;
+        }
+        return names.size() == 2 && this.isFolder(names.subList(0, 1))
+            && parseIndex(names.get(1), "job-") < this.jobsPerFolder;
+    }
+
+    private void respond(@NotNull final HttpExchange exchange,
+        @NotNull final ResponseWriter responseWriter) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+        exchange.getResponseHeaders().add("X-Jenkins", "2.160");
+        exchange.sendResponseHeaders(200, 0);
+        try (final JsonWriter writer = new JsonWriter(new BufferedWriter(
+            new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)))) {
+            writer.setSerializeNulls(true);
+            responseWriter.write(writer);
+        }
+    }
+
+    private void writeMasterNode(@NotNull final JsonWriter writer) throws IOException {
+        writer.beginObject().name("_class").value("hudson.model.Hudson").name("mode")
+            .value("NORMAL").name("nodeDescription").value("the master Jenkins node")
+            .name("jobs").beginArray();
+        for (int folder = 0; folder < this.folders; folder++) {
+            writer.beginObject().name("_class").value(FOLDER_CLASS).name("name")
+                .value(folderName(folder)).name("url")
+                .value(String.format("%sjob/%s/", this.getUrl(), folderName(folder)))
+                .endObject();
+        }
+        for (int job = 0; job < this.jobs; job++) {
+            this.writeJobDescription(writer, jobName(job), jobName(job));
+        }
+        writer.endArray().endObject();
+    }
+
+    private void writeFolder(@NotNull final JsonWriter writer, @NotNull final String folder)
+        throws IOException {
+        writer.beginObject().name("_class").value(FOLDER_CLASS).name("name").value(folder)
+            .name("fullName").value(folder).name("displayName").value(folder).name("url")
+            .value(String.format("%sjob/%s/", this.getUrl(), folder)).name("jobs").beginArray();
+        for (int job = 0; job < this.jobsPerFolder; job++) {
+            this.writeJobDescription(writer, jobName(job), folder + "/" + jobName(job));
+        }
+        writer.endArray().endObject();
+    }
+
+    private void writeJobDescription(@NotNull final JsonWriter writer, @NotNull final String name,
+        @NotNull final String fullName) throws IOException {
+        final BuildResult lastResult = this.getResult(fullName, this.builds);
+        writer.beginObject().name("_class").value(JOB_CLASS).name("name").value(name)
+            .name("url").value(this.jobUrl(fullName)).name("color")
+            .value(lastResult == BuildResult.SUCCESS ? "blue" :
+                lastResult == BuildResult.FAILURE ? "red" :
+                    lastResult == BuildResult.UNSTABLE ? "yellow" : "aborted").endObject();
+    }
+
+    private void writeJob(@NotNull final JsonWriter writer, @NotNull final String fullName,
+        @Nullable final String tree) throws IOException {
+        writer.beginObject();
+        if (LAST_BUILD_TREE.equals(tree)) {
+            writer.name("lastBuild").beginObject().name("number").value(this.builds).endObject();
+            writer.endObject();
+            return;
+        }
+        final Matcher matcher = tree == null ? null : RANGE_PATTERN.matcher(tree);
+        if (matcher != null && matcher.matches()) {
+            // Builds are indexed newest first
+            final boolean detailed = matcher.group(1).contains("artifacts");
+            final int from = Integer.parseInt(matcher.group(2));
+            final int to = Integer.parseInt(matcher.group(3));
+            writer.name("_class").value(JOB_CLASS).name("allBuilds").beginArray();
+            for (int index = from; index < to && index < this.builds; index++) {
+                if (detailed) {
+                    this.writeBuild(writer, fullName, this.builds - index);
+                } else {
+                    this.writeBuildDescription(writer, fullName, this.builds - index);
+                }
+            }
+            writer.endArray().endObject();
+            return;
+        }
+        final String name = fullName.substring(fullName.lastIndexOf('/') + 1);
+        writer.name("_class").value(JOB_CLASS).name("description")
+            .value(String.format("Synthetic job %s", fullName)).name("displayName").value(name)
+            .name("fullDisplayName").value(fullName.replace("/", " » ")).name("fullName")
+            .value(fullName).name("name").value(name).name("url").value(this.jobUrl(fullName))
+            .name("buildable").value(true).name("builds").beginArray();
+        for (int number = this.builds; number > Math.max(0, this.builds - LISTED_BUILDS);
+             number--) {
+            this.writeBuildDescription(writer, fullName, number);
+        }
+        writer.endArray();
+        this.writePermalink(writer, "lastBuild", fullName, this.builds);
+        this.writePermalink(writer, "lastCompletedBuild", fullName, this.builds);
+        this.writePermalink(writer, "lastFailedBuild", fullName,
+            this.getLastBuildWithResult(fullName, BuildResult.FAILURE));
+        this.writePermalink(writer, "lastSuccessfulBuild", fullName,
+            this.getLastBuildWithResult(fullName, BuildResult.SUCCESS));
+        writer.name("nextBuildNumber").value(this.builds + 1).endObject();
+    }
+
+    private void writePermalink(@NotNull final JsonWriter writer, @NotNull final String permalink,
+        @NotNull final String fullName, final int number) throws IOException {
+        writer.name(permalink);
+        if (number < 1) {
+            writer.nullValue();
+        } else {
+            this.writeBuildDescription(writer, fullName, number);
+        }
+    }
+
+    private void writeBuildDescription(@NotNull final JsonWriter writer,
+        @NotNull final String fullName, final int number) throws IOException {
+        writer.beginObject().name("_class").value(BUILD_CLASS).name("number").value(number)
+            .name("url").value(String.format("%s%d/", this.jobUrl(fullName), number)).endObject();
+    }
+
+    private void writeBuild(@NotNull final JsonWriter writer, @NotNull final String fullName,
+        final int number) throws IOException {
+        final long hash = this.hash(fullName, number, 0);
+        writer.beginObject().name("_class").value(BUILD_CLASS).name("artifacts").beginArray();
+        for (int artifact = 0; artifact < this.artifacts; artifact++) {
+            final String fileName = String.format("module-%d-1.0.%d.jar", artifact, number);
+            writer.beginObject().name("displayPath").value(fileName).name("fileName")
+                .value(fileName).name("relativePath")
+                .value(String.format("module-%d/target/%s", artifact, fileName)).endObject();
+        }
+        writer.endArray().name("building").value(false).name("description").nullValue()
+            .name("displayName").value("#" + number).name("duration")
+            .value(10000 + Long.remainderUnsigned(hash >>> 8, 600000)).name("fullDisplayName")
+            .value(String.format("%s #%d", fullName.replace("/", " » "), number)).name("id")
+            .value(Integer.toString(number)).name("number").value(number).name("result")
+            .value(this.getResult(fullName, number).name()).name("timestamp")
+            .value(FIRST_BUILD_TIMESTAMP + number * 3600000L).name("url")
+            .value(String.format("%s%d/", this.jobUrl(fullName), number)).endObject();
+    }
+
+    @NotNull private String jobUrl(@NotNull final String fullName) {
+        return String.format("%sjob/%s/", this.getUrl(), fullName.replace("/", "/job/"));
+    }
+
+    @Nullable private static String getTree(@Nullable final String rawQuery)
+        throws UnsupportedEncodingException {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (final String parameter : rawQuery.split("&")) {
+            if (parameter.startsWith("tree=")) {
+                return URLDecoder.decode(parameter.substring(5), "UTF-8");
+            }
+        }
+        return null;
+    }
+
+    private static int parseNumber(@NotNull final String segment) {
+        try {
+            return Integer.parseInt(segment);
+        } catch (final NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parse the index of a generated name, or return {@link Integer#MAX_VALUE}
+     */
+    private static int parseIndex(@NotNull final String name, @NotNull final String prefix) {
+        if (!name.startsWith(prefix)) {
+            return Integer.MAX_VALUE;
+        }
+        final int index = parseNumber(name.substring(prefix.length()));
+        return index < 0 ? Integer.MAX_VALUE : index;
+    }
+
+    @FunctionalInterface private interface ResponseWriter {
+
+        void write(@NotNull JsonWriter writer) throws IOException;
+
+    }
+
+    /**
+     * Builder for {@link SyntheticJenkinsServer} instances
+     */
+    static final class Builder {
+
+        private long seed = 0L;
+        private int jobs = 10;
+        private int folders = 0;
+        private int jobsPerFolder = 0;
+        private int builds = 10;
+        private int artifacts = 1;
+        private int logLines = 10;
+
+        private Builder() {
+        }
+
+        /**
+         * Specify the seed that all generated values are derived from
+         *
+         * @param seed seed
+         * @return this builder
+         */
+        @NotNull Builder withSeed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Specify the number of top level jobs
+         *
+         * @param jobs job count
+         * @return this builder
+         */
+        @NotNull Builder withJobs(final int jobs) {
+            Preconditions.checkArgument(jobs >= 0, "Job count may not be negative");
+            this.jobs = jobs;
+            return this;
+        }
+
+        /**
+         * Specify the number of folders, and the number of jobs in every folder
+         *
+         * @param folders       folder count
+         * @param jobsPerFolder job count per folder
+         * @return this builder
+         */
+        @NotNull Builder withFolders(final int folders, final int jobsPerFolder) {
+            Preconditions.checkArgument(folders >= 0 && jobsPerFolder >= 0,
+                "Folder and job counts may not be negative");
+            this.folders = folders;
+            this.jobsPerFolder = jobsPerFolder;
+            return this;
+        }
+
+        /**
+         * Specify the number of builds of every job
+         *
+         * @param builds build count
+         * @return this builder
+         */
+        @NotNull Builder withBuilds(final int builds) {
+            Preconditions.checkArgument(builds >= 0, "Build count may not be negative");
+            this.builds = builds;
+            return this;
+        }
+
+        /**
+         * Specify the number of artifacts of every build
+         *
+         * @param artifacts artifact count
+         * @return this builder
+         */
+        @NotNull Builder withArtifacts(final int artifacts) {
+            Preconditions.checkArgument(artifacts >= 0, "Artifact count may not be negative");
+            this.artifacts = artifacts;
+            return this;
+        }
+
+        /**
+         * Specify the number of lines in every console log
+         *
+         * @param logLines line count
+         * @return this builder
+         */
+        @NotNull Builder withLogLines(final int logLines) {
+            Preconditions.checkArgument(logLines >= 0, "Line count may not be negative");
+            this.logLines = logLines;
+            return this;
+        }
+
+        /**
+         * Create the (unstarted) server
+         *
+         * @return the server
+         */
+        @NotNull SyntheticJenkinsServer build() {
+            return new SyntheticJenkinsServer(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import com.google.common.io.CharStreams;
+import org.incendo.jenkins.objects.BuildDescription;
+import org.incendo.jenkins.objects.BuildInfo;
+import org.incendo.jenkins.objects.BuildResult;
+import org.incendo.jenkins.objects.JobDescription;
+import org.incendo.jenkins.objects.JobInfo;
+import org.incendo.jenkins.objects.MasterNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scale tests against a {@link SyntheticJenkinsServer}
+ */
+class SyntheticJenkinsTest {
+
+    private static String read(final String url) throws Exception {
+        try (final Reader reader = new InputStreamReader(new URL(url).openStream(),
+            StandardCharsets.UTF_8)) {
+            return CharStreams.toString(reader);
+        }
+    }
+
+    @Test void deterministic() throws Exception {
+        final String job = String.format("job/%s/api/json", SyntheticJenkinsServer.jobName(3));
+        final String build =
+            String.format("job/%s/7/consoleText", SyntheticJenkinsServer.jobName(3));
+        try (final SyntheticJenkinsServer first = SyntheticJenkinsServer.newBuilder().withSeed(42)
+            .withBuilds(500).build().start();
+             final SyntheticJenkinsServer second = SyntheticJenkinsServer.newBuilder()
+                 .withSeed(42).withBuilds(500).build().start();
+             final SyntheticJenkinsServer other = SyntheticJenkinsServer.newBuilder()
+                 .withSeed(43).withBuilds(500).build().start()) {
+            // Urls contain the port, so they are normalized before comparing
+            assertEquals(read(first.getUrl() + job).replace(first.getUrl(), "/"),
+                read(second.getUrl() + job).replace(second.getUrl(), "/"));
+            assertEquals(read(first.getUrl() + build), read(second.getUrl() + build));
+            assertNotEquals(read(first.getUrl() + build), read(other.getUrl() + build));
+        }
+    }
+
+    @Test void largeMasterNode() throws Exception {
+        try (final SyntheticJenkinsServer server = SyntheticJenkinsServer.newBuilder()
+            .withJobs(50000).withFolders(10, 100).build().start()) {
+            final Jenkins jenkins = Jenkins.newBuilder().withPath(server.getUrl()).build();
+            final MasterNode masterNode = jenkins.getMasterNode().get();
+            final Collection<JobDescription> jobDescriptions = masterNode.getJobDescriptions();
+            assertEquals(50010, jobDescriptions.size());
+            assertEquals(50000,
+                jobDescriptions.stream().filter(job -> job.getJobColor() != null).count());
+        }
+    }
+
+    @Test void longBuildHistory() throws Exception {
+        final int builds = 100000;
+        try (final SyntheticJenkinsServer server = SyntheticJenkinsServer.newBuilder().withSeed(7)
+            .withJobs(1).withBuilds(builds).withArtifacts(3).build().start()) {
+            final String jobName = SyntheticJenkinsServer.jobName(0);
+            final Jenkins jenkins = Jenkins.newBuilder().withPath(server.getUrl()).build();
+            final JobInfo jobInfo = jenkins.getJobInfo(jobName).get();
+            assertEquals(SyntheticJenkinsServer.LISTED_BUILDS, jobInfo.getBuilds().size());
+            assertEquals(builds, jobInfo.getLastBuild().getNumber());
+            assertEquals(server.getLastBuildWithResult(jobName, BuildResult.FAILURE),
+                jobInfo.getLastFailedBuild().getNumber());
+            int expected = builds;
+            for (final BuildDescription buildDescription : jobInfo.getBuildHistory(10000)) {
+                assertEquals(expected--, buildDescription.getNumber());
+            }
+            assertEquals(0, expected);
+            final int[] numbers = {1, 2, 3, 50000, 99999};
+            final List<BuildInfo> buildInfos = jobInfo.getBuildInfos(numbers).get();
+            assertEquals(numbers.length, buildInfos.size());
+            for (int index = 0; index < numbers.length; index++) {
+                final BuildInfo buildInfo = buildInfos.get(index);
+                assertEquals(numbers[index], buildInfo.getId());
+                assertEquals(server.getResult(jobName, numbers[index]), buildInfo.getBuildResult());
+                assertEquals(3, buildInfo.getArtifacts().size());
+            }
+        }
+    }
+
+}
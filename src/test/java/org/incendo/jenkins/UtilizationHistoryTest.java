@@ -0,0 +1,58 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UtilizationHistoryTest {
+
+    @Test void emptyHistory() {
+        final UtilizationHistory history = new UtilizationHistory(4);
+        assertEquals(0, history.size());
+        assertEquals(4, history.getCapacity());
+        assertTrue(Double.isNaN(history.getBusyRatio(4)));
+        assertEquals(0, history.getLatestBusy());
+        assertThrows(IllegalArgumentException.class, () -> new UtilizationHistory(0));
+    }
+
+    @Test void ringBufferWraps() {
+        final UtilizationHistory history = new UtilizationHistory(3);
+        history.record(1000L, 0, 4);
+        history.record(2000L, 4, 4);
+        history.record(3000L, 2, 4);
+        assertEquals(0.5D, history.getBusyRatio(3));
+        // overwrites the first sample
+        history.record(4000L, 4, 4);
+        assertEquals(3, history.size());
+        assertEquals(10D / 12D, history.getBusyRatio(3));
+        assertEquals(1D, history.getBusyRatio(1));
+        assertEquals(4, history.getLatestBusy());
+        assertEquals(0.75D, history.getBusyRatioSince(3000L));
+        assertEquals(0.25D, history.getIdleRatioSince(3000L));
+    }
+
+}
@@ -0,0 +1,81 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FlightRecorderEventsTest {
+
+    @Test void disabledWithoutRecording() {
+        assertNull(FlightRecorderEvents.beginRequest());
+        assertNull(FlightRecorderEvents.beginParse());
+        assertNull(FlightRecorderEvents.beginCrawlStep());
+    }
+
+    @Test void recordEvents() throws Exception {
+        assumeTrue(FlightRecorderEvents.isAvailable());
+        final Path file = Files.createTempFile("jenkins4j", ".jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable("org.incendo.jenkins.Request");
+            recording.enable("org.incendo.jenkins.CacheAccess");
+            recording.disable("org.incendo.jenkins.Parse");
+            recording.start();
+            final FlightRecorderEvents.RequestEvent requestEvent =
+                FlightRecorderEvents.beginRequest();
+            assertNotNull(requestEvent);
+            requestEvent.commit(Endpoint.BUILD, "http://localhost/job/Test/5/api/json", "Test", 5,
+                1024L, Outcome.SUCCESS);
+            FlightRecorderEvents.cacheAccess("lazy-builds", "Test", 5, true);
+            // parse events are disabled
+            assertNull(FlightRecorderEvents.beginParse());
+            recording.stop();
+            recording.dump(file);
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            final RecordedEvent request = events.stream().filter(
+                event -> event.getEventType().getName().equals("org.incendo.jenkins.Request"))
+                .findFirst().orElseThrow(AssertionError::new);
+            assertEquals("BUILD", request.getString("endpoint"));
+            assertEquals("Test", request.getString("jobName"));
+            assertEquals(5, request.getInt("build"));
+            assertEquals(1024L, request.getLong("responseBytes"));
+            assertEquals("SUCCESS", request.getString("outcome"));
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName()
+                .equals("org.incendo.jenkins.CacheAccess") && event.getBoolean("hit")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
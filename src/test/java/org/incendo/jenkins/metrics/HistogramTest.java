@@ -0,0 +1,72 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramTest {
+
+    @Test void bucketBounds() {
+        long previous = -1;
+        for (int index = 0; index < Histogram.BUCKET_COUNT; index++) {
+            final long highest = Histogram.highestValue(index);
+            assertTrue(highest > previous);
+            assertEquals(index, Histogram.bucketIndex(highest));
+            assertEquals(index, Histogram.bucketIndex(previous + 1));
+            previous = highest;
+        }
+        assertEquals(Long.MAX_VALUE, previous);
+    }
+
+    @Test void percentiles() {
+        final Histogram histogram = new Histogram();
+        for (int value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+        final HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(100_001, snapshot.getCount());
+        assertEquals(100_000, snapshot.getMax());
+        assertEquals(0, snapshot.getValueAtPercentile(0D));
+        assertEquals(100_000, snapshot.getValueAtPercentile(100D));
+        for (final double percentile : new double[] {50D, 90D, 99D, 99.9D}) {
+            final double expected = percentile / 100D * 100_001;
+            final long actual = snapshot.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected - 1, String.valueOf(percentile));
+            assertTrue(actual <= expected * (1 + 1D / Histogram.SUB_BUCKETS) + 1,
+                String.valueOf(percentile));
+        }
+    }
+
+    @Test void empty() {
+        final HistogramSnapshot snapshot = new Histogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtPercentile(99D));
+        assertEquals(0D, snapshot.getMean());
+    }
+
+}
@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtifactIndexTest {
+
+    private static ArtifactIndex index(final int builds) {
+        final ArtifactIndex artifactIndex = new ArtifactIndex();
+        // Added newest first, like Jenkins lists builds. Every third build failed
+        // before the Sponge jar was archived
+        for (int number = builds; number > 0; number--) {
+            final String version = "4." + number;
+            artifactIndex.add(number, number % 3 == 0 ?
+                Collections.singletonList("PlotSquared-Bukkit-" + version + ".jar") :
+                Arrays.asList("PlotSquared-Bukkit-" + version + ".jar",
+                    "PlotSquared-Sponge-" + version + ".jar"));
+        }
+        return artifactIndex;
+    }
+
+    @Test void exactNames() {
+        final ArtifactIndex artifactIndex = index(10);
+        assertEquals(7, artifactIndex.getNewestBuild("PlotSquared-Sponge-4.7.jar"));
+        assertEquals(-1, artifactIndex.getNewestBuild("PlotSquared-Sponge-4.9.jar"));
+        assertArrayEquals(new int[] {4}, artifactIndex.getBuilds("PlotSquared-Bukkit-4.4.jar"));
+        assertEquals(17, artifactIndex.getFileNameCount());
+        assertEquals(10, artifactIndex.getLastBuild());
+    }
+
+    @Test void globs() {
+        final ArtifactIndex artifactIndex = index(10);
+        assertEquals(10, artifactIndex.getNewestBuild("PlotSquared-Bukkit-*.jar"));
+        assertEquals(10, artifactIndex.getNewestBuild("PlotSquared-Sponge-*.jar"));
+        assertArrayEquals(new int[] {1, 2, 4, 5, 7, 8, 10},
+            artifactIndex.getBuilds("PlotSquared-Sponge-*.jar"));
+        assertEquals(Arrays.asList("PlotSquared-Bukkit-4.1.jar", "PlotSquared-Bukkit-4.10.jar"),
+            artifactIndex.getFileNames("PlotSquared-Bukkit-4.1*.jar"));
+        // Cached patterns are updated as builds are added
+        artifactIndex.add(11, Collections.singletonList("PlotSquared-Bukkit-4.11.jar"));
+        assertEquals(11, artifactIndex.getNewestBuild("PlotSquared-Bukkit-*.jar"));
+        assertEquals(10, artifactIndex.getNewestBuild("PlotSquared-Sponge-*.jar"));
+        assertEquals(-1, artifactIndex.getNewestBuild("FastAsyncWorldEdit-*.jar"));
+    }
+
+    @Test void runningBuilds() {
+        final ArtifactIndex artifactIndex = index(3);
+        artifactIndex.addRunning(4);
+        assertTrue(artifactIndex.isRunning(4));
+        assertEquals(4, artifactIndex.getBuildCount());
+        assertEquals(3, artifactIndex.getLastBuild());
+        // Completed builds are not added again
+        artifactIndex.add(3, Collections.singletonList("PlotSquared-Bukkit-4.3-rebuilt.jar"));
+        artifactIndex.addRunning(3);
+        assertFalse(artifactIndex.isRunning(3));
+        assertEquals(-1, artifactIndex.getNewestBuild("PlotSquared-Bukkit-4.3-rebuilt.jar"));
+        artifactIndex.add(4, Collections.singletonList("PlotSquared-Bukkit-4.4.jar"));
+        assertFalse(artifactIndex.isRunning(4));
+        assertEquals(4, artifactIndex.getNewestBuild("PlotSquared-Bukkit-*"));
+    }
+
+    @Test void merge() {
+        final ArtifactIndex artifactIndex = new ArtifactIndex();
+        artifactIndex.addAll(index(6));
+        final ArtifactIndex newer = new ArtifactIndex();
+        newer.add(8, Collections.singletonList("PlotSquared-Sponge-4.8.jar"));
+        newer.addRunning(9);
+        artifactIndex.addAll(newer);
+        assertEquals(1, artifactIndex.getFirstBuild());
+        assertEquals(8, artifactIndex.getLastBuild());
+        assertTrue(artifactIndex.isRunning(9));
+        assertArrayEquals(new int[] {1, 2, 4, 5, 8},
+            artifactIndex.getBuilds("PlotSquared-Sponge-?.?.jar"));
+    }
+
+}
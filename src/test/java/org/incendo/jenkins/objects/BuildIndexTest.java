@@ -0,0 +1,93 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildIndexTest {
+
+    private static Collection<BuildDescription> descriptions(final int... numbers) {
+        final List<BuildDescription> descriptions = new ArrayList<>();
+        for (final int number : numbers) {
+            descriptions.add(new BuildDescription("hudson.model.FreeStyleBuild", number,
+                String.format("https://ci.example.com/job/Test/%d/", number)));
+        }
+        return descriptions;
+    }
+
+    private static int[] numbers(final Iterable<BuildDescription> descriptions) {
+        final List<Integer> numbers = new ArrayList<>();
+        descriptions.forEach(description -> numbers.add(description.getNumber()));
+        return numbers.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test void denseIndex() {
+        final BuildIndex index = BuildIndex.of(descriptions(5, 3, 4, 1, 2, 4));
+        assertEquals(5, index.size());
+        assertArrayEquals(new int[] {5, 4, 3, 2, 1}, numbers(index));
+        for (int number = 1; number <= 5; number++) {
+            assertEquals(number, index.get(number).getNumber());
+        }
+        assertNull(index.get(0));
+        assertNull(index.get(6));
+        assertEquals(5, index.getNewest().getNumber());
+        assertEquals(1, index.getOldest().getNumber());
+    }
+
+    @Test void sparseIndex() {
+        final BuildIndex index = BuildIndex.of(descriptions(10, 1000, 250000, 7));
+        assertEquals(4, index.size());
+        assertEquals(250000, index.get(250000).getNumber());
+        assertEquals(7, index.get(7).getNumber());
+        assertNull(index.get(11));
+        assertTrue(index.contains(1000));
+        assertFalse(index.contains(999));
+        assertEquals(1000, index.floor(249999).getNumber());
+        assertEquals(250000, index.ceiling(1001).getNumber());
+        assertNull(index.floor(6));
+        assertNull(index.ceiling(250001));
+        assertArrayEquals(new int[] {1000, 10}, numbers(index.range(8, 1000)));
+        assertTrue(index.range(11, 999).isEmpty());
+    }
+
+    @Test void emptyIndex() {
+        final BuildIndex index = BuildIndex.of(descriptions());
+        assertTrue(index.isEmpty());
+        assertNull(index.get(1));
+        assertNull(index.floor(Integer.MAX_VALUE));
+        assertNull(index.getNewest());
+        assertFalse(index.iterator().hasNext());
+        assertSame(index, BuildIndex.of(index));
+        assertEquals(Arrays.asList(), index.range(0, 100));
+    }
+
+}
@@ -0,0 +1,91 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildTimeSeriesTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private static BuildTimeSeries series(final int builds) {
+        final BuildTimeSeries buildTimeSeries = new BuildTimeSeries(0);
+        // Added newest first, like Jenkins lists builds
+        for (int number = builds; number > 0; number--) {
+            buildTimeSeries.add(number, number * HOUR, number * 1000L,
+                number % 4 == 0 ? BuildResult.FAILURE : BuildResult.SUCCESS);
+        }
+        return buildTimeSeries;
+    }
+
+    @Test void ordering() {
+        final BuildTimeSeries buildTimeSeries = series(100);
+        assertEquals(100, buildTimeSeries.size());
+        for (int index = 0; index < 100; index++) {
+            assertEquals(index + 1, buildTimeSeries.getNumber(index));
+        }
+        // Replacing a build keeps the size
+        buildTimeSeries.add(50, 50 * HOUR, 1L, null);
+        assertEquals(100, buildTimeSeries.size());
+        assertNull(buildTimeSeries.getResult(49));
+        assertEquals(99, buildTimeSeries.getCompletedCount(0L, Long.MAX_VALUE));
+    }
+
+    @Test void percentiles() {
+        final BuildTimeSeries buildTimeSeries = series(100);
+        assertEquals(50_000L, buildTimeSeries.getDurationPercentile(50D, 0L, Long.MAX_VALUE));
+        assertEquals(100_000L, buildTimeSeries.getDurationPercentile(100D, 0L, Long.MAX_VALUE));
+        assertEquals(1_000L, buildTimeSeries.getDurationPercentile(0D, 0L, Long.MAX_VALUE));
+        // Builds 11 to 20
+        assertEquals(19_000L, buildTimeSeries.getDurationPercentile(90D, 11 * HOUR, 21 * HOUR));
+        assertEquals(-1L, buildTimeSeries.getDurationPercentile(50D, 0L, HOUR));
+    }
+
+    @Test void aggregates() {
+        final BuildTimeSeries buildTimeSeries = series(8);
+        assertEquals(0.75D, buildTimeSeries.getSuccessRate(0L, Long.MAX_VALUE));
+        assertEquals(2_500D, buildTimeSeries.getAverageDuration(HOUR, 5 * HOUR));
+        assertTrue(Double.isNaN(buildTimeSeries.getSuccessRate(0L, HOUR)));
+        final double[] movingAverage = new double[8];
+        assertEquals(8, buildTimeSeries.getMovingAverage(3, movingAverage));
+        assertEquals(1_000D, movingAverage[0]);
+        assertEquals(1_500D, movingAverage[1]);
+        assertEquals(7_000D, movingAverage[7]);
+    }
+
+    @Test void merge() {
+        final BuildTimeSeries buildTimeSeries = series(4);
+        final BuildTimeSeries page = new BuildTimeSeries(2);
+        page.add(6, 6 * HOUR, 6_000L, BuildResult.SUCCESS);
+        page.add(4, 4 * HOUR, 4_000L, BuildResult.SUCCESS);
+        buildTimeSeries.addAll(page);
+        assertEquals(5, buildTimeSeries.size());
+        assertEquals(BuildResult.SUCCESS, buildTimeSeries.getResult(3));
+        assertEquals(6, buildTimeSeries.getLastNumber());
+    }
+
+}
@@ -0,0 +1,55 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JenkinsUrlsTest {
+
+    private static final String BASE_URL = "https://ci.athion.net/";
+
+    @Test void jobName() {
+        assertEquals("PlotSquared", JenkinsUrls.jobName(BASE_URL + "job/PlotSquared/1/"));
+        assertEquals("PlotSquared", JenkinsUrls.jobName(BASE_URL + "job/PlotSquared/12"));
+        assertEquals("PlotSquared", JenkinsUrls.jobName(BASE_URL + "job/PlotSquared/"));
+        assertEquals("42", JenkinsUrls.jobName("job/42/7/"));
+        assertEquals("build", JenkinsUrls.jobName(BASE_URL + "job/folder/job/build/3/"));
+        assertNull(JenkinsUrls.jobName("https://ci.athion.net/"));
+        assertNull(JenkinsUrls.jobName("https://ci.athion.net/view/PlotSquared/1/"));
+        assertNull(JenkinsUrls.jobName("https://ci.athion.net/myjob/PlotSquared/1/"));
+        assertNull(JenkinsUrls.jobName(""));
+    }
+
+    @Test void child() {
+        final String expected = "https://ci.athion.net/job/PlotSquared/1/artifact/target/P2.jar";
+        assertEquals(expected, JenkinsUrls.child("https://ci.athion.net/job/PlotSquared/1/",
+            "artifact", "target/P2.jar"));
+        assertEquals(expected, JenkinsUrls.child("https://ci.athion.net/job/PlotSquared/1",
+            "artifact", "/target/P2.jar"));
+    }
+
+}
@@ -0,0 +1,84 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobNameIndexTest {
+
+    private static JobNameIndex index(final String... names) {
+        final List<JobDescription> descriptions = new ArrayList<>();
+        for (final String name : names) {
+            descriptions.add(new JobDescription("hudson.model.FreeStyleProject", name,
+                String.format("https://ci.example.com/job/%s/", name), "blue"));
+        }
+        return JobNameIndex.of(descriptions);
+    }
+
+    private static List<String> names(final List<JobDescription> descriptions) {
+        return descriptions.stream().map(JobDescription::getName).collect(Collectors.toList());
+    }
+
+    @Test void exactLookup() {
+        final JobNameIndex index = index("release-1.0", "PlotSquared", "release-2.0", "build");
+        assertEquals(4, index.size());
+        assertNotNull(index.get("PlotSquared"));
+        assertEquals("build", index.get("build").getName());
+        assertNull(index.get("plotsquared"));
+        assertTrue(index.containsName("release-2.0"));
+        assertEquals(1, index("job", "job").size());
+        assertTrue(JobNameIndex.empty().withPrefix("").isEmpty());
+    }
+
+    @Test void prefixQueries() {
+        final JobNameIndex index =
+            index("release-2.0", "release-1.0", "releases", "build", "release-", "zeta");
+        assertEquals(names(index.withPrefix("release-")),
+            Arrays.asList("release-", "release-1.0", "release-2.0"));
+        assertEquals(4, index.withPrefix("release").size());
+        assertEquals(6, index.withPrefix("").size());
+        assertTrue(index.withPrefix("x").isEmpty());
+    }
+
+    @Test void globQueries() {
+        final JobNameIndex index =
+            index("release-1.0-linux", "release-1.0-windows", "release-2.0-linux", "nightly-linux");
+        assertEquals(names(index.matching("release-*-linux")),
+            Arrays.asList("release-1.0-linux", "release-2.0-linux"));
+        assertEquals(3, index.matching("*-linux").size());
+        assertEquals(2, index.matching("release-?.0-l*").size());
+        assertEquals(4, index.matching("*").size());
+        assertEquals(1, index.matching("nightly-linux").size());
+        assertTrue(index.matching("release-?-linux").isEmpty());
+    }
+
+}
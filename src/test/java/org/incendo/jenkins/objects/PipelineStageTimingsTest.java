@@ -0,0 +1,85 @@
+//
+// MIT License
+//
+// Copyright (c) 2019 Alexander Söderberg
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+
+package org.incendo.jenkins.objects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineStageTimingsTest {
+
+    private static PipelineStage stage(final String name, final PipelineStatus status,
+        final long duration) {
+        return new PipelineStage(name, name, status, 0L, duration, 0L);
+    }
+
+    private static PipelineRun run(final int number, final PipelineStatus status,
+        final PipelineStage... stages) {
+        return new PipelineRun(number, "#" + number, status, 0L, 0L, 0L, 0L,
+            Arrays.asList(stages));
+    }
+
+    @Test void columns() {
+        // Added newest first, and the deploy stage was only added in build 3
+        final PipelineStageTimings timings = new PipelineStageTimings.Builder()
+            .add(run(4, PipelineStatus.IN_PROGRESS,
+                stage("Build", PipelineStatus.IN_PROGRESS, 1L)))
+            .add(run(3, PipelineStatus.FAILED, stage("Build", PipelineStatus.SUCCESS, 300L),
+                stage("Deploy", PipelineStatus.FAILED, 50L)))
+            .add(run(2, PipelineStatus.SUCCESS, stage("Build", PipelineStatus.SUCCESS, 200L),
+                stage("Deploy", PipelineStatus.NOT_EXECUTED, 0L)))
+            .add(run(1, PipelineStatus.SUCCESS, stage("Build", PipelineStatus.SUCCESS, 100L)))
+            .build();
+        assertArrayEquals(new int[] {1, 2, 3}, timings.getNumbers());
+        assertEquals(Arrays.asList("Build", "Deploy"), timings.getStageNames());
+        assertArrayEquals(new long[] {100L, 200L, 300L}, timings.getDurations(0));
+        assertArrayEquals(new long[] {-1L, -1L, 50L}, timings.getDurations(1));
+        assertEquals(-1, timings.getStageIndex("Package"));
+    }
+
+    @Test void aggregates() {
+        final PipelineStageTimings.Builder builder = new PipelineStageTimings.Builder();
+        for (int number = 1; number <= 100; number++) {
+            // The test stage runs twice in every build
+            builder.add(run(number, PipelineStatus.SUCCESS,
+                stage("Test", PipelineStatus.SUCCESS, number),
+                stage("Test", PipelineStatus.SUCCESS, number)));
+        }
+        final PipelineStageTimings timings = builder.build();
+        assertEquals(100, timings.getCount(0));
+        assertEquals(10_100L, timings.getTotalDuration(0));
+        assertEquals(101D, timings.getAverageDuration(0));
+        assertEquals(100L, timings.getDurationPercentile(0, 50D));
+        assertEquals(2L, timings.getDurationPercentile(0, 0D));
+        final PipelineStageTimings empty = new PipelineStageTimings(new int[0],
+            Collections.singletonList("Test"), new long[][] {new long[0]});
+        assertEquals(-1L, empty.getDurationPercentile(0, 50D));
+        assertTrue(Double.isNaN(empty.getAverageDuration(0)));
+    }
+
+}